@@ -48,15 +48,19 @@ public class ABI {
      * @return String
      */
     public static String encodeFunctionCall(ContractMethod method, List<Object> params) throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        String functionSignature = ABI.buildFunctionString(method);
-
-        List<String> solTypeList = new ArrayList();
-
-        for (ContractIOType contractIOType : method.getInputs()) {
-            solTypeList.add(contractIOType.getTypeAsString());
-        }
+        return Numeric.toHexString(encodeFunctionCallToBytes(method, params));
+    }
 
-        return encodeFunctionCall(functionSignature, solTypeList, params);
+    /**
+     * Encodes a function call to bytes.<p>
+     * The function selector and the parameters are written into one buffer, so the result can be used as the input of a transaction without hex conversion.
+     * @param method A ContractMethod instance.
+     * @param params A List of method parameter.
+     * @return byte[]
+     */
+    public static byte[] encodeFunctionCallToBytes(ContractMethod method, List<Object> params) throws ClassNotFoundException, InvocationTargetException, InstantiationException {
+        byte[] selector = encodeFunctionSelector(buildFunctionString(method));
+        return StreamingTypeEncoder.encodeFunctionCall(selector, method.getInputCodec().instantiate(params));
     }
 
     /**
@@ -66,10 +70,10 @@ public class ABI {
      * @return String
      */
     public static String encodeFunctionCall(String functionSig, List<String> solTypeList, List<Object> params) throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        String methodId = encodeFunctionSignature(functionSig);
-        String encodedParams = encodeParameters(solTypeList, params);
+        byte[] selector = encodeFunctionSelector(functionSig);
+        List<Type> parameters = ParameterCodec.of(solTypeList).instantiate(params);
 
-        return methodId + encodedParams;
+        return Numeric.toHexString(StreamingTypeEncoder.encodeFunctionCall(selector, parameters));
     }
 
     /**
@@ -79,10 +83,18 @@ public class ABI {
      * @return String
      */
     public static String encodeFunctionCallWithSolidityWrapper(ContractMethod method, List<Type> params) {
-        String methodId = encodeFunctionSignature(method);
-        String encodedArguments = ABI.encodeParameters(params);
+        return Numeric.toHexString(encodeFunctionCallWithSolidityWrapperToBytes(method, params));
+    }
 
-        return methodId + encodedArguments;
+    /**
+     * Encodes a function call to bytes.
+     * @param method A ContractMethod instance.
+     * @param params A List of method parameter wrapped solidity wrapper class.
+     * @return byte[]
+     */
+    public static byte[] encodeFunctionCallWithSolidityWrapperToBytes(ContractMethod method, List<Type> params) {
+        byte[] selector = encodeFunctionSelector(buildFunctionString(method));
+        return StreamingTypeEncoder.encodeFunctionCall(selector, params);
     }
 
     /**
@@ -100,9 +112,17 @@ public class ABI {
      * @return String
      */
     public static String encodeFunctionSignature(String functionName) {
-        byte[] input = functionName.getBytes();
-        byte[] hash = Hash.sha3(input);
-        return Numeric.toHexString(hash).substring(0, 10);
+        return Numeric.toHexString(encodeFunctionSelector(functionName));
+    }
+
+    /**
+     * Returns the first 4 bytes of the keccak256 hash of a function signature.
+     * @param functionName A function name string.
+     * @return byte[]
+     */
+    static byte[] encodeFunctionSelector(String functionName) {
+        byte[] hash = Hash.sha3(functionName.getBytes());
+        return Arrays.copyOf(hash, 4);
     }
 
     /**
@@ -198,7 +218,7 @@ public class ABI {
      * @throws InvocationTargetException
      */
     public static String encodeParameter(String solidityType, Object value) throws ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
-        Type type = TypeDecoder.instantiateType(solidityType, value);
+        Type type = TypeCodec.of(solidityType).instantiate(value);
         return encodeParameter(type);
     }
 
@@ -214,12 +234,7 @@ public class ABI {
      * @throws IllegalAccessException
      */
     public static String encodeParameters(ContractMethod method, List<Object> values) throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        List<String> solTypeList = new ArrayList<>();
-        for(ContractIOType type : method.getInputs()) {
-            solTypeList.add(type.getTypeAsString());
-        }
-
-        return encodeParameters(solTypeList, values);
+        return encodeParameters(method.getInputCodec().instantiate(values));
     }
 
     /**
@@ -234,13 +249,7 @@ public class ABI {
      * @throws InvocationTargetException
      */
     public static String encodeParameters(List<String> solidityTypes, List<Object> values) throws ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
-        List<Type> typeList = new ArrayList<>();
-        for(int i=0; i < solidityTypes.size(); i++) {
-            Type type = TypeDecoder.instantiateType(solidityTypes.get(i), values.get(i));
-            typeList.add(type);
-        }
-
-        return encodeParameters(typeList);
+        return encodeParameters(ParameterCodec.of(solidityTypes).instantiate(values));
     }
 
     /**
@@ -258,7 +267,16 @@ public class ABI {
      * @return String
      */
     public static String encodeParameters(List<Type> parameters) {
-        return new DefaultFunctionEncoder().encodeParameters(parameters);
+        return Numeric.toHexStringNoPrefix(encodeParametersToBytes(parameters));
+    }
+
+    /**
+     * Encodes a parameters based on its type to its ABI representation in bytes.
+     * @param parameters A List of parameters that wrappped solidity type wrapper
+     * @return byte[]
+     */
+    public static byte[] encodeParametersToBytes(List<Type> parameters) {
+        return StreamingTypeEncoder.encodeParameters(parameters);
     }
 
     /**
@@ -280,13 +298,7 @@ public class ABI {
      * @throws ClassNotFoundException
      */
     public static List<Type> decodeParameters(List<String> solidityTypeList, String encoded) throws ClassNotFoundException {
-        List<TypeReference<Type>> params = new ArrayList<>();
-
-        for(String solType : solidityTypeList) {
-            params.add(TypeReference.makeTypeReference(solType));
-        }
-
-        return FunctionReturnDecoder.decode(encoded, params);
+        return ParameterCodec.of(solidityTypeList).decode(encoded);
     }
 
     /**
@@ -297,13 +309,7 @@ public class ABI {
      * @throws ClassNotFoundException
      */
     public static List<Type> decodeParameters(ContractMethod method, String encoded) throws ClassNotFoundException {
-        List<TypeReference<Type>> resultParams = new ArrayList<>();
-
-        for(ContractIOType ioType: method.getOutputs()) {
-            resultParams.add(TypeReference.makeTypeReference(ioType.getTypeAsString()));
-        }
-
-        return FunctionReturnDecoder.decode(encoded, resultParams);
+        return method.getOutputCodec().decode(encoded);
     }
 
     /**
@@ -315,27 +321,20 @@ public class ABI {
      * @throws ClassNotFoundException
      */
     public static EventValues decodeLog(List<ContractIOType> inputs, String data, List<String> topics) throws ClassNotFoundException {
-        List<TypeReference<Type>> indexedList = new ArrayList<>();
-        List<TypeReference<Type>> nonIndexedList = new ArrayList<>();
-
-        for(ContractIOType input: inputs) {
-            if(input.isIndexed()) {
-                indexedList.add(TypeReference.makeTypeReference(input.getTypeAsString()));
-            } else {
-                nonIndexedList.add(TypeReference.makeTypeReference(input.getTypeAsString()));
-            }
-        }
-
-        List<Type> nonIndexedValues = FunctionReturnDecoder.decode(data, nonIndexedList);
-        List<Type> indexedValues = new ArrayList<>();
-
-        for(int i=0; i < indexedList.size(); i++) {
-            Type value = FunctionReturnDecoder.decodeIndexedValue(
-                    topics.get(i + 1), indexedList.get(i));
-            indexedValues.add(value);
-        }
+        return EventCodec.fromIOTypes(inputs).decode(data, topics);
+    }
 
-        return new EventValues(indexedValues, nonIndexedValues);
+    /**
+     * Decodes an ABI encoded log data and indexed topic data of the event.<p>
+     * It uses the codec cached in the ContractEvent instance.
+     * @param event A ContractEvent instance.
+     * @param data An ABI-encoded in the data field of a log
+     * @param topics A list of indexed parameter topics of the log.
+     * @return EventValues
+     * @throws ClassNotFoundException
+     */
+    public static EventValues decodeLog(ContractEvent event, String data, List<String> topics) throws ClassNotFoundException {
+        return event.getCodec().decode(data, topics);
     }
 
     /**
@@ -410,12 +409,7 @@ public class ABI {
             throw new IllegalArgumentException("Invalid function signature: The function signature of the abi as a parameter and the function signatures extracted from the function call string do not match.");
         }
 
-        List<String> inputs = findMethod.getInputs()
-                .stream()
-                .map(ContractIOType::getTypeAsString)
-                .collect(Collectors.toList());
-
-        List<Type> decoded = decodeParameters(inputs, encodedParams);
+        List<Type> decoded = findMethod.getInputCodec().decode(encodedParams);
 
         return decoded;
     }
@@ -21,10 +21,14 @@
 package com.klaytn.caver.abi;
 
 import com.klaytn.caver.abi.datatypes.*;
+import org.web3j.utils.Numeric;
 
-import java.math.BigInteger;
 import java.util.List;
 
+/**
+ * Encodes function calls and parameters with {@link StreamingTypeEncoder}.
+ * The selector and the parameters are written into one buffer, and the hex string is built once from the result.
+ */
 public class DefaultFunctionEncoder extends FunctionEncoder {
 
     @Override
@@ -34,57 +38,12 @@ public class DefaultFunctionEncoder extends FunctionEncoder {
         final String methodSignature = buildMethodSignature(function.getName(), parameters);
         final String methodId = buildMethodId(methodSignature);
 
-        final StringBuilder result = new StringBuilder();
-        result.append(methodId);
-
-        return encodeParameters(parameters, result);
+        return Numeric.toHexString(
+                StreamingTypeEncoder.encodeFunctionCall(Numeric.hexStringToByteArray(methodId), parameters));
     }
 
     @Override
     public String encodeParameters(final List<Type> parameters) {
-        return encodeParameters(parameters, new StringBuilder());
-    }
-
-    private static String encodeParameters(
-            final List<Type> parameters, final StringBuilder result) {
-
-        int dynamicDataOffset = getLength(parameters) * Type.MAX_BYTE_LENGTH;
-        final StringBuilder dynamicData = new StringBuilder();
-
-        for (Type parameter : parameters) {
-            final String encodedValue = TypeEncoder.encode(parameter);
-
-            if (TypeEncoder.isDynamic(parameter)) {
-                final String encodedDataOffset =
-                        TypeEncoder.encodeNumeric(new Uint(BigInteger.valueOf(dynamicDataOffset)));
-                result.append(encodedDataOffset);
-                dynamicData.append(encodedValue);
-                dynamicDataOffset += encodedValue.length() >> 1;
-            } else {
-                result.append(encodedValue);
-            }
-        }
-        result.append(dynamicData);
-
-        return result.toString();
-    }
-
-    @SuppressWarnings("unchecked")
-    private static int getLength(final List<Type> parameters) {
-        int count = 0;
-        for (final Type type : parameters) {
-            if(type instanceof StaticStruct) {
-                count += Utils.getStaticStructComponentSize((StaticStruct) type);
-            } else if (type instanceof StaticArray) {
-                if(TypeEncoder.isDynamic(type)) {
-                    count++;
-                } else {
-                    count += Utils.getStaticArrayElementSize((StaticArray)type);
-                }
-            } else {
-                count++;
-            }
-        }
-        return count;
+        return Numeric.toHexStringNoPrefix(StreamingTypeEncoder.encodeParameters(parameters));
     }
 }
@@ -20,23 +20,28 @@
 
 package com.klaytn.caver.abi;
 
-import com.klaytn.caver.abi.datatypes.*;
+import com.klaytn.caver.abi.datatypes.Array;
+import com.klaytn.caver.abi.datatypes.Bytes;
+import com.klaytn.caver.abi.datatypes.BytesType;
+import com.klaytn.caver.abi.datatypes.StructType;
+import com.klaytn.caver.abi.datatypes.Type;
+import com.klaytn.caver.abi.datatypes.Utf8String;
 import com.klaytn.caver.abi.datatypes.generated.Bytes32;
 import org.web3j.utils.Numeric;
 import org.web3j.utils.Strings;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import static com.klaytn.caver.abi.TypeDecoder.MAX_BYTE_LENGTH_FOR_HEX_STRING;
 import static com.klaytn.caver.abi.TypeDecoder.isDynamic;
-import static com.klaytn.caver.abi.Utils.*;
 
 
 /**
  * Contract Application Binary Interface (ABI) encoding for functions. Further details are
  * available <a href="https://docs.soliditylang.org/en/latest/abi-spec.html">here</a>.
+ *
+ * <p>The output parameters are compiled to {@link TypeCodec}s, and the encoded result is converted
+ * to bytes once and decoded in place.
  */
 public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
 
@@ -48,82 +53,48 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
         if (Strings.isEmpty(input)) {
             return Collections.emptyList();
         } else {
-            return build(input, outputParameters);
+            return build(Numeric.hexStringToByteArray(input), outputParameters);
+        }
+    }
+
+    @Override
+    public List<Type> decodeFunctionResult(
+            byte[] rawInput, List<TypeReference<Type>> outputParameters) {
+
+        if (rawInput.length == 0) {
+            return Collections.emptyList();
+        } else {
+            return build(rawInput, outputParameters);
         }
     }
 
-    @SuppressWarnings("unchecked")
     public <T extends Type> Type decodeEventParameter(
             String rawInput, TypeReference<T> typeReference) {
 
-        String input = Numeric.cleanHexPrefix(rawInput);
-
         try {
+            // The topic of an indexed reference type is the hash of its value, so it is decoded without compiling the type.
+            // The sub type of an anonymous TypeReference such as `new TypeReference<DynamicArray<Uint256>>(){}` is not known.
             Class<T> type = typeReference.getClassType();
-
-            if (Bytes.class.isAssignableFrom(type)) {
-                Class<Bytes> bytesClass = (Class<Bytes>) Class.forName(type.getName());
-                return TypeDecoder.decodeBytes(input, bytesClass);
-            } else if (Array.class.isAssignableFrom(type)
+            if (!Bytes.class.isAssignableFrom(type)
+                    && (Array.class.isAssignableFrom(type)
                     || BytesType.class.isAssignableFrom(type)
-                    || Utf8String.class.isAssignableFrom(type)) {
-                return TypeDecoder.decodeBytes(input, Bytes32.class);
-            } else {
-                return TypeDecoder.decode(input, type);
+                    || Utf8String.class.isAssignableFrom(type)
+                    || StructType.class.isAssignableFrom(type))) {
+                return TypeDecoder.decodeBytes(Numeric.cleanHexPrefix(rawInput), Bytes32.class);
             }
+
+            return TypeCodec.compile(typeReference).decodeIndexed(rawInput);
         } catch (ClassNotFoundException e) {
             throw new UnsupportedOperationException("Invalid class reference provided", e);
         }
     }
 
-    private static List<Type> build(String input, List<TypeReference<Type>> outputParameters) {
-        List<Type> results = new ArrayList<>(outputParameters.size());
-
-        int offset = 0;
-        for (TypeReference<?> typeReference : outputParameters) {
-            try {
-                int hexStringDataOffset = getDataOffset(input, offset, typeReference);
-
-                @SuppressWarnings("unchecked")
-                Class<Type> classType = (Class<Type>) typeReference.getClassType();
-
-                Type result;
-                if (DynamicStruct.class.isAssignableFrom(classType)) {
-                    result =
-                            TypeDecoder.decodeDynamicStruct(input, hexStringDataOffset, typeReference);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-
-                } else if (DynamicArray.class.isAssignableFrom(classType)) {
-                    result =
-                            TypeDecoder.decodeDynamicArray(input, hexStringDataOffset, typeReference);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-
-                } else if (typeReference instanceof TypeReference.StaticArrayTypeReference) {
-                    int length = ((TypeReference.StaticArrayTypeReference) typeReference).getSize();
-                    result =
-                            TypeDecoder.decodeStaticArray(input, hexStringDataOffset, typeReference, length);
-                    if(isDynamic(typeReference)) {
-                        offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                    } else {
-                        offset += getStaticArrayElementSize((TypeReference.StaticArrayTypeReference)typeReference) * MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                    }
-                } else if (StaticStruct.class.isAssignableFrom(classType)) {
-                    result =
-                            TypeDecoder.decodeStaticStruct(input, hexStringDataOffset, typeReference);
-                    offset +=
-                        getStaticStructComponentSize((TypeReference.StructTypeReference) typeReference)
-                            * MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                } else {
-                    result = TypeDecoder.decode(input, hexStringDataOffset, classType);
-                    offset += MAX_BYTE_LENGTH_FOR_HEX_STRING;
-                }
-                results.add(result);
-
-            } catch (ClassNotFoundException e) {
-                throw new UnsupportedOperationException("Invalid class reference provided", e);
-            }
+    private static List<Type> build(byte[] input, List<TypeReference<Type>> outputParameters) {
+        try {
+            return ParameterCodec.compile(outputParameters).decode(input);
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException("Invalid class reference provided", e);
         }
-        return results;
     }
 
     public static <T extends Type> int getDataOffset(
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.Type;
+import com.klaytn.caver.contract.ContractIOType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A codec of an event log compiled from the inputs of an event.<p>
+ * The inputs are split into the indexed parameters decoded from the topics and the non-indexed parameters decoded from the data once,
+ * so that every log of the event is decoded without resolving the types again.
+ * <pre>Example :
+ * {@code
+ * EventCodec codec = EventCodec.fromIOTypes(event.getInputs());
+ * EventValues values = codec.decode(log.getData(), log.getTopics());
+ * }
+ * </pre>
+ */
+public class EventCodec {
+    private final List<TypeCodec> indexedCodecs;
+    private final ParameterCodec nonIndexedCodec;
+
+    EventCodec(List<TypeCodec> indexedCodecs, ParameterCodec nonIndexedCodec) {
+        this.indexedCodecs = Collections.unmodifiableList(indexedCodecs);
+        this.nonIndexedCodec = nonIndexedCodec;
+    }
+
+    /**
+     * Compiles an EventCodec from a list of ContractIOType.
+     * @param ioTypes A list of ContractIOType.
+     * @return EventCodec
+     * @throws ClassNotFoundException
+     */
+    public static EventCodec fromIOTypes(List<ContractIOType> ioTypes) throws ClassNotFoundException {
+        List<TypeCodec> indexedList = new ArrayList<>();
+        List<TypeCodec> nonIndexedList = new ArrayList<>();
+
+        for(ContractIOType ioType : ioTypes) {
+            if(ioType.isIndexed()) {
+                indexedList.add(TypeCodec.of(ioType.getTypeAsString()));
+            } else {
+                nonIndexedList.add(TypeCodec.of(ioType.getTypeAsString()));
+            }
+        }
+
+        return new EventCodec(indexedList, new ParameterCodec(nonIndexedList));
+    }
+
+    /**
+     * Decodes an ABI encoded log data and indexed topic data.
+     * @param data An ABI-encoded in the data field of a log
+     * @param topics A list of topics of the log. The first topic is the event signature.
+     * @return EventValues
+     */
+    public EventValues decode(String data, List<String> topics) {
+        List<Type> nonIndexedValues = nonIndexedCodec.decode(data);
+        List<Type> indexedValues = new ArrayList<>(indexedCodecs.size());
+
+        for(int i=0; i < indexedCodecs.size(); i++) {
+            indexedValues.add(indexedCodecs.get(i).decodeIndexed(topics.get(i + 1)));
+        }
+
+        return new EventValues(indexedValues, nonIndexedValues);
+    }
+}
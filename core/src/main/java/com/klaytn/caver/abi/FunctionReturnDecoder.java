@@ -24,6 +24,7 @@ import com.klaytn.caver.abi.DefaultFunctionReturnDecoder;
 import com.klaytn.caver.abi.TypeReference;
 import com.klaytn.caver.abi.datatypes.Type;
 import com.klaytn.caver.abi.spi.FunctionReturnDecoderProvider;
+import org.web3j.utils.Numeric;
 
 import java.util.Collections;
 import java.util.Iterator;
@@ -59,6 +60,18 @@ public abstract class FunctionReturnDecoder {
         return decoder().decodeFunctionResult(rawInput, outputParameters);
     }
 
+    /**
+     * Decode ABI encoded return values from smart contract function call.
+     *
+     * @param rawInput ABI encoded input bytes
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if
+     *     invalid response
+     */
+    public static List<Type> decode(byte[] rawInput, List<TypeReference<Type>> outputParameters) {
+        return decoder().decodeFunctionResult(rawInput, outputParameters);
+    }
+
     /**
      * Decodes an indexed parameter associated with an event. Indexed parameters are individually
      * encoded, unlike non-indexed parameters which are encoded as per ABI-encoded function
@@ -89,6 +102,19 @@ public abstract class FunctionReturnDecoder {
     protected abstract List<Type> decodeFunctionResult(
             String rawInput, List<TypeReference<Type>> outputParameters);
 
+    /**
+     * Decodes ABI encoded bytes. The default implementation converts the bytes to a hex string and
+     * delegates to {@link #decodeFunctionResult(String, List)}.
+     *
+     * @param rawInput ABI encoded input bytes
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function
+     */
+    protected List<Type> decodeFunctionResult(
+            byte[] rawInput, List<TypeReference<Type>> outputParameters) {
+        return decodeFunctionResult(Numeric.toHexString(rawInput), outputParameters);
+    }
+
     protected abstract <T extends Type> Type decodeEventParameter(
             String rawInput, TypeReference<T> typeReference);
 
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.Type;
+import com.klaytn.caver.contract.ContractIOType;
+import org.web3j.utils.Numeric;
+import org.web3j.utils.Strings;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A codec of a parameter list compiled from solidity types, such as the inputs or outputs of a function and the inputs of an event.<p>
+ * It is compiled once per signature and used to instantiate and decode all parameters without resolving the types again.
+ * <pre>Example :
+ * {@code
+ * ParameterCodec codec = ParameterCodec.of(Arrays.asList("address", "uint256"));
+ * String encoded = ABI.encodeParameters(codec.instantiate(Arrays.asList("0x{address}", BigInteger.ONE)));
+ * List<Type> decoded = codec.decode(encoded);
+ * }
+ * </pre>
+ */
+public class ParameterCodec {
+    private static final ParameterCodec EMPTY = new ParameterCodec(Collections.emptyList());
+
+    private final List<TypeCodec> codecs;
+
+    ParameterCodec(List<TypeCodec> codecs) {
+        this.codecs = Collections.unmodifiableList(codecs);
+    }
+
+    /**
+     * Compiles a ParameterCodec from a list of solidity types.
+     * @param solidityTypes A list of solidity type string.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    public static ParameterCodec of(List<String> solidityTypes) throws ClassNotFoundException {
+        if(solidityTypes.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<TypeCodec> codecs = new ArrayList<>(solidityTypes.size());
+        for(String solidityType : solidityTypes) {
+            codecs.add(TypeCodec.of(solidityType));
+        }
+        return new ParameterCodec(codecs);
+    }
+
+    /**
+     * Compiles a ParameterCodec from a list of ContractIOType.
+     * @param ioTypes A list of ContractIOType.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    public static ParameterCodec fromIOTypes(List<ContractIOType> ioTypes) throws ClassNotFoundException {
+        List<String> solidityTypes = new ArrayList<>(ioTypes.size());
+        for(ContractIOType ioType : ioTypes) {
+            solidityTypes.add(ioType.getTypeAsString());
+        }
+        return of(solidityTypes);
+    }
+
+    /**
+     * Compiles a ParameterCodec from a list of TypeReference.
+     * @param typeReferences A list of TypeReference.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    public static ParameterCodec compile(List<? extends TypeReference<?>> typeReferences) throws ClassNotFoundException {
+        if(typeReferences.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<TypeCodec> codecs = new ArrayList<>(typeReferences.size());
+        for(TypeReference<?> typeReference : typeReferences) {
+            codecs.add(TypeCodec.compile(typeReference));
+        }
+        return new ParameterCodec(codecs);
+    }
+
+    /**
+     * Getter function for codecs
+     * @return List
+     */
+    public List<TypeCodec> getCodecs() {
+        return codecs;
+    }
+
+    /**
+     * Returns the number of parameters.
+     * @return int
+     */
+    public int size() {
+        return codecs.size();
+    }
+
+    /**
+     * Creates solidity type wrapper instances from Java values.
+     * @param values A list of value. It must have the same size with the parameters.
+     * @return List
+     * @throws InstantiationException
+     * @throws InvocationTargetException
+     */
+    public List<Type> instantiate(List<Object> values) throws InstantiationException, InvocationTargetException {
+        List<Type> types = new ArrayList<>(codecs.size());
+        for(int i = 0; i < codecs.size(); i++) {
+            types.add(codecs.get(i).instantiate(values.get(i)));
+        }
+        return types;
+    }
+
+    /**
+     * Decodes an ABI-encoded parameters.<p>
+     * The hex string is converted to bytes once and the bytes are decoded in place.
+     * @param rawInput The ABI-encoded hex string.
+     * @return List
+     */
+    public List<Type> decode(String rawInput) {
+        String input = Numeric.cleanHexPrefix(rawInput);
+        if(Strings.isEmpty(input)) {
+            return Collections.emptyList();
+        }
+        return decode(Numeric.hexStringToByteArray(input));
+    }
+
+    /**
+     * Decodes an ABI-encoded parameters.
+     * @param input The ABI-encoded bytes.
+     * @return List
+     */
+    public List<Type> decode(byte[] input) {
+        if(input.length == 0) {
+            return Collections.emptyList();
+        }
+        List<Type> values = new ArrayList<>(codecs.size());
+        TypeCodec.decodeSequence(input, 0, codecs, values);
+        return values;
+    }
+}
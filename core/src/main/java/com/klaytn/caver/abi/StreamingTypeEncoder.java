@@ -0,0 +1,319 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.*;
+import com.klaytn.caver.abi.datatypes.primitive.PrimitiveType;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.klaytn.caver.abi.datatypes.Type.MAX_BIT_LENGTH;
+import static com.klaytn.caver.abi.datatypes.Type.MAX_BYTE_LENGTH;
+
+/**
+ * An ABI encoder that writes the head and tail sections of the encoding straight into a growable ByteBuffer.<p>
+ * The heads of a tuple are reserved first and filled while the tails are appended, so each value is encoded once
+ * and no intermediate hex string is built. The result is returned as bytes, and the hex conversion is left to the caller
+ * that sends it through JSON-RPC.<p>
+ * An instance is not thread-safe. The static methods use an instance bound to the current thread, so the buffer is reused across calls.
+ * <pre>Example :
+ * {@code
+ * byte[] encoded = StreamingTypeEncoder.encodeParameters(Arrays.asList(new Address("0x{address}"), new Uint256(1)));
+ *
+ * StreamingTypeEncoder encoder = new StreamingTypeEncoder();
+ * byte[] callData = encoder.reset().write(selector).writeParameters(parameters).toByteArray();
+ * }
+ * </pre>
+ */
+public class StreamingTypeEncoder {
+    /**
+     * The default initial capacity of the buffer.
+     */
+    static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The buffer of the thread-local encoder is dropped on reset when it grew over this size.
+     */
+    static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+    private static final ThreadLocal<StreamingTypeEncoder> LOCAL = ThreadLocal.withInitial(StreamingTypeEncoder::new);
+
+    private final int initialCapacity;
+    private ByteBuffer buffer;
+
+    /**
+     * Creates a StreamingTypeEncoder instance.
+     */
+    public StreamingTypeEncoder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a StreamingTypeEncoder instance.
+     * @param initialCapacity The initial capacity of the buffer in bytes.
+     */
+    public StreamingTypeEncoder(int initialCapacity) {
+        if(initialCapacity <= 0) {
+            throw new IllegalArgumentException("The initial capacity must be greater than 0.");
+        }
+        this.initialCapacity = initialCapacity;
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+    }
+
+    /**
+     * Returns the encoder bound to the current thread after resetting it.
+     * @return StreamingTypeEncoder
+     */
+    public static StreamingTypeEncoder threadLocal() {
+        return LOCAL.get().reset();
+    }
+
+    /**
+     * Encodes a value to its ABI representation.
+     * @param parameter A value wrapped by a solidity type wrapper.
+     * @return byte[]
+     */
+    public static byte[] encode(Type<?> parameter) {
+        return threadLocal().writeType(parameter).toByteArray();
+    }
+
+    /**
+     * Encodes values to their ABI representation as a tuple.
+     * @param parameters A list of value wrapped by a solidity type wrapper.
+     * @return byte[]
+     */
+    public static byte[] encodeParameters(List<Type> parameters) {
+        return threadLocal().writeParameters(parameters).toByteArray();
+    }
+
+    /**
+     * Encodes a function call that is composed of the function selector and the encoded parameters.
+     * @param selector The 4-byte function selector.
+     * @param parameters A list of value wrapped by a solidity type wrapper.
+     * @return byte[]
+     */
+    public static byte[] encodeFunctionCall(byte[] selector, List<Type> parameters) {
+        return threadLocal().write(selector).writeParameters(parameters).toByteArray();
+    }
+
+    /**
+     * Discards the written data.
+     * @return StreamingTypeEncoder
+     */
+    public StreamingTypeEncoder reset() {
+        if(buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer = ByteBuffer.allocate(initialCapacity);
+        }
+        buffer.clear();
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes written.
+     * @return int
+     */
+    public int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Returns a copy of the written data.
+     * @return byte[]
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Writes raw bytes such as a function selector or a contract bytecode as is.
+     * @param data The bytes to write.
+     * @return StreamingTypeEncoder
+     */
+    public StreamingTypeEncoder write(byte[] data) {
+        ensureCapacity(data.length);
+        buffer.put(data);
+        return this;
+    }
+
+    /**
+     * Writes the ABI encoding of a value.
+     * @param parameter A value wrapped by a solidity type wrapper.
+     * @return StreamingTypeEncoder
+     */
+    public StreamingTypeEncoder writeType(Type<?> parameter) {
+        encodeType(parameter);
+        return this;
+    }
+
+    /**
+     * Writes the ABI encoding of values as a tuple.
+     * @param parameters A list of value wrapped by a solidity type wrapper.
+     * @return StreamingTypeEncoder
+     */
+    public StreamingTypeEncoder writeParameters(List<?> parameters) {
+        encodeTuple(parameters);
+        return this;
+    }
+
+    private void encodeType(Type<?> parameter) {
+        if(parameter instanceof NumericType) {
+            encodeNumeric((NumericType)parameter);
+        } else if(parameter instanceof Address) {
+            encodeNumeric(((Address)parameter).toUint());
+        } else if(parameter instanceof Bool) {
+            ensureCapacity(MAX_BYTE_LENGTH);
+            putWord(((Bool)parameter).getValue() ? 1 : 0);
+        } else if(parameter instanceof Bytes) {
+            encodePaddedBytes(((Bytes)parameter).getValue());
+        } else if(parameter instanceof DynamicBytes) {
+            encodeDynamicBytes(((DynamicBytes)parameter).getValue());
+        } else if(parameter instanceof Utf8String) {
+            encodeDynamicBytes(((Utf8String)parameter).getValue().getBytes(StandardCharsets.UTF_8));
+        } else if(parameter instanceof StaticArray) {
+            // A static struct is a static array of its components.
+            encodeTuple(((StaticArray<?>)parameter).getValue());
+        } else if(parameter instanceof DynamicStruct) {
+            encodeTuple(((DynamicStruct)parameter).getValue());
+        } else if(parameter instanceof DynamicArray) {
+            List<?> values = ((DynamicArray<?>)parameter).getValue();
+            ensureCapacity(MAX_BYTE_LENGTH);
+            putWord(values.size());
+            encodeTuple(values);
+        } else if(parameter instanceof PrimitiveType) {
+            encodeType(((PrimitiveType<?>)parameter).toSolidityType());
+        } else {
+            throw new UnsupportedOperationException("Type cannot be encoded: " + parameter.getClass());
+        }
+    }
+
+    /**
+     * Writes the heads of the values first, and then appends the tails of the dynamic values.
+     * The offset of a dynamic value is written to its head slot when its tail is appended.
+     */
+    private void encodeTuple(List<?> values) {
+        int headLength = 0;
+        for(Object value : values) {
+            headLength += getHeadLength((Type<?>)value);
+        }
+
+        int start = buffer.position();
+        ensureCapacity(headLength);
+        Arrays.fill(buffer.array(), start, start + headLength, (byte)0);
+        buffer.position(start + headLength);
+
+        int head = start;
+        for(Object item : values) {
+            Type<?> value = (Type<?>)item;
+            int end = buffer.position();
+            if(isDynamic(value)) {
+                buffer.position(head);
+                putWord(end - start);
+                buffer.position(end);
+                encodeType(value);
+            } else {
+                // The head of a static value was reserved above, so writing it does not grow the buffer.
+                buffer.position(head);
+                encodeType(value);
+                buffer.position(end);
+            }
+            head += getHeadLength(value);
+        }
+    }
+
+    private void encodeNumeric(NumericType numericType) {
+        BigInteger value = numericType.getValue();
+        byte[] rawValue = value.toByteArray();
+        int length = rawValue.length;
+        int rawOffset = 0;
+
+        // As BigInteger is signed, a 256 bit unsigned value has a sign byte in its MSB, which should be ignored.
+        if((numericType instanceof Ufixed || numericType instanceof Uint) && value.bitLength() == MAX_BIT_LENGTH) {
+            rawOffset = 1;
+            length--;
+        }
+
+        ensureCapacity(MAX_BYTE_LENGTH);
+        byte padding = value.signum() == -1 ? (byte)0xff : 0;
+        for(int i = length; i < MAX_BYTE_LENGTH; i++) {
+            buffer.put(padding);
+        }
+        buffer.put(rawValue, rawOffset, length);
+    }
+
+    private void encodeDynamicBytes(byte[] value) {
+        ensureCapacity(MAX_BYTE_LENGTH);
+        putWord(value.length);
+        encodePaddedBytes(value);
+    }
+
+    private void encodePaddedBytes(byte[] value) {
+        int mod = value.length % MAX_BYTE_LENGTH;
+        int padding = mod == 0 ? 0 : MAX_BYTE_LENGTH - mod;
+
+        ensureCapacity(value.length + padding);
+        buffer.put(value);
+        for(int i = 0; i < padding; i++) {
+            buffer.put((byte)0);
+        }
+    }
+
+    private void putWord(long value) {
+        for(int i = 0; i < MAX_BYTE_LENGTH - Long.BYTES; i++) {
+            buffer.put((byte)0);
+        }
+        buffer.putLong(value);
+    }
+
+    private void ensureCapacity(int length) {
+        if(buffer.remaining() >= length) {
+            return;
+        }
+
+        int required = buffer.position() + length;
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() << 1, required));
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+
+    static boolean isDynamic(Type<?> parameter) {
+        if(parameter instanceof PrimitiveType) {
+            return isDynamic(((PrimitiveType<?>)parameter).toSolidityType());
+        }
+        return TypeEncoder.isDynamic(parameter);
+    }
+
+    /**
+     * Returns the length in bytes that the value takes in the head part of a tuple.
+     */
+    static int getHeadLength(Type<?> parameter) {
+        if(parameter instanceof PrimitiveType) {
+            return getHeadLength(((PrimitiveType<?>)parameter).toSolidityType());
+        } else if(parameter instanceof StaticArray && !isDynamic(parameter)) {
+            int length = 0;
+            for(Object element : ((StaticArray<?>)parameter).getValue()) {
+                length += getHeadLength((Type<?>)element);
+            }
+            return length;
+        }
+        return MAX_BYTE_LENGTH;
+    }
+}
@@ -0,0 +1,653 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.abi;
+
+import com.klaytn.caver.abi.datatypes.*;
+import com.klaytn.caver.abi.datatypes.generated.Bytes32;
+import com.klaytn.caver.abi.datatypes.generated.Uint160;
+import org.web3j.utils.Numeric;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A codec of a solidity type compiled from its {@link TypeReference}.<p>
+ * The type string is parsed and the constructors of the type classes are resolved only once when a codec is compiled,
+ * so instantiating a type from a Java value and decoding an ABI-encoded value do not use reflection.
+ * Decoding reads the 32-byte words of the ABI-encoded bytes in place, without converting each word to a hex string.
+ * A codec is immutable and the codecs compiled by {@link #of(String)} are cached by the type string.
+ * <pre>Example :
+ * {@code
+ * TypeCodec codec = TypeCodec.of("tuple(address,uint256[])");
+ * Type value = codec.instantiate(Arrays.asList("0x{address}", Arrays.asList(1, 2)));
+ * }
+ * </pre>
+ */
+public abstract class TypeCodec {
+    /**
+     * The maximum number of codecs cached by the type string.
+     */
+    static final int MAX_CACHE_SIZE = 4096;
+
+    private static final Map<String, TypeCodec> CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, TypeCodec> ATOMIC_CODECS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, MethodHandle> ARRAY_CONSTRUCTORS = new ConcurrentHashMap<>();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private final Class<?> typeClass;
+    private final boolean dynamic;
+    private final int headWords;
+
+    TypeCodec(Class<?> typeClass, boolean dynamic, int headWords) {
+        this.typeClass = typeClass;
+        this.dynamic = dynamic;
+        this.headWords = headWords;
+    }
+
+    /**
+     * Returns the codec of the solidity type. The codec is compiled at the first call and cached.
+     * @param solidityType A solidity type string. ex) "uint256", "tuple(string,bool)[]"
+     * @return TypeCodec
+     * @throws ClassNotFoundException
+     */
+    public static TypeCodec of(String solidityType) throws ClassNotFoundException {
+        TypeCodec codec = CACHE.get(solidityType);
+        if(codec == null) {
+            codec = compile(TypeReference.makeTypeReference(solidityType));
+            if(CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(solidityType, codec);
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * Compiles a codec of the type that the TypeReference refers to.<p>
+     * The codecs of atomic types and the constructors of static arrays are shared, so compiling a TypeReference only walks its tree.
+     * @param typeReference A TypeReference made by {@link TypeReference#makeTypeReference(String)} or {@link TypeReference#create(Class)}.
+     * @return TypeCodec
+     * @throws ClassNotFoundException
+     */
+    public static TypeCodec compile(TypeReference<?> typeReference) throws ClassNotFoundException {
+        Class<?> cls = typeReference.getClassType();
+
+        if(StructType.class.isAssignableFrom(cls)) {
+            List<TypeCodec> components = new ArrayList<>();
+            for(TypeReference<?> component : ((TypeReference.StructTypeReference<?>)typeReference).getTypeList()) {
+                components.add(compile(component));
+            }
+            return new StructCodec(cls, components);
+        } else if(typeReference instanceof TypeReference.StaticArrayTypeReference) {
+            int size = ((TypeReference.StaticArrayTypeReference<?>)typeReference).getSize();
+            return new StaticArrayCodec(cls, compileElement(typeReference), size);
+        } else if(DynamicArray.class.isAssignableFrom(cls)) {
+            return new DynamicArrayCodec(cls, compileElement(typeReference));
+        }
+        return ATOMIC_CODECS.computeIfAbsent(cls, TypeCodec::compileAtomic);
+    }
+
+    private static TypeCodec compileAtomic(Class<?> cls) {
+        if(NumericType.class.isAssignableFrom(cls)) {
+            return new NumericCodec(cls);
+        } else if(Bytes.class.isAssignableFrom(cls)) {
+            return new BytesCodec(cls);
+        } else if(DynamicBytes.class.isAssignableFrom(cls)) {
+            return new DynamicBytesCodec(cls);
+        } else if(Utf8String.class.isAssignableFrom(cls)) {
+            return new Utf8StringCodec(cls);
+        } else if(Address.class.isAssignableFrom(cls)) {
+            return new AddressCodec(cls);
+        } else if(Bool.class.isAssignableFrom(cls)) {
+            return new BoolCodec(cls);
+        }
+        return new UnsupportedCodec(cls);
+    }
+
+    private static TypeCodec compileElement(TypeReference<?> arrayReference) throws ClassNotFoundException {
+        TypeReference<?> elementReference = arrayReference.getSubTypeReference();
+        if(elementReference == null) {
+            throw new ClassNotFoundException("Unable to make TypeCodec from " + arrayReference.getType().getTypeName()
+                    + ". Use TypeReference.makeTypeReference() to make a TypeReference of array.");
+        }
+        return compile(elementReference);
+    }
+
+    /**
+     * Getter function for typeClass
+     * @return Class
+     */
+    public Class<?> getTypeClass() {
+        return typeClass;
+    }
+
+    /**
+     * Returns true if the type is a dynamic type in the ABI encoding.
+     * @return boolean
+     */
+    public boolean isDynamic() {
+        return dynamic;
+    }
+
+    /**
+     * Returns the number of 32-byte words that the type takes in the head part of the ABI encoding.
+     * @return int
+     */
+    public int getHeadWords() {
+        return headWords;
+    }
+
+    /**
+     * Creates a solidity type wrapper instance from a Java value.<p>
+     * It accepts the same values with {@link TypeDecoder#instantiateType(String, Object)}.
+     * @param value A value to wrap. For array and struct types, a List or an array of values.
+     * @return Type
+     * @throws InstantiationException The value cannot be converted to the type.
+     * @throws InvocationTargetException The constructor of the type rejected the value.
+     */
+    public abstract Type<?> instantiate(Object value) throws InstantiationException, InvocationTargetException;
+
+    /**
+     * Decodes an ABI-encoded value.
+     * @param input The ABI-encoded bytes.
+     * @param offset The position of the encoded value in bytes. For a dynamic type, it is the position the offset in the head points to.
+     * @return Type
+     */
+    public abstract Type<?> decode(byte[] input, int offset);
+
+    /**
+     * Decodes an indexed event parameter in a topic.<p>
+     * A topic of dynamic, array and struct types has the keccak256 hash of the value, so it is decoded as a Bytes32.
+     * @param topic A topic of log.
+     * @return Type
+     */
+    public Type<?> decodeIndexed(String topic) {
+        return new Bytes32(slice(Numeric.hexStringToByteArray(topic), 0, Type.MAX_BYTE_LENGTH));
+    }
+
+    /**
+     * Decodes the values encoded in sequence from the offset into the values list.
+     * It is used to decode a tuple of parameters and the elements of arrays and structs.
+     */
+    static void decodeSequence(byte[] input, int offset, List<TypeCodec> codecs, List<? super Type<?>> values) {
+        int headOffset = offset;
+        for(TypeCodec codec : codecs) {
+            if(codec.isDynamic()) {
+                values.add(codec.decode(input, offset + decodeInt(input, headOffset)));
+            } else {
+                values.add(codec.decode(input, headOffset));
+            }
+            headOffset += codec.getHeadWords() * Type.MAX_BYTE_LENGTH;
+        }
+    }
+
+    /**
+     * Decodes the values encoded in sequence from the offset.
+     */
+    static List<Type<?>> decodeSequence(byte[] input, int offset, List<TypeCodec> codecs) {
+        List<Type<?>> values = new ArrayList<>(codecs.size());
+        decodeSequence(input, offset, codecs, values);
+        return values;
+    }
+
+    /**
+     * Decodes a word that has an offset or a length.
+     */
+    static int decodeInt(byte[] input, int offset) {
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH - Integer.BYTES;
+        if(valueOffset + Integer.BYTES > input.length) {
+            throw new ArrayIndexOutOfBoundsException("Unable to decode a word at " + offset + ": the input has only " + input.length + " bytes.");
+        }
+
+        for(int i = offset; i < valueOffset; i++) {
+            if(input[i] != 0) {
+                throw new ArithmeticException("The offset or length at " + offset + " is out of int range.");
+            }
+        }
+
+        int value = ((input[valueOffset] & 0xff) << 24)
+                | ((input[valueOffset + 1] & 0xff) << 16)
+                | ((input[valueOffset + 2] & 0xff) << 8)
+                | (input[valueOffset + 3] & 0xff);
+        if(value < 0) {
+            throw new ArithmeticException("The offset or length at " + offset + " is out of int range.");
+        }
+        return value;
+    }
+
+    static byte[] slice(byte[] input, int offset, int length) {
+        if(offset < 0 || length < 0 || offset + length > input.length) {
+            throw new ArrayIndexOutOfBoundsException("Unable to decode " + length + " bytes at " + offset + ": the input has only " + input.length + " bytes.");
+        }
+        return Arrays.copyOfRange(input, offset, offset + length);
+    }
+
+    static List<?> toList(Object value) {
+        if(value instanceof List) {
+            return (List<?>)value;
+        } else if(value.getClass().isArray()) {
+            return TypeDecoder.arrayToList(value);
+        }
+        throw new ClassCastException("Arg of type " + value.getClass() + " should be a list to instantiate Array");
+    }
+
+    static InstantiationException cannotInstantiate(Class<?> typeClass, Object value) {
+        return new InstantiationException("Could not create type " + typeClass + " from arg " + value.toString() + " of type " + value.getClass());
+    }
+
+    static MethodHandle findConstructor(Class<?> typeClass, Class<?>... parameterTypes) {
+        try {
+            MethodType methodType = MethodType.methodType(void.class, parameterTypes);
+            return LOOKUP.findConstructor(typeClass, methodType).asType(methodType.changeReturnType(Type.class));
+        } catch(NoSuchMethodException | IllegalAccessException e) {
+            throw new UnsupportedOperationException("Unable to find the constructor of " + typeClass.getName(), e);
+        }
+    }
+
+    /**
+     * Rethrows the exception thrown by a constructor of a type as {@link TypeDecoder#instantiateType(String, Object)} does.
+     */
+    static InvocationTargetException rethrowOnInstantiate(Throwable throwable) {
+        if(throwable instanceof Error) {
+            throw (Error)throwable;
+        }
+        return new InvocationTargetException(throwable);
+    }
+
+    /**
+     * Rethrows the exception thrown by a constructor of a type as {@link TypeDecoder} does when decoding.
+     */
+    static UnsupportedOperationException rethrowOnDecode(Class<?> typeClass, Throwable throwable) {
+        if(throwable instanceof Error) {
+            throw (Error)throwable;
+        }
+        return new UnsupportedOperationException("Unable to create instance of " + typeClass.getName(), throwable);
+    }
+
+    static final class NumericCodec extends TypeCodec {
+        private final MethodHandle constructor;
+        private final int lengthInBytes;
+        private final boolean signed;
+
+        NumericCodec(Class<?> typeClass) {
+            super(typeClass, false, 1);
+            this.constructor = findConstructor(typeClass, BigInteger.class);
+            this.lengthInBytes = TypeDecoder.getTypeLengthInBytes(typeClass.asSubclass(NumericType.class));
+            this.signed = Int.class.isAssignableFrom(typeClass) || Fixed.class.isAssignableFrom(typeClass);
+        }
+
+        @Override
+        public Type<?> instantiate(Object value) throws InstantiationException, InvocationTargetException {
+            BigInteger number = TypeDecoder.asBigInteger(value);
+            if(number == null) {
+                throw cannotInstantiate(getTypeClass(), value);
+            }
+
+            try {
+                return (Type<?>)constructor.invokeExact(number);
+            } catch(Throwable e) {
+                throw rethrowOnInstantiate(e);
+            }
+        }
+
+        @Override
+        public Type<?> decode(byte[] input, int offset) {
+            BigInteger number = decodeNumber(input, offset);
+            try {
+                return (Type<?>)constructor.invokeExact(number);
+            } catch(Throwable e) {
+                throw rethrowOnDecode(getTypeClass(), e);
+            }
+        }
+
+        @Override
+        public Type<?> decodeIndexed(String topic) {
+            return decode(Numeric.hexStringToByteArray(topic), 0);
+        }
+
+        BigInteger decodeNumber(byte[] input, int offset) {
+            int valueOffset = offset + Type.MAX_BYTE_LENGTH - lengthInBytes;
+
+            // A value that fits in a long is accumulated without allocating a byte array.
+            if(lengthInBytes < Long.BYTES || (signed && lengthInBytes == Long.BYTES)) {
+                if(valueOffset + lengthInBytes > input.length) {
+                    throw new ArrayIndexOutOfBoundsException("Unable to decode a word at " + offset + ": the input has only " + input.length + " bytes.");
+                }
+
+                long value = signed ? input[valueOffset] : input[valueOffset] & 0xff;
+                for(int i = valueOffset + 1; i < valueOffset + lengthInBytes; i++) {
+                    value = (value << 8) | (input[i] & 0xff);
+                }
+                return BigInteger.valueOf(value);
+            }
+
+            byte[] value = slice(input, valueOffset, lengthInBytes);
+            if(signed) {
+                return new BigInteger(value);
+            }
+            return new BigInteger(1, value);
+        }
+    }
+
+    static final class AddressCodec extends TypeCodec {
+        AddressCodec(Class<?> typeClass) {
+            super(typeClass, false, 1);
+        }
+
+        @Override
+        public Type<?> instantiate(Object value) throws InvocationTargetException {
+            try {
+                if(value instanceof BigInteger) {
+                    return new Address((BigInteger)value);
+                } else if(value instanceof Uint160) {
+                    return new Address((Uint160)value);
+                }
+                return new Address(value.toString());
+            } catch(RuntimeException e) {
+                throw rethrowOnInstantiate(e);
+            }
+        }
+
+        @Override
+        public Type<?> decode(byte[] input, int offset) {
+            byte[] value = slice(input, offset + Type.MAX_BYTE_LENGTH - Address.DEFAULT_LENGTH / Byte.SIZE, Address.DEFAULT_LENGTH / Byte.SIZE);
+            return new Address(new Uint160(new BigInteger(1, value)));
+        }
+
+        @Override
+        public Type<?> decodeIndexed(String topic) {
+            return decode(Numeric.hexStringToByteArray(topic), 0);
+        }
+    }
+
+    static final class BoolCodec extends TypeCodec {
+        BoolCodec(Class<?> typeClass) {
+            super(typeClass, false, 1);
+        }
+
+        @Override
+        public Type<?> instantiate(Object value) throws InstantiationException {
+            if(value instanceof Boolean) {
+                return new Bool((Boolean)value);
+            }
+
+            BigInteger number = TypeDecoder.asBigInteger(value);
+            if(number == null) {
+                throw cannotInstantiate(getTypeClass(), value);
+            }
+            return new Bool(!number.equals(BigInteger.ZERO));
+        }
+
+        @Override
+        public Type<?> decode(byte[] input, int offset) {
+            byte[] word = slice(input, offset, Type.MAX_BYTE_LENGTH);
+            for(int i = 0; i < Type.MAX_BYTE_LENGTH - 1; i++) {
+                if(word[i] != 0) {
+                    return new Bool(false);
+                }
+            }
+            return new Bool(word[Type.MAX_BYTE_LENGTH - 1] == 1);
+        }
+
+        @Override
+        public Type<?> decodeIndexed(String topic) {
+            return decode(Numeric.hexStringToByteArray(topic), 0);
+        }
+    }
+
+    static byte[] toBytes(Object value) {
+        if(value instanceof byte[]) {
+            return (byte[])value;
+        } else if(value instanceof BigInteger) {
+            return ((BigInteger)value).toByteArray();
+        } else if(value instanceof String) {
+            return Numeric.hexStringToByteArray((String)value);
+        }
+        return null;
+    }
+
+    static final class BytesCodec extends TypeCodec {
+        private final MethodHandle constructor;
+        private final int length;
+
+        BytesCodec(Class<?> typeClass) {
+            super(typeClass, false, 1);
+            this.constructor = findConstructor(typeClass, byte[].class);
+            this.length = Integer.parseInt(typeClass.getSimpleName().substring(Bytes.class.getSimpleName().length()));
+        }
+
+        @Override
+        public Type<?> instantiate(Object value) throws InstantiationException, InvocationTargetException {
+            byte[] bytes = toBytes(value);
+            if(bytes == null) {
+                throw cannotInstantiate(getTypeClass(), value);
+            }
+
+            try {
+                return (Type<?>)constructor.invokeExact(bytes);
+            } catch(Throwable e) {
+                throw rethrowOnInstantiate(e);
+            }
+        }
+
+        @Override
+        public Type<?> decode(byte[] input, int offset) {
+            byte[] bytes = slice(input, offset, length);
+            try {
+                return (Type<?>)constructor.invokeExact(bytes);
+            } catch(Throwable e) {
+                throw rethrowOnDecode(getTypeClass(), e);
+            }
+        }
+
+        @Override
+        public Type<?> decodeIndexed(String topic) {
+            return decode(Numeric.hexStringToByteArray(topic), 0);
+        }
+    }
+
+    static final class DynamicBytesCodec extends TypeCodec {
+        DynamicBytesCodec(Class<?> typeClass) {
+            super(typeClass, true, 1);
+        }
+
+        @Override
+        public Type<?> instantiate(Object value) throws InstantiationException {
+            byte[] bytes = toBytes(value);
+            if(bytes == null) {
+                throw cannotInstantiate(getTypeClass(), value);
+            }
+            return new DynamicBytes(bytes);
+        }
+
+        @Override
+        public Type<?> decode(byte[] input, int offset) {
+            return new DynamicBytes(slice(input, offset + Type.MAX_BYTE_LENGTH, decodeInt(input, offset)));
+        }
+    }
+
+    static final class Utf8StringCodec extends TypeCodec {
+        Utf8StringCodec(Class<?> typeClass) {
+            super(typeClass, true, 1);
+        }
+
+        @Override
+        public Type<?> instantiate(Object value) {
+            return new Utf8String(value.toString());
+        }
+
+        @Override
+        public Type<?> decode(byte[] input, int offset) {
+            int length = decodeInt(input, offset);
+            int valueOffset = offset + Type.MAX_BYTE_LENGTH;
+            if(valueOffset + length > input.length) {
+                throw new ArrayIndexOutOfBoundsException("Unable to decode " + length + " bytes at " + valueOffset + ": the input has only " + input.length + " bytes.");
+            }
+            return new Utf8String(new String(input, valueOffset, length, StandardCharsets.UTF_8));
+        }
+    }
+
+    static final class DynamicArrayCodec extends TypeCodec {
+        private final TypeCodec element;
+
+        DynamicArrayCodec(Class<?> typeClass, TypeCodec element) {
+            super(typeClass, true, 1);
+            this.element = element;
+        }
+
+        @Override
+        public Type<?> instantiate(Object value) throws InstantiationException, InvocationTargetException {
+            List<?> values = toList(value);
+            List<Type<?>> elements = new ArrayList<>(values.size());
+            for(Object elementValue : values) {
+                elements.add(element.instantiate(elementValue));
+            }
+            return new DynamicArray<>(elementClass(element), elements);
+        }
+
+        @Override
+        public Type<?> decode(byte[] input, int offset) {
+            int length = decodeInt(input, offset);
+            List<Type<?>> elements = decodeSequence(input, offset + Type.MAX_BYTE_LENGTH, Collections.nCopies(length, element));
+            return new DynamicArray<>(elementClass(element), elements);
+        }
+    }
+
+    static final class StaticArrayCodec extends TypeCodec {
+        private final TypeCodec element;
+        private final int size;
+        private final MethodHandle constructor;
+
+        StaticArrayCodec(Class<?> typeClass, TypeCodec element, int size) throws ClassNotFoundException {
+            super(typeClass, element.isDynamic(), element.isDynamic() ? 1 : element.getHeadWords() * size);
+            if(size < 1 || size > StaticArray.MAX_SIZE_OF_STATIC_ARRAY) {
+                throw new ClassNotFoundException("Unable to make TypeCodec of static array size " + size);
+            }
+            this.element = element;
+            this.size = size;
+            this.constructor = ARRAY_CONSTRUCTORS.computeIfAbsent(typeClass, cls -> findConstructor(cls, Class.class, List.class));
+        }
+
+        @Override
+        public Type<?> instantiate(Object value) throws InstantiationException, InvocationTargetException {
+            List<?> values = toList(value);
+            List<Type<?>> elements = new ArrayList<>(values.size());
+            for(Object elementValue : values) {
+                elements.add(element.instantiate(elementValue));
+            }
+
+            try {
+                return (Type<?>)constructor.invokeExact(element.getTypeClass(), elements);
+            } catch(Throwable e) {
+                throw rethrowOnInstantiate(e);
+            }
+        }
+
+        @Override
+        public Type<?> decode(byte[] input, int offset) {
+            List<Type<?>> elements = decodeSequence(input, offset, Collections.nCopies(size, element));
+            try {
+                return (Type<?>)constructor.invokeExact(element.getTypeClass(), elements);
+            } catch(Throwable e) {
+                throw rethrowOnDecode(getTypeClass(), e);
+            }
+        }
+    }
+
+    /**
+     * The constructors of arrays take the element class as Class&lt;T&gt; with the elements as List&lt;T&gt;.
+     * The elements are created by the codec of the element class, so the cast is safe.
+     */
+    @SuppressWarnings("unchecked")
+    static Class<Type<?>> elementClass(TypeCodec element) {
+        return (Class<Type<?>>)element.getTypeClass();
+    }
+
+    static final class StructCodec extends TypeCodec {
+        private final List<TypeCodec> components;
+
+        StructCodec(Class<?> typeClass, List<TypeCodec> components) {
+            super(typeClass, DynamicStruct.class.isAssignableFrom(typeClass), getHeadWords(typeClass, components));
+            this.components = Collections.unmodifiableList(components);
+        }
+
+        private static int getHeadWords(Class<?> typeClass, List<TypeCodec> components) {
+            if(DynamicStruct.class.isAssignableFrom(typeClass)) {
+                return 1;
+            }
+            return components.stream().mapToInt(TypeCodec::getHeadWords).sum();
+        }
+
+        @Override
+        public Type<?> instantiate(Object value) throws InstantiationException, InvocationTargetException {
+            List<?> values = toList(value);
+            List<Type<?>> elements = new ArrayList<>(components.size());
+            for(int i = 0; i < components.size(); i++) {
+                elements.add(components.get(i).instantiate(values.get(i)));
+            }
+
+            return newStruct(elements);
+        }
+
+        @Override
+        public Type<?> decode(byte[] input, int offset) {
+            List<Type<?>> elements = decodeSequence(input, offset, components);
+            return newStruct(elements);
+        }
+
+        private Type<?> newStruct(List<Type<?>> elements) {
+            Type<?>[] values = elements.toArray(new Type<?>[0]);
+            if(isDynamic()) {
+                return new DynamicStruct(values);
+            }
+            return new StaticStruct(values);
+        }
+    }
+
+    /**
+     * A codec of the types that cannot be used as ABI parameters, such as Java primitive wrappers.
+     */
+    static final class UnsupportedCodec extends TypeCodec {
+        UnsupportedCodec(Class<?> typeClass) {
+            super(typeClass, false, 1);
+        }
+
+        @Override
+        public Type<?> instantiate(Object value) throws InstantiationException {
+            throw cannotInstantiate(getTypeClass(), value);
+        }
+
+        @Override
+        public Type<?> decode(byte[] input, int offset) {
+            throw new UnsupportedOperationException("Type cannot be encoded: " + getTypeClass());
+        }
+
+        @Override
+        public Type<?> decodeIndexed(String topic) {
+            throw new UnsupportedOperationException("Type cannot be encoded: " + getTypeClass());
+        }
+    }
+}
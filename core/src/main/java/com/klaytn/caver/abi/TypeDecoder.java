@@ -49,7 +49,7 @@ public class TypeDecoder {
     public static Type instantiateType(String solidityType, Object value)
             throws InvocationTargetException, NoSuchMethodException, InstantiationException,
             IllegalAccessException, ClassNotFoundException {
-        return instantiateType(makeTypeReference(solidityType), value);
+        return TypeCodec.of(solidityType).instantiate(value);
     }
 
     public static Type instantiateType(TypeReference ref, Object value)
@@ -21,14 +21,10 @@
 package com.klaytn.caver.abi;
 
 import com.klaytn.caver.abi.datatypes.*;
-import com.klaytn.caver.abi.datatypes.primitive.PrimitiveType;
 import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.klaytn.caver.abi.datatypes.Type.MAX_BIT_LENGTH;
 import static com.klaytn.caver.abi.datatypes.Type.MAX_BYTE_LENGTH;
@@ -53,56 +49,14 @@ public class TypeEncoder {
                 || parameter instanceof DynamicArray;
     }
 
-    @SuppressWarnings("unchecked")
-    public static String encode(Type parameter) {
-        if (parameter instanceof NumericType) {
-            return encodeNumeric(((NumericType) parameter));
-        } else if (parameter instanceof Address) {
-            return encodeAddress((Address) parameter);
-        } else if (parameter instanceof Bool) {
-            return encodeBool((Bool) parameter);
-        } else if (parameter instanceof Bytes) {
-            return encodeBytes((Bytes) parameter);
-        } else if (parameter instanceof DynamicBytes) {
-            return encodeDynamicBytes((DynamicBytes) parameter);
-        } else if (parameter instanceof Utf8String) {
-            return encodeString((Utf8String) parameter);
-        } else if (parameter instanceof StaticArray) {
-            if (isDynamic(parameter)) {
-                return encodeStaticArrayWithDynamicStruct((StaticArray) parameter);
-            } else {
-                return encodeArrayValues((StaticArray) parameter);
-            }
-        } else if (parameter instanceof DynamicStruct) {
-            return encodeDynamicStruct((DynamicStruct) parameter);
-        } else if (parameter instanceof DynamicArray) {
-            return encodeDynamicArray((DynamicArray) parameter);
-        } else if (parameter instanceof PrimitiveType) {
-            return encode(((PrimitiveType) parameter).toSolidityType());
-        } else {
-            throw new UnsupportedOperationException(
-                    "Type cannot be encoded: " + parameter.getClass());
-        }
-    }
-
     /**
-     * Encodes a static array containing a dynamic struct type. In this case, the array items are
-     * decoded as dynamic values and have their offsets at the beginning of the encoding. Example:
-     * For the following static array containing three elements: <code>StaticArray3</code>
-     * enc([struct1, struct2, struct2]) = offset(enc(struct1)) offset(enc(struct2))
-     * offset(enc(struct3)) enc(struct1) enc(struct2) enc(struct3)
-     *
-     * @param
-     * @return
+     * Encodes a value to its ABI representation in hex string without "0x" prefix.<p>
+     * The value is encoded by {@link StreamingTypeEncoder}, and only the result is converted to a hex string.
+     * @param parameter A value wrapped by a solidity type wrapper.
+     * @return String
      */
-    private static <T extends Type> String encodeStaticArrayWithDynamicStruct(Array<T> value) {
-        String valuesOffsets = encodeStructsArraysOffsets(value);
-        String encodedValues = encodeArrayValues(value);
-
-        StringBuilder result = new StringBuilder();
-        result.append(valuesOffsets);
-        result.append(encodedValues);
-        return result.toString();
+    public static String encode(Type parameter) {
+        return Numeric.toHexStringNoPrefix(StreamingTypeEncoder.encode(parameter));
     }
 
     static String encodeAddress(Address address) {
@@ -186,118 +140,4 @@ public class TypeEncoder {
         byte[] utfEncoded = string.getValue().getBytes(StandardCharsets.UTF_8);
         return encodeDynamicBytes(new DynamicBytes(utfEncoded));
     }
-
-    static <T extends Type> String encodeArrayValues(Array<T> value) {
-        StringBuilder result = new StringBuilder();
-        for (Type type : value.getValue()) {
-            result.append(encode(type));
-        }
-        return result.toString();
-    }
-
-    static String encodeDynamicStruct(final DynamicStruct value) {
-        String encodedValues = encodeDynamicStructValues(value);
-
-        StringBuilder result = new StringBuilder();
-        result.append(encodedValues);
-        return result.toString();
-    }
-
-    private static String encodeDynamicStructValues(final DynamicStruct value) {
-        int staticSize = 0;
-        for (int i = 0; i < value.getValue().size(); ++i) {
-            final Type type = value.getValue().get(i);
-            if (isDynamic(type)) {
-                staticSize += 32;
-            } else {
-                staticSize += type.bytes32PaddedLength();
-            }
-        }
-        int dynamicOffset = staticSize;
-        final List<String> offsetsAndStaticValues = new ArrayList<>();
-        final List<String> dynamicValues = new ArrayList<>();
-        for (int i = 0; i < value.getValue().size(); ++i) {
-            final Type type = value.getValue().get(i);
-            if (isDynamic(type)) {
-                offsetsAndStaticValues.add(
-                        Numeric.toHexStringNoPrefix(
-                                Numeric.toBytesPadded(
-                                        new BigInteger(Long.toString(dynamicOffset)),
-                                        MAX_BYTE_LENGTH)));
-                String encodedValue = encode(type);
-                dynamicValues.add(encodedValue);
-                dynamicOffset += encodedValue.length() >> 1;
-            } else {
-                offsetsAndStaticValues.add(encode(value.getValue().get(i)));
-            }
-        }
-        final List<String> data = new ArrayList<>();
-        data.addAll(offsetsAndStaticValues);
-        data.addAll(dynamicValues);
-        return String.join("", data);
-    }
-
-    static <T extends Type> String encodeDynamicArray(DynamicArray<T> value) {
-        int size = value.getValue().size();
-        String encodedLength = encode(new Uint(BigInteger.valueOf(size)));
-        String valuesOffsets = (size == 0) ? "" : encodeArrayValuesOffsets(value);
-        String encodedValues = (size == 0) ? "" : encodeArrayValues(value);
-
-        StringBuilder result = new StringBuilder();
-        result.append(encodedLength);
-        result.append(valuesOffsets);
-        result.append(encodedValues);
-        return result.toString();
-    }
-
-    /**
-     * Encodes the array values offsets of the to be encrypted dynamic array, which are in our case
-     * the heads of the encryption. Refer to
-     *
-     * @see <a
-     *     href="https://docs.soliditylang.org/en/v0.5.3/abi-spec.html#formal-specification-of-the-encoding">encoding
-     *     formal specification</a>
-     *     <h2>Dynamic structs array encryption</h2>
-     *     <p>An array of dynamic structs (ie, structs containing dynamic datatypes) is encoded in
-     *     the following way: Considering X = [struct1, struct2] for example enc(X) = head(struct1)
-     *     head(struct2) tail(struct1) tail(struct2) with: - tail(struct1) = enc(struct1) -
-     *     tail(struct2) = enc(struct2) - head(struct1) = enc(len( head(struct1) head(struct2))) =
-     *     enc(64), because the heads are 256bits - head(struct2) = enc(len( head(struct1)
-     *     head(struct2) tail(struct1)))
-     */
-    private static <T extends Type> String encodeArrayValuesOffsets(DynamicArray<T> value) {
-        StringBuilder result = new StringBuilder();
-
-        boolean isDynamicType = isDynamic(value.getValue().get(0));
-        if(isDynamicType) {
-            result.append(encodeStructsArraysOffsets(value));
-        }
-        return result.toString();
-    }
-
-    /**
-     * Encodes arrays of structs elements offsets. To be used when encoding a dynamic array or a
-     * static array containing dynamic structs,
-     *
-     * @param value DynamicArray or StaticArray containing dynamic structs
-     * @return encoded array offset
-     */
-    private static <T extends Type> String encodeStructsArraysOffsets(Array<T> value) {
-        StringBuilder result = new StringBuilder();
-        long offset = value.getValue().size();
-        List<String> tailsEncoding =
-                value.getValue().stream().map(TypeEncoder::encode).collect(Collectors.toList());
-        for (int i = 0; i < value.getValue().size(); i++) {
-            if (i == 0) {
-                offset = offset * MAX_BYTE_LENGTH;
-            } else {
-                offset += tailsEncoding.get(i - 1).length() / 2;
-            }
-            result.append(
-                    Numeric.toHexStringNoPrefix(
-                            Numeric.toBytesPadded(
-                                    new BigInteger(Long.toString(offset)), MAX_BYTE_LENGTH)));
-        }
-        return result.toString();
-    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.account;
+
+import com.klaytn.caver.utils.Utils;
+import org.web3j.crypto.Keys;
+
+import java.util.Arrays;
+
+/**
+ * Representing a 20 bytes account address.<p>
+ * It is compared by its bytes regardless of the letter case of the address string, so it can be used as a key of map instead of a lowercase address string.
+ * The hash code is computed once, and the lowercase and checksum strings are made at the first use.
+ * <pre>Example :
+ * {@code
+ * Address address = Address.of("0x{address}");
+ * boolean isSame = address.equals(Address.of("0x{ADDRESS}"));
+ * String checksumAddress = address.toChecksumAddress();
+ * }
+ * </pre>
+ */
+public final class Address implements Comparable<Address> {
+    /**
+     * The length of address in bytes.
+     */
+    public static final int LENGTH = 20;
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private final byte[] bytes;
+    private final int hashCode;
+
+    private volatile String lowerCaseAddress;
+    private volatile String checksumAddress;
+
+    private Address(byte[] bytes) {
+        this.bytes = bytes;
+        this.hashCode = Arrays.hashCode(bytes);
+    }
+
+    /**
+     * Creates an Address instance from the address string.
+     * @param address The address string. It can be a lowercase, uppercase or checksum address with or without the "0x" prefix.
+     * @return Address
+     */
+    public static Address of(String address) {
+        if(address == null || !Utils.isAddress(address)) {
+            throw new IllegalArgumentException("Invalid address: " + address);
+        }
+
+        int offset = address.length() - LENGTH * 2;
+        byte[] bytes = new byte[LENGTH];
+        for(int i = 0; i < LENGTH; i++) {
+            int high = hexValue(address.charAt(offset + i * 2));
+            int low = hexValue(address.charAt(offset + i * 2 + 1));
+            bytes[i] = (byte)((high << 4) | low);
+        }
+
+        return new Address(bytes);
+    }
+
+    /**
+     * Creates an Address instance from the 20 bytes address.
+     * @param bytes The address bytes.
+     * @return Address
+     */
+    public static Address of(byte[] bytes) {
+        if(bytes == null || bytes.length != LENGTH) {
+            throw new IllegalArgumentException("An address must be " + LENGTH + " bytes.");
+        }
+        return new Address(Arrays.copyOf(bytes, LENGTH));
+    }
+
+    /**
+     * Returns true if two address strings are the same address regardless of the letter case and the "0x" prefix.<p>
+     * It compares the strings without making lowercase strings. It returns false if one of them is null.
+     * @param address1 The address string.
+     * @param address2 The address string to compare.
+     * @return boolean
+     */
+    public static boolean isSame(String address1, String address2) {
+        if(address1 == null || address2 == null) {
+            return false;
+        }
+
+        int offset1 = hasHexPrefix(address1) ? 2 : 0;
+        int offset2 = hasHexPrefix(address2) ? 2 : 0;
+        int length = address1.length() - offset1;
+        if(length != address2.length() - offset2) {
+            return false;
+        }
+
+        return address1.regionMatches(true, offset1, address2, offset2, length);
+    }
+
+    /**
+     * Returns a copy of the address bytes.
+     * @return byte[]
+     */
+    public byte[] toBytes() {
+        return Arrays.copyOf(bytes, LENGTH);
+    }
+
+    /**
+     * Returns the checksum address string with the "0x" prefix.
+     * @return String
+     */
+    public String toChecksumAddress() {
+        String checksum = checksumAddress;
+        if(checksum == null) {
+            checksum = Keys.toChecksumAddress(toString());
+            checksumAddress = checksum;
+        }
+        return checksum;
+    }
+
+    /**
+     * Returns true if the address string is the same with this address.
+     * @param address The address string.
+     * @return boolean
+     */
+    public boolean matches(String address) {
+        return isSame(toString(), address);
+    }
+
+    /**
+     * Returns the lowercase address string with the "0x" prefix.
+     * @return String
+     */
+    @Override
+    public String toString() {
+        String lowerCase = lowerCaseAddress;
+        if(lowerCase == null) {
+            char[] chars = new char[2 + LENGTH * 2];
+            chars[0] = '0';
+            chars[1] = 'x';
+            for(int i = 0; i < LENGTH; i++) {
+                chars[2 + i * 2] = HEX_CHARS[(bytes[i] >> 4) & 0xf];
+                chars[3 + i * 2] = HEX_CHARS[bytes[i] & 0xf];
+            }
+            lowerCase = new String(chars);
+            lowerCaseAddress = lowerCase;
+        }
+        return lowerCase;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) {
+            return true;
+        }
+        if(!(o instanceof Address)) {
+            return false;
+        }
+        Address that = (Address)o;
+        return hashCode == that.hashCode && Arrays.equals(bytes, that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public int compareTo(Address o) {
+        for(int i = 0; i < LENGTH; i++) {
+            int compared = Integer.compare(bytes[i] & 0xff, o.bytes[i] & 0xff);
+            if(compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean hasHexPrefix(String value) {
+        return value.length() >= 2 && value.charAt(0) == '0' && (value.charAt(1) == 'x' || value.charAt(1) == 'X');
+    }
+
+    private static int hexValue(char c) {
+        if(c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if(c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return c - 'A' + 10;
+    }
+}
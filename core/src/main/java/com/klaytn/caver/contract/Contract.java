@@ -44,6 +44,7 @@ import org.web3j.protocol.exceptions.TransactionException;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 public class Contract {
 
@@ -450,6 +451,64 @@ public class Contract {
         return contractMethod.send(Arrays.asList(methodArguments), options, receiptProcessor);
     }
 
+    /**
+     * Send a transaction to smart contract and execute its method asynchronously.
+     * It is used defaultSendOption field to sendOptions.
+     * It sets TransactionReceiptProcessor to PollingTransactionReceiptProcessor.
+     * @param methodName The smart contract method name to execute
+     * @param methodArguments The arguments that need to execute smart contract method.
+     * @return CompletableFuture&lt;TransactionReceiptData&gt;
+     * @throws IOException
+     * @throws NoSuchMethodException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> sendAsync(String methodName, Object... methodArguments) throws IOException, NoSuchMethodException, InstantiationException, ClassNotFoundException, IllegalAccessException, InvocationTargetException {
+        return sendAsync(null, methodName, methodArguments);
+    }
+
+    /**
+     * Send a transaction to smart contract and execute its method asynchronously.
+     * It sets TransactionReceiptProcessor to PollingTransactionReceiptProcessor.
+     * @param options An option to execute smart contract method.
+     * @param methodName The smart contract method name to execute
+     * @param methodArguments The arguments that need to execute smart contract method.
+     * @return CompletableFuture&lt;TransactionReceiptData&gt;
+     * @throws IOException
+     * @throws NoSuchMethodException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> sendAsync(SendOptions options, String methodName, Object... methodArguments) throws IOException, NoSuchMethodException, InstantiationException, ClassNotFoundException, IllegalAccessException, InvocationTargetException {
+        return sendAsync(options, new PollingTransactionReceiptProcessor(caver, 1000, 15), methodName, methodArguments);
+    }
+
+    /**
+     * Send a transaction to smart contract and execute its method asynchronously.<p>
+     * The transaction is signed on the calling thread, and the returned future is completed with the receipt
+     * through {@link TransactionReceiptProcessor#waitForTransactionReceiptAsync(String)}.
+     * @param options An option to execute smart contract method.
+     * @param receiptProcessor A TransactionReceiptProcessor to get receipt.
+     * @param methodName The smart contract method name to execute
+     * @param methodArguments The arguments that need to execute smart contract method.
+     * @return CompletableFuture&lt;TransactionReceiptData&gt;
+     * @throws IOException
+     * @throws NoSuchMethodException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> sendAsync(SendOptions options, TransactionReceiptProcessor receiptProcessor, String methodName, Object... methodArguments) throws IOException, NoSuchMethodException, InstantiationException, ClassNotFoundException, IllegalAccessException, InvocationTargetException {
+        ContractMethod contractMethod = this.getMethod(methodName);
+
+        return contractMethod.sendAsync(Arrays.asList(methodArguments), options, receiptProcessor);
+    }
+
     /**
      * Send a transaction to smart contract and execute its method using solidity type wrapper class.
      * It is used defaultSendOption field to sendOptions
@@ -16,7 +16,9 @@
 
 package com.klaytn.caver.contract;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.klaytn.caver.Caver;
+import com.klaytn.caver.abi.EventCodec;
 import com.klaytn.caver.methods.request.KlayFilter;
 import com.klaytn.caver.methods.response.LogsNotification;
 import com.klaytn.caver.methods.response.Quantity;
@@ -54,6 +56,8 @@ public class ContractEvent {
      */
     List<ContractIOType> inputs;
 
+    private volatile EventCodec codec;
+
     /**
      * Creates a ContractEvent instance.
      */
@@ -106,6 +110,22 @@ public class ContractEvent {
         return inputs;
     }
 
+    /**
+     * Returns the codec compiled from the inputs of the event.<p>
+     * It is compiled at the first call and reused to decode the logs of the event.
+     * @return EventCodec
+     * @throws ClassNotFoundException
+     */
+    @JsonIgnore
+    public EventCodec getCodec() throws ClassNotFoundException {
+        EventCodec eventCodec = codec;
+        if(eventCodec == null) {
+            eventCodec = EventCodec.fromIOTypes(getInputs());
+            codec = eventCodec;
+        }
+        return eventCodec;
+    }
+
     /**
      * Setter function for name.
      * @param name A function name.
@@ -128,6 +148,7 @@ public class ContractEvent {
      */
     void setInputs(List<ContractIOType> inputs) {
         this.inputs = inputs;
+        this.codec = null;
     }
 
     /**
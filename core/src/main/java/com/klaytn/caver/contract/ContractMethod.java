@@ -17,7 +17,9 @@
 package com.klaytn.caver.contract;
 
 import com.klaytn.caver.Caver;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.ParameterCodec;
 import com.klaytn.caver.abi.datatypes.Type;
 import com.klaytn.caver.methods.request.CallObject;
 import com.klaytn.caver.methods.response.Bytes;
@@ -27,6 +29,7 @@ import com.klaytn.caver.methods.response.TransactionReceipt;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.TxPropertyBuilder;
+import com.klaytn.caver.transaction.nonce.NonceGuard;
 import com.klaytn.caver.transaction.response.PollingTransactionReceiptProcessor;
 import com.klaytn.caver.transaction.response.TransactionReceiptProcessor;
 import com.klaytn.caver.utils.Utils;
@@ -40,6 +43,7 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Representing a Contract's method information.
@@ -96,6 +100,11 @@ public class ContractMethod {
 
     List<ContractMethod> nextContractMethods = new ArrayList<>();
 
+    /**
+     * The codecs compiled from inputs and outputs. They are compiled at the first use.
+     */
+    private volatile ParameterCodec inputCodec;
+    private volatile ParameterCodec outputCodec;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ContractMethod.class);
 
@@ -280,16 +289,75 @@ public class ContractMethod {
         SendOptions determinedOption = makeSendOption(options);
         AbstractTransaction transaction = sign(arguments, determinedOption);
 
-        if(determinedOption.getFeeDelegation() != null && determinedOption.getFeeDelegation()) {
-            if(determinedOption.getFeePayer() == null || !Utils.isAddress(determinedOption.getFeePayer())) {
-                throw new IllegalArgumentException("The fee payer value is not valid. feePayer address - " + determinedOption.getFeePayer());
-            }
-            transaction = this.wallet.signAsFeePayer(determinedOption.getFeePayer(), (AbstractFeeDelegatedTransaction)transaction);
-        }
+        transaction = signAsFeePayerIfDelegated(transaction, determinedOption);
 
         return sendTransaction(transaction, processor);
     }
 
+    /**
+     * Send a transaction to deploy smart contract or execute smart contract's method asynchronously.<p>
+     * The transaction is signed on the calling thread, and the returned future is completed with the receipt.
+     * It is used defaultSendOption field to sendOptions.
+     * It sets TransactionReceiptProcessor to PollingTransactionReceiptProcessor.
+     * @param arguments A List of parameter to call smart contract method.
+     * @return CompletableFuture&lt;TransactionReceiptData&gt;
+     * @throws IOException
+     * @throws ClassNotFoundException
+     * @throws NoSuchMethodException
+     * @throws InstantiationException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     * @see #send(List)
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> sendAsync(List<Object> arguments) throws IOException, ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        return sendAsync(arguments, null, new PollingTransactionReceiptProcessor(caver, 1000, 15));
+    }
+
+    /**
+     * Send a transaction to deploy smart contract or execute smart contract's method asynchronously.<p>
+     * The transaction is signed on the calling thread, and the returned future is completed with the receipt.
+     * It sets TransactionReceiptProcessor to PollingTransactionReceiptProcessor.
+     * @param arguments A List of parameter to call smart contract method.
+     * @param options An option to deploy or execute smart contract method.
+     * @return CompletableFuture&lt;TransactionReceiptData&gt;
+     * @throws IOException
+     * @throws ClassNotFoundException
+     * @throws NoSuchMethodException
+     * @throws InstantiationException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     * @see #send(List, SendOptions)
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> sendAsync(List<Object> arguments, SendOptions options) throws IOException, ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        return sendAsync(arguments, options, new PollingTransactionReceiptProcessor(caver, 1000, 15));
+    }
+
+    /**
+     * Send a transaction to deploy smart contract or execute smart contract's method asynchronously.<p>
+     * The transaction is signed on the calling thread. Submitting it and waiting for the receipt are done through
+     * {@link TransactionReceiptProcessor#waitForTransactionReceiptAsync(String)}, so no thread is blocked per transaction.
+     * If the node rejects the transaction, the returned future is completed exceptionally with IOException.
+     * @param arguments A List of parameter to call smart contract method.
+     * @param options An option to deploy or execute smart contract method.
+     * @param processor A TransactionReceiptProcessor to get receipt.
+     * @return CompletableFuture&lt;TransactionReceiptData&gt;
+     * @throws IOException
+     * @throws ClassNotFoundException
+     * @throws NoSuchMethodException
+     * @throws InstantiationException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     * @see #send(List, SendOptions, TransactionReceiptProcessor)
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> sendAsync(List<Object> arguments, SendOptions options, TransactionReceiptProcessor processor) throws IOException, ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        SendOptions determinedOption = makeSendOption(options);
+        AbstractTransaction transaction = sign(arguments, determinedOption);
+
+        transaction = signAsFeePayerIfDelegated(transaction, determinedOption);
+
+        return sendTransactionAsync(transaction, processor);
+    }
+
     /**
      * Create and sign a transaction with the input data generated by the passed argument.<p>
      * <pre>
@@ -359,13 +427,13 @@ public class ContractMethod {
      * @throws IOException
      */
     public AbstractTransaction sign(List<Object> arguments, SendOptions sendOptions) throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, IOException {
-        String encoded = encodeABI(arguments);
+        byte[] encoded = encodeABIToBytes(arguments);
         //Make SendOptions instance by comparing with defaultSendOption and passed parameter "options"
         //Passed parameter "options" has higher priority than "defaultSendOption" field.
         SendOptions determinedOption = makeSendOption(sendOptions);
 
         AbstractTransaction transaction = createTransaction(determinedOption, encoded);
-        return this.wallet.sign(determinedOption.getFrom(), transaction);
+        return signOrReleaseNonce(determinedOption.getFrom(), transaction);
     }
 
     /**
@@ -449,10 +517,10 @@ public class ContractMethod {
 
         checkSendOption(determinedOption);
 
-        String encoded = encodeABI(arguments);
+        byte[] encoded = encodeABIToBytes(arguments);
 
         AbstractFeeDelegatedTransaction transaction = (AbstractFeeDelegatedTransaction)createTransaction(determinedOption, encoded);
-        return this.wallet.signAsFeePayer(determinedOption.getFeePayer(), transaction);
+        return signAsFeePayerOrReleaseNonce(determinedOption.getFeePayer(), transaction);
     }
 
     /**
@@ -594,7 +662,7 @@ public class ContractMethod {
         AbstractTransaction transaction = signWithSolidityWrapper(wrapperArguments, determinedOption);
 
         if((determinedOption.getFeeDelegation() != null && determinedOption.getFeeDelegation()) && determinedOption.getFeePayer() != null) {
-            transaction = this.wallet.signAsFeePayer(determinedOption.getFeePayer(), (AbstractFeeDelegatedTransaction)transaction);
+            transaction = signAsFeePayerOrReleaseNonce(determinedOption.getFeePayer(), transaction);
         }
 
         return sendTransaction(transaction, processor);
@@ -632,10 +700,10 @@ public class ContractMethod {
         SendOptions determinedOption = makeSendOption(sendOptions);
         checkSendOption(determinedOption);
 
-        String encoded = encodeABIWithSolidityWrapper(wrapperArguments);
+        byte[] encoded = encodeABIWithSolidityWrapperToBytes(wrapperArguments);
 
         AbstractTransaction transaction = createTransaction(determinedOption, encoded);
-        return this.wallet.sign(determinedOption.getFrom(), transaction);
+        return signOrReleaseNonce(determinedOption.getFrom(), transaction);
     }
 
     /**
@@ -675,10 +743,10 @@ public class ContractMethod {
 
         checkSendOption(determinedOption);
 
-        String encoded = encodeABIWithSolidityWrapper(wrapperArguments);
+        byte[] encoded = encodeABIWithSolidityWrapperToBytes(wrapperArguments);
 
         AbstractFeeDelegatedTransaction transaction = (AbstractFeeDelegatedTransaction)createTransaction(determinedOption, encoded);
-        return this.wallet.signAsFeePayer(determinedOption.getFeePayer(), transaction);
+        return signAsFeePayerOrReleaseNonce(determinedOption.getFeePayer(), transaction);
     }
 
     /**
@@ -768,6 +836,38 @@ public class ContractMethod {
         return outputs;
     }
 
+    /**
+     * Returns the codec compiled from the inputs of the function.<p>
+     * It is compiled at the first call and reused to encode function calls and decode the inputs.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    @JsonIgnore
+    public ParameterCodec getInputCodec() throws ClassNotFoundException {
+        ParameterCodec codec = inputCodec;
+        if(codec == null) {
+            codec = ParameterCodec.fromIOTypes(getInputs());
+            inputCodec = codec;
+        }
+        return codec;
+    }
+
+    /**
+     * Returns the codec compiled from the outputs of the function.<p>
+     * It is compiled at the first call and reused to decode the return values.
+     * @return ParameterCodec
+     * @throws ClassNotFoundException
+     */
+    @JsonIgnore
+    public ParameterCodec getOutputCodec() throws ClassNotFoundException {
+        ParameterCodec codec = outputCodec;
+        if(codec == null) {
+            codec = ParameterCodec.fromIOTypes(getOutputs());
+            outputCodec = codec;
+        }
+        return codec;
+    }
+
     /**
      * Getter function for signature.
      * @return String
@@ -826,6 +926,7 @@ public class ContractMethod {
      */
     void setInputs(List<ContractIOType> inputs) {
         this.inputs = inputs;
+        this.inputCodec = null;
     }
 
     /**
@@ -834,6 +935,7 @@ public class ContractMethod {
      */
     void setOutputs(List<ContractIOType> outputs) {
         this.outputs = outputs;
+        this.outputCodec = null;
     }
 
     /**
@@ -1061,15 +1163,64 @@ public class ContractMethod {
         return true;
     }
 
+    private AbstractTransaction signOrReleaseNonce(String from, AbstractTransaction transaction) throws IOException {
+        return NonceGuard.signOrReleaseNonce(transaction, tx -> this.wallet.sign(from, tx));
+    }
+
+    private AbstractTransaction signAsFeePayerIfDelegated(AbstractTransaction transaction, SendOptions options) throws IOException {
+        if(options.getFeeDelegation() == null || !options.getFeeDelegation()) {
+            return transaction;
+        }
+        if(options.getFeePayer() == null || !Utils.isAddress(options.getFeePayer())) {
+            transaction.releaseNonce();
+            throw new IllegalArgumentException("The fee payer value is not valid. feePayer address - " + options.getFeePayer());
+        }
+        return signAsFeePayerOrReleaseNonce(options.getFeePayer(), transaction);
+    }
+
+    private AbstractFeeDelegatedTransaction signAsFeePayerOrReleaseNonce(String feePayer, AbstractTransaction transaction) throws IOException {
+        try {
+            return this.wallet.signAsFeePayer(feePayer, (AbstractFeeDelegatedTransaction)transaction);
+        } catch(IOException | RuntimeException e) {
+            transaction.releaseNonce();
+            throw e;
+        }
+    }
+
     private TransactionReceipt.TransactionReceiptData sendTransaction(AbstractTransaction transaction, TransactionReceiptProcessor processor) throws IOException, TransactionException {
-        Bytes32 response = caver.rpc.klay.sendRawTransaction(transaction).send();
+        Bytes32 response;
+        try {
+            response = caver.rpc.klay.sendRawTransaction(transaction).send();
+        } catch(IOException | RuntimeException e) {
+            // The node may have received the transaction, so its nonce is checked with the node before it is used again.
+            NonceGuard.onSendFailure(transaction);
+            throw e;
+        }
+
         if(response.hasError()) {
+            NonceGuard.onSendFailure(transaction);
             throw new IOException(response.getError().getMessage());
         }
 
         return processor.waitForTransactionReceipt(response.getResult());
     }
 
+    private CompletableFuture<TransactionReceipt.TransactionReceiptData> sendTransactionAsync(AbstractTransaction transaction, TransactionReceiptProcessor processor) {
+        return caver.rpc.klay.sendRawTransaction(transaction).sendAsync().whenComplete((response, error) -> {
+            if(error != null || response.hasError()) {
+                NonceGuard.onSendFailure(transaction);
+            }
+        }).thenCompose(response -> {
+            if(response.hasError()) {
+                CompletableFuture<TransactionReceipt.TransactionReceiptData> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new IOException(response.getError().getMessage()));
+                return failed;
+            }
+
+            return processor.waitForTransactionReceiptAsync(response.getResult());
+        });
+    }
+
     private List<Type> callFunction(ContractMethod method, String encodedInput, CallObject callObject) throws IOException, ClassNotFoundException {
         if(callObject.getData() != null || callObject.getTo() != null) {
             LOGGER.warn("'to' and 'data' field in CallObject will overwrite.");
@@ -1100,7 +1251,45 @@ public class ContractMethod {
         return estimateGas.getResult();
     }
 
-    private AbstractTransaction createTransaction(SendOptions sendOptions, String encoded) {
+    /**
+     * Encodes the ABI for this method to bytes that are set to the input of a transaction without hex conversion.
+     */
+    private byte[] encodeABIToBytes(List<Object> arguments) throws ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        if(getType().equals(TYPE_CONSTRUCTOR)) {
+            // The bytecode is passed as a hex string, so the deploy input is validated and converted once.
+            String encoded = encodeABI(arguments);
+            if(!Utils.isHex(encoded)) {
+                throw new IllegalArgumentException("Invalid input : " + encoded);
+            }
+            return Numeric.hexStringToByteArray(encoded);
+        }
+
+        List<Object> functionParams = new ArrayList<>();
+
+        if(arguments != null) {
+            functionParams.addAll(arguments);
+        }
+
+        ContractMethod matchedMethod = findMatchedInstance(functionParams);
+        return ABI.encodeFunctionCallToBytes(matchedMethod, functionParams);
+    }
+
+    private byte[] encodeABIWithSolidityWrapperToBytes(List<Type> wrapperArguments) {
+        if(!getType().equals(TYPE_FUNCTION)) {
+            throw new RuntimeException("This method can be used only to encode function with passed argument.");
+        }
+
+        List<Type> functionParams = new ArrayList<>();
+
+        if(wrapperArguments != null) {
+            functionParams.addAll(wrapperArguments);
+        }
+
+        ContractMethod matchedMethod = this.findMatchedInstanceWithSolidityWrapper(functionParams);
+        return ABI.encodeFunctionCallWithSolidityWrapperToBytes(matchedMethod, functionParams);
+    }
+
+    private AbstractTransaction createTransaction(SendOptions sendOptions, byte[] encoded) {
         checkSendOption(sendOptions);
 
         if(getType().equals("constructor")) { // contract deploy
@@ -1111,7 +1300,7 @@ public class ContractMethod {
                                     .setFrom(sendOptions.getFrom())
                                     .setGas(sendOptions.getGas())
                                     .setValue(sendOptions.getValue())
-                                    .setInput(encoded)
+                                    .setInputBytes(encoded)
                                     .setFeePayer(sendOptions.getFeePayer())
                     );
                 } else {
@@ -1120,7 +1309,7 @@ public class ContractMethod {
                                     .setFrom(sendOptions.getFrom())
                                     .setGas(sendOptions.getGas())
                                     .setValue(sendOptions.getValue())
-                                    .setInput(encoded)
+                                    .setInputBytes(encoded)
                                     .setFeePayer(sendOptions.getFeePayer())
                                     .setFeeRatio(sendOptions.getFeeRatio())
                     );
@@ -1131,7 +1320,7 @@ public class ContractMethod {
                                 .setFrom(sendOptions.getFrom())
                                 .setGas(sendOptions.getGas())
                                 .setValue(sendOptions.getValue())
-                                .setInput(encoded)
+                                .setInputBytes(encoded)
                 );
             }
         } else { // contract execution
@@ -1143,7 +1332,7 @@ public class ContractMethod {
                                     .setTo(contractAddress)
                                     .setGas(sendOptions.getGas())
                                     .setValue(sendOptions.getValue())
-                                    .setInput(encoded)
+                                    .setInputBytes(encoded)
                                     .setFeePayer(sendOptions.getFeePayer())
                     );
                 } else {
@@ -1153,7 +1342,7 @@ public class ContractMethod {
                                     .setTo(contractAddress)
                                     .setGas(sendOptions.getGas())
                                     .setValue(sendOptions.getValue())
-                                    .setInput(encoded)
+                                    .setInputBytes(encoded)
                                     .setFeePayer(sendOptions.getFeePayer())
                                     .setFeeRatio(sendOptions.getFeeRatio())
                     );
@@ -1165,7 +1354,7 @@ public class ContractMethod {
                                 .setTo(contractAddress)
                                 .setGas(sendOptions.getGas())
                                 .setValue(sendOptions.getValue())
-                                .setInput(encoded)
+                                .setInputBytes(encoded)
                 );
             }
         }
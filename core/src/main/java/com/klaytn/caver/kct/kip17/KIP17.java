@@ -37,6 +37,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The KIP17 class that helps you easily handle a smart contract that implements KIP-17 as a Java instance on the Klaytn blockchain platform.<p>
@@ -1081,6 +1082,45 @@ public class KIP17 extends Contract {
         return receiptData;
     }
 
+    /**
+     * Asynchronous version of {@link #transferFrom(String, String, BigInteger)}.<p>
+     * It will use default sendOptions in contract instance to passed sendOptions.<p>
+     * The returned future is completed with the receipt without blocking a thread while the transaction is being mined.
+     * @param from The address of the owner or approved of the given token.
+     * @param to The address of the account to receive the token.
+     * @param tokenId The token id to transfer.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @throws NoSuchMethodException
+     * @throws IOException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> transferFromAsync(String from, String to, BigInteger tokenId) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        return transferFromAsync(from, to, tokenId, this.getDefaultSendOptions());
+    }
+
+    /**
+     * Asynchronous version of {@link #transferFrom(String, String, BigInteger, SendOptions)}.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGas() before the transaction is sent.
+     * @param from The address of the owner or approved of the given token.
+     * @param to The address of the account to receive the token.
+     * @param tokenId The token id to transfer.
+     * @param sendParam A SendOptions need to execute contract's method.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @throws NoSuchMethodException
+     * @throws IOException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> transferFromAsync(String from, String to, BigInteger tokenId, SendOptions sendParam) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        SendOptions sendOption = determineSendOptions(this, sendParam, FUNCTION_TRANSFER_FROM, Arrays.asList(from, to, tokenId));
+        return this.getMethod(FUNCTION_TRANSFER_FROM).sendAsync(Arrays.asList(from, to, tokenId), sendOption);
+    }
+
     /**
      * Execute method "safeTransferFrom" in KIP-17 standard contract.<p>
      * It will use default sendOptions in contract instance to passed sendOptions.<p>
@@ -1151,6 +1191,45 @@ public class KIP17 extends Contract {
         return receiptData;
     }
 
+    /**
+     * Asynchronous version of {@link #safeTransferFrom(String, String, BigInteger)}.<p>
+     * It will use default sendOptions in contract instance to passed sendOptions.<p>
+     * The returned future is completed with the receipt without blocking a thread while the transaction is being mined.
+     * @param from The address of the owner or approved of the given token.
+     * @param to The address of the account to receive the token.
+     * @param tokenId The token id to transfer.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @throws NoSuchMethodException
+     * @throws IOException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> safeTransferFromAsync(String from, String to, BigInteger tokenId) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        return safeTransferFromAsync(from, to, tokenId, this.getDefaultSendOptions());
+    }
+
+    /**
+     * Asynchronous version of {@link #safeTransferFrom(String, String, BigInteger, SendOptions)}.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGas() before the transaction is sent.
+     * @param from The address of the owner or approved of the given token.
+     * @param to The address of the account to receive the token.
+     * @param tokenId The token id to transfer.
+     * @param sendParam A SendOptions need to execute contract's method.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @throws NoSuchMethodException
+     * @throws IOException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> safeTransferFromAsync(String from, String to, BigInteger tokenId, SendOptions sendParam) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        SendOptions sendOption = determineSendOptions(this, sendParam, FUNCTION_SAFE_TRANSFER_FROM, Arrays.asList(from, to, tokenId));
+        return this.getMethod(FUNCTION_SAFE_TRANSFER_FROM).sendAsync(Arrays.asList(from, to, tokenId), sendOption);
+    }
+
     /**
      * Execute method "safeTransferFrom" in KIP-17 standard contract.<p>
      * It will use default sendOptions in contract instance to passed sendOptions.<p>
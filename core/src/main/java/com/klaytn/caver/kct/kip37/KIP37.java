@@ -40,6 +40,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -995,6 +996,49 @@ public class KIP37 extends Contract {
         return this.send(sendOptions, FUNCTION_SAFE_TRANSFER_FROM, from, to, tokenId, value, data);
     }
 
+    /**
+     * Asynchronous version of {@link #safeTransferFrom(String, String, BigInteger, BigInteger, String)}.<p>
+     * It will use default sendOptions in contract instance to passed sendOptions.<p>
+     * The returned future is completed with the receipt without blocking a thread while the transaction is being mined.
+     * @param from The address of the account that owns the token to be transferred.
+     * @param to The address of the account to receive the token.
+     * @param tokenId The token id to transfer.
+     * @param value The amount of token to transfer.
+     * @param data The optional data to send along with the call.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @throws NoSuchMethodException
+     * @throws IOException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> safeTransferFromAsync(String from, String to, BigInteger tokenId, BigInteger value, String data) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        return safeTransferFromAsync(from, to, tokenId, value, data, this.getDefaultSendOptions());
+    }
+
+    /**
+     * Asynchronous version of {@link #safeTransferFrom(String, String, BigInteger, BigInteger, String, SendOptions)}.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGas() before the transaction is sent.
+     * @param from The address of the account that owns the token to be transferred.
+     * @param to The address of the account to receive the token.
+     * @param tokenId The token id to transfer.
+     * @param value The amount of token to transfer.
+     * @param data The optional data to send along with the call.
+     * @param sendParam A SendOptions need to execute contract's method.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @throws NoSuchMethodException
+     * @throws IOException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> safeTransferFromAsync(String from, String to, BigInteger tokenId, BigInteger value, String data, SendOptions sendParam) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        SendOptions sendOptions = determineSendOptions(this, sendParam, FUNCTION_SAFE_TRANSFER_FROM, Arrays.asList(from, to, tokenId, value, data));
+        return this.sendAsync(sendOptions, FUNCTION_SAFE_TRANSFER_FROM, from, to, tokenId, value, data);
+    }
+
     /**
      * Batch-operation version of {@link #safeTransferFrom(String, String, String, BigInteger, String)}. <p>
      * It will use default sendOptions in contract instance to passed sendOptions. <p>
@@ -1303,6 +1347,49 @@ public class KIP37 extends Contract {
         return this.send(sendOptions, FUNCTION_SAFE_BATCH_TRANSFER_FROM, from, to, tokenIds, amounts, data);
     }
 
+    /**
+     * Asynchronous version of {@link #safeBatchTransferFrom(String, String, BigInteger[], BigInteger[], String)}.<p>
+     * It will use default sendOptions in contract instance to passed sendOptions.<p>
+     * The returned future is completed with the receipt without blocking a thread while the transaction is being mined.
+     * @param from The address of the account that owns the token to be transferred.
+     * @param to The address of the account to receive the token.
+     * @param tokenIds The list of the token id to transfer.
+     * @param amounts The list of the token amount to transfer.
+     * @param data The optional data to send along with the call.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @throws NoSuchMethodException
+     * @throws IOException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> safeBatchTransferFromAsync(String from, String to, BigInteger[] tokenIds, BigInteger[] amounts, String data) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        return safeBatchTransferFromAsync(from, to, tokenIds, amounts, data, this.getDefaultSendOptions());
+    }
+
+    /**
+     * Asynchronous version of {@link #safeBatchTransferFrom(String, String, BigInteger[], BigInteger[], String, SendOptions)}.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGas() before the transaction is sent.
+     * @param from The address of the account that owns the token to be transferred.
+     * @param to The address of the account to receive the token.
+     * @param tokenIds The list of the token id to transfer.
+     * @param amounts The list of the token amount to transfer.
+     * @param data The optional data to send along with the call.
+     * @param sendParam A SendOptions need to execute contract's method.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @throws NoSuchMethodException
+     * @throws IOException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> safeBatchTransferFromAsync(String from, String to, BigInteger[] tokenIds, BigInteger[] amounts, String data, SendOptions sendParam) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        SendOptions sendOptions = determineSendOptions(this, sendParam, FUNCTION_SAFE_BATCH_TRANSFER_FROM, Arrays.asList(from, to, tokenIds, amounts, data));
+        return this.sendAsync(sendOptions, FUNCTION_SAFE_BATCH_TRANSFER_FROM, from, to, tokenIds, amounts, data);
+    }
+
     /**
      * Enable or disable approval for a third party ("operator") to manage all of the caller's tokens.<p>
      * It will use default sendOptions in contract instance to passed sendOptions.<p>
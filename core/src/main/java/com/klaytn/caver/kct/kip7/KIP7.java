@@ -37,6 +37,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The KIP7 class that helps you easily handle a smart contract that implements KIP-7 as a Java instance on the Klaytn blockchain platform.<p>
@@ -936,6 +937,43 @@ public class KIP7 extends Contract {
         return receiptData;
     }
 
+    /**
+     * Asynchronous version of {@link #transfer(String, BigInteger)}.<p>
+     * It will use default sendOptions in contract instance to passed sendOptions.<p>
+     * The returned future is completed with the receipt without blocking a thread while the transaction is being mined.
+     * @param recipient The address of the account to receive the token.
+     * @param amount The token amount will be transferred.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @throws NoSuchMethodException
+     * @throws IOException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> transferAsync(String recipient, BigInteger amount) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        return transferAsync(recipient, amount, this.getDefaultSendOptions());
+    }
+
+    /**
+     * Asynchronous version of {@link #transfer(String, BigInteger, SendOptions)}.<p>
+     * If a gas value in sendOptions has null, it will automatically set gas value through estimateGas() before the transaction is sent.
+     * @param recipient The address of the account to receive the token.
+     * @param amount The token amount will be transferred.
+     * @param sendParam A SendOptions need to execute contract's method.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @throws NoSuchMethodException
+     * @throws IOException
+     * @throws InstantiationException
+     * @throws ClassNotFoundException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> transferAsync(String recipient, BigInteger amount, SendOptions sendParam) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        SendOptions sendOptions = determineSendOptions(this, sendParam, FUNCTION_TRANSFER, Arrays.asList(recipient, amount));
+        return this.getMethod(FUNCTION_TRANSFER).sendAsync(Arrays.asList(recipient, amount), sendOptions);
+    }
+
     /**
      * Execute a method "transferFrom" in KIP-7 standard contract.<p>
      * It will use default sendOptions in contract instance to passed sendOptions.<p>
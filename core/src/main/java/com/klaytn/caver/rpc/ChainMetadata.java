@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rpc;
+
+import com.klaytn.caver.methods.response.GovernanceChainConfig;
+
+import java.math.BigInteger;
+
+/**
+ * Representing the metadata of a chain which doesn't change while connected to a node.<p>
+ * It is loaded once by {@link Klay#getChainMetadata()} and reused until {@link Klay#refreshChainMetadata()} is called.
+ */
+public class ChainMetadata {
+    /**
+     * The chain id of the chain.
+     */
+    private final BigInteger chainId;
+
+    /**
+     * The client version of the node.
+     */
+    private final String clientVersion;
+
+    /**
+     * The Klaytn protocol version of the node.
+     */
+    private final String protocolVersion;
+
+    /**
+     * The chain configuration including the hard fork blocks.
+     */
+    private final GovernanceChainConfig.ChainConfigData chainConfig;
+
+    /**
+     * Creates a ChainMetadata instance.
+     * @param chainId The chain id of the chain.
+     * @param clientVersion The client version of the node.
+     * @param protocolVersion The Klaytn protocol version of the node.
+     * @param chainConfig The chain configuration including the hard fork blocks.
+     */
+    public ChainMetadata(BigInteger chainId, String clientVersion, String protocolVersion, GovernanceChainConfig.ChainConfigData chainConfig) {
+        this.chainId = chainId;
+        this.clientVersion = clientVersion;
+        this.protocolVersion = protocolVersion;
+        this.chainConfig = chainConfig;
+    }
+
+    /**
+     * Getter function for chainId
+     * @return BigInteger
+     */
+    public BigInteger getChainId() {
+        return chainId;
+    }
+
+    /**
+     * Getter function for clientVersion.<p>
+     * It returns null if the node doesn't provide it.
+     * @return String
+     */
+    public String getClientVersion() {
+        return clientVersion;
+    }
+
+    /**
+     * Getter function for protocolVersion.<p>
+     * It returns null if the node doesn't provide it.
+     * @return String
+     */
+    public String getProtocolVersion() {
+        return protocolVersion;
+    }
+
+    /**
+     * Getter function for chainConfig.<p>
+     * It returns null if the node doesn't provide it.
+     * @return GovernanceChainConfig.ChainConfigData
+     */
+    public GovernanceChainConfig.ChainConfigData getChainConfig() {
+        return chainConfig;
+    }
+
+    /**
+     * Returns true if the hard fork which is activated at the given block is activated at the block number.
+     * <pre>Example :
+     * {@code
+     * ChainMetadata metadata = caver.rpc.klay.getChainMetadata();
+     * boolean isMagma = metadata.isActivated(metadata.getChainConfig().getMagmaCompatibleBlock(), blockNumber);
+     * }
+     * </pre>
+     * @param compatibleBlock The block number the hard fork is activated. null means it is not scheduled.
+     * @param blockNumber The block number to check.
+     * @return boolean
+     */
+    public boolean isActivated(BigInteger compatibleBlock, BigInteger blockNumber) {
+        return compatibleBlock != null && compatibleBlock.compareTo(blockNumber) <= 0;
+    }
+}
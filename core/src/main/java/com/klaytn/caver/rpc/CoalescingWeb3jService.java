@@ -0,0 +1,285 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rpc;
+
+import com.klaytn.caver.utils.DaemonThreadFactory;
+import io.reactivex.Flowable;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A Web3jService decorator that coalesces independent requests into JSON-RPC batches.<p>
+ * The requests sent through {@link #send(Request, Class)} and {@link #sendAsync(Request, Class)} are held for a short window.
+ * When the window is over or the number of held requests reaches the maximum batch size, they are sent to the underlying service
+ * as one batch request, and each response is routed back to the future of the request at the same position.
+ * web3j deserializes the responses of a batch with the types of the requests at the same positions,
+ * so a response whose id shows that the node answered in another order completes its future exceptionally.
+ * A window with a single request is sent as a normal request.<p>
+ * Batches made by hand and subscriptions are passed to the underlying service as they are.
+ * <pre>Example :
+ * {@code
+ * Caver caver = new Caver(new CoalescingWeb3jService(new HttpService(Caver.DEFAULT_URL)));
+ * }
+ * </pre>
+ */
+public class CoalescingWeb3jService implements Web3jService {
+    /**
+     * The default time to hold requests before sending a batch in milliseconds.
+     */
+    public static final long DEFAULT_WINDOW_MILLIS = 2;
+
+    /**
+     * The default maximum number of requests in a batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private final Web3jService web3jService;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    /**
+     * The scheduler to flush held requests at the end of each window. It is shut down in close().
+     */
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private List<PendingRequest<?>> pendingRequests = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush = null;
+    private boolean closed = false;
+
+    /**
+     * Creates a CoalescingWeb3jService instance with the default options.
+     * @param web3jService The Web3jService to send batches.
+     */
+    public CoalescingWeb3jService(Web3jService web3jService) {
+        this(web3jService, DEFAULT_WINDOW_MILLIS, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a CoalescingWeb3jService instance.
+     * @param web3jService The Web3jService to send batches.
+     * @param windowMillis The time to hold requests before sending a batch in milliseconds.
+     * @param maxBatchSize The maximum number of requests in a batch.
+     */
+    public CoalescingWeb3jService(Web3jService web3jService, long windowMillis, int maxBatchSize) {
+        if(windowMillis < 0) {
+            throw new IllegalArgumentException("The window must not be negative.");
+        }
+        if(maxBatchSize < 1) {
+            throw new IllegalArgumentException("The maximum batch size must be greater than 0.");
+        }
+
+        this.web3jService = web3jService;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("caver-coalescing-flush"));
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        try {
+            return sendAsync(request, responseType).get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the response of " + request.getMethod(), e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        PendingRequest<T> pendingRequest = new PendingRequest<>(toTypedRequest(request), responseType, () -> web3jService.sendAsync(request, responseType));
+
+        List<PendingRequest<?>> batch = null;
+        synchronized(lock) {
+            if(closed) {
+                pendingRequest.future.completeExceptionally(new IOException("The service is closed."));
+                return pendingRequest.future;
+            }
+
+            pendingRequests.add(pendingRequest);
+            if(pendingRequests.size() >= maxBatchSize) {
+                batch = takePendingRequests();
+            } else if(scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if(batch != null) {
+            dispatch(batch);
+        }
+        return pendingRequest.future;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return web3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return web3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    /**
+     * Sends the held requests without waiting for the window to be over.
+     */
+    public void flush() {
+        List<PendingRequest<?>> batch;
+        synchronized(lock) {
+            batch = takePendingRequests();
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * Sends the held requests, shuts down the scheduler and closes the underlying service.<p>
+     * The requests sent after closing are completed exceptionally.
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        List<PendingRequest<?>> batch;
+        synchronized(lock) {
+            closed = true;
+            batch = takePendingRequests();
+        }
+        dispatch(batch);
+
+        scheduler.shutdown();
+        web3jService.close();
+    }
+
+    private List<PendingRequest<?>> takePendingRequests() {
+        if(scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+
+        List<PendingRequest<?>> batch = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        return batch;
+    }
+
+    private void dispatch(List<PendingRequest<?>> batch) {
+        if(batch.isEmpty()) {
+            return;
+        }
+
+        if(batch.size() == 1) {
+            PendingRequest<?> pendingRequest = batch.get(0);
+            pendingRequest.sendAlone.get().whenComplete((response, throwable) -> {
+                if(throwable != null) {
+                    pendingRequest.future.completeExceptionally(throwable);
+                } else {
+                    pendingRequest.complete(response);
+                }
+            });
+            return;
+        }
+
+        BatchRequest batchRequest = new BatchRequest(web3jService);
+        for(PendingRequest<?> pendingRequest : batch) {
+            batchRequest.add(pendingRequest.request);
+        }
+
+        web3jService.sendBatchAsync(batchRequest).whenComplete((batchResponse, throwable) -> {
+            if(throwable != null) {
+                batch.forEach(pendingRequest -> pendingRequest.future.completeExceptionally(throwable));
+                return;
+            }
+            route(batch, batchResponse.getResponses());
+        });
+    }
+
+    private void route(List<PendingRequest<?>> batch, List<? extends Response<?>> responses) {
+        for(int i = 0; i < batch.size(); i++) {
+            PendingRequest<?> pendingRequest = batch.get(i);
+            if(i >= responses.size()) {
+                pendingRequest.future.completeExceptionally(new IOException("The batch response does not include the response of " + pendingRequest.request.getMethod()));
+                continue;
+            }
+
+            // web3j has already deserialized the response with the type of the request at the same position.
+            // Some nodes omit the id of an error response, so only a different non-zero id is treated as out of order.
+            Response<?> response = responses.get(i);
+            if(response.getId() != pendingRequest.request.getId() && !(response.getId() == 0 && response.hasError())) {
+                pendingRequest.future.completeExceptionally(new IOException("The batch response is not in the order of the requests : " + pendingRequest.request.getMethod()));
+            } else {
+                pendingRequest.complete(response);
+            }
+        }
+    }
+
+    /**
+     * Web3jService passes requests as raw types, while BatchRequest only accepts requests with a typed response.
+     * The response type of a Request is always a Response, so the conversion is safe.
+     */
+    @SuppressWarnings("unchecked")
+    private static Request<?, ? extends Response<?>> toTypedRequest(Request<?, ?> request) {
+        return (Request<?, ? extends Response<?>>)request;
+    }
+
+    private static class PendingRequest<T> {
+        private final Request<?, ? extends Response<?>> request;
+        private final Class<T> responseType;
+        private final Supplier<CompletableFuture<T>> sendAlone;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        PendingRequest(Request<?, ? extends Response<?>> request, Class<T> responseType, Supplier<CompletableFuture<T>> sendAlone) {
+            this.request = request;
+            this.responseType = responseType;
+            this.sendAlone = sendAlone;
+        }
+
+        void complete(Object response) {
+            if(!responseType.isInstance(response)) {
+                future.completeExceptionally(new IOException("Unexpected response type of " + request.getMethod() + " : " + response.getClass().getName()));
+                return;
+            }
+            future.complete(responseType.cast(response));
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rpc;
+
+import com.klaytn.caver.methods.response.FeeHistoryResult;
+import com.klaytn.caver.methods.response.Quantity;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A gas price oracle suggests gas prices from `klay_feeHistory` and caches them for a while.<p>
+ * It keeps the priority fees of the latest blocks in a window. When the cache is expired, it requests the fee history of a few latest blocks
+ * and merges only the new blocks to the window, so the percentile is updated incrementally.
+ * If blocks are missed since the last update, for example after an idle time, the whole window is requested again.<p>
+ * The requests are sent without holding the lock. While one thread updates the window, the other threads use the last suggestions.<p>
+ * The suggestions are derived as below.
+ * <ul>
+ *     <li>gasPrice, maxFeePerGas : the base fee of the next block * 2. It is the same rule `klay_gasPrice` uses after the Magma hard fork.</li>
+ *     <li>maxPriorityFeePerGas : the median of the priority fees sampled at the given percentile of each block in the window.</li>
+ * </ul>
+ * Before the Magma hard fork, the base fee is zero and the gas unit price is fixed, so it uses `klay_gasPrice` for all suggestions.
+ * <pre>Example :
+ * {@code
+ * caver.rpc.klay.setGasPriceOracle(new GasPriceOracle(caver.rpc.klay));
+ * }
+ * </pre>
+ */
+public class GasPriceOracle implements IGasPriceOracle {
+    /**
+     * The default number of blocks in the window.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 20;
+
+    /**
+     * The default percentile of priority fees in a block.
+     */
+    public static final float DEFAULT_PERCENTILE = 50f;
+
+    /**
+     * The default time to keep the suggestions in milliseconds. It is the same with the block time of Klaytn.
+     */
+    public static final long DEFAULT_TTL_MILLIS = 1000;
+
+    /**
+     * The number of blocks to request when updating the window.
+     */
+    static final int UPDATE_BLOCK_COUNT = 4;
+
+    private final Klay klay;
+    private final int windowSize;
+    private final float percentile;
+    private final long ttlMillis;
+
+    /**
+     * The priority fees of blocks in the window, in order of block number.
+     */
+    private final ArrayDeque<BigInteger> rewards = new ArrayDeque<>();
+
+    /**
+     * The priority fees in the window sorted by value with their count.
+     */
+    private final TreeMap<BigInteger, Integer> sortedRewards = new TreeMap<>();
+
+    /**
+     * The number of the latest block merged to the window.
+     */
+    private BigInteger lastBlock = null;
+
+    private BigInteger nextBaseFee = BigInteger.ZERO;
+    private BigInteger unitPrice = null;
+    private long updatedAt = 0;
+    private boolean updating = false;
+
+    /**
+     * Creates a GasPriceOracle instance with the default options.
+     * @param klay The Klay RPC instance.
+     */
+    public GasPriceOracle(Klay klay) {
+        this(klay, DEFAULT_WINDOW_SIZE, DEFAULT_PERCENTILE, DEFAULT_TTL_MILLIS);
+    }
+
+    /**
+     * Creates a GasPriceOracle instance.
+     * @param klay The Klay RPC instance.
+     * @param windowSize The number of blocks to take the priority fees from. Between 1 and 1024.
+     * @param percentile The percentile of priority fees to sample from each block. Between 0 and 100.
+     * @param ttlMillis The time to keep the suggestions in milliseconds.
+     */
+    public GasPriceOracle(Klay klay, int windowSize, float percentile, long ttlMillis) {
+        if(windowSize < 1 || windowSize > 1024) {
+            throw new IllegalArgumentException("The window size must be between 1 and 1024.");
+        }
+        if(percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100.");
+        }
+
+        this.klay = klay;
+        this.windowSize = windowSize;
+        this.percentile = percentile;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public BigInteger suggestGasPrice() throws IOException {
+        updateIfExpired();
+        synchronized(this) {
+            return unitPrice != null ? unitPrice : nextBaseFee.shiftLeft(1);
+        }
+    }
+
+    @Override
+    public BigInteger suggestMaxPriorityFeePerGas() throws IOException {
+        updateIfExpired();
+        synchronized(this) {
+            return unitPrice != null ? unitPrice : median();
+        }
+    }
+
+    @Override
+    public BigInteger suggestMaxFeePerGas() throws IOException {
+        return suggestGasPrice();
+    }
+
+    /**
+     * Expires the cached suggestions, so the fee history is requested at the next suggestion.
+     */
+    public synchronized void invalidate() {
+        updatedAt = 0;
+    }
+
+    /**
+     * Getter function for the base fee of the next block, which is known from the latest fee history.
+     * @return BigInteger
+     */
+    public synchronized BigInteger getNextBaseFee() {
+        return nextBaseFee;
+    }
+
+    private void updateIfExpired() throws IOException {
+        long now = System.currentTimeMillis();
+        BigInteger mergedBlock;
+        synchronized(this) {
+            if(updatedAt != 0 && (now - updatedAt < ttlMillis || updating)) {
+                return;
+            }
+            updating = true;
+            mergedBlock = lastBlock;
+        }
+
+        try {
+            FeeHistoryResult.FeeHistoryResultData<?> data = getFeeHistory(mergedBlock == null ? windowSize : Math.min(windowSize, UPDATE_BLOCK_COUNT));
+            if(mergedBlock != null && Numeric.toBigInt(data.getOldestBlock()).compareTo(mergedBlock.add(BigInteger.ONE)) > 0) {
+                // Blocks are missed since the last update, so the window is filled again with the latest blocks.
+                data = getFeeHistory(windowSize);
+            }
+
+            BigInteger gasPrice = null;
+            List<String> baseFeePerGas = data.getBaseFeePerGas();
+            if(baseFeePerGas.isEmpty() || Numeric.toBigInt(baseFeePerGas.get(baseFeePerGas.size() - 1)).signum() == 0) {
+                Quantity response = klay.getGasPrice().send();
+                if(response.hasError()) {
+                    throw new RuntimeException("Failed to get gas price: " + response.getError().getMessage());
+                }
+                gasPrice = response.getValue();
+            }
+
+            synchronized(this) {
+                merge(data);
+                unitPrice = gasPrice;
+                updatedAt = now;
+            }
+        } finally {
+            synchronized(this) {
+                updating = false;
+            }
+        }
+    }
+
+    private FeeHistoryResult.FeeHistoryResultData<?> getFeeHistory(long blockCount) throws IOException {
+        FeeHistoryResult response = klay.getFeeHistory(blockCount, DefaultBlockParameterName.LATEST, Collections.singletonList(percentile)).send();
+        if(response.hasError() || response.getResult() == null) {
+            throw new RuntimeException("Failed to get fee history: " + (response.hasError() ? response.getError().getMessage() : "empty result"));
+        }
+        return response.getResult();
+    }
+
+    private void merge(FeeHistoryResult.FeeHistoryResultData<?> data) {
+        BigInteger oldestBlock = Numeric.toBigInt(data.getOldestBlock());
+        List<String> baseFeePerGas = data.getBaseFeePerGas();
+        List<List<String>> reward = data.getReward();
+
+        int blocks = baseFeePerGas.size() - 1;
+        if(lastBlock != null && oldestBlock.add(BigInteger.valueOf(blocks - 1)).compareTo(lastBlock) < 0) {
+            // Another thread merged newer blocks already.
+            return;
+        }
+        if(lastBlock != null && oldestBlock.compareTo(lastBlock.add(BigInteger.ONE)) > 0) {
+            rewards.clear();
+            sortedRewards.clear();
+        }
+
+        for(int i = 0; i < blocks; i++) {
+            BigInteger blockNumber = oldestBlock.add(BigInteger.valueOf(i));
+            if(lastBlock != null && blockNumber.compareTo(lastBlock) <= 0) {
+                continue;
+            }
+
+            BigInteger value = BigInteger.ZERO;
+            if(reward != null && reward.size() > i && !reward.get(i).isEmpty()) {
+                value = Numeric.toBigInt(reward.get(i).get(0));
+            }
+            push(value);
+            lastBlock = blockNumber;
+        }
+
+        if(!baseFeePerGas.isEmpty()) {
+            nextBaseFee = Numeric.toBigInt(baseFeePerGas.get(baseFeePerGas.size() - 1));
+        }
+    }
+
+    private void push(BigInteger value) {
+        rewards.addLast(value);
+        sortedRewards.merge(value, 1, Integer::sum);
+
+        if(rewards.size() > windowSize) {
+            BigInteger removed = rewards.pollFirst();
+            sortedRewards.compute(removed, (k, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    private BigInteger median() {
+        if(rewards.isEmpty()) {
+            return BigInteger.ZERO;
+        }
+
+        int target = (rewards.size() - 1) / 2;
+        int seen = 0;
+        for(Map.Entry<BigInteger, Integer> entry : sortedRewards.entrySet()) {
+            seen += entry.getValue();
+            if(seen > target) {
+                return entry.getKey();
+            }
+        }
+        return sortedRewards.lastKey();
+    }
+}
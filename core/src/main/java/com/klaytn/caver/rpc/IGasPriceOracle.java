@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rpc;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Interface for suggesting the gas prices used to fill empty fields of transactions.<p>
+ * If it is set in {@link Klay#setGasPriceOracle(IGasPriceOracle)}, every transaction using the Klay instance gets its gas prices from it in fillTransaction.
+ */
+public interface IGasPriceOracle {
+    /**
+     * Suggests a gas price to use in "gasPrice" field of a transaction.
+     * @return BigInteger
+     * @throws IOException
+     */
+    BigInteger suggestGasPrice() throws IOException;
+
+    /**
+     * Suggests a value to use in "maxPriorityFeePerGas" field of a dynamic fee transaction.
+     * @return BigInteger
+     * @throws IOException
+     */
+    BigInteger suggestMaxPriorityFeePerGas() throws IOException;
+
+    /**
+     * Suggests a value to use in "maxFeePerGas" field of a dynamic fee transaction.
+     * @return BigInteger
+     * @throws IOException
+     */
+    BigInteger suggestMaxFeePerGas() throws IOException;
+}
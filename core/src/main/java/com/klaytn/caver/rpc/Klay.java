@@ -26,16 +26,18 @@ import com.klaytn.caver.methods.response.ForkStatusResult.ForkStatusData;
 import com.klaytn.caver.methods.response.*;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractTransaction;
-import com.klaytn.caver.utils.Utils;
 import io.reactivex.Flowable;
 import io.reactivex.disposables.Disposable;
 import io.reactivex.functions.Consumer;
 import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
 import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
@@ -48,6 +50,22 @@ public class Klay {
      */
     protected final Web3jService web3jService;
 
+    /**
+     * The cached chain id of the chain connected through web3jService.
+     * It is cached apart from chainMetadata, so filling transactions only needs `klay_chainID`.
+     */
+    private volatile BigInteger chainId;
+
+    /**
+     * The cached metadata of the chain connected through web3jService.
+     */
+    private volatile ChainMetadata chainMetadata;
+
+    /**
+     * The gas price oracle used to fill gas prices of transactions.
+     */
+    private volatile IGasPriceOracle gasPriceOracle;
+
     /**
      * Creates a Klay instance
      * @param web3jService JSON-RPC service instance.
@@ -56,6 +74,148 @@ public class Klay {
         this.web3jService = web3jService;
     }
 
+    /**
+     * Returns a new {@link BatchRequest} to send Klay requests in one JSON-RPC round trip.
+     * <pre>Example :
+     * {@code
+     * BatchResponse response = caver.rpc.klay.newBatch()
+     *     .add(caver.rpc.klay.getChainID())
+     *     .add(caver.rpc.klay.getGasPrice())
+     *     .send();
+     * }
+     * </pre>
+     * @return BatchRequest
+     */
+    public BatchRequest newBatch() {
+        return new BatchRequest(web3jService);
+    }
+
+    /**
+     * Returns the chain id of the chain.<p>
+     * It is loaded from the node with `klay_chainID` at the first call and the cached one is returned after that.
+     * <pre>Example :
+     * {@code
+     * BigInteger chainId = caver.rpc.klay.getCachedChainId();
+     * }
+     * </pre>
+     * @return BigInteger
+     * @throws IOException
+     */
+    public BigInteger getCachedChainId() throws IOException {
+        BigInteger cached = chainId;
+        if(cached == null) {
+            cached = loadChainId();
+            chainId = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Returns the metadata of the chain(chainId, client version, protocol version and chain config).<p>
+     * It is loaded from the node at the first call and the cached one is returned after that.
+     * The chain id is loaded by {@link #getCachedChainId()}, and the other values are requested in one batch only when the metadata is requested.
+     * If loading the other values fails, the cached chain id is kept.
+     * To load it again, please use {@link #refreshChainMetadata()}.
+     * <pre>Example :
+     * {@code
+     * BigInteger chainId = caver.rpc.klay.getChainMetadata().getChainId();
+     * }
+     * </pre>
+     * @return ChainMetadata
+     * @throws IOException
+     */
+    public ChainMetadata getChainMetadata() throws IOException {
+        ChainMetadata metadata = chainMetadata;
+        if(metadata == null) {
+            synchronized(this) {
+                metadata = chainMetadata;
+                if(metadata == null) {
+                    metadata = loadChainMetadata(getCachedChainId());
+                    chainMetadata = metadata;
+                }
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * Loads the chain id and the metadata of the chain from the node again and replaces the cached ones.
+     * @return ChainMetadata
+     * @throws IOException
+     */
+    public ChainMetadata refreshChainMetadata() throws IOException {
+        synchronized(this) {
+            chainId = loadChainId();
+            chainMetadata = loadChainMetadata(chainId);
+            return chainMetadata;
+        }
+    }
+
+    /**
+     * Getter function for gasPriceOracle
+     * @return IGasPriceOracle
+     */
+    public IGasPriceOracle getGasPriceOracle() {
+        return gasPriceOracle;
+    }
+
+    /**
+     * Setter function for gasPriceOracle.<p>
+     * If it is set, transactions using this Klay instance get gas prices from it in fillTransaction instead of calling `klay_gasPrice` and `klay_maxPriorityFeePerGas` each time.
+     * <pre>Example :
+     * {@code
+     * caver.rpc.klay.setGasPriceOracle(new GasPriceOracle(caver.rpc.klay));
+     * }
+     * </pre>
+     * @param gasPriceOracle The gas price oracle. If it is null, the gas prices are requested to the node for each transaction.
+     */
+    public void setGasPriceOracle(IGasPriceOracle gasPriceOracle) {
+        this.gasPriceOracle = gasPriceOracle;
+    }
+
+    private BigInteger loadChainId() throws IOException {
+        Quantity response = getChainID().send();
+        if(response.hasError() || response.getResult() == null) {
+            throw new RuntimeException("Failed to load the chain id from the node.");
+        }
+        return response.getValue();
+    }
+
+    private ChainMetadata loadChainMetadata(BigInteger chainId) throws IOException {
+        Request<?, Bytes> clientVersionRequest = getClientVersion();
+        Request<?, Bytes> protocolVersionRequest = getProtocolVersion();
+        Request<?, GovernanceChainConfig> chainConfigRequest = getChainConfig();
+
+        List<? extends Response<?>> responses = newBatch()
+                .add(clientVersionRequest)
+                .add(protocolVersionRequest)
+                .add(chainConfigRequest)
+                .send()
+                .getResponses();
+
+        // The values are optional, because some of them are not supported by old nodes.
+        Bytes clientVersion = findResponse(responses, clientVersionRequest);
+        Bytes protocolVersion = findResponse(responses, protocolVersionRequest);
+        GovernanceChainConfig chainConfig = findResponse(responses, chainConfigRequest);
+
+        return new ChainMetadata(
+                chainId,
+                clientVersion == null || clientVersion.hasError() ? null : clientVersion.getResult(),
+                protocolVersion == null || protocolVersion.hasError() ? null : protocolVersion.getResult(),
+                chainConfig == null || chainConfig.hasError() ? null : chainConfig.getResult()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Response<?>> T findResponse(List<? extends Response<?>> responses, Request<?, T> request) {
+        for(Response<?> response : responses) {
+            if(response.getId() == request.getId() && request.getResponseType().isInstance(response)) {
+                return (T)response;
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns true if the account associated with the address is created. It returns false otherwise.<p>
      * It sets block tag to "LATEST"
@@ -1146,7 +1306,7 @@ public class Klay {
      * @return Bytes32
      */
     public Request<?, Bytes32> sendRawTransaction(AbstractTransaction transaction) {
-        String rawTransaction = transaction.getRLPEncoding();
+        String rawTransaction = transaction.getRawTransaction();
 
         return new Request<>(
                 "klay_sendRawTransaction",
@@ -1192,9 +1352,7 @@ public class Klay {
      * @return KlaySignTransaction
      */
     public Request<?, SignTransaction> signTransaction(AbstractTransaction transaction) {
-        if(Utils.isEmptySig(transaction.getSignatures())) {
-            transaction.getSignatures().remove(0);
-        }
+        transaction.removeEmptySignature();
 
         return new Request<>(
                 "klay_signTransaction",
@@ -1213,9 +1371,7 @@ public class Klay {
      * @return KlaySignTransaction
      */
     public Request<?, SignTransaction> signTransactionAsFeePayer(AbstractFeeDelegatedTransaction transaction) {
-        if(Utils.isEmptySig(transaction.getSignatures())) {
-            transaction.getSignatures().remove(0);
-        }
+        transaction.removeEmptySignature();
 
         return new Request<>(
                 "klay_signTransactionAsFeePayer",
@@ -0,0 +1,732 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.rpc;
+
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.utils.DaemonThreadFactory;
+import io.reactivex.Flowable;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A Web3jService that spreads requests over a pool of Klaytn endpoints.<p>
+ * <ul>
+ *     <li>Selection : A read request is sent to the endpoint with the least outstanding requests, or with the lowest latency weighted by its outstanding requests.</li>
+ *     <li>Ejection : An endpoint is ejected for a while after consecutive transport failures. The periodic health check sends `klay_blockNumber` to each endpoint and reinstates the recovered ones.</li>
+ *     <li>Failover : When an idempotent read fails with IOException, it is sent to the next endpoint. A JSON-RPC error response is returned as it is.</li>
+ *     <li>Hedging : If enabled, a read that is not answered within the p95 latency of its endpoint is also sent to another endpoint, and the first answer is used.</li>
+ *     <li>Writes : `send` methods and stateful methods such as filters are sent to the sticky endpoint, which is the first available one in the given order.
+ *     The methods using the keystore of the node (`sign`, `accounts`) and the reads of the pending state (a "pending" block tag, transactions and receipts by hash)
+ *     are also sent to it, because the other endpoints may not have the transactions sent to the sticky endpoint yet.
+ *     With {@link WritePolicy#FAN_OUT}, `send` methods are sent to all available endpoints and the first successful response is used.</li>
+ * </ul>
+ * <pre>Example :
+ * {@code
+ * LoadBalancedWeb3jService service = new LoadBalancedWeb3jService("http://en1:8551", "http://en2:8551", "http://en3:8551");
+ * service.setHedgeEnabled(true);
+ * service.startHealthCheck(5000);
+ *
+ * Caver caver = new Caver(service);
+ * }
+ * </pre>
+ */
+public class LoadBalancedWeb3jService implements Web3jService {
+    /**
+     * The default number of consecutive failures to eject an endpoint.
+     */
+    public static final int DEFAULT_MAX_FAILURES = 3;
+
+    /**
+     * The default time to eject an endpoint in milliseconds.
+     */
+    public static final long DEFAULT_EJECTION_MILLIS = 30000;
+
+    /**
+     * The minimum delay before sending a hedged request in milliseconds.
+     */
+    public static final long DEFAULT_MIN_HEDGE_DELAY_MILLIS = 10;
+
+    /**
+     * The number of latency samples kept per endpoint to calculate the p95 latency.
+     */
+    static final int LATENCY_SAMPLE_SIZE = 128;
+
+    /**
+     * The weight of a new sample in the moving average of latency.
+     */
+    static final double LATENCY_SMOOTHING = 0.2;
+
+    /**
+     * The way to select an endpoint for a read request.
+     */
+    public enum Selection {
+        LEAST_OUTSTANDING,
+        LATENCY_WEIGHTED
+    }
+
+    /**
+     * The way to send a transaction.
+     */
+    public enum WritePolicy {
+        STICKY,
+        FAN_OUT
+    }
+
+    private static final List<String> STATEFUL_METHOD_PREFIXES = Arrays.asList("personal_", "admin_", "debug_", "governance_vote");
+
+    /**
+     * The methods using the keystore of the node, or reading the transactions which may be only in the pool of the sticky endpoint.
+     */
+    private static final List<String> STICKY_METHOD_PREFIXES = Arrays.asList(
+            "klay_sign", "eth_sign", "klay_accounts", "eth_accounts",
+            "klay_getTransactionReceipt", "eth_getTransactionReceipt",
+            "klay_getTransactionByHash", "klay_getTransactionBySenderTxHash", "eth_getTransactionByHash",
+            "klay_pendingTransactions", "eth_pendingTransactions");
+
+    private final List<Endpoint> endpoints;
+
+    private volatile Selection selection = Selection.LEAST_OUTSTANDING;
+    private volatile WritePolicy writePolicy = WritePolicy.STICKY;
+    private volatile boolean hedgeEnabled = false;
+    private volatile long minHedgeDelayMillis = DEFAULT_MIN_HEDGE_DELAY_MILLIS;
+    private volatile int maxFailures = DEFAULT_MAX_FAILURES;
+    private volatile long ejectionMillis = DEFAULT_EJECTION_MILLIS;
+
+    /**
+     * The scheduler for the health check and hedged requests. It is shut down in close().
+     */
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("caver-load-balancer"));
+
+    private ScheduledFuture<?> healthCheck = null;
+
+    /**
+     * Creates a LoadBalancedWeb3jService instance with HttpService of each url.
+     * @param urls The urls of Klaytn endpoints.
+     */
+    public LoadBalancedWeb3jService(String... urls) {
+        this(createHttpServices(urls));
+    }
+
+    /**
+     * Creates a LoadBalancedWeb3jService instance.
+     * @param services The Web3jService of each Klaytn endpoint. The first available one is used as the sticky endpoint.
+     */
+    public LoadBalancedWeb3jService(List<? extends Web3jService> services) {
+        if(services == null || services.isEmpty()) {
+            throw new IllegalArgumentException("At least one endpoint is required.");
+        }
+
+        List<Endpoint> endpoints = new ArrayList<>();
+        for(Web3jService service : services) {
+            endpoints.add(new Endpoint(service));
+        }
+        this.endpoints = Collections.unmodifiableList(endpoints);
+    }
+
+    /**
+     * Getter function for selection
+     * @return Selection
+     */
+    public Selection getSelection() {
+        return selection;
+    }
+
+    /**
+     * Setter function for selection
+     * @param selection The way to select an endpoint for a read request.
+     */
+    public void setSelection(Selection selection) {
+        this.selection = selection;
+    }
+
+    /**
+     * Getter function for writePolicy
+     * @return WritePolicy
+     */
+    public WritePolicy getWritePolicy() {
+        return writePolicy;
+    }
+
+    /**
+     * Setter function for writePolicy
+     * @param writePolicy The way to send a transaction.
+     */
+    public void setWritePolicy(WritePolicy writePolicy) {
+        this.writePolicy = writePolicy;
+    }
+
+    /**
+     * Getter function for hedgeEnabled
+     * @return boolean
+     */
+    public boolean isHedgeEnabled() {
+        return hedgeEnabled;
+    }
+
+    /**
+     * Setter function for hedgeEnabled
+     * @param hedgeEnabled If true, a slow read request is also sent to another endpoint.
+     */
+    public void setHedgeEnabled(boolean hedgeEnabled) {
+        this.hedgeEnabled = hedgeEnabled;
+    }
+
+    /**
+     * Getter function for minHedgeDelayMillis
+     * @return long
+     */
+    public long getMinHedgeDelayMillis() {
+        return minHedgeDelayMillis;
+    }
+
+    /**
+     * Setter function for minHedgeDelayMillis
+     * @param minHedgeDelayMillis The minimum delay before sending a hedged request in milliseconds.
+     */
+    public void setMinHedgeDelayMillis(long minHedgeDelayMillis) {
+        this.minHedgeDelayMillis = minHedgeDelayMillis;
+    }
+
+    /**
+     * Getter function for maxFailures
+     * @return int
+     */
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    /**
+     * Setter function for maxFailures
+     * @param maxFailures The number of consecutive failures to eject an endpoint.
+     */
+    public void setMaxFailures(int maxFailures) {
+        if(maxFailures < 1) {
+            throw new IllegalArgumentException("The maximum number of failures must be greater than 0.");
+        }
+        this.maxFailures = maxFailures;
+    }
+
+    /**
+     * Getter function for ejectionMillis
+     * @return long
+     */
+    public long getEjectionMillis() {
+        return ejectionMillis;
+    }
+
+    /**
+     * Setter function for ejectionMillis
+     * @param ejectionMillis The time to eject an endpoint in milliseconds.
+     */
+    public void setEjectionMillis(long ejectionMillis) {
+        this.ejectionMillis = ejectionMillis;
+    }
+
+    /**
+     * Returns the number of endpoints.
+     * @return int
+     */
+    public int getEndpointCount() {
+        return endpoints.size();
+    }
+
+    /**
+     * Returns true if the endpoint at the given index is ejected.
+     * @param index The index of endpoint.
+     * @return boolean
+     */
+    public boolean isEjected(int index) {
+        return !endpoints.get(index).isAvailable(System.nanoTime());
+    }
+
+    /**
+     * Returns the number of requests waiting for the response from the endpoint at the given index.
+     * @param index The index of endpoint.
+     * @return int
+     */
+    public int getOutstandingRequests(int index) {
+        return endpoints.get(index).outstanding.get();
+    }
+
+    /**
+     * Starts to send `klay_blockNumber` to each endpoint periodically.<p>
+     * A failed endpoint is counted as a failure, and a responding one is reinstated.
+     * @param intervalMillis The interval of health check in milliseconds.
+     */
+    public synchronized void startHealthCheck(long intervalMillis) {
+        stopHealthCheck();
+        healthCheck = scheduler.scheduleAtFixedRate(this::checkHealth, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the health check started by {@link #startHealthCheck(long)}.
+     */
+    public synchronized void stopHealthCheck() {
+        if(healthCheck != null) {
+            healthCheck.cancel(false);
+            healthCheck = null;
+        }
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        String method = request.getMethod();
+        if(hedgeEnabled || (isWrite(method) && writePolicy == WritePolicy.FAN_OUT)) {
+            return join(sendAsync(request, responseType));
+        }
+        if(!isIdempotent(request)) {
+            return stickyEndpoint().send(service -> service.send(request, responseType));
+        }
+
+        Set<Endpoint> tried = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        IOException lastException = null;
+        Endpoint endpoint;
+        while((endpoint = select(tried)) != null) {
+            tried.add(endpoint);
+            try {
+                return endpoint.send(service -> service.send(request, responseType));
+            } catch(IOException e) {
+                lastException = e;
+            }
+        }
+        throw lastException;
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        String method = request.getMethod();
+        if(isWrite(method) && writePolicy == WritePolicy.FAN_OUT) {
+            return fanOut(request, responseType);
+        }
+        if(!isIdempotent(request)) {
+            return stickyEndpoint().sendAsync(service -> service.sendAsync(request, responseType));
+        }
+
+        return new ReadRequest<>(request, responseType).start();
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        if(!isIdempotent(batchRequest)) {
+            return stickyEndpoint().send(service -> service.sendBatch(batchRequest));
+        }
+
+        Set<Endpoint> tried = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        IOException lastException = null;
+        Endpoint endpoint;
+        while((endpoint = select(tried)) != null) {
+            tried.add(endpoint);
+            try {
+                return endpoint.send(service -> service.sendBatch(batchRequest));
+            } catch(IOException e) {
+                lastException = e;
+            }
+        }
+        throw lastException;
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        if(!isIdempotent(batchRequest)) {
+            return stickyEndpoint().sendAsync(service -> service.sendBatchAsync(batchRequest));
+        }
+
+        return Async.run(() -> sendBatch(batchRequest));
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+        return stickyEndpoint().service.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    /**
+     * Stops the health check, shuts down the scheduler and closes all endpoints.
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        stopHealthCheck();
+        scheduler.shutdown();
+
+        IOException exception = null;
+        for(Endpoint endpoint : endpoints) {
+            try {
+                endpoint.service.close();
+            } catch(IOException e) {
+                exception = e;
+            }
+        }
+        if(exception != null) {
+            throw exception;
+        }
+    }
+
+    static boolean isWrite(String method) {
+        return method.startsWith("klay_send") || method.startsWith("eth_send");
+    }
+
+    static boolean isIdempotent(String method) {
+        if(isWrite(method) || method.contains("Filter")) {
+            return false;
+        }
+        return STATEFUL_METHOD_PREFIXES.stream().noneMatch(method::startsWith)
+                && STICKY_METHOD_PREFIXES.stream().noneMatch(method::startsWith);
+    }
+
+    /**
+     * Returns true if the request can be sent to any endpoint.
+     * A request with the "pending" block tag, such as `klay_getTransactionCount` for a nonce, is sent to the sticky endpoint.
+     */
+    static boolean isIdempotent(Request<?, ?> request) {
+        if(!isIdempotent(request.getMethod())) {
+            return false;
+        }
+
+        List<?> params = request.getParams() == null ? Collections.emptyList() : request.getParams();
+        for(Object param : params) {
+            String tag = param instanceof DefaultBlockParameter ? ((DefaultBlockParameter)param).getValue() : String.valueOf(param);
+            if(DefaultBlockParameterName.PENDING.getValue().equals(tag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIdempotent(BatchRequest batchRequest) {
+        return batchRequest.getRequests().stream().allMatch(LoadBalancedWeb3jService::isIdempotent);
+    }
+
+    private static List<Web3jService> createHttpServices(String... urls) {
+        List<Web3jService> services = new ArrayList<>();
+        for(String url : urls) {
+            services.add(new HttpService(url));
+        }
+        return services;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the response.", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private Endpoint stickyEndpoint() {
+        long now = System.nanoTime();
+        for(Endpoint endpoint : endpoints) {
+            if(endpoint.isAvailable(now)) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(0);
+    }
+
+    /**
+     * Selects an endpoint not in the excluded set. Ejected endpoints are selected only when no other endpoint is available.
+     */
+    private Endpoint select(Set<Endpoint> excluded) {
+        long now = System.nanoTime();
+        Endpoint selected = null;
+        boolean selectedAvailable = false;
+        for(Endpoint endpoint : endpoints) {
+            if(excluded.contains(endpoint)) {
+                continue;
+            }
+
+            boolean available = endpoint.isAvailable(now);
+            if(selected == null || (available && !selectedAvailable)
+                    || (available == selectedAvailable && endpoint.isPreferredTo(selected))) {
+                selected = endpoint;
+                selectedAvailable = available;
+            }
+        }
+        return selected;
+    }
+
+    private <T extends Response> CompletableFuture<T> fanOut(Request request, Class<T> responseType) {
+        List<Endpoint> targets = new ArrayList<>();
+        long now = System.nanoTime();
+        for(Endpoint endpoint : endpoints) {
+            if(endpoint.isAvailable(now)) {
+                targets.add(endpoint);
+            }
+        }
+        if(targets.isEmpty()) {
+            targets.add(stickyEndpoint());
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(targets.size());
+        List<T> errorResponses = Collections.synchronizedList(new ArrayList<>());
+        List<Throwable> exceptions = Collections.synchronizedList(new ArrayList<>());
+
+        for(Endpoint endpoint : targets) {
+            endpoint.sendAsync(service -> service.sendAsync(request, responseType)).whenComplete((response, throwable) -> {
+                if(throwable == null && !response.hasError()) {
+                    result.complete(response);
+                } else if(throwable == null) {
+                    errorResponses.add(response);
+                } else {
+                    exceptions.add(throwable);
+                }
+
+                if(remaining.decrementAndGet() == 0 && !result.isDone()) {
+                    // No endpoint accepted the transaction. The error response explains why better than a transport failure.
+                    if(!errorResponses.isEmpty()) {
+                        result.complete(errorResponses.get(0));
+                    } else {
+                        result.completeExceptionally(exceptions.get(0));
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    private void checkHealth() {
+        for(Endpoint endpoint : endpoints) {
+            Request<?, Quantity> request = new Request<>("klay_blockNumber", Collections.emptyList(), endpoint.service, Quantity.class);
+            endpoint.sendAsync(service -> service.sendAsync(request, Quantity.class));
+        }
+    }
+
+    /**
+     * A read request that fails over to the next endpoint on a transport failure and is hedged when it is slow.
+     */
+    private class ReadRequest<T extends Response> {
+        private final Request request;
+        private final Class<T> responseType;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Set<Endpoint> tried = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        ReadRequest(Request request, Class<T> responseType) {
+            this.request = request;
+            this.responseType = responseType;
+        }
+
+        CompletableFuture<T> start() {
+            Endpoint endpoint;
+            synchronized(this) {
+                endpoint = select(tried);
+                tried.add(endpoint);
+            }
+            attempt(endpoint);
+
+            if(hedgeEnabled && endpoints.size() > 1) {
+                long delay = Math.max(minHedgeDelayMillis, endpoint.getP95LatencyMillis());
+                try {
+                    ScheduledFuture<?> hedge = scheduler.schedule(this::hedge, delay, TimeUnit.MILLISECONDS);
+                    result.whenComplete((response, throwable) -> hedge.cancel(false));
+                } catch(RejectedExecutionException e) {
+                    // The service is closed, so the request is not hedged.
+                }
+            }
+            return result;
+        }
+
+        private void hedge() {
+            if(result.isDone()) {
+                return;
+            }
+
+            Endpoint endpoint;
+            synchronized(this) {
+                endpoint = select(tried);
+                if(endpoint == null) {
+                    return;
+                }
+                tried.add(endpoint);
+            }
+            attempt(endpoint);
+        }
+
+        private void attempt(Endpoint endpoint) {
+            inFlight.incrementAndGet();
+            endpoint.sendAsync(service -> service.sendAsync(request, responseType)).whenComplete((response, throwable) -> {
+                if(throwable == null) {
+                    inFlight.decrementAndGet();
+                    result.complete(response);
+                    return;
+                }
+                if(result.isDone()) {
+                    inFlight.decrementAndGet();
+                    return;
+                }
+
+                Endpoint next;
+                synchronized(this) {
+                    next = select(tried);
+                    if(next != null) {
+                        tried.add(next);
+                    }
+                }
+
+                if(next != null) {
+                    attempt(next);
+                    inFlight.decrementAndGet();
+                } else if(inFlight.decrementAndGet() == 0) {
+                    result.completeExceptionally(throwable);
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOFunction<T, R> {
+        R apply(T t) throws IOException;
+    }
+
+    private class Endpoint {
+        private final Web3jService service;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final long[] latencySamples = new long[LATENCY_SAMPLE_SIZE];
+        private int sampleCount = 0;
+        private volatile double averageLatency = 0;
+        private volatile int consecutiveFailures = 0;
+        private volatile boolean ejected = false;
+        private volatile long ejectedUntil = 0;
+
+        Endpoint(Web3jService service) {
+            this.service = service;
+        }
+
+        boolean isAvailable(long now) {
+            return !ejected || now - ejectedUntil >= 0;
+        }
+
+        boolean isPreferredTo(Endpoint other) {
+            if(selection == Selection.LATENCY_WEIGHTED) {
+                return weightedLatency() < other.weightedLatency();
+            }
+
+            int outstanding = this.outstanding.get();
+            int otherOutstanding = other.outstanding.get();
+            if(outstanding != otherOutstanding) {
+                return outstanding < otherOutstanding;
+            }
+            return averageLatency < other.averageLatency;
+        }
+
+        private double weightedLatency() {
+            return (averageLatency + 1) * (outstanding.get() + 1);
+        }
+
+        synchronized long getP95LatencyMillis() {
+            int count = Math.min(sampleCount, LATENCY_SAMPLE_SIZE);
+            if(count == 0) {
+                return 0;
+            }
+
+            long[] sorted = Arrays.copyOf(latencySamples, count);
+            Arrays.sort(sorted);
+            return TimeUnit.NANOSECONDS.toMillis(sorted[(int)Math.ceil(count * 0.95) - 1]);
+        }
+
+        <R> R send(IOFunction<Web3jService, R> function) throws IOException {
+            long startedAt = System.nanoTime();
+            outstanding.incrementAndGet();
+            try {
+                R response = function.apply(service);
+                onSuccess(startedAt);
+                return response;
+            } catch(IOException e) {
+                onFailure();
+                throw e;
+            } finally {
+                outstanding.decrementAndGet();
+            }
+        }
+
+        <R> CompletableFuture<R> sendAsync(Function<Web3jService, CompletableFuture<R>> function) {
+            long startedAt = System.nanoTime();
+            outstanding.incrementAndGet();
+
+            CompletableFuture<R> future;
+            try {
+                future = function.apply(service);
+            } catch(RuntimeException e) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+
+            return future.whenComplete((response, throwable) -> {
+                outstanding.decrementAndGet();
+                if(throwable == null) {
+                    onSuccess(startedAt);
+                } else {
+                    onFailure();
+                }
+            });
+        }
+
+        private void onSuccess(long startedAt) {
+            long latency = System.nanoTime() - startedAt;
+            synchronized(this) {
+                latencySamples[sampleCount % LATENCY_SAMPLE_SIZE] = latency;
+                sampleCount = sampleCount == Integer.MAX_VALUE ? LATENCY_SAMPLE_SIZE : sampleCount + 1;
+                averageLatency = averageLatency == 0 ? latency : averageLatency + LATENCY_SMOOTHING * (latency - averageLatency);
+            }
+            consecutiveFailures = 0;
+            ejected = false;
+        }
+
+        private synchronized void onFailure() {
+            consecutiveFailures++;
+            if(consecutiveFailures >= maxFailures) {
+                ejectedUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ejectionMillis);
+                ejected = true;
+            }
+        }
+    }
+}
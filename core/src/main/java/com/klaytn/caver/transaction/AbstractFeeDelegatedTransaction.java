@@ -18,6 +18,7 @@ package com.klaytn.caver.transaction;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.account.Address;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
@@ -35,6 +36,7 @@ import java.math.BigInteger;
 import java.security.SignatureException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
@@ -51,7 +53,12 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
     /**
      * The fee payer's signatures.
      */
-    List<SignatureData> feePayerSignatures = new ArrayList<>();
+    List<SignatureData> feePayerSignatures = Collections.emptyList();
+
+    /**
+     * The binary form of feePayer used in RLP encoding.
+     */
+    private byte[] feePayerBytes;
 
     /**
      * Represent a AbstractFeeDelegatedTransaction builder
@@ -175,7 +182,7 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
             this.setFeePayer(keyring.getAddress());
         }
 
-        if(!this.getFeePayer().toLowerCase().equals(keyring.getAddress().toLowerCase())) {
+        if(!Address.isSame(this.getFeePayer(), keyring.getAddress())) {
             throw new IllegalArgumentException("The feePayer address of the transaction is different with the address of the keyring to use.");
         }
 
@@ -203,7 +210,7 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
             this.setFeePayer(keyring.getAddress());
         }
 
-        if(!this.getFeePayer().toLowerCase().equals(keyring.getAddress().toLowerCase())) {
+        if(!Address.isSame(this.getFeePayer(), keyring.getAddress())) {
             throw new IllegalArgumentException("The feePayer address of the transaction is different with the address of the keyring to use.");
         }
 
@@ -247,8 +254,8 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
 
         List<RlpType> rlpTypeList = new ArrayList<>();
         rlpTypeList.add(RlpString.create(txRLP));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
+        rlpTypeList.add(RlpString.create(this.getFeePayerBytes()));
+        rlpTypeList.add(RlpString.create(this.getChainIdBytes()));
         rlpTypeList.add(RlpString.create(0));
         rlpTypeList.add(RlpString.create(0));
         byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -343,10 +350,21 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
         }
 
         this.feePayer = feePayer;
+        this.feePayerBytes = toRlpBytes(feePayer);
+        this.invalidateCache();
     }
 
     /**
-     * Getter function for feePayerSignatures
+     * Getter function for the binary form of feePayer used in RLP encoding.
+     * @return byte[]
+     */
+    protected byte[] getFeePayerBytes() {
+        return feePayerBytes;
+    }
+
+    /**
+     * Getter function for feePayerSignatures.<p>
+     * The returned list cannot be modified. Use {@link #appendFeePayerSignatures(List)} to add fee payer's signatures.
      * @return List
      */
     @JsonIgnore
@@ -354,6 +372,16 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
         return feePayerSignatures;
     }
 
+    /**
+     * Removes all signatures and feePayerSignatures of the transaction.
+     */
+    @Override
+    protected void clearSignatures() {
+        super.clearSignatures();
+        this.feePayerSignatures = Collections.emptyList();
+        setFeePayerSignatures(null);
+    }
+
     public void setFeePayerSignatures(List<SignatureData> feePayerSignatures) {
         if(feePayerSignatures == null || feePayerSignatures.size() == 0) {
             feePayerSignatures = Arrays.asList(SignatureData.getEmptySignature());
@@ -364,7 +392,9 @@ abstract public class AbstractFeeDelegatedTransaction extends AbstractTransactio
                 throw new IllegalArgumentException("feePayer is missing: feePayer must be defined with feePayerSignatures.");
             }
         }
-        this.feePayerSignatures.addAll(feePayerSignatures);
-        this.feePayerSignatures = refineSignature(this.getFeePayerSignatures());
+        List<SignatureData> appended = new ArrayList<>(this.feePayerSignatures);
+        appended.addAll(feePayerSignatures);
+        this.feePayerSignatures = Collections.unmodifiableList(refineSignature(appended));
+        this.invalidateSignedCache();
     }
 }
@@ -37,6 +37,11 @@ abstract public class AbstractFeeDelegatedWithRatioTransaction extends AbstractF
      */
     String feeRatio;
 
+    /**
+     * The binary form of feeRatio used in RLP encoding.
+     */
+    private byte[] feeRatioBytes;
+
     /**
      * AbstractFeeDelegatedWithRatioTransaction Builder class.
      * @param <B> An generic extends to AbstractFeeDelegatedWithRatioTransaction.Builder
@@ -112,6 +117,14 @@ abstract public class AbstractFeeDelegatedWithRatioTransaction extends AbstractF
         return Numeric.toBigInt(feeRatio);
     }
 
+    /**
+     * Getter function for the binary form of feeRatio used in RLP encoding.
+     * @return byte[]
+     */
+    protected byte[] getFeeRatioBytes() {
+        return feeRatioBytes;
+    }
+
     /**
      * Setter function for feeRatio.
      * @param feeRatio A fee ratio of the fee payer.
@@ -130,6 +143,8 @@ abstract public class AbstractFeeDelegatedWithRatioTransaction extends AbstractF
         }
 
         this.feeRatio = feeRatio;
+        this.feeRatioBytes = toRlpNumberBytes(feeRatio);
+        this.invalidateCache();
     }
 
     /**
@@ -20,7 +20,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.klaytn.caver.methods.response.BlockHeader;
+import com.klaytn.caver.rpc.IGasPriceOracle;
 import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.transaction.nonce.INonceManager;
+import com.klaytn.caver.account.Address;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.transaction.type.TransactionType;
 import com.klaytn.caver.utils.Utils;
@@ -39,6 +42,7 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.security.SignatureException;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
@@ -50,6 +54,18 @@ abstract public class AbstractTransaction {
     @JsonIgnore
     private Klay klaytnCall = null;
 
+    /**
+     * The nonce manager to allocate an empty nonce in fillTransaction.
+     */
+    @JsonIgnore
+    private INonceManager nonceManager = null;
+
+    /**
+     * The nonce allocated by the nonce manager in fillTransaction. It is returned by releaseNonce.
+     */
+    @JsonIgnore
+    private BigInteger allocatedNonce = null;
+
     /**
      * Transaction's type string
      */
@@ -78,9 +94,29 @@ abstract public class AbstractTransaction {
     private String chainId = "0x";
 
     /**
-     * A Signature list
+     * A Signature list. It is an unmodifiable copy, so it is changed only through appendSignatures and the cache is cleared with it.
      */
-    private List<SignatureData> signatures = new ArrayList<>();
+    private List<SignatureData> signatures = Collections.emptyList();
+
+    /**
+     * The binary form of from, nonce, gas and chainId used in RLP encoding.
+     * They are updated together with the string fields in each setter, so encoding doesn't have to parse hex strings again.
+     */
+    private byte[] fromBytes;
+    private byte[] nonceBytes;
+    private byte[] gasBytes;
+    private byte[] chainIdBytes;
+
+    /**
+     * The cached results of RLP encoding and hashing.
+     * They are cleared by {@link #invalidateCache()} whenever a setter changes the transaction.
+     * Appending signatures clears only the ones including the signatures, because the hashes for signature don't depend on them.
+     */
+    private String rawTransaction;
+    private String transactionHash;
+    private String senderTxHash;
+    private String hashForSignature;
+    private String hashForFeePayerSignature;
 
     /**
      * Represents a AbstractTransaction class builder.
@@ -94,6 +130,7 @@ abstract public class AbstractTransaction {
         private String nonce = "0x";
         private String chainId = "0x";
         private Klay klaytnCall = null;
+        private INonceManager nonceManager = null;
         private List<SignatureData> signatures = new ArrayList<>();
 
         public Builder(String type) {
@@ -140,6 +177,11 @@ abstract public class AbstractTransaction {
             return (B) this;
         }
 
+        public B setNonceManager(INonceManager nonceManager) {
+            this.nonceManager = nonceManager;
+            return (B) this;
+        }
+
         public B setSignatures(List<SignatureData> signatures) {
             this.signatures.addAll(signatures);
             return (B) this;
@@ -168,6 +210,7 @@ abstract public class AbstractTransaction {
                 builder.chainId,
                 builder.signatures
         );
+        setNonceManager(builder.nonceManager);
     }
 
     /**
@@ -254,10 +297,10 @@ abstract public class AbstractTransaction {
         }
 
         if(this.from.equals("0x") || this.from.equals(Utils.DEFAULT_ZERO_ADDRESS)){
-            this.from = keyring.getAddress();
+            this.setFrom(keyring.getAddress());
         }
 
-        if(!this.from.toLowerCase().equals(keyring.getAddress().toLowerCase())) {
+        if(!Address.isSame(this.from, keyring.getAddress())) {
             throw new IllegalArgumentException("The from address of the transaction is different with the address of the keyring to use");
         }
 
@@ -298,10 +341,10 @@ abstract public class AbstractTransaction {
         }
 
         if(this.from.equals("0x") || this.from.equals(Utils.DEFAULT_ZERO_ADDRESS)){
-            this.from = keyring.getAddress();
+            this.setFrom(keyring.getAddress());
         }
 
-        if(!this.from.toLowerCase().equals(keyring.getAddress().toLowerCase())) {
+        if(!Address.isSame(this.from, keyring.getAddress())) {
             throw new IllegalArgumentException("The from address of the transaction is different with the address of the keyring to use");
         }
 
@@ -331,8 +374,21 @@ abstract public class AbstractTransaction {
      * @param signatureData List of SignatureData contains ECDSA signature data
      */
     public void appendSignatures(List<SignatureData> signatureData) {
-        this.signatures.addAll(signatureData);
-        this.signatures = refineSignature(this.getSignatures());
+        List<SignatureData> appended = new ArrayList<>(this.signatures);
+        appended.addAll(signatureData);
+        this.signatures = Collections.unmodifiableList(refineSignature(appended));
+        this.invalidateSignedCache();
+    }
+
+    /**
+     * Removes the default empty signature("0x01", "0x", "0x"), so the signatures are sent as an empty list.<p>
+     * It is used to request a node to sign the transaction, e.g. klay_signTransaction.
+     */
+    public void removeEmptySignature() {
+        if(Utils.isEmptySig(this.signatures)) {
+            this.signatures = Collections.emptyList();
+            this.invalidateSignedCache();
+        }
     }
 
     /**
@@ -347,31 +403,96 @@ abstract public class AbstractTransaction {
 
     /**
      * Returns a RawTransaction(RLP-encoded transaction string)
+     * The result is cached until the transaction is changed.
      * @return String
      */
     @JsonIgnore
     public String getRawTransaction() {
-        return this.getRLPEncoding();
+        if(this.rawTransaction == null) {
+            this.rawTransaction = this.getRLPEncoding();
+        }
+        return this.rawTransaction;
     }
 
     /**
      * Returns a hash string of transaction
+     * The result is cached until the transaction is changed.
      * @return String
      */
     @JsonIgnore
     public String getTransactionHash() {
-        return Hash.sha3(this.getRLPEncoding());
+        if(this.transactionHash == null) {
+            this.transactionHash = this.makeTransactionHash();
+        }
+        return this.transactionHash;
     }
 
     /**
      * Returns a senderTxHash of transaction
+     * The result is cached until the transaction is changed.
      * @return String
      */
     @JsonIgnore
     public String getSenderTxHash() {
+        if(this.senderTxHash == null) {
+            this.senderTxHash = this.makeSenderTxHash();
+        }
+        return this.senderTxHash;
+    }
+
+    /**
+     * Makes a hash string of transaction.
+     * @return String
+     */
+    protected String makeTransactionHash() {
+        return Hash.sha3(this.getRawTransaction());
+    }
+
+    /**
+     * Makes a senderTxHash of transaction.
+     * For the transaction which is not fee delegated, it is the same as the transaction hash.
+     * @return String
+     */
+    protected String makeSenderTxHash() {
         return this.getTransactionHash();
     }
 
+    /**
+     * Clears the cached RLP encoding and hashes of the transaction.<p>
+     * The setters and appendSignatures call it already. Call it if you changed the transaction in another way,
+     * for example by modifying an object held by the transaction such as a SignatureData.
+     */
+    public void invalidateCache() {
+        this.invalidateSignedCache();
+        this.hashForSignature = null;
+        this.hashForFeePayerSignature = null;
+    }
+
+    /**
+     * Clears the cached RLP encoding and hashes which include the signatures.
+     */
+    void invalidateSignedCache() {
+        this.rawTransaction = null;
+        this.transactionHash = null;
+        this.senderTxHash = null;
+    }
+
+    String getCachedHashForSignature() {
+        return hashForSignature;
+    }
+
+    void setCachedHashForSignature(String hashForSignature) {
+        this.hashForSignature = hashForSignature;
+    }
+
+    String getCachedHashForFeePayerSignature() {
+        return hashForFeePayerSignature;
+    }
+
+    void setCachedHashForFeePayerSignature(String hashForFeePayerSignature) {
+        this.hashForFeePayerSignature = hashForFeePayerSignature;
+    }
+
     /**
      * Returns an RLP-encoded transaction string for making signature.
      * @return String
@@ -382,7 +503,7 @@ abstract public class AbstractTransaction {
 
         List<RlpType> rlpTypeList = new ArrayList<>();
         rlpTypeList.add(RlpString.create(txRLP));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
+        rlpTypeList.add(RlpString.create(this.getChainIdBytes()));
         rlpTypeList.add(RlpString.create(0));
         rlpTypeList.add(RlpString.create(0));
         byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -394,19 +515,136 @@ abstract public class AbstractTransaction {
      * @throws IOException
      */
     public void fillTransaction() throws IOException{
-        if(klaytnCall != null) {
-            if(this.nonce.equals("0x")) {
-                this.nonce = klaytnCall.getTransactionCount(this.from, DefaultBlockParameterName.PENDING).send().getResult();
+        if(this.nonce.equals("0x") && nonceManager != null) {
+            this.allocatedNonce = nonceManager.allocate(klaytnCall, this.from);
+            this.setNonce(allocatedNonce);
+        }
+
+        try {
+            if(klaytnCall != null) {
+                TransactionFillBatch batch = new TransactionFillBatch(klaytnCall);
+
+                // The chain id doesn't change while connected to a node, so it is loaded only once per Klay instance.
+                if(this.chainId.equals("0x")) {
+                    this.setChainId(klaytnCall.getCachedChainId());
+                }
+                this.addFillRequests(batch);
+                batch.send();
             }
 
-            if(this.chainId.equals("0x")) {
-                this.chainId = klaytnCall.getChainID().send().getResult();
+            if(this.nonce.equals("0x") || this.chainId.equals("0x")) {
+                throw new RuntimeException("Cannot fill transaction data.(nonce, chainId). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
             }
+            this.checkFilledValues();
+        } catch(IOException | RuntimeException e) {
+            // The allocated nonce is not used by this transaction, so it is returned not to leave a gap.
+            releaseNonce();
+            throw e;
         }
+    }
 
-        if(this.nonce.equals("0x") || this.chainId.equals("0x")) {
-            throw new RuntimeException("Cannot fill transaction data.(nonce, chainId). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
+    /**
+     * Returns the nonce allocated by the nonce manager in fillTransaction to the nonce manager.<p>
+     * It should be called when filling or signing this transaction is failed before it is sent, so the nonce doesn't remain as a gap of the sender.
+     * The nonce is reset to "0x" and the signatures are cleared, because they are not valid with the next allocated nonce.
+     * It does nothing if the nonce was not allocated by the nonce manager or is already released.
+     */
+    public void releaseNonce() {
+        if(allocatedNonce == null || nonceManager == null) {
+            return;
         }
+
+        nonceManager.release(this.from, allocatedNonce);
+        allocatedNonce = null;
+        this.setNonce("0x");
+        this.clearSignatures();
+    }
+
+    /**
+     * Marks the nonce allocated by the nonce manager in fillTransaction to be checked against the pending nonce of the node.<p>
+     * It should be called when sending this transaction is failed, because the node may have received it even if it responded with an error.
+     * The nonce and the signatures are kept, so the same transaction can be sent again.
+     * It does nothing if the nonce was not allocated by the nonce manager or is already released.
+     */
+    public void resyncNonce() {
+        if(allocatedNonce == null || nonceManager == null) {
+            return;
+        }
+
+        nonceManager.resync(this.from, allocatedNonce);
+        allocatedNonce = null;
+    }
+
+    /**
+     * Removes all signatures of the transaction.
+     */
+    protected void clearSignatures() {
+        this.signatures = Collections.emptyList();
+        setSignatures((List<SignatureData>)null);
+    }
+
+    /**
+     * Checks that the optional fields of the transaction type are filled at the end of fillTransaction.<p>
+     * It is called while the nonce allocated in fillTransaction is guarded, so the nonce is released if it throws.
+     */
+    protected void checkFilledValues() {
+    }
+
+    /**
+     * Adds the request for empty optional field(nonce) to the batch sent in fillTransaction.<p>
+     * A transaction type which has other optional fields overrides it, so all empty fields are filled in one batched JSON-RPC request.
+     * @param batch The batch of requests to fill empty fields.
+     * @throws IOException
+     */
+    protected void addFillRequests(TransactionFillBatch batch) throws IOException {
+        if(this.nonce.equals("0x")) {
+            batch.add(klaytnCall.getTransactionCount(this.from, DefaultBlockParameterName.PENDING), response -> this.setNonce(response.getResult()));
+        }
+    }
+
+    /**
+     * Fills a gas price field with the gas price oracle of klaytnCall, or adds the `klay_gasPrice` request to the batch if there is no oracle.
+     * @param batch The batch of requests to fill empty fields.
+     * @param setter The setter of the field to fill.
+     * @throws IOException
+     */
+    protected void addGasPriceRequest(TransactionFillBatch batch, Consumer<BigInteger> setter) throws IOException {
+        IGasPriceOracle oracle = klaytnCall.getGasPriceOracle();
+        if(oracle != null) {
+            setter.accept(oracle.suggestGasPrice());
+            return;
+        }
+        batch.add(klaytnCall.getGasPrice(), response -> setter.accept(response.getValue()));
+    }
+
+    /**
+     * Fills a maxPriorityFeePerGas field with the gas price oracle of klaytnCall, or adds the `klay_maxPriorityFeePerGas` request to the batch if there is no oracle.
+     * @param batch The batch of requests to fill empty fields.
+     * @param setter The setter of the field to fill.
+     * @throws IOException
+     */
+    protected void addMaxPriorityFeePerGasRequest(TransactionFillBatch batch, Consumer<BigInteger> setter) throws IOException {
+        IGasPriceOracle oracle = klaytnCall.getGasPriceOracle();
+        if(oracle != null) {
+            setter.accept(oracle.suggestMaxPriorityFeePerGas());
+            return;
+        }
+        batch.add(klaytnCall.getMaxPriorityFeePerGas(), response -> setter.accept(response.getValue()));
+    }
+
+    /**
+     * Fills a maxFeePerGas field with the gas price oracle of klaytnCall, or adds the `klay_gasPrice` request to the batch if there is no oracle.
+     * @param batch The batch of requests to fill empty fields.
+     * @param setter The setter of the field to fill.
+     * @throws IOException
+     */
+    protected void addMaxFeePerGasRequest(TransactionFillBatch batch, Consumer<BigInteger> setter) throws IOException {
+        IGasPriceOracle oracle = klaytnCall.getGasPriceOracle();
+        if(oracle != null) {
+            setter.accept(oracle.suggestMaxFeePerGas());
+            return;
+        }
+        batch.add(klaytnCall.getGasPrice(), response -> setter.accept(response.getValue()));
     }
 
     /**
@@ -420,6 +658,10 @@ abstract public class AbstractTransaction {
             throw new RuntimeException("Cannot suggest gas price. To get suggested gas price, `klaytnCall` must be set in Transaction instance. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
 
+        if(this.klaytnCall.getGasPriceOracle() != null) {
+            return this.klaytnCall.getGasPriceOracle().suggestGasPrice();
+        }
+
         // Before Magma hard fork set gasPrice (or maxFeePerGas) with gas unit price
         // After Magma hard fork, set gasPrice (or maxFeePerGas) with baseFee * 2
         // klay_gasPrice will return a suggestion gas price, so use klay_gasPrice API
@@ -566,6 +808,23 @@ abstract public class AbstractTransaction {
         this.klaytnCall = klaytnCall;
     }
 
+    /**
+     * Getter function for nonceManager
+     * @return INonceManager
+     */
+    public INonceManager getNonceManager() {
+        return nonceManager;
+    }
+
+    /**
+     * Setter function for nonceManager.<p>
+     * If it is set, an empty nonce is allocated by the nonce manager in fillTransaction instead of querying the node.
+     * @param nonceManager The nonce manager instance.
+     */
+    public void setNonceManager(INonceManager nonceManager) {
+        this.nonceManager = nonceManager;
+    }
+
     /**
      * Getter function for type.
      * @return String
@@ -607,8 +866,9 @@ abstract public class AbstractTransaction {
     }
 
     /**
-     * Getter function for signatures
-     * @return String
+     * Getter function for signatures.<p>
+     * The returned list cannot be modified. Use {@link #appendSignatures(List)} to add signatures.
+     * @return List
      */
     public List<SignatureData> getSignatures() {
         return signatures;
@@ -620,6 +880,7 @@ abstract public class AbstractTransaction {
      */
     public void setType(String type) {
         this.type = type;
+        this.invalidateCache();
     }
 
     public void setFrom(String from) {
@@ -637,6 +898,8 @@ abstract public class AbstractTransaction {
         }
 
         this.from = from;
+        this.fromBytes = toRlpBytes(from);
+        this.invalidateCache();
     }
 
     /**
@@ -653,6 +916,8 @@ abstract public class AbstractTransaction {
             throw new IllegalArgumentException("Invalid gas. : " + gas);
         }
         this.gas = gas;
+        this.gasBytes = toRlpNumberBytes(gas);
+        this.invalidateCache();
     }
 
     /**
@@ -677,6 +942,8 @@ abstract public class AbstractTransaction {
             throw new IllegalArgumentException("Invalid nonce. : " + nonce);
         }
         this.nonce = nonce;
+        this.nonceBytes = toRlpNumberBytes(nonce);
+        this.invalidateCache();
     }
 
     /**
@@ -701,6 +968,8 @@ abstract public class AbstractTransaction {
         }
 
         this.chainId = chainId;
+        this.chainIdBytes = toRlpNumberBytes(chainId);
+        this.invalidateCache();
     }
 
 
@@ -719,6 +988,63 @@ abstract public class AbstractTransaction {
         appendSignatures(signatures);
     }
 
+    /**
+     * Getter function for the binary form of from used in RLP encoding.
+     * @return byte[]
+     */
+    protected byte[] getFromBytes() {
+        return fromBytes;
+    }
+
+    /**
+     * Getter function for the binary form of nonce used in RLP encoding.
+     * @return byte[]
+     */
+    protected byte[] getNonceBytes() {
+        return nonceBytes;
+    }
+
+    /**
+     * Getter function for the binary form of gas used in RLP encoding.
+     * @return byte[]
+     */
+    protected byte[] getGasBytes() {
+        return gasBytes;
+    }
+
+    /**
+     * Getter function for the binary form of chain id used in RLP encoding.
+     * @return byte[]
+     */
+    protected byte[] getChainIdBytes() {
+        return chainIdBytes;
+    }
+
+    /**
+     * Converts a hex number string to the byte array that RLP encodes for it (big-endian, without leading zero bytes).<p>
+     * It returns null if the value is not defined yet("0x").
+     * @param number A hex number string.
+     * @return byte[]
+     */
+    protected static byte[] toRlpNumberBytes(String number) {
+        if(number == null || number.equals("0x")) {
+            return null;
+        }
+        return RlpString.create(Numeric.toBigInt(number)).getBytes();
+    }
+
+    /**
+     * Converts a hex string(address or data) to the byte array that RLP encodes for it.
+     * @param data A hex string.
+     * @return byte[]
+     */
+    protected static byte[] toRlpBytes(String data) {
+        if(data == null) {
+            return null;
+        }
+        return Numeric.hexStringToByteArray(data);
+    }
+
     @JsonProperty("typeInt")
     public int getKeyType() {
         return TransactionType.valueOf(this.getType()).getType();
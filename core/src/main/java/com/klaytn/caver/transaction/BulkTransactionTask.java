@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs an operation for each element of a list in parallel on a ForkJoinPool.<p>
+ * The list is split in halves until a range is small enough, and each result is stored at the index of its input.
+ * It is shared by the bulk decoding of TransactionDecoder and the bulk recovery of TransactionHelper.
+ * @param <T> The type of input.
+ * @param <R> The type of result.
+ */
+class BulkTransactionTask<T, R> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of elements that one task handles without splitting.
+     */
+    static final int THRESHOLD = 16;
+
+    /**
+     * An operation that makes the result of the input at the given index.
+     * @param <T> The type of input.
+     * @param <R> The type of result.
+     */
+    interface Operation<T, R> {
+        R apply(int index, T input);
+    }
+
+    private final List<T> inputs;
+    private final List<R> results;
+    private final Operation<T, R> operation;
+    private final int from;
+    private final int to;
+
+    private BulkTransactionTask(List<T> inputs, List<R> results, Operation<T, R> operation, int from, int to) {
+        this.inputs = inputs;
+        this.results = results;
+        this.operation = operation;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Applies the operation to each element of inputs on the given pool and returns the results in the same order as the input.
+     * @param inputs The list of input.
+     * @param operation The operation to apply.
+     * @param pool The ForkJoinPool to run tasks.
+     * @param <T> The type of input.
+     * @param <R> The type of result.
+     * @return List
+     */
+    static <T, R> List<R> invoke(List<? extends T> inputs, Operation<T, R> operation, ForkJoinPool pool) {
+        // Copy to the list supports random access, because each task reads its own range.
+        List<T> copied = new ArrayList<>(inputs);
+        // Each task only sets the elements in its own range of the fixed-size list.
+        List<R> results = new ArrayList<>(Collections.<R>nCopies(copied.size(), null));
+
+        if(!copied.isEmpty()) {
+            pool.invoke(new BulkTransactionTask<>(copied, results, operation, 0, copied.size()));
+        }
+
+        return results;
+    }
+
+    @Override
+    protected void compute() {
+        if(to - from <= THRESHOLD) {
+            for(int i = from; i < to; i++) {
+                results.set(i, operation.apply(i, inputs.get(i)));
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        invokeAll(new BulkTransactionTask<>(inputs, results, operation, from, mid),
+                new BulkTransactionTask<>(inputs, results, operation, mid, to));
+    }
+}
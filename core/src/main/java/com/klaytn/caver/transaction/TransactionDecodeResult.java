@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction;
+
+import java.util.List;
+
+/**
+ * Representing a result of decoding one of RLP-encoded transactions in bulk.<p>
+ * If an item is failed, the exception is kept in "error" of its result instead of stopping the whole batch.
+ * @see TransactionDecoder#decodeAll(List)
+ * @see TransactionHelper#recoverPublicKeys(List)
+ */
+public class TransactionDecodeResult {
+    /**
+     * The index of RLP-encoded transaction in the input list.
+     */
+    private final int index;
+
+    /**
+     * The decoded transaction instance.
+     */
+    private final AbstractTransaction transaction;
+
+    /**
+     * The public keys recovered from "signatures" of the transaction.
+     */
+    private final List<String> publicKeys;
+
+    /**
+     * The exception occurred while decoding or recovering public keys.
+     */
+    private final Exception error;
+
+    TransactionDecodeResult(int index, AbstractTransaction transaction, List<String> publicKeys, Exception error) {
+        this.index = index;
+        this.transaction = transaction;
+        this.publicKeys = publicKeys;
+        this.error = error;
+    }
+
+    /**
+     * Returns true if the RLP-encoded transaction is decoded without an error.
+     * @return boolean
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Getter function for index
+     * @return int
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Getter function for transaction.<p>
+     * It returns null if decoding is failed.
+     * @return AbstractTransaction
+     */
+    public AbstractTransaction getTransaction() {
+        return transaction;
+    }
+
+    /**
+     * Getter function for publicKeys.<p>
+     * It returns null if public keys are not requested or recovering is failed.
+     * @return List&lt;String&gt;
+     */
+    public List<String> getPublicKeys() {
+        return publicKeys;
+    }
+
+    /**
+     * Getter function for error
+     * @return Exception
+     */
+    public Exception getError() {
+        return error;
+    }
+}
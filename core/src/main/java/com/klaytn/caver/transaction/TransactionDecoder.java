@@ -19,6 +19,10 @@ package com.klaytn.caver.transaction;
 import com.klaytn.caver.transaction.type.*;
 import org.web3j.utils.Numeric;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 public class TransactionDecoder {
     /**
      * Decodes a RLP-encoded transaction and returns it with matching type of transaction
@@ -26,57 +30,179 @@ public class TransactionDecoder {
      * @return AbstractTransaction
      */
     public static AbstractTransaction decode(String rlpEncoded) {
-        byte[] rlpBytes = Numeric.hexStringToByteArray(rlpEncoded);
-
-        if(rlpBytes[0] == TransactionType.TxTypeValueTransfer.getType()) {
-            return ValueTransfer.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeValueTransferMemo.getType()) {
-            return ValueTransferMemo.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeSmartContractDeploy.getType()) {
-            return SmartContractDeploy.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeSmartContractExecution.getType()) {
-            return SmartContractExecution.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeAccountUpdate.getType()) {
-            return AccountUpdate.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeCancel.getType()) {
-            return Cancel.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeChainDataAnchoring.getType()) {
-            return ChainDataAnchoring.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransfer.getType()) {
-            return FeeDelegatedValueTransfer.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransferMemo.getType()) {
-            return FeeDelegatedValueTransferMemo.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractDeploy.getType()) {
-            return FeeDelegatedSmartContractDeploy.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractExecution.getType()){
-            return FeeDelegatedSmartContractExecution.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedAccountUpdate.getType()) {
-            return FeeDelegatedAccountUpdate.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedCancel.getType()) {
-            return FeeDelegatedCancel.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType()) {
-            return FeeDelegatedChainDataAnchoring.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedCancelWithRatio.getType()) {
-            return FeeDelegatedCancelWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.getType()) {
-            return FeeDelegatedChainDataAnchoringWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType()) {
-            return FeeDelegatedAccountUpdateWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransferWithRatio.getType()) {
-            return FeeDelegatedValueTransferWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio.getType()) {
-            return FeeDelegatedSmartContractExecutionWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedValueTransferMemoWithRatio.getType()) {
-            return FeeDelegatedValueTransferMemoWithRatio.decode(rlpBytes);
-        } else if(rlpBytes[0] == TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType()) {
-            return FeeDelegatedSmartContractDeployWithRatio.decode(rlpBytes);
-        } else if ((rlpBytes[0] << 8 | rlpBytes[1]) == TransactionType.TxTypeEthereumAccessList.getType()) {
-            return EthereumAccessList.decode(rlpBytes);
-        } else if ((rlpBytes[0] << 8 | rlpBytes[1]) == TransactionType.TxTypeEthereumDynamicFee.getType()) {
-            return EthereumDynamicFee.decode(rlpBytes);
+        return decode(Numeric.hexStringToByteArray(rlpEncoded));
+    }
+
+    /**
+     * Decodes a RLP-encoded transaction and returns it with matching type of transaction
+     * @param rlpEncoded RLP-encoded transaction
+     * @return AbstractTransaction
+     */
+    public static AbstractTransaction decode(byte[] rlpEncoded) {
+        return decode(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Decodes the remaining bytes of the buffer as a RLP-encoded transaction and returns it with matching type of transaction.<p>
+     * The position of the buffer is not changed. If the buffer is backed by an array, the array is read in place.
+     * @param rlpEncoded A buffer contains RLP-encoded transaction
+     * @return AbstractTransaction
+     */
+    public static AbstractTransaction decode(ByteBuffer rlpEncoded) {
+        if(rlpEncoded.hasArray()) {
+            return decode(rlpEncoded.array(), rlpEncoded.arrayOffset() + rlpEncoded.position(), rlpEncoded.remaining());
+        }
+
+        byte[] rlpBytes = new byte[rlpEncoded.remaining()];
+        rlpEncoded.duplicate().get(rlpBytes);
+        return decode(rlpBytes);
+    }
+
+    /**
+     * Decodes a RLP-encoded transaction in a part of byte array and returns it with matching type of transaction.<p>
+     * It reads the type of transaction first and reads the RLP list without copying the given range.
+     * The fields are still passed to the builder of each type as hex strings or numbers, so each field is converted twice and validated the same way as the other factory methods.
+     * @param rlpBytes The byte array contains RLP-encoded transaction
+     * @param offset The offset of RLP-encoded transaction in the byte array
+     * @param length The length of RLP-encoded transaction
+     * @return AbstractTransaction
+     */
+    public static AbstractTransaction decode(byte[] rlpBytes, int offset, int length) {
+        if(length <= 0 || offset < 0 || offset + length > rlpBytes.length) {
+            throw new IllegalArgumentException("Invalid RLP-encoded transaction: offset or length is out of range.");
+        }
+
+        byte type = rlpBytes[offset];
+
+        if(type == TransactionType.TxTypeValueTransfer.getType()) {
+            return ValueTransfer.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeValueTransferMemo.getType()) {
+            return ValueTransferMemo.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeSmartContractDeploy.getType()) {
+            return SmartContractDeploy.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeSmartContractExecution.getType()) {
+            return SmartContractExecution.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeAccountUpdate.getType()) {
+            return AccountUpdate.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeCancel.getType()) {
+            return Cancel.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeChainDataAnchoring.getType()) {
+            return ChainDataAnchoring.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedValueTransfer.getType()) {
+            return FeeDelegatedValueTransfer.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedValueTransferMemo.getType()) {
+            return FeeDelegatedValueTransferMemo.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedSmartContractDeploy.getType()) {
+            return FeeDelegatedSmartContractDeploy.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedSmartContractExecution.getType()){
+            return FeeDelegatedSmartContractExecution.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedAccountUpdate.getType()) {
+            return FeeDelegatedAccountUpdate.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedCancel.getType()) {
+            return FeeDelegatedCancel.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType()) {
+            return FeeDelegatedChainDataAnchoring.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedCancelWithRatio.getType()) {
+            return FeeDelegatedCancelWithRatio.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedChainDataAnchoringWithRatio.getType()) {
+            return FeeDelegatedChainDataAnchoringWithRatio.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType()) {
+            return FeeDelegatedAccountUpdateWithRatio.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedValueTransferWithRatio.getType()) {
+            return FeeDelegatedValueTransferWithRatio.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio.getType()) {
+            return FeeDelegatedSmartContractExecutionWithRatio.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedValueTransferMemoWithRatio.getType()) {
+            return FeeDelegatedValueTransferMemoWithRatio.decode(rlpBytes, offset, length);
+        } else if(type == TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType()) {
+            return FeeDelegatedSmartContractDeployWithRatio.decode(rlpBytes, offset, length);
+        } else if (length > 1 && (type << 8 | rlpBytes[offset + 1]) == TransactionType.TxTypeEthereumAccessList.getType()) {
+            return EthereumAccessList.decode(rlpBytes, offset, length);
+        } else if (length > 1 && (type << 8 | rlpBytes[offset + 1]) == TransactionType.TxTypeEthereumDynamicFee.getType()) {
+            return EthereumDynamicFee.decode(rlpBytes, offset, length);
         }
         else {
-            return LegacyTransaction.decode(rlpBytes);
+            return LegacyTransaction.decode(rlpBytes, offset, length);
+        }
+    }
+
+    /**
+     * Decodes RLP-encoded transactions in parallel on the common ForkJoinPool.<p>
+     * The results are in the same order as the input, and a failure of one item doesn't abort the others.
+     * <pre>Example :
+     * {@code
+     * List<TransactionDecodeResult> results = TransactionDecoder.decodeAll(rawTxList);
+     * for(TransactionDecodeResult result : results) {
+     *     if(result.isSuccess()) {
+     *         AbstractTransaction tx = result.getTransaction();
+     *     }
+     * }
+     * }
+     * </pre>
+     * @param rlpEncodedList A list of RLP-encoded transaction
+     * @return List&lt;TransactionDecodeResult&gt;
+     */
+    public static List<TransactionDecodeResult> decodeAll(List<String> rlpEncodedList) {
+        return decodeAll(rlpEncodedList, false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decodes RLP-encoded transactions in parallel on the given ForkJoinPool.<p>
+     * If recoverPublicKeys is true, the public keys are recovered from "signatures" of each decoded transaction in the same task.
+     * The results are in the same order as the input, and a failure of one item is kept in its result instead of aborting the others.
+     * @param rlpEncodedList A list of RLP-encoded transaction
+     * @param recoverPublicKeys If true, recovers the public keys from "signatures" of each transaction.
+     * @param pool The ForkJoinPool to run decoding tasks.
+     * @return List&lt;TransactionDecodeResult&gt;
+     */
+    public static List<TransactionDecodeResult> decodeAll(List<String> rlpEncodedList, boolean recoverPublicKeys, ForkJoinPool pool) {
+        return BulkTransactionTask.invoke(rlpEncodedList,
+                (index, rlpEncoded) -> decodeOne(index, rlpEncoded, recoverPublicKeys), pool);
+    }
+
+    /**
+     * Decodes RLP-encoded transactions given as byte arrays in parallel on the common ForkJoinPool.<p>
+     * Each element is decoded with {@link #decode(byte[])}, so no hex string is made.
+     * The results are in the same order as the input, and a failure of one item doesn't abort the others.
+     * @param rlpEncodedList A list of RLP-encoded transaction
+     * @return List&lt;TransactionDecodeResult&gt;
+     */
+    public static List<TransactionDecodeResult> decodeAllBytes(List<byte[]> rlpEncodedList) {
+        return decodeAllBytes(rlpEncodedList, false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decodes RLP-encoded transactions given as byte arrays in parallel on the given ForkJoinPool.<p>
+     * If recoverPublicKeys is true, the public keys are recovered from "signatures" of each decoded transaction in the same task.
+     * The results are in the same order as the input, and a failure of one item is kept in its result instead of aborting the others.
+     * @param rlpEncodedList A list of RLP-encoded transaction
+     * @param recoverPublicKeys If true, recovers the public keys from "signatures" of each transaction.
+     * @param pool The ForkJoinPool to run decoding tasks.
+     * @return List&lt;TransactionDecodeResult&gt;
+     */
+    public static List<TransactionDecodeResult> decodeAllBytes(List<byte[]> rlpEncodedList, boolean recoverPublicKeys, ForkJoinPool pool) {
+        return BulkTransactionTask.invoke(rlpEncodedList,
+                (index, rlpEncoded) -> decodeOne(index, rlpEncoded, recoverPublicKeys), pool);
+    }
+
+    private static TransactionDecodeResult decodeOne(int index, String rlpEncoded, boolean recoverPublicKeys) {
+        byte[] rlpBytes;
+        try {
+            rlpBytes = Numeric.hexStringToByteArray(rlpEncoded);
+        } catch(Exception e) {
+            return new TransactionDecodeResult(index, null, null, e);
+        }
+        return decodeOne(index, rlpBytes, recoverPublicKeys);
+    }
+
+    private static TransactionDecodeResult decodeOne(int index, byte[] rlpEncoded, boolean recoverPublicKeys) {
+        AbstractTransaction transaction = null;
+        try {
+            transaction = decode(rlpEncoded);
+            List<String> publicKeys = recoverPublicKeys ? transaction.recoverPublicKeys() : null;
+            return new TransactionDecodeResult(index, transaction, publicKeys, null);
+        } catch(Exception e) {
+            return new TransactionDecodeResult(index, transaction, null, e);
         }
     }
 }
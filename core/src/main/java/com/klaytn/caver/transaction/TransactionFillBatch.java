@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction;
+
+import com.klaytn.caver.rpc.Klay;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Collects JSON-RPC requests to fill empty optional fields of a transaction, and sends them in one batched request.<p>
+ * It is used in {@link AbstractTransaction#fillTransaction()}. Each transaction type adds the requests for its own fields through {@link AbstractTransaction#addFillRequests(TransactionFillBatch)}.
+ */
+public class TransactionFillBatch {
+    /**
+     * The Klay RPC call object to make a batched request.
+     */
+    private final Klay klaytnCall;
+
+    /**
+     * The requests to send.
+     */
+    private final List<Request<?, ? extends Response<?>>> requests = new ArrayList<>();
+
+    /**
+     * The handlers to set a field from each response. The index is the same with "requests".
+     */
+    private final List<Consumer<Response<?>>> handlers = new ArrayList<>();
+
+    TransactionFillBatch(Klay klaytnCall) {
+        this.klaytnCall = klaytnCall;
+    }
+
+    /**
+     * Adds a request and the handler to be called with its response.
+     * @param request The JSON-RPC request to get a value of the field.
+     * @param handler The handler to set the field with the response.
+     * @param <T> The type of response.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Response<?>> void add(Request<?, T> request, Consumer<T> handler) {
+        requests.add(request);
+        handlers.add(response -> handler.accept((T)response));
+    }
+
+    /**
+     * Returns true if there is no request to send.
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return requests.isEmpty();
+    }
+
+    /**
+     * Sends the collected requests and calls the handler of each response.<p>
+     * A single request is sent as it is, and multiple requests are sent in one batched JSON-RPC request.<p>
+     * The responses of a batch are matched with the requests by position, because web3j deserializes each response with the type of the request at the same position.
+     * If the ids show that the node responded in another order, it throws instead of handling a response of another type.
+     * @throws IOException
+     */
+    public void send() throws IOException {
+        if(requests.isEmpty()) {
+            return;
+        }
+
+        if(requests.size() == 1) {
+            handle(0, requests.get(0).send());
+            return;
+        }
+
+        BatchRequest batchRequest = klaytnCall.newBatch();
+        for(Request<?, ? extends Response<?>> request : requests) {
+            batchRequest.add(request);
+        }
+        BatchResponse batchResponse = batchRequest.send();
+
+        List<? extends Response<?>> responses = batchResponse.getResponses();
+        if(responses.size() != requests.size()) {
+            throw new RuntimeException("Cannot fill transaction data. The number of responses in a batch is not matched with the requests.");
+        }
+
+        for(int i = 0; i < responses.size(); i++) {
+            if(responses.get(i).getId() != requests.get(i).getId()) {
+                throw new RuntimeException("Cannot fill transaction data. The responses in a batch are not in the order of the requests.");
+            }
+        }
+
+        for(int i = 0; i < responses.size(); i++) {
+            handle(i, responses.get(i));
+        }
+    }
+
+    private void handle(int index, Response<?> response) {
+        if(response.hasError()) {
+            throw new RuntimeException("Cannot fill transaction data. " + requests.get(index).getMethod() + " failed: " + response.getError().getMessage());
+        }
+        handlers.get(index).accept(response);
+    }
+}
@@ -21,12 +21,22 @@ import org.web3j.crypto.Hash;
 public class TransactionHasher {
 
     public static String getHashForSignature(AbstractTransaction transaction) {
-        String rlpEncoded = transaction.getRLPEncodingForSignature();
-        return Hash.sha3(rlpEncoded);
+        String hash = transaction.getCachedHashForSignature();
+        if(hash == null) {
+            String rlpEncoded = transaction.getRLPEncodingForSignature();
+            hash = Hash.sha3(rlpEncoded);
+            transaction.setCachedHashForSignature(hash);
+        }
+        return hash;
     }
 
     public static String getHashForFeePayerSignature(AbstractFeeDelegatedTransaction transaction) {
-        String rlpEncoded = transaction.getRLPEncodingForFeePayerSignature();
-        return Hash.sha3(rlpEncoded);
+        String hash = transaction.getCachedHashForFeePayerSignature();
+        if(hash == null) {
+            String rlpEncoded = transaction.getRLPEncodingForFeePayerSignature();
+            hash = Hash.sha3(rlpEncoded);
+            transaction.setCachedHashForFeePayerSignature(hash);
+        }
+        return hash;
     }
 }
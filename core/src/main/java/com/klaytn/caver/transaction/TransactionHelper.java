@@ -22,6 +22,8 @@ import com.klaytn.caver.transaction.type.TransactionType;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import static com.klaytn.caver.transaction.type.TransactionType.TxTypeLegacyTransaction;
 import static com.klaytn.caver.transaction.type.TransactionType.TxTypeEthereumAccessList;
@@ -74,6 +76,22 @@ public class TransactionHelper {
         return tx.recoverPublicKeys();
     }
 
+    /**
+     * Decodes raw transaction strings and recovers the public keys from "signatures" of each in parallel on the common ForkJoinPool.<p>
+     * The results are in the same order as the input. If one of them is failed, the exception is kept in its result instead of aborting the others.
+     * <pre>Example :
+     * {@code
+     * List<TransactionDecodeResult> results = caver.transaction.recoverPublicKeys(rawTxList);
+     * List<String> publicKeys = results.get(0).getPublicKeys();
+     * }
+     * </pre>
+     * @param rawTxList The list of RLP-encoded transaction string to recover public keys from "signatures".
+     * @return List&lt;TransactionDecodeResult&gt;
+     */
+    public static List<TransactionDecodeResult> recoverPublicKeys(List<String> rawTxList) {
+        return TransactionDecoder.decodeAll(rawTxList, true, ForkJoinPool.commonPool());
+    }
+
     /**
      * Recovers the public keys from "feePayerSignatures" filed in raw transaction string.<p>
      * If you want to derive an address from public key, please use {@link com.klaytn.caver.utils.Utils#publicKeyToAddress(String)}
@@ -90,6 +108,70 @@ public class TransactionHelper {
         return tx.recoverFeePayerPublicKeys();
     }
 
+    /**
+     * Recovers the public keys from "signatures" of each transaction in parallel on the common ForkJoinPool.<p>
+     * The results are in the same order as the input. If one of them is failed, the exception is kept in its result instead of aborting the others.
+     * The recovered public keys are cached, so validating the same transactions again doesn't recover them again.
+     * <pre>Example :
+     * {@code
+     * List<PublicKeyRecoveryResult> results = TransactionHelper.recoverAllPublicKeys(transactionList);
+     * }
+     * </pre>
+     * @param transactions The list of transaction to recover public keys from "signatures".
+     * @return List&lt;PublicKeyRecoveryResult&gt;
+     * @see com.klaytn.caver.utils.RecoveredPublicKeyCache
+     */
+    public static List<PublicKeyRecoveryResult> recoverAllPublicKeys(List<? extends AbstractTransaction> transactions) {
+        return recoverAllPublicKeys(transactions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Recovers the public keys from "signatures" of each transaction in parallel on the given ForkJoinPool.<p>
+     * The results are in the same order as the input. If one of them is failed, the exception is kept in its result instead of aborting the others.
+     * @param transactions The list of transaction to recover public keys from "signatures".
+     * @param pool The ForkJoinPool to run recovering tasks.
+     * @return List&lt;PublicKeyRecoveryResult&gt;
+     */
+    public static List<PublicKeyRecoveryResult> recoverAllPublicKeys(List<? extends AbstractTransaction> transactions, ForkJoinPool pool) {
+        return recoverAll(transactions, AbstractTransaction::recoverPublicKeys, pool);
+    }
+
+    /**
+     * Recovers the public keys from "feePayerSignatures" of each transaction in parallel on the common ForkJoinPool.<p>
+     * The results are in the same order as the input. If one of them is failed, the exception is kept in its result instead of aborting the others.
+     * <pre>Example :
+     * {@code
+     * List<PublicKeyRecoveryResult> results = TransactionHelper.recoverAllFeePayerPublicKeys(feeDelegatedTransactionList);
+     * }
+     * </pre>
+     * @param transactions The list of fee delegated transaction to recover public keys from "feePayerSignatures".
+     * @return List&lt;PublicKeyRecoveryResult&gt;
+     */
+    public static List<PublicKeyRecoveryResult> recoverAllFeePayerPublicKeys(List<? extends AbstractFeeDelegatedTransaction> transactions) {
+        return recoverAllFeePayerPublicKeys(transactions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Recovers the public keys from "feePayerSignatures" of each transaction in parallel on the given ForkJoinPool.<p>
+     * The results are in the same order as the input. If one of them is failed, the exception is kept in its result instead of aborting the others.
+     * @param transactions The list of fee delegated transaction to recover public keys from "feePayerSignatures".
+     * @param pool The ForkJoinPool to run recovering tasks.
+     * @return List&lt;PublicKeyRecoveryResult&gt;
+     */
+    public static List<PublicKeyRecoveryResult> recoverAllFeePayerPublicKeys(List<? extends AbstractFeeDelegatedTransaction> transactions, ForkJoinPool pool) {
+        return recoverAll(transactions, AbstractFeeDelegatedTransaction::recoverFeePayerPublicKeys, pool);
+    }
+
+    private static <T extends AbstractTransaction> List<PublicKeyRecoveryResult> recoverAll(List<? extends T> transactions, Function<T, List<String>> recoverer, ForkJoinPool pool) {
+        return BulkTransactionTask.<T, PublicKeyRecoveryResult>invoke(transactions, (index, transaction) -> {
+            try {
+                return new PublicKeyRecoveryResult(index, transaction, recoverer.apply(transaction), null);
+            } catch(Exception e) {
+                return new PublicKeyRecoveryResult(index, transaction, null, e);
+            }
+        }, pool);
+    }
+
     /**
      * Returns true if the tx type is EthereumTransaction.
      *
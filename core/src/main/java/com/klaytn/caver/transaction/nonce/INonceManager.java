@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction.nonce;
+
+import com.klaytn.caver.rpc.Klay;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Interface for allocating nonces of transactions locally.<p>
+ * If it is set in a transaction, {@link com.klaytn.caver.transaction.AbstractTransaction#fillTransaction()} gets an empty nonce from it instead of querying the node.
+ */
+public interface INonceManager {
+    /**
+     * Allocates the next nonce of the address.
+     * @param klay The Klay RPC instance to sync the nonce with the node. It can be null if the nonce of the address is already synced.
+     * @param address The address of the sender.
+     * @return BigInteger
+     * @throws IOException
+     */
+    BigInteger allocate(Klay klay, String address) throws IOException;
+
+    /**
+     * Returns the nonce allocated but not used to the manager. It is called when the transaction is failed before it is sent.
+     * @param address The address of the sender.
+     * @param nonce The nonce to return.
+     */
+    void release(String address, BigInteger nonce);
+
+    /**
+     * Marks the allocated nonce as unknown whether the node received it. It is called when sending the transaction is failed.<p>
+     * The manager checks it against the pending nonce of the node before the next allocation.
+     * The default implementation drops the local state of the address by {@link #reset(String)}.
+     * @param address The address of the sender.
+     * @param nonce The nonce to check.
+     */
+    default void resync(String address, BigInteger nonce) {
+        reset(address);
+    }
+
+    /**
+     * Drops the local state of the address, so the nonce is synced with the node again at the next allocation.
+     * @param address The address of the sender.
+     */
+    void reset(String address);
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction.nonce;
+
+import com.klaytn.caver.transaction.AbstractTransaction;
+
+import java.io.IOException;
+
+/**
+ * Decides whether the nonce allocated by a nonce manager is released or resynced when a transaction fails.<p>
+ * A nonce is released only when the transaction failed before it was sent, because then the node cannot have it.
+ * Once the transaction is sent, any failure (a transport failure or a JSON-RPC error) resyncs the nonce,
+ * because the error message of the node doesn't tell reliably whether the node already has a transaction with the nonce.
+ * @see INonceManager
+ */
+public class NonceGuard {
+    private NonceGuard() {}
+
+    /**
+     * Signs the transaction with the signer, and releases the nonce allocated while filling the transaction if it fails.<p>
+     * The nonce is released only if the transaction had an empty nonce before signing,
+     * so a nonce allocated by an earlier signing of the same transaction is kept.
+     * @param transaction The transaction to sign.
+     * @param signer The function which fills and signs the transaction.
+     * @param <T> The type of transaction.
+     * @return T
+     * @throws IOException
+     */
+    public static <T extends AbstractTransaction> T signOrReleaseNonce(T transaction, TransactionSigner<T> signer) throws IOException {
+        boolean emptyNonce = transaction.getNonce().equals("0x");
+        try {
+            return signer.sign(transaction);
+        } catch(IOException | RuntimeException e) {
+            if(emptyNonce) {
+                transaction.releaseNonce();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Handles the nonce of the transaction which failed to be sent.<p>
+     * The node may already have a transaction with the nonce even if it responded with an error,
+     * so the nonce is checked against the pending nonce of the node at the next allocation instead of being released.
+     * @param transaction The transaction which failed to be sent.
+     */
+    public static void onSendFailure(AbstractTransaction transaction) {
+        transaction.resyncNonce();
+    }
+
+    /**
+     * A function which fills and signs a transaction.
+     * @param <T> The type of transaction.
+     */
+    public interface TransactionSigner<T extends AbstractTransaction> {
+        T sign(T transaction) throws IOException;
+    }
+}
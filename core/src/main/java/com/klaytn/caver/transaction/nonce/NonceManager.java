@@ -0,0 +1,267 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction.nonce;
+
+import com.klaytn.caver.account.Address;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.Klay;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A nonce manager keeps a counter of each address locally.<p>
+ * The counter is synced with the pending nonce of the node at the first allocation (or after {@link #reset(String)}), and it is increased locally after that.
+ * Addresses are spread over striped locks, so allocating nonces of different addresses doesn't wait for each other.
+ * The node is queried outside the lock, so a slow sync of one address doesn't block the other addresses sharing the lock.<p>
+ * If a transaction failed before it was sent, its nonce should be released by {@link #release(String, BigInteger)}.
+ * {@link com.klaytn.caver.transaction.AbstractTransaction#releaseNonce()} does it for a transaction filled with this manager.
+ * The released nonce is allocated again before a new nonce, so there is no gap left in the nonces of the address.<p>
+ * If sending a transaction failed, including an error response of the node, its nonce should be marked by {@link #resync(String, BigInteger)}.
+ * The next allocation of the address queries the pending nonce of the node once and reconciles the counter with it:
+ * the marked and released nonces lower than the pending nonce are dropped because the node has them, the marked nonces from the pending nonce
+ * are released to be allocated again, and the counter is raised to the pending nonce if another sender used the address.
+ * {@link NonceGuard} applies these rules.
+ * <pre>Example :
+ * {@code
+ * NonceManager nonceManager = new NonceManager();
+ *
+ * ValueTransfer tx = caver.transaction.valueTransfer.create(...);
+ * tx.setNonceManager(nonceManager);
+ * caver.wallet.sign(from, tx);
+ *
+ * try {
+ *     Bytes32 response = caver.rpc.klay.sendRawTransaction(tx).send();
+ *     if(response.hasError()) {
+ *         tx.resyncNonce();
+ *     }
+ * } catch(IOException e) {
+ *     tx.resyncNonce();
+ * }
+ * }
+ * </pre>
+ */
+public class NonceManager implements INonceManager {
+    /**
+     * The default number of locks.
+     */
+    public static final int DEFAULT_STRIPES = 64;
+
+    /**
+     * The counters of each address.
+     */
+    private final ConcurrentHashMap<Address, AddressNonce> nonces = new ConcurrentHashMap<>();
+
+    /**
+     * The striped locks guarding the counters.
+     */
+    private final Object[] locks;
+
+    /**
+     * Creates a NonceManager instance with the default number of locks.
+     */
+    public NonceManager() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates a NonceManager instance.
+     * @param stripes The number of locks to guard the counters of addresses.
+     */
+    public NonceManager(int stripes) {
+        if(stripes <= 0) {
+            throw new IllegalArgumentException("The number of stripes must be greater than 0.");
+        }
+
+        this.locks = new Object[stripes];
+        for(int i = 0; i < stripes; i++) {
+            this.locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public BigInteger allocate(Klay klay, String address) throws IOException {
+        Address key = Address.of(address);
+        BigInteger pendingNonce = null;
+
+        while(true) {
+            synchronized(lockOf(key)) {
+                AddressNonce state = nonces.get(key);
+                if(state == null && pendingNonce != null) {
+                    // A counter synced by other thread while querying the node is kept as it is.
+                    state = new AddressNonce(pendingNonce);
+                    nonces.put(key, state);
+                } else if(state != null && pendingNonce != null) {
+                    reconcile(state, pendingNonce);
+                }
+
+                // The node is queried before the allocation when there are nonces which the node may not have received.
+                if(state != null && (state.uncertain.isEmpty() || pendingNonce != null)) {
+                    if(!state.released.isEmpty()) {
+                        return state.released.pollFirst();
+                    }
+
+                    BigInteger nonce = state.next;
+                    state.next = nonce.add(BigInteger.ONE);
+                    return nonce;
+                }
+            }
+
+            // The node is queried without holding the lock, because the lock is shared with other addresses.
+            pendingNonce = getPendingNonce(klay, address);
+        }
+    }
+
+    @Override
+    public void release(String address, BigInteger nonce) {
+        Address key = Address.of(address);
+        synchronized(lockOf(key)) {
+            AddressNonce state = nonces.get(key);
+            if(state == null || nonce.compareTo(state.next) >= 0) {
+                return;
+            }
+
+            releaseLocked(state, nonce);
+        }
+    }
+
+    @Override
+    public void resync(String address, BigInteger nonce) {
+        Address key = Address.of(address);
+        synchronized(lockOf(key)) {
+            AddressNonce state = nonces.get(key);
+            if(state == null || nonce.compareTo(state.next) >= 0) {
+                return;
+            }
+
+            state.uncertain.add(nonce);
+        }
+    }
+
+    @Override
+    public void reset(String address) {
+        Address key = Address.of(address);
+        synchronized(lockOf(key)) {
+            nonces.remove(key);
+        }
+    }
+
+    /**
+     * Sets the next nonce of the address without querying the node.
+     * @param address The address of the sender.
+     * @param nonce The next nonce to allocate.
+     */
+    public void setNonce(String address, BigInteger nonce) {
+        Address key = Address.of(address);
+        synchronized(lockOf(key)) {
+            nonces.put(key, new AddressNonce(nonce));
+        }
+    }
+
+    /**
+     * Returns the next nonce of the address to allocate, if there is no released one.<p>
+     * It returns null if the address is not synced yet.
+     * @param address The address of the sender.
+     * @return BigInteger
+     */
+    public BigInteger getNextNonce(String address) {
+        Address key = Address.of(address);
+        synchronized(lockOf(key)) {
+            AddressNonce state = nonces.get(key);
+            return state == null ? null : state.next;
+        }
+    }
+
+    /**
+     * Returns the nonces which are released but not allocated again, in ascending order.<p>
+     * Transactions with a nonce greater than these cannot be executed until these nonces are used.
+     * @param address The address of the sender.
+     * @return List&lt;BigInteger&gt;
+     */
+    public List<BigInteger> getGaps(String address) {
+        Address key = Address.of(address);
+        synchronized(lockOf(key)) {
+            AddressNonce state = nonces.get(key);
+            return state == null ? new ArrayList<>() : new ArrayList<>(state.released);
+        }
+    }
+
+    private BigInteger getPendingNonce(Klay klay, String address) throws IOException {
+        if(klay == null) {
+            throw new RuntimeException("Cannot sync the nonce of " + address + ". `klaytnCall` must be set in Transaction instance to sync the nonce with the node.");
+        }
+
+        Quantity response = klay.getTransactionCount(address, DefaultBlockParameterName.PENDING).send();
+        if(response.hasError()) {
+            throw new RuntimeException("Cannot sync the nonce of " + address + ": " + response.getError().getMessage());
+        }
+
+        return response.getValue();
+    }
+
+    private static void releaseLocked(AddressNonce state, BigInteger nonce) {
+        state.released.add(nonce);
+
+        // Shrink the counter if the released nonces are at the end, so they don't remain as gaps.
+        BigInteger last = state.next.subtract(BigInteger.ONE);
+        while(!state.released.isEmpty() && state.released.last().equals(last)) {
+            state.released.pollLast();
+            state.next = last;
+            last = last.subtract(BigInteger.ONE);
+        }
+    }
+
+    /**
+     * Reconciles the counter with the pending nonce of the node.<p>
+     * The nonces lower than the pending nonce are used in the node, so they are dropped from the marked and released nonces,
+     * and the counter is raised to the pending nonce if the address was used by another sender.
+     * The marked nonces from the pending nonce are not executable in the node, so they are released to be allocated again.
+     * All marked nonces are resolved here, so the node is not queried again until another nonce is marked.
+     */
+    private static void reconcile(AddressNonce state, BigInteger pendingNonce) {
+        state.released.headSet(pendingNonce).clear();
+        if(state.next.compareTo(pendingNonce) < 0) {
+            state.next = pendingNonce;
+        }
+
+        for(BigInteger nonce : state.uncertain.tailSet(pendingNonce)) {
+            if(nonce.compareTo(state.next) < 0) {
+                releaseLocked(state, nonce);
+            }
+        }
+        state.uncertain.clear();
+    }
+
+    private Object lockOf(Address key) {
+        return locks[(key.hashCode() & 0x7fffffff) % locks.length];
+    }
+
+    private static class AddressNonce {
+        BigInteger next;
+        TreeSet<BigInteger> released = new TreeSet<>();
+        TreeSet<BigInteger> uncertain = new TreeSet<>();
+
+        AddressNonce(BigInteger next) {
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction.response;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.BlockTransactionReceipts;
+import com.klaytn.caver.methods.response.NewHeadsNotification;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.utils.DaemonThreadFactory;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transaction receipt processor that follows new blocks and resolves all pending transactions included in a block with one "klay_getBlockReceipts" call.<p>
+ * Unlike {@link PollingTransactionReceiptProcessor} and {@link QueuingTransactionReceiptProcessor} which query the receipt of each transaction hash at each interval,
+ * the number of requests depends on the number of blocks, not the number of pending transactions. No request is sent for a block while there is no pending transaction.<p>
+ * It follows new blocks in one of two ways.
+ * <ul>
+ *     <li>Subscription : It receives new blocks from a "newHeads" subscription(WebSocket) and queries the receipts of each block.
+ *     If the subscription fails, it falls back to polling.</li>
+ *     <li>Polling : It queries the latest block number at each interval. For each new block, it queries the block with transaction hashes and queries the receipts only if a pending transaction is in the block.</li>
+ * </ul>
+ * A transaction can be included in a block which is already checked before it is registered.
+ * So when new transactions are registered, the last {@value #RESCAN_BLOCKS} blocks are checked again at the next interval.
+ * If a receipt is still not found within the timeout, it queries the receipt of the transaction hash once more before failing.
+ * <pre>Example :
+ * {@code
+ * // Polling
+ * BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver);
+ *
+ * // Subscription
+ * BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, caver.rpc.klay.subscribeFlowable("newHeads"), 15000);
+ *
+ * CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.getTransactionReceiptAsync(txHash);
+ * }
+ * </pre>
+ */
+public class BlockTransactionReceiptProcessor extends TransactionReceiptProcessor implements AutoCloseable {
+    public static final long DEFAULT_POLLING_FREQUENCY = 1000;
+    public static final long DEFAULT_TIMEOUT = 15000;
+
+    /**
+     * The number of recent blocks checked again when new transactions are registered.
+     */
+    public static final int RESCAN_BLOCKS = 3;
+
+    private final Klay klay;
+    private final long timeout;
+
+    /**
+     * The pending transactions mapped by the lower case transaction hash.
+     */
+    private final Map<String, PendingTransaction> pendingTransactions = new ConcurrentHashMap<>();
+
+    /**
+     * The scheduler owned by this processor. It is shut down in close().
+     */
+    private final ScheduledExecutorService scheduler;
+
+    private final ScheduledFuture<?> scheduledTask;
+    private final Disposable subscription;
+
+    /**
+     * The polling task started when the "newHeads" subscription fails.
+     */
+    private volatile ScheduledFuture<?> fallbackTask;
+
+    /**
+     * Set when a new transaction is registered, so the recent blocks are checked again at the next interval.
+     */
+    private final AtomicBoolean rescanRequested = new AtomicBoolean();
+
+    /**
+     * The last block number checked in polling mode. It is accessed only in the scheduler.
+     */
+    private BigInteger lastBlockNumber;
+
+    /**
+     * The block number before the first block checked in polling mode. The rescan doesn't go back beyond it.
+     * It is accessed only in the scheduler.
+     */
+    private BigInteger firstBlockNumber;
+
+    /**
+     * The hashes of the last blocks received from the "newHeads" subscription. It is accessed only in the scheduler.
+     */
+    private final Deque<String> recentBlockHashes = new ArrayDeque<>();
+
+    /**
+     * Creates a processor that polls the latest block number with the default polling frequency and timeout.
+     * @param caver The Caver instance.
+     */
+    public BlockTransactionReceiptProcessor(Caver caver) {
+        this(caver, DEFAULT_POLLING_FREQUENCY, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Creates a processor that polls the latest block number.
+     * @param caver The Caver instance.
+     * @param pollingFrequency The interval in milliseconds to query the latest block number.
+     * @param timeout The time in milliseconds to wait for a receipt of each transaction.
+     */
+    public BlockTransactionReceiptProcessor(Caver caver, long pollingFrequency, long timeout) {
+        super(caver);
+        checkPositive(pollingFrequency, "polling frequency");
+        checkPositive(timeout, "timeout");
+
+        this.klay = caver.rpc.getKlay();
+        this.timeout = timeout;
+        this.subscription = null;
+
+        this.scheduler = newScheduler();
+        this.scheduledTask = scheduler.scheduleAtFixedRate(
+                this::pollBlocks, pollingFrequency, pollingFrequency, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a processor that follows the new blocks from the "newHeads" subscription.
+     * @param caver The Caver instance.
+     * @param newHeads The flowable of "newHeads" subscription. e.g. caver.rpc.klay.subscribeFlowable("newHeads")
+     * @param timeout The time in milliseconds to wait for a receipt of each transaction.
+     */
+    public BlockTransactionReceiptProcessor(Caver caver, Flowable<NewHeadsNotification> newHeads, long timeout) {
+        super(caver);
+        checkPositive(timeout, "timeout");
+
+        this.klay = caver.rpc.getKlay();
+        this.timeout = timeout;
+
+        this.scheduler = newScheduler();
+        this.scheduledTask = scheduler.scheduleAtFixedRate(
+                this::checkRecentBlocks, DEFAULT_POLLING_FREQUENCY, DEFAULT_POLLING_FREQUENCY, TimeUnit.MILLISECONDS);
+
+        // The notifications of a WebSocket subscription are delivered on the thread that reads the responses,
+        // so a block is handed off to the scheduler and its receipts are queried asynchronously.
+        this.subscription = newHeads.subscribe(
+                notification -> execute(() -> processNewHead(notification.getParams().getResult().getHash())),
+                error -> execute(this::startPolling));
+    }
+
+    /**
+     * Waits until the receipt of the transaction is found in a new block and returns it.
+     * @param transactionHash The hash of transaction.
+     * @return TransactionReceipt.TransactionReceiptData
+     * @throws IOException
+     * @throws TransactionException It throws when the receipt is not found within the timeout.
+     */
+    @Override
+    public TransactionReceipt.TransactionReceiptData waitForTransactionReceipt(String transactionHash) throws IOException, TransactionException {
+        try {
+            return getTransactionReceiptAsync(transactionHash).get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if(cause instanceof TransactionException) {
+                throw (TransactionException)cause;
+            }
+            throw new TransactionException(cause);
+        }
+    }
+
+    /**
+     * Returns a future completed with the receipt when the transaction is found in a new block.
+     * @param transactionHash The hash of transaction.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     * @see #getTransactionReceiptAsync(String)
+     */
+    @Override
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> waitForTransactionReceiptAsync(String transactionHash) {
+        return getTransactionReceiptAsync(transactionHash);
+    }
+
+    /**
+     * Registers the transaction hash and returns a future completed with its receipt when the transaction is found in a new block.<p>
+     * The transaction is also looked up in the last {@value #RESCAN_BLOCKS} blocks, in case it was included before it is registered.
+     * If the receipt is not found within the timeout, the future is completed exceptionally with TransactionException.
+     * Registering the same transaction hash again returns the same future.
+     * @param transactionHash The hash of transaction.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> getTransactionReceiptAsync(String transactionHash) {
+        if(scheduledTask.isCancelled()) {
+            throw new IllegalStateException("The receipt processor is closed.");
+        }
+
+        PendingTransaction created = new PendingTransaction(transactionHash, System.currentTimeMillis() + timeout);
+        PendingTransaction pending = pendingTransactions.putIfAbsent(transactionHash.toLowerCase(), created);
+        if(pending != null) {
+            return pending.future;
+        }
+
+        // It is requested after the transaction is added, so the rescan always sees it.
+        rescanRequested.set(true);
+        return created.future;
+    }
+
+    /**
+     * Returns the number of transactions waiting for receipts.
+     * @return int
+     */
+    public int getPendingCount() {
+        return pendingTransactions.size();
+    }
+
+    /**
+     * Stops following new blocks, shuts down the scheduler and completes all pending futures exceptionally.
+     */
+    @Override
+    public void close() {
+        scheduledTask.cancel(false);
+        if(fallbackTask != null) {
+            fallbackTask.cancel(false);
+        }
+        scheduler.shutdown();
+        if(subscription != null) {
+            subscription.dispose();
+        }
+
+        for(String key : pendingTransactions.keySet()) {
+            PendingTransaction pending = pendingTransactions.remove(key);
+            if(pending != null) {
+                pending.future.completeExceptionally(new TransactionException("The receipt processor is closed.", pending.transactionHash));
+            }
+        }
+    }
+
+    private void pollBlocks() {
+        try {
+            Quantity blockNumber = klay.getBlockNumber().send();
+            if(blockNumber.hasError()) {
+                return;
+            }
+
+            BigInteger latest = blockNumber.getValue();
+            if(lastBlockNumber == null) {
+                lastBlockNumber = latest.subtract(BigInteger.ONE);
+                firstBlockNumber = lastBlockNumber;
+            }
+            if(rescanRequested.getAndSet(false)) {
+                lastBlockNumber = firstBlockNumber.max(lastBlockNumber.subtract(BigInteger.valueOf(RESCAN_BLOCKS)));
+            }
+
+            while(lastBlockNumber.compareTo(latest) < 0) {
+                if(pendingTransactions.isEmpty()) {
+                    lastBlockNumber = latest;
+                    break;
+                }
+
+                BigInteger next = lastBlockNumber.add(BigInteger.ONE);
+                if(!processBlock(next.longValue())) {
+                    // It retries the block at the next interval.
+                    break;
+                }
+                lastBlockNumber = next;
+            }
+        } catch(IOException | RuntimeException e) {
+            // It retries at the next interval, and the pending transactions are expired by the timeout.
+        } finally {
+            expirePendingTransactions();
+        }
+    }
+
+    private boolean processBlock(long blockNumber) throws IOException {
+        Block block = klay.getBlockByNumber(blockNumber, false).send();
+        if(block.hasError() || block.getResult() == null) {
+            return false;
+        }
+
+        boolean hasPending = false;
+        for(Object transaction : block.getResult().getTransactions()) {
+            if(transaction instanceof String && pendingTransactions.containsKey(((String)transaction).toLowerCase())) {
+                hasPending = true;
+                break;
+            }
+        }
+
+        return !hasPending || processBlock(block.getResult().getHash());
+    }
+
+    private boolean processBlock(String blockHash) throws IOException {
+        if(pendingTransactions.isEmpty()) {
+            return true;
+        }
+
+        BlockTransactionReceipts receipts = klay.getBlockReceipts(blockHash).send();
+        if(receipts.hasError() || receipts.getResult() == null) {
+            return false;
+        }
+
+        resolve(receipts.getResult());
+        return true;
+    }
+
+    private void processNewHead(String blockHash) {
+        recentBlockHashes.addLast(blockHash);
+        if(recentBlockHashes.size() > RESCAN_BLOCKS) {
+            recentBlockHashes.removeFirst();
+        }
+        processBlockAsync(blockHash);
+    }
+
+    private void checkRecentBlocks() {
+        // After falling back to polling, the rescan is done by pollBlocks().
+        if(fallbackTask == null && rescanRequested.getAndSet(false)) {
+            for(String blockHash : recentBlockHashes) {
+                processBlockAsync(blockHash);
+            }
+        }
+        expirePendingTransactions();
+    }
+
+    private void processBlockAsync(String blockHash) {
+        if(pendingTransactions.isEmpty()) {
+            return;
+        }
+
+        // A failed block is skipped, and its pending transactions are resolved by the last query at the timeout.
+        klay.getBlockReceipts(blockHash).sendAsync().thenAcceptAsync(receipts -> {
+            if(!receipts.hasError() && receipts.getResult() != null) {
+                resolve(receipts.getResult());
+            }
+        }, scheduler);
+    }
+
+    private void resolve(List<TransactionReceipt.TransactionReceiptData> receiptList) {
+        for(TransactionReceipt.TransactionReceiptData receipt : receiptList) {
+            PendingTransaction pending = pendingTransactions.remove(receipt.getTransactionHash().toLowerCase());
+            if(pending != null) {
+                pending.future.complete(receipt);
+            }
+        }
+    }
+
+    private void startPolling() {
+        if(fallbackTask == null) {
+            fallbackTask = scheduler.scheduleAtFixedRate(
+                    this::pollBlocks, 0, DEFAULT_POLLING_FREQUENCY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            scheduler.execute(task);
+        } catch(RejectedExecutionException e) {
+            // The processor is closed.
+        }
+    }
+
+    private void expirePendingTransactions() {
+        long now = System.currentTimeMillis();
+        for(PendingTransaction pending : pendingTransactions.values()) {
+            if(pending.deadline > now) {
+                continue;
+            }
+            if(!pendingTransactions.remove(pending.transactionHash.toLowerCase(), pending)) {
+                continue;
+            }
+
+            // The last queries are sent asynchronously, so a burst of timeouts doesn't delay following blocks.
+            try {
+                sendTransactionReceiptRequestAsync(pending.transactionHash).whenComplete((receipt, error) -> {
+                    if(error != null) {
+                        pending.future.completeExceptionally(unwrapCompletionException(error));
+                    } else if(receipt.isPresent()) {
+                        pending.future.complete(receipt.get());
+                    } else {
+                        pending.future.completeExceptionally(new TransactionException("Transaction receipt was not generated after "
+                                + (timeout / 1000) + " seconds for transaction: " + pending.transactionHash, pending.transactionHash));
+                    }
+                });
+            } catch(RuntimeException e) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static ScheduledExecutorService newScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("caver-block-receipt-processor"));
+    }
+
+    private static void checkPositive(long value, String name) {
+        if(value <= 0) {
+            throw new IllegalArgumentException("The " + name + " must be positive.");
+        }
+    }
+
+    private static class PendingTransaction {
+        private final String transactionHash;
+        private final long deadline;
+        private final CompletableFuture<TransactionReceipt.TransactionReceiptData> future = new CompletableFuture<>();
+
+        PendingTransaction(String transactionHash, long deadline) {
+            this.transactionHash = transactionHash;
+            this.deadline = deadline;
+        }
+    }
+}
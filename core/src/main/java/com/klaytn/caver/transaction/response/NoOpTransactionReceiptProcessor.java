@@ -21,6 +21,7 @@ import com.klaytn.caver.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Return an empty receipt back to callers containing only the transaction hash.
@@ -37,4 +38,12 @@ public class NoOpTransactionReceiptProcessor extends TransactionReceiptProcessor
 
         return transactionReceiptData;
     }
+
+    @Override
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> waitForTransactionReceiptAsync(String transactionHash) {
+        TransactionReceipt.TransactionReceiptData transactionReceiptData = new TransactionReceipt.TransactionReceiptData();
+        transactionReceiptData.setTransactionHash(transactionHash);
+
+        return CompletableFuture.completedFuture(transactionReceiptData);
+    }
 }
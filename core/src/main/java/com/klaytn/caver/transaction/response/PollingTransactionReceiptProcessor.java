@@ -22,6 +22,7 @@ import org.web3j.protocol.exceptions.TransactionException;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * With each provided transaction hash, poll until we obtain a transaction object.
@@ -41,6 +42,17 @@ public class PollingTransactionReceiptProcessor extends TransactionReceiptProces
         return getTransactionReceipt(transactionHash, sleepDuration, attempts);
     }
 
+    /**
+     * Returns a future completed with the receipt of the transaction.<p>
+     * It queries the receipt with the same interval and attempts as {@link #waitForTransactionReceipt(String)} on the shared scheduler instead of sleeping.
+     * @param transactionHash The hash of transaction.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     */
+    @Override
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> waitForTransactionReceiptAsync(String transactionHash) {
+        return pollTransactionReceipt(transactionHash, sleepDuration, attempts);
+    }
+
     private TransactionReceipt.TransactionReceiptData getTransactionReceipt(
             String transactionHash, long sleepDuration, int attempts)
             throws IOException, TransactionException {
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.transaction.response;
+
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.rpc.Klay;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the receipts of all transactions waited with the same Klay and interval together.<p>
+ * At each interval, the receipts of all waiting transactions are requested in batched JSON-RPC requests of up to {@link #MAX_BATCH_SIZE} requests,
+ * instead of a request per transaction. The next interval starts after all responses of the previous one are handled, so only one poll is in flight.<p>
+ * A poller is removed when no transaction is waiting, and a new one is created by the next wait.
+ */
+final class TransactionReceiptPoller {
+    /**
+     * The maximum number of requests in a batched request.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * The pollers which have waiting transactions, keyed by Klay and interval. It also guards the waiters of each poller.
+     */
+    private static final Map<List<Object>, TransactionReceiptPoller> POLLERS = new HashMap<>();
+
+    private final List<Object> key;
+    private final Klay klay;
+    private final ScheduledExecutorService scheduler;
+    private final long sleepDuration;
+    private final List<Waiter> waiters = new ArrayList<>();
+
+    private TransactionReceiptPoller(List<Object> key, Klay klay, ScheduledExecutorService scheduler, long sleepDuration) {
+        this.key = key;
+        this.klay = klay;
+        this.scheduler = scheduler;
+        this.sleepDuration = sleepDuration;
+    }
+
+    /**
+     * Returns a future completed with the receipt of the transaction.<p>
+     * The receipt is requested at the next poll and then once per interval up to the given attempts.
+     * If the receipt is not found, the future is completed exceptionally with TransactionException.
+     * @param klay The Klay RPC call object to request receipts.
+     * @param scheduler The scheduler to wait between polls.
+     * @param transactionHash The hash of transaction.
+     * @param sleepDuration The interval between polls in milliseconds.
+     * @param attempts The number of polls after the first one.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     */
+    static CompletableFuture<TransactionReceipt.TransactionReceiptData> poll(Klay klay, ScheduledExecutorService scheduler,
+                                                                            String transactionHash, long sleepDuration, int attempts) {
+        Waiter waiter = new Waiter(transactionHash, sleepDuration, attempts);
+
+        synchronized(POLLERS) {
+            List<Object> key = Arrays.asList(klay, sleepDuration);
+            TransactionReceiptPoller poller = POLLERS.get(key);
+            if(poller == null) {
+                poller = new TransactionReceiptPoller(key, klay, scheduler, sleepDuration);
+                POLLERS.put(key, poller);
+                poller.waiters.add(waiter);
+                poller.schedule(0);
+            } else {
+                poller.waiters.add(waiter);
+            }
+        }
+
+        return waiter.future;
+    }
+
+    private void schedule(long delay) {
+        scheduler.schedule(this::pollOnce, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void pollOnce() {
+        List<Waiter> polling;
+        synchronized(POLLERS) {
+            waiters.removeIf(waiter -> waiter.future.isDone());
+            if(waiters.isEmpty()) {
+                POLLERS.remove(key);
+                return;
+            }
+            polling = new ArrayList<>(waiters);
+        }
+
+        List<CompletableFuture<Void>> sent = new ArrayList<>();
+        for(int from = 0; from < polling.size(); from += MAX_BATCH_SIZE) {
+            sent.add(send(polling.subList(from, Math.min(from + MAX_BATCH_SIZE, polling.size()))));
+        }
+
+        CompletableFuture.allOf(sent.toArray(new CompletableFuture[0])).whenComplete((result, error) -> schedule(sleepDuration));
+    }
+
+    /**
+     * Requests the receipts of the waiters and handles the responses.<p>
+     * A single request is sent as it is, and multiple requests are sent in one batched JSON-RPC request.
+     * The responses of a batch are matched with the requests by position, and if the ids are not matched, all waiters are failed.
+     * @param chunk The waiters to request receipts.
+     * @return CompletableFuture&lt;Void&gt; completed when all responses are handled.
+     */
+    private CompletableFuture<Void> send(List<Waiter> chunk) {
+        try {
+            if(chunk.size() == 1) {
+                Waiter waiter = chunk.get(0);
+                return klay.getTransactionReceipt(waiter.transactionHash).sendAsync().handle((response, error) -> {
+                    if(error != null) {
+                        waiter.future.completeExceptionally(TransactionReceiptProcessor.unwrapCompletionException(error));
+                    } else {
+                        waiter.handle(response);
+                    }
+                    return null;
+                });
+            }
+
+            List<Request<?, TransactionReceipt>> requests = new ArrayList<>();
+            BatchRequest batchRequest = klay.newBatch();
+            for(Waiter waiter : chunk) {
+                Request<?, TransactionReceipt> request = klay.getTransactionReceipt(waiter.transactionHash);
+                requests.add(request);
+                batchRequest.add(request);
+            }
+
+            return batchRequest.sendAsync().handle((batchResponse, error) -> {
+                if(error != null) {
+                    failAll(chunk, TransactionReceiptProcessor.unwrapCompletionException(error));
+                    return null;
+                }
+
+                List<? extends Response<?>> responses = batchResponse.getResponses();
+                if(responses.size() != requests.size()) {
+                    failAll(chunk, new TransactionException("Error processing request: the number of responses in a batch is not matched with the requests."));
+                    return null;
+                }
+                for(int i = 0; i < responses.size(); i++) {
+                    if(responses.get(i).getId() != requests.get(i).getId()) {
+                        failAll(chunk, new TransactionException("Error processing request: the responses in a batch are not in the order of the requests."));
+                        return null;
+                    }
+                }
+
+                for(int i = 0; i < responses.size(); i++) {
+                    chunk.get(i).handle((TransactionReceipt)responses.get(i));
+                }
+                return null;
+            });
+        } catch(RuntimeException e) {
+            failAll(chunk, e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static void failAll(List<Waiter> chunk, Throwable error) {
+        for(Waiter waiter : chunk) {
+            waiter.future.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * A transaction waiting for its receipt. Its attempt is only updated by the poll in flight.
+     */
+    private static final class Waiter {
+        final String transactionHash;
+        final long sleepDuration;
+        final int attempts;
+        final CompletableFuture<TransactionReceipt.TransactionReceiptData> future = new CompletableFuture<>();
+        int attempt = 0;
+
+        Waiter(String transactionHash, long sleepDuration, int attempts) {
+            this.transactionHash = transactionHash;
+            this.sleepDuration = sleepDuration;
+            this.attempts = attempts;
+        }
+
+        void handle(TransactionReceipt response) {
+            if(response.hasError()) {
+                future.completeExceptionally(new TransactionException("Error processing request: "
+                        + response.getError().getMessage()));
+            } else if(response.getResult() != null) {
+                future.complete(response.getResult());
+            } else if(attempt < attempts) {
+                attempt++;
+            } else {
+                future.completeExceptionally(new TransactionException("Transaction receipt was not generated after "
+                        + ((sleepDuration * attempts) / 1000
+                        + " seconds for transaction: " + transactionHash), transactionHash));
+            }
+        }
+    }
+}
@@ -18,15 +18,28 @@ package com.klaytn.caver.transaction.response;
 
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.utils.DaemonThreadFactory;
 import org.web3j.protocol.exceptions.TransactionException;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Abstraction for managing how we wait for transaction receipts to be generated on the network.
  */
 public abstract class TransactionReceiptProcessor {
+    static final long DEFAULT_POLLING_FREQUENCY = 1000;
+    static final int DEFAULT_POLLING_ATTEMPTS = 15;
+
+    /**
+     * The scheduler shared by all processors to wait between receipt queries. It only sends asynchronous requests, so one thread is enough.
+     */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("caver-receipt-polling"));
+
     private final Caver caver;
 
     public TransactionReceiptProcessor(Caver caver) {
@@ -36,6 +49,22 @@ public abstract class TransactionReceiptProcessor {
     public abstract TransactionReceipt.TransactionReceiptData waitForTransactionReceipt(String transactionHash)
             throws IOException, TransactionException;
 
+    /**
+     * Returns a future completed with the receipt of the transaction without blocking the calling thread.<p>
+     * The default implementation queries the receipt asynchronously every second up to 15 times,
+     * and one shared scheduler with a daemon thread waits between the queries, so no thread is parked while waiting.
+     * The receipts of all transactions waited at the same time are queried together in batched requests. If the receipt is not found, the future is completed exceptionally with TransactionException.
+     * @param transactionHash The hash of transaction.
+     * @return CompletableFuture&lt;TransactionReceipt.TransactionReceiptData&gt;
+     */
+    public CompletableFuture<TransactionReceipt.TransactionReceiptData> waitForTransactionReceiptAsync(String transactionHash) {
+        return pollTransactionReceipt(transactionHash, DEFAULT_POLLING_FREQUENCY, DEFAULT_POLLING_ATTEMPTS);
+    }
+
+    CompletableFuture<TransactionReceipt.TransactionReceiptData> pollTransactionReceipt(String transactionHash, long sleepDuration, int attempts) {
+        return TransactionReceiptPoller.poll(caver.rpc.klay, SCHEDULER, transactionHash, sleepDuration, attempts);
+    }
+
     Optional<TransactionReceipt.TransactionReceiptData> sendTransactionReceiptRequest(String transactionHash) throws IOException, TransactionException{
         TransactionReceipt transactionReceipt = caver.rpc.klay.getTransactionReceipt(transactionHash).send();
         if(transactionReceipt.hasError()) {
@@ -45,4 +74,19 @@ public abstract class TransactionReceiptProcessor {
 
         return Optional.ofNullable(transactionReceipt.getResult());
     }
+
+    CompletableFuture<Optional<TransactionReceipt.TransactionReceiptData>> sendTransactionReceiptRequestAsync(String transactionHash) {
+        return caver.rpc.klay.getTransactionReceipt(transactionHash).sendAsync().thenApply(transactionReceipt -> {
+            if(transactionReceipt.hasError()) {
+                throw new CompletionException(new TransactionException("Error processing request: "
+                        + transactionReceipt.getError().getMessage()));
+            }
+
+            return Optional.ofNullable(transactionReceipt.getResult());
+        });
+    }
+
+    static Throwable unwrapCompletionException(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
 }
@@ -16,11 +16,13 @@
 
 package com.klaytn.caver.transaction.type;
 
+import com.klaytn.caver.account.Address;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.*;
 import com.klaytn.caver.transaction.utils.AccessList;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
@@ -65,6 +67,14 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
      */
     String gasPrice = "0x";
 
+    /**
+     * The binary form of to, value, input and gasPrice used in RLP encoding.
+     */
+    byte[] toBytes;
+    byte[] valueBytes;
+    byte[] inputBytes;
+    byte[] gasPriceBytes;
+
     /**
      * EthereumAccessList Builder class
      */
@@ -206,14 +216,14 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
         this.validateOptionalValues(true);
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(this.getAccessList().toRlpList());
+        rlpTypeList.add(RlpString.create(this.getChainIdBytes()));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.inputBytes));
+        rlpTypeList.add(this.accessList.toRlpList());
         SignatureData signatureData = this.getSignatures().get(0);
         rlpTypeList.addAll(signatureData.toRlpList().getValues());
 
@@ -245,14 +255,14 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
         this.validateOptionalValues(true);
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(this.getAccessList().toRlpList());
+        rlpTypeList.add(RlpString.create(this.getChainIdBytes()));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.inputBytes));
+        rlpTypeList.add(this.accessList.toRlpList());
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
         byte[] type = new byte[]{(byte) TransactionType.TxTypeEthereumAccessList.getType()};
@@ -320,19 +330,26 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             this.appendSignatures(txObj.getSignatures());
         }
 
-        return this.getRLPEncoding();
+        return this.getRawTransaction();
     }
 
     /**
-     * Fills empty optional transaction field.(gasPrice)
-     * @throws IOException
+     * Adds the request for empty optional transaction field(gasPrice) to the batch sent in fillTransaction.
+     * @param batch The batch of requests to fill empty fields.
      */
     @Override
-    public void fillTransaction() throws IOException {
-        super.fillTransaction();
+    protected void addFillRequests(TransactionFillBatch batch) throws IOException {
+        super.addFillRequests(batch);
         if(this.gasPrice.equals("0x")) {
-            this.setGasPrice(this.suggestGasPrice());
+            this.addGasPriceRequest(batch, this::setGasPrice);
         }
+    }
+
+    /**
+     * Checks that the optional transaction field(gasPrice) is filled.
+     */
+    @Override
+    protected void checkFilledValues() {
         if(this.getGasPrice().equals("0x")) {
             throw new RuntimeException("Cannot fill transaction data. (gasPrice). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
@@ -367,24 +384,35 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
      * @return EthereumAccessList
      */
     public static EthereumAccessList decode(byte[] rlpEncoded) {
+        return decode(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Decodes a RLP-encoded EthereumAccessList from a part of byte array.<p>
+     * It avoids copying the given range and building a RlpList, but it is not a zero-copy decoding.
+     * Each field is converted to a hex string or a number and passed to the builder, which validates it and converts it again for RLP encoding.
+     * @param rlpEncoded The byte array contains RLP-encoded EthereumAccessList.
+     * @param offset The offset of RLP-encoded EthereumAccessList in the byte array.
+     * @param length The length of RLP-encoded EthereumAccessList.
+     * @return EthereumAccessList
+     */
+    public static EthereumAccessList decode(byte[] rlpEncoded, int offset, int length) {
         // TxHashRLP = 0x7801 + encode([chainId, nonce, gasPrice, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
         try {
-            if ((rlpEncoded[0] << 8 | rlpEncoded[1]) != TransactionType.TxTypeEthereumAccessList.getType()) {
+            if ((rlpEncoded[offset] << 8 | rlpEncoded[offset + 1]) != TransactionType.TxTypeEthereumAccessList.getType()) {
                 throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeEthereumAccessList.toString());
             }
-            byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 2, rlpEncoded.length);
-            RlpList rlpList = RlpDecoder.decode(detachedType);
-            List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+            RlpListReader values = RlpListReader.create(rlpEncoded, offset + 2, length - 2);
 
-            BigInteger chainId = ((RlpString) values.get(0)).asPositiveBigInteger();
-            BigInteger nonce = ((RlpString) values.get(1)).asPositiveBigInteger();
-            BigInteger gasPrice = ((RlpString) values.get(2)).asPositiveBigInteger();
-            BigInteger gas = ((RlpString) values.get(3)).asPositiveBigInteger();
-            String to = ((RlpString) values.get(4)).asString();
-            BigInteger value = ((RlpString) values.get(5)).asPositiveBigInteger();
-            String input = ((RlpString) values.get(6)).asString();
+            BigInteger chainId = values.getPositiveBigInteger(0);
+            BigInteger nonce = values.getPositiveBigInteger(1);
+            BigInteger gasPrice = values.getPositiveBigInteger(2);
+            BigInteger gas = values.getPositiveBigInteger(3);
+            String to = values.getHexString(4);
+            BigInteger value = values.getPositiveBigInteger(5);
+            String input = values.getHexString(6);
 
-            AccessList accessList = AccessList.decode((RlpList) values.get(7));
+            AccessList accessList = AccessList.decode(values.getList(7));
 
             EthereumAccessList ethereumAccessList = new EthereumAccessList.Builder()
                     .setFrom(null)
@@ -399,9 +427,9 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
                     .setAccessList(accessList)
                     .build();
 
-            byte[] v = ((RlpString) values.get(8)).getBytes();
-            byte[] r = ((RlpString) values.get(9)).getBytes();
-            byte[] s = ((RlpString) values.get(10)).getBytes();
+            byte[] v = values.getBytes(8);
+            byte[] r = values.getBytes(9);
+            byte[] s = values.getBytes(10);
             SignatureData signatureData = new SignatureData(v, r, s);
 
             ethereumAccessList.appendSignatures(signatureData);
@@ -458,13 +486,13 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
     }
 
     /**
-     * Returns a hash string of transaction
+     * Makes a hash string of transaction
      * @return String
      */
     @Override
-    public String getTransactionHash() {
+    protected String makeTransactionHash() {
         // TxHashRLP = 0x01 + encode([chainId, nonce, gasPrice, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
-        String rlpEncoded = this.getRLPEncoding();
+        String rlpEncoded = this.getRawTransaction();
         byte[] rlpEncodedBytes = Numeric.hexStringToByteArray(rlpEncoded);
         byte[] detachedType = Arrays.copyOfRange(rlpEncodedBytes, 1, rlpEncodedBytes.length);
         return Hash.sha3(Numeric.toHexString(detachedType));
@@ -502,7 +530,7 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             this.setFrom(keyring.getAddress());
         }
 
-        if(!this.getFrom().toLowerCase().equals(keyring.getAddress().toLowerCase())) {
+        if(!Address.isSame(this.getFrom(), keyring.getAddress())) {
             throw new IllegalArgumentException("The from address of the transaction is different with the address of the keyring to use");
         }
 
@@ -574,7 +602,7 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             this.setFrom(keyring.getAddress());
         }
 
-        if(!this.getFrom().toLowerCase().equals(keyring.getAddress().toLowerCase())) {
+        if(!Address.isSame(this.getFrom(), keyring.getAddress())) {
             throw new IllegalArgumentException("The from address of the transaction is different with the address of the keyring to use");
         }
 
@@ -612,6 +640,8 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             throw new IllegalArgumentException("Invalid address. : " + to);
         }
         this.to = to;
+        this.toBytes = toRlpBytes(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -637,6 +667,8 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             throw new IllegalArgumentException("Invalid input : " + input);
         }
         this.input = Numeric.prependHexPrefix(input);
+        this.inputBytes = toRlpBytes(this.input);
+        this.invalidateCache();
     }
 
 
@@ -663,6 +695,8 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueBytes = toRlpNumberBytes(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -675,12 +709,13 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
     }
 
     /**
-     * Getter function for accessList
+     * Getter function for accessList.<p>
+     * It returns a copy, so use {@link #setAccessList(AccessList)} to change the access list.
      *
      * @return accessList Access list is an EIP-2930 access list.
      */
     public AccessList getAccessList() {
-        return accessList;
+        return new AccessList(accessList);
     }
 
     /**
@@ -689,10 +724,9 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
      * @param accessList Access list is an EIP-2930 access list.
      */
     public void setAccessList(AccessList accessList) {
-        if (accessList == null) {
-            accessList = new AccessList();
-        }
-        this.accessList = accessList;
+        // Keeps a copy, so changing the given list doesn't change the cached RLP encoding and hashes without notice.
+        this.accessList = accessList == null ? new AccessList() : new AccessList(accessList);
+        this.invalidateCache();
     }
 
     /**
@@ -717,6 +751,8 @@ public class EthereumAccessList extends AbstractTransaction implements ITransact
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceBytes = toRlpNumberBytes(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -16,14 +16,17 @@
 
 package com.klaytn.caver.transaction.type;
 
+import com.klaytn.caver.account.Address;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionFillBatch;
 import com.klaytn.caver.transaction.TransactionHasher;
 import com.klaytn.caver.transaction.TransactionHelper;
 import com.klaytn.caver.transaction.utils.AccessList;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
@@ -73,6 +76,15 @@ public class EthereumDynamicFee extends AbstractTransaction {
      */
     String maxFeePerGas = "0x";
 
+    /**
+     * The binary form of to, value, input, maxPriorityFeePerGas and maxFeePerGas used in RLP encoding.
+     */
+    byte[] toBytes;
+    byte[] valueBytes;
+    byte[] inputBytes;
+    byte[] maxPriorityFeePerGasBytes;
+    byte[] maxFeePerGasBytes;
+
     /**
      * EthereumDynamicFee Builder class
      */
@@ -229,15 +241,15 @@ public class EthereumDynamicFee extends AbstractTransaction {
         this.validateOptionalValues(true);
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getMaxPriorityFeePerGas())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getMaxFeePerGas())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(this.getAccessList().toRlpList());
+        rlpTypeList.add(RlpString.create(this.getChainIdBytes()));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.maxPriorityFeePerGasBytes));
+        rlpTypeList.add(RlpString.create(this.maxFeePerGasBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.inputBytes));
+        rlpTypeList.add(this.accessList.toRlpList());
         SignatureData signatureData = this.getSignatures().get(0);
         rlpTypeList.addAll(signatureData.toRlpList().getValues());
 
@@ -268,15 +280,15 @@ public class EthereumDynamicFee extends AbstractTransaction {
         this.validateOptionalValues(true);
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getMaxPriorityFeePerGas())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getMaxFeePerGas())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(this.getAccessList().toRlpList());
+        rlpTypeList.add(RlpString.create(this.getChainIdBytes()));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.maxPriorityFeePerGasBytes));
+        rlpTypeList.add(RlpString.create(this.maxFeePerGasBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.inputBytes));
+        rlpTypeList.add(this.accessList.toRlpList());
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
         byte[] type = new byte[]{(byte) TransactionType.TxTypeEthereumDynamicFee.getType()};
@@ -346,22 +358,29 @@ public class EthereumDynamicFee extends AbstractTransaction {
             this.appendSignatures(txObj.getSignatures());
         }
 
-        return this.getRLPEncoding();
+        return this.getRawTransaction();
     }
 
     /**
-     * Fills empty optional transaction fields.(maxPriorityFeePerGas and maxFeePerGas)
-     * @throws IOException
+     * Adds the requests for empty optional transaction fields(maxPriorityFeePerGas and maxFeePerGas) to the batch sent in fillTransaction.
+     * @param batch The batch of requests to fill empty fields.
      */
     @Override
-    public void fillTransaction() throws IOException {
-        super.fillTransaction();
+    protected void addFillRequests(TransactionFillBatch batch) throws IOException {
+        super.addFillRequests(batch);
         if(this.getMaxPriorityFeePerGas().equals("0x")) {
-            this.setMaxPriorityFeePerGas(this.getKlaytnCall().getMaxPriorityFeePerGas().send().getResult());
+            this.addMaxPriorityFeePerGasRequest(batch, this::setMaxPriorityFeePerGas);
         }
         if(this.getMaxFeePerGas().equals("0x")) {
-            this.setMaxFeePerGas(this.suggestGasPrice());
+            this.addMaxFeePerGasRequest(batch, this::setMaxFeePerGas);
         }
+    }
+
+    /**
+     * Checks that the optional transaction fields(maxPriorityFeePerGas and maxFeePerGas) are filled.
+     */
+    @Override
+    protected void checkFilledValues() {
         if(this.getMaxPriorityFeePerGas().equals("0x") || this.getMaxFeePerGas().equals("0x")) {
             throw new RuntimeException("Cannot fill transaction data. (maxPriorityFeePerGas, maxFeePerGas). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
@@ -399,25 +418,36 @@ public class EthereumDynamicFee extends AbstractTransaction {
      * @return EthereumDynamicFee
      */
     public static EthereumDynamicFee decode(byte[] rlpEncoded) {
+        return decode(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Decodes a RLP-encoded EthereumDynamicFee from a part of byte array.<p>
+     * It avoids copying the given range and building a RlpList, but it is not a zero-copy decoding.
+     * Each field is converted to a hex string or a number and passed to the builder, which validates it and converts it again for RLP encoding.
+     * @param rlpEncoded The byte array contains RLP-encoded EthereumDynamicFee.
+     * @param offset The offset of RLP-encoded EthereumDynamicFee in the byte array.
+     * @param length The length of RLP-encoded EthereumDynamicFee.
+     * @return EthereumDynamicFee
+     */
+    public static EthereumDynamicFee decode(byte[] rlpEncoded, int offset, int length) {
         // TxHashRLP = 0x7802 + encode([chainId, nonce, gasPrice, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
         try {
-            if ((rlpEncoded[0] << 8 | rlpEncoded[1]) != TransactionType.TxTypeEthereumDynamicFee.getType()) {
+            if ((rlpEncoded[offset] << 8 | rlpEncoded[offset + 1]) != TransactionType.TxTypeEthereumDynamicFee.getType()) {
                 throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeEthereumDynamicFee.toString());
             }
-            byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 2, rlpEncoded.length);
-            RlpList rlpList = RlpDecoder.decode(detachedType);
-            List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+            RlpListReader values = RlpListReader.create(rlpEncoded, offset + 2, length - 2);
 
-            BigInteger chainId = ((RlpString) values.get(0)).asPositiveBigInteger();
-            BigInteger nonce = ((RlpString) values.get(1)).asPositiveBigInteger();
-            BigInteger maxPriorityFeePerGas = ((RlpString) values.get(2)).asPositiveBigInteger();
-            BigInteger maxFeePerGas = ((RlpString) values.get(3)).asPositiveBigInteger();
-            BigInteger gas = ((RlpString) values.get(4)).asPositiveBigInteger();
-            String to = ((RlpString) values.get(5)).asString();
-            BigInteger value = ((RlpString) values.get(6)).asPositiveBigInteger();
-            String input = ((RlpString) values.get(7)).asString();
+            BigInteger chainId = values.getPositiveBigInteger(0);
+            BigInteger nonce = values.getPositiveBigInteger(1);
+            BigInteger maxPriorityFeePerGas = values.getPositiveBigInteger(2);
+            BigInteger maxFeePerGas = values.getPositiveBigInteger(3);
+            BigInteger gas = values.getPositiveBigInteger(4);
+            String to = values.getHexString(5);
+            BigInteger value = values.getPositiveBigInteger(6);
+            String input = values.getHexString(7);
 
-            AccessList accessList = AccessList.decode((RlpList) values.get(8));
+            AccessList accessList = AccessList.decode(values.getList(8));
 
             EthereumDynamicFee ethereumAccessList = new EthereumDynamicFee.Builder()
                     .setFrom(null)
@@ -433,9 +463,9 @@ public class EthereumDynamicFee extends AbstractTransaction {
                     .setAccessList(accessList)
                     .build();
 
-            byte[] v = ((RlpString) values.get(9)).getBytes();
-            byte[] r = ((RlpString) values.get(10)).getBytes();
-            byte[] s = ((RlpString) values.get(11)).getBytes();
+            byte[] v = values.getBytes(9);
+            byte[] r = values.getBytes(10);
+            byte[] s = values.getBytes(11);
             SignatureData signatureData = new SignatureData(v, r, s);
 
             ethereumAccessList.appendSignatures(signatureData);
@@ -492,13 +522,13 @@ public class EthereumDynamicFee extends AbstractTransaction {
     }
 
     /**
-     * Returns a hash string of transaction
+     * Makes a hash string of transaction
      * @return String
      */
     @Override
-    public String getTransactionHash() {
+    protected String makeTransactionHash() {
         // TxHashRLP = 0x02 + encode([chainId, nonce, maxPriorityFeePerGas, maxFeePerGas, gas, to, value, data, accessList, signatureYParity, signatureR, signatureS])
-        String rlpEncoded = this.getRLPEncoding();
+        String rlpEncoded = this.getRawTransaction();
         byte[] rlpEncodedBytes = Numeric.hexStringToByteArray(rlpEncoded);
         byte[] detachedType = Arrays.copyOfRange(rlpEncodedBytes, 1, rlpEncodedBytes.length);
         return Hash.sha3(Numeric.toHexString(detachedType));
@@ -536,7 +566,7 @@ public class EthereumDynamicFee extends AbstractTransaction {
             this.setFrom(keyring.getAddress());
         }
 
-        if(!this.getFrom().toLowerCase().equals(keyring.getAddress().toLowerCase())) {
+        if(!Address.isSame(this.getFrom(), keyring.getAddress())) {
             throw new IllegalArgumentException("The from address of the transaction is different with the address of the keyring to use");
         }
 
@@ -608,7 +638,7 @@ public class EthereumDynamicFee extends AbstractTransaction {
             this.setFrom(keyring.getAddress());
         }
 
-        if(!this.getFrom().toLowerCase().equals(keyring.getAddress().toLowerCase())) {
+        if(!Address.isSame(this.getFrom(), keyring.getAddress())) {
             throw new IllegalArgumentException("The from address of the transaction is different with the address of the keyring to use");
         }
 
@@ -646,6 +676,8 @@ public class EthereumDynamicFee extends AbstractTransaction {
             throw new IllegalArgumentException("Invalid address. : " + to);
         }
         this.to = to;
+        this.toBytes = toRlpBytes(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -671,6 +703,8 @@ public class EthereumDynamicFee extends AbstractTransaction {
             throw new IllegalArgumentException("Invalid input : " + input);
         }
         this.input = Numeric.prependHexPrefix(input);
+        this.inputBytes = toRlpBytes(this.input);
+        this.invalidateCache();
     }
 
 
@@ -697,6 +731,8 @@ public class EthereumDynamicFee extends AbstractTransaction {
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueBytes = toRlpNumberBytes(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -709,12 +745,13 @@ public class EthereumDynamicFee extends AbstractTransaction {
     }
 
     /**
-     * Getter function for accessList
+     * Getter function for accessList.<p>
+     * It returns a copy, so use {@link #setAccessList(AccessList)} to change the access list.
      *
      * @return accessList Access list is an EIP-2930 access list.
      */
     public AccessList getAccessList() {
-        return accessList;
+        return new AccessList(accessList);
     }
 
     /**
@@ -723,10 +760,9 @@ public class EthereumDynamicFee extends AbstractTransaction {
      * @param accessList Access list is an EIP-2930 access list.
      */
     public void setAccessList(AccessList accessList) {
-        if (accessList == null) {
-            accessList = new AccessList();
-        }
-        this.accessList = accessList;
+        // Keeps a copy, so changing the given list doesn't change the cached RLP encoding and hashes without notice.
+        this.accessList = accessList == null ? new AccessList() : new AccessList(accessList);
+        this.invalidateCache();
     }
 
     /**
@@ -751,6 +787,8 @@ public class EthereumDynamicFee extends AbstractTransaction {
         }
 
         this.maxPriorityFeePerGas = maxPriorityFeePerGas;
+        this.maxPriorityFeePerGasBytes = toRlpNumberBytes(this.maxPriorityFeePerGas);
+        this.invalidateCache();
     }
 
     /**
@@ -783,6 +821,8 @@ public class EthereumDynamicFee extends AbstractTransaction {
         }
 
         this.maxFeePerGas = maxFeePerGas;
+        this.maxFeePerGasBytes = toRlpNumberBytes(this.maxFeePerGas);
+        this.invalidateCache();
     }
 
     /**
@@ -23,7 +23,9 @@ import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionFillBatch;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
@@ -33,7 +35,6 @@ import org.web3j.utils.Numeric;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -53,6 +54,11 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
      */
     String gasPrice = "0x";
 
+    /**
+     * The binary form of gasPrice used in RLP encoding.
+     */
+    byte[] gasPriceBytes;
+
     /**
      * FeeDelegatedAccountUpdateWithRatio Builder class.
      */
@@ -175,6 +181,8 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceBytes = toRlpNumberBytes(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -201,30 +209,39 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
      * @return FeeDelegatedAccountUpdateWithRatio
      */
     public static FeeDelegatedAccountUpdateWithRatio decode(byte[] rlpEncoded) {
+        return decode(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedAccountUpdateWithRatio from a part of byte array.<p>
+     * It avoids copying the given range and building a RlpList, but it is not a zero-copy decoding.
+     * Each field is converted to a hex string or a number and passed to the builder, which validates it and converts it again for RLP encoding.
+     * @param rlpEncoded The byte array contains RLP-encoded FeeDelegatedAccountUpdateWithRatio.
+     * @param offset The offset of RLP-encoded FeeDelegatedAccountUpdateWithRatio in the byte array.
+     * @param length The length of RLP-encoded FeeDelegatedAccountUpdateWithRatio.
+     * @return FeeDelegatedAccountUpdateWithRatio
+     */
+    public static FeeDelegatedAccountUpdateWithRatio decode(byte[] rlpEncoded, int offset, int length) {
         // type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio, txSignatures, feePayer, feePayerSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType()) {
+        if(rlpEncoded[offset] != (byte)TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedAccountUpdateWithRatio.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        RlpListReader values = RlpListReader.create(rlpEncoded, offset + 1, length - 1);
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(3)).asString();
-        Account account = Account.createFromRLPEncoding(from, ((RlpString) values.get(4)).asString());
-        BigInteger feeRatio = ((RlpString) values.get(5)).asPositiveBigInteger();
+        BigInteger nonce = values.getPositiveBigInteger(0);
+        BigInteger gasPrice = values.getPositiveBigInteger(1);
+        BigInteger gas = values.getPositiveBigInteger(2);
+        String from = values.getHexString(3);
+        Account account = Account.createFromRLPEncoding(from, values.getHexString(4));
+        BigInteger feeRatio = values.getPositiveBigInteger(5);
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(6))).getValues();
+        RlpListReader senderSignatures = values.getList(6);
         List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
 
-        String feePayer = ((RlpString) values.get(7)).asString();
+        String feePayer = values.getHexString(7);
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(8))).getValues();
+        RlpListReader feePayerSignatures = values.getList(8);
         List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
 
         FeeDelegatedAccountUpdateWithRatio feeDelegatedAccountUpdateWithRatio = new FeeDelegatedAccountUpdateWithRatio.Builder()
@@ -263,14 +280,14 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
         rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(account.getRLPEncodingAccountKey())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(RlpString.create(this.getFeeRatioBytes()));
         rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(RlpString.create(this.getFeePayerBytes()));
         rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -294,12 +311,12 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
 
         List<RlpType> rlpTypeList = new ArrayList<>();
         rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
         rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(account.getRLPEncodingAccountKey())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(RlpString.create(this.getFeeRatioBytes()));
 
         byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
         String encodedStr = Numeric.toHexString(encoded);
@@ -308,11 +325,11 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Makes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String makeSenderTxHash() {
         // SenderTxHashRLP = type + encode([nonce, gasPrice, gas, from, rlpEncodedKey, feeRatio, txSignatures])
         this.validateOptionalValues(false);
 
@@ -323,12 +340,12 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
         rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(account.getRLPEncodingAccountKey())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(RlpString.create(this.getFeeRatioBytes()));
         rlpTypeList.add(new RlpList(signatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -406,19 +423,26 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
             this.appendFeePayerSignatures(txObj.getFeePayerSignatures());
         }
 
-        return this.getRLPEncoding();
+        return this.getRawTransaction();
     }
 
     /**
-     * Fills empty optional transaction field.(gasPrice)
-     * @throws IOException
+     * Adds the request for empty optional transaction field(gasPrice) to the batch sent in fillTransaction.
+     * @param batch The batch of requests to fill empty fields.
      */
     @Override
-    public void fillTransaction() throws IOException {
-        super.fillTransaction();
+    protected void addFillRequests(TransactionFillBatch batch) throws IOException {
+        super.addFillRequests(batch);
         if(this.gasPrice.equals("0x")) {
-            this.setGasPrice(this.suggestGasPrice());
+            this.addGasPriceRequest(batch, this::setGasPrice);
         }
+    }
+
+    /**
+     * Checks that the optional transaction field(gasPrice) is filled.
+     */
+    @Override
+    protected void checkFilledValues() {
         if(this.getGasPrice().equals("0x")) {
             throw new RuntimeException("Cannot fill transaction data. (gasPrice). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
@@ -459,5 +483,6 @@ public class FeeDelegatedAccountUpdateWithRatio extends AbstractFeeDelegatedWith
         }
 
         this.account = account;
+        this.invalidateCache();
     }
 }
@@ -21,7 +21,9 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionFillBatch;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
@@ -31,7 +33,6 @@ import org.web3j.utils.Numeric;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 
@@ -51,6 +52,12 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
      */
     String gasPrice = "0x";
 
+    /**
+     * The binary form of input and gasPrice used in RLP encoding.
+     */
+    byte[] inputBytes;
+    byte[] gasPriceBytes;
+
     /**
      * FeeDelegatedChainDataAnchoring Builder class
      */
@@ -170,6 +177,8 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceBytes = toRlpNumberBytes(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -195,29 +204,38 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
      * @return FeeDelegatedChainDataAnchoring
      */
     public static FeeDelegatedChainDataAnchoring decode(byte[] rlpEncoded) {
+        return decode(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedChainDataAnchoring from a part of byte array.<p>
+     * It avoids copying the given range and building a RlpList, but it is not a zero-copy decoding.
+     * Each field is converted to a hex string or a number and passed to the builder, which validates it and converts it again for RLP encoding.
+     * @param rlpEncoded The byte array contains RLP-encoded FeeDelegatedChainDataAnchoring.
+     * @param offset The offset of RLP-encoded FeeDelegatedChainDataAnchoring in the byte array.
+     * @param length The length of RLP-encoded FeeDelegatedChainDataAnchoring.
+     * @return FeeDelegatedChainDataAnchoring
+     */
+    public static FeeDelegatedChainDataAnchoring decode(byte[] rlpEncoded, int offset, int length) {
         //TxHashRLP = type + encode([nonce, gasPrice, gas, from, input, txSignatures, feePayer, feePayerSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType()) {
+        if(rlpEncoded[offset] != (byte)TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedChainDataAnchoring.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        RlpListReader values = RlpListReader.create(rlpEncoded, offset + 1, length - 1);
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(3)).asString();
-        String input = ((RlpString) values.get(4)).asString();
+        BigInteger nonce = values.getPositiveBigInteger(0);
+        BigInteger gasPrice = values.getPositiveBigInteger(1);
+        BigInteger gas = values.getPositiveBigInteger(2);
+        String from = values.getHexString(3);
+        String input = values.getHexString(4);
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(5))).getValues();
+        RlpListReader senderSignatures = values.getList(5);
         List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
 
-        String feePayer = ((RlpString) values.get(6)).asString();
+        String feePayer = values.getHexString(6);
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(7))).getValues();
+        RlpListReader feePayerSignatures = values.getList(7);
         List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
 
         FeeDelegatedChainDataAnchoring feeDelegatedChainDataAnchoring = new FeeDelegatedChainDataAnchoring.Builder()
@@ -255,13 +273,13 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.inputBytes));
         rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(RlpString.create(this.getFeePayerBytes()));
         rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -284,11 +302,11 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
         byte type = (byte)TransactionType.TxTypeFeeDelegatedChainDataAnchoring.getType();
         List<RlpType> rlpTypeList = new ArrayList<>();
         rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.inputBytes));
 
         byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
         String encodedStr = Numeric.toHexString(encoded);
@@ -297,11 +315,11 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Makes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String makeSenderTxHash() {
         //SenderTxHashRLP = type + encode([nonce, gasPrice, gas, from, input, txSignatures])
         this.validateOptionalValues(false);
 
@@ -312,11 +330,11 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.inputBytes));
         rlpTypeList.add(new RlpList(senderSignatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -388,19 +406,26 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
             this.appendFeePayerSignatures(txObj.getFeePayerSignatures());
         }
 
-        return this.getRLPEncoding();
+        return this.getRawTransaction();
     }
 
     /**
-     * Fills empty optional transaction field.(gasPrice)
-     * @throws IOException
+     * Adds the request for empty optional transaction field(gasPrice) to the batch sent in fillTransaction.
+     * @param batch The batch of requests to fill empty fields.
      */
     @Override
-    public void fillTransaction() throws IOException {
-        super.fillTransaction();
+    protected void addFillRequests(TransactionFillBatch batch) throws IOException {
+        super.addFillRequests(batch);
         if(this.gasPrice.equals("0x")) {
-            this.setGasPrice(this.suggestGasPrice());
+            this.addGasPriceRequest(batch, this::setGasPrice);
         }
+    }
+
+    /**
+     * Checks that the optional transaction field(gasPrice) is filled.
+     */
+    @Override
+    protected void checkFilledValues() {
         if(this.getGasPrice().equals("0x")) {
             throw new RuntimeException("Cannot fill transaction data. (gasPrice). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
@@ -441,5 +466,7 @@ public class FeeDelegatedChainDataAnchoring extends AbstractFeeDelegatedTransact
         }
 
         this.input = Numeric.prependHexPrefix(input);
+        this.inputBytes = toRlpBytes(this.input);
+        this.invalidateCache();
     }
 }
@@ -21,8 +21,10 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionFillBatch;
 import com.klaytn.caver.utils.BytesUtils;
 import com.klaytn.caver.utils.CodeFormat;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
@@ -32,7 +34,6 @@ import org.web3j.utils.Numeric;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -54,7 +55,7 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
     /**
      * Data attached to the transaction, used for transaction execution.
      */
-    String input;
+    final TransactionInput input = new TransactionInput();
 
     /**
      * This must be false since human-readable address is not supported yet.
@@ -73,6 +74,14 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
      */
     String gasPrice = "0x";
 
+    /**
+     * The binary form of to, value, codeFormat and gasPrice used in RLP encoding.
+     */
+    byte[] toBytes;
+    byte[] valueBytes;
+    byte[] codeFormatBytes;
+    byte[] gasPriceBytes;
+
     /**
      * FeeDelegatedSmartContractDeploy Builder class
      */
@@ -80,6 +89,7 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
         String to = "0x";
         String value = "0x00";
         String input;
+        byte[] inputBytes;
         boolean humanReadable = false;
         String codeFormat = Numeric.toHexStringWithPrefix(CodeFormat.EVM);
         String gasPrice = "0x";
@@ -105,6 +115,13 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
 
         public Builder setInput(String input) {
             this.input = input;
+            this.inputBytes = null;
+            return this;
+        }
+
+        public Builder setInputBytes(byte[] input) {
+            this.inputBytes = TransactionInput.copyOf(input);
+            this.input = null;
             return this;
         }
 
@@ -178,7 +195,7 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
 
         setTo(builder.to);
         setValue(builder.value);
-        setInput(builder.input);
+        this.input.set(builder.input, builder.inputBytes);
         setHumanReadable(builder.humanReadable);
         setCodeFormat(builder.codeFormat);
         setGasPrice(builder.gasPrice);
@@ -243,6 +260,8 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceBytes = toRlpNumberBytes(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -268,33 +287,42 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
      * @return FeeDelegatedSmartContractDeploy
      */
     public static FeeDelegatedSmartContractDeploy decode(byte[] rlpEncoded) {
+        return decode(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedSmartContractDeploy from a part of byte array.<p>
+     * It avoids copying the given range and building a RlpList, but it is not a zero-copy decoding.
+     * Each field is converted to a hex string or a number and passed to the builder, which validates it and converts it again for RLP encoding.
+     * @param rlpEncoded The byte array contains RLP-encoded FeeDelegatedSmartContractDeploy.
+     * @param offset The offset of RLP-encoded FeeDelegatedSmartContractDeploy in the byte array.
+     * @param length The length of RLP-encoded FeeDelegatedSmartContractDeploy.
+     * @return FeeDelegatedSmartContractDeploy
+     */
+    public static FeeDelegatedSmartContractDeploy decode(byte[] rlpEncoded, int offset, int length) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, codeFormat, txSignatures, feePayer, feePayerSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeploy.getType()) {
+        if(rlpEncoded[offset] != (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeploy.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedSmartContractDeploy.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        RlpListReader values = RlpListReader.create(rlpEncoded, offset + 1, length - 1);
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String to = ((RlpString) values.get(3)).asString();
-        BigInteger value = ((RlpString) values.get(4)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(5)).asString();
-        String input = ((RlpString) values.get(6)).asString();
-        boolean humanReadable = ((RlpString) values.get(7)).asPositiveBigInteger().compareTo(BigInteger.ZERO) != 0;
-        BigInteger codeFormat = ((RlpString) values.get(8)).asPositiveBigInteger();
+        BigInteger nonce = values.getPositiveBigInteger(0);
+        BigInteger gasPrice = values.getPositiveBigInteger(1);
+        BigInteger gas = values.getPositiveBigInteger(2);
+        String to = values.getHexString(3);
+        BigInteger value = values.getPositiveBigInteger(4);
+        String from = values.getHexString(5);
+        String input = values.getHexString(6);
+        boolean humanReadable = values.getPositiveBigInteger(7).compareTo(BigInteger.ZERO) != 0;
+        BigInteger codeFormat = values.getPositiveBigInteger(8);
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(9))).getValues();
+        RlpListReader senderSignatures = values.getList(9);
         List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
 
-        String feePayer = ((RlpString) values.get(10)).asString();
+        String feePayer = values.getHexString(10);
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(11))).getValues();
+        RlpListReader feePayerSignatures = values.getList(11);
         List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
 
         FeeDelegatedSmartContractDeploy feeDelegatedSmartContractDeploy = new FeeDelegatedSmartContractDeploy.Builder()
@@ -336,17 +364,17 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
         rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+        rlpTypeList.add(RlpString.create(this.codeFormatBytes));
         rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(RlpString.create(this.getFeePayerBytes()));
         rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -369,15 +397,15 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
         byte type = (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeploy.getType();
         List<RlpType> rlpTypeList = new ArrayList<>();
         rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
         rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+        rlpTypeList.add(RlpString.create(this.codeFormatBytes));
 
         byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
         String encodedStr = Numeric.toHexString(encoded);
@@ -386,11 +414,11 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Makes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String makeSenderTxHash() {
         // SenderTxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input,humanReadable, codeFormat, txSignatures])
         this.validateOptionalValues(false);
 
@@ -401,15 +429,15 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
         rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+        rlpTypeList.add(RlpString.create(this.codeFormatBytes));
         rlpTypeList.add(new RlpList(senderSignatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -485,19 +513,26 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
             this.appendFeePayerSignatures(txObj.getFeePayerSignatures());
         }
 
-        return this.getRLPEncoding();
+        return this.getRawTransaction();
     }
 
     /**
-     * Fills empty optional transaction field.(gasPrice)
-     * @throws IOException
+     * Adds the request for empty optional transaction field(gasPrice) to the batch sent in fillTransaction.
+     * @param batch The batch of requests to fill empty fields.
      */
     @Override
-    public void fillTransaction() throws IOException {
-        super.fillTransaction();
+    protected void addFillRequests(TransactionFillBatch batch) throws IOException {
+        super.addFillRequests(batch);
         if(this.gasPrice.equals("0x")) {
-            this.setGasPrice(this.suggestGasPrice());
+            this.addGasPriceRequest(batch, this::setGasPrice);
         }
+    }
+
+    /**
+     * Checks that the optional transaction field(gasPrice) is filled.
+     */
+    @Override
+    protected void checkFilledValues() {
         if(this.getGasPrice().equals("0x")) {
             throw new RuntimeException("Cannot fill transaction data. (gasPrice). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
@@ -537,7 +572,7 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
      * @return String
      */
     public String getInput() {
-        return input;
+        return input.getHex();
     }
 
     /**
@@ -570,6 +605,8 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
         }
 
         this.to = "0x"; // currently "to" field must be nil
+        this.toBytes = toRlpBytes(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -585,6 +622,8 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueBytes = toRlpNumberBytes(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -600,15 +639,18 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
      * @param input Data attached to the transaction, used for transaction execution.
      */
     public void setInput(String input) {
-        if(input == null) {
-            throw new IllegalArgumentException("input is missing.");
-        }
-
-        if(!Utils.isHex(input)) {
-            throw new IllegalArgumentException("Invalid input : " + input);
-        }
+        this.input.setHex(input);
+        this.invalidateCache();
+    }
 
-        this.input = Numeric.prependHexPrefix(input);
+    /**
+     * Setter function for input
+     * @param input The data attached to the transaction in bytes, such as the result of {@link com.klaytn.caver.abi.ABI#encodeFunctionCallToBytes}.
+     *              It is copied, used in RLP encoding as is and converted to a hex string only when it is requested by {@link #getInput()}.
+     */
+    public void setInputBytes(byte[] input) {
+        this.input.setBytes(input);
+        this.invalidateCache();
     }
 
     /**
@@ -635,6 +677,8 @@ public class FeeDelegatedSmartContractDeploy extends AbstractFeeDelegatedTransac
             throw new IllegalArgumentException("CodeFormat attribute only support EVM(0)");
         }
         this.codeFormat = codeFormat;
+        this.codeFormatBytes = toRlpNumberBytes(this.codeFormat);
+        this.invalidateCache();
     }
 
 
@@ -22,8 +22,10 @@ import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionFillBatch;
 import com.klaytn.caver.utils.BytesUtils;
 import com.klaytn.caver.utils.CodeFormat;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
@@ -33,7 +35,6 @@ import org.web3j.utils.Numeric;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -56,7 +57,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
     /**
      * Data attached to the transaction, used for transaction execution.
      */
-    String input;
+    final TransactionInput input = new TransactionInput();
 
     /**
      * This must be false since human-readable address is not supported yet.
@@ -75,6 +76,14 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
      */
     String gasPrice = "0x";
 
+    /**
+     * The binary form of to, value, codeFormat and gasPrice used in RLP encoding.
+     */
+    byte[] toBytes;
+    byte[] valueBytes;
+    byte[] codeFormatBytes;
+    byte[] gasPriceBytes;
+
     /**
      * FeeDelegatedSmartContractDeployWithRatio Builder class
      */
@@ -82,6 +91,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         String to = "0x";
         String value = "0x00";
         String input;
+        byte[] inputBytes;
         boolean humanReadable = false;
         String codeFormat = Numeric.toHexStringWithPrefix(CodeFormat.EVM);
         String gasPrice = "0x";
@@ -107,6 +117,13 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
 
         public Builder setInput(String input) {
             this.input = input;
+            this.inputBytes = null;
+            return this;
+        }
+
+        public Builder setInputBytes(byte[] input) {
+            this.inputBytes = TransactionInput.copyOf(input);
+            this.input = null;
             return this;
         }
 
@@ -180,7 +197,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         super(builder);
         setTo(builder.to);
         setValue(builder.value);
-        setInput(builder.input);
+        this.input.set(builder.input, builder.inputBytes);
         setHumanReadable(builder.humanReadable);
         setCodeFormat(builder.codeFormat);
         setGasPrice(builder.gasPrice);
@@ -247,6 +264,8 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceBytes = toRlpNumberBytes(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -273,34 +292,43 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
      * @return FeeDelegatedSmartContractDeployWithRatio
      */
     public static FeeDelegatedSmartContractDeployWithRatio decode(byte[] rlpEncoded) {
+        return decode(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedSmartContractDeployWithRatio from a part of byte array.<p>
+     * It avoids copying the given range and building a RlpList, but it is not a zero-copy decoding.
+     * Each field is converted to a hex string or a number and passed to the builder, which validates it and converts it again for RLP encoding.
+     * @param rlpEncoded The byte array contains RLP-encoded FeeDelegatedSmartContractDeployWithRatio.
+     * @param offset The offset of RLP-encoded FeeDelegatedSmartContractDeployWithRatio in the byte array.
+     * @param length The length of RLP-encoded FeeDelegatedSmartContractDeployWithRatio.
+     * @return FeeDelegatedSmartContractDeployWithRatio
+     */
+    public static FeeDelegatedSmartContractDeployWithRatio decode(byte[] rlpEncoded, int offset, int length) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat, txSignatures, feePayer, feePayerSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType()) {
+        if(rlpEncoded[offset] != (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        RlpListReader values = RlpListReader.create(rlpEncoded, offset + 1, length - 1);
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String to = ((RlpString) values.get(3)).asString();
-        BigInteger value = ((RlpString) values.get(4)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(5)).asString();
-        String input = ((RlpString) values.get(6)).asString();
-        boolean humanReadable = ((RlpString) values.get(7)).asPositiveBigInteger().compareTo(BigInteger.ZERO) != 0;
-        BigInteger feeRatio = ((RlpString) values.get(8)).asPositiveBigInteger();
-        BigInteger codeFormat = ((RlpString) values.get(9)).asPositiveBigInteger();
+        BigInteger nonce = values.getPositiveBigInteger(0);
+        BigInteger gasPrice = values.getPositiveBigInteger(1);
+        BigInteger gas = values.getPositiveBigInteger(2);
+        String to = values.getHexString(3);
+        BigInteger value = values.getPositiveBigInteger(4);
+        String from = values.getHexString(5);
+        String input = values.getHexString(6);
+        boolean humanReadable = values.getPositiveBigInteger(7).compareTo(BigInteger.ZERO) != 0;
+        BigInteger feeRatio = values.getPositiveBigInteger(8);
+        BigInteger codeFormat = values.getPositiveBigInteger(9);
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(10))).getValues();
+        RlpListReader senderSignatures = values.getList(10);
         List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
 
-        String feePayer = ((RlpString) values.get(11)).asString();
+        String feePayer = values.getHexString(11);
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(12))).getValues();
+        RlpListReader feePayerSignatures = values.getList(12);
         List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
 
         FeeDelegatedSmartContractDeployWithRatio feeDelegatedSmartContractDeployWithRatio = new FeeDelegatedSmartContractDeployWithRatio.Builder()
@@ -343,18 +371,18 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
         rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+        rlpTypeList.add(RlpString.create(this.getFeeRatioBytes()));
+        rlpTypeList.add(RlpString.create(this.codeFormatBytes));
         rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(RlpString.create(this.getFeePayerBytes()));
         rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -377,16 +405,16 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         byte type = (byte)TransactionType.TxTypeFeeDelegatedSmartContractDeployWithRatio.getType();
         List<RlpType> rlpTypeList = new ArrayList<>();
         rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
         rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+        rlpTypeList.add(RlpString.create(this.getFeeRatioBytes()));
+        rlpTypeList.add(RlpString.create(this.codeFormatBytes));
 
         byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
         String encodedStr = Numeric.toHexString(encoded);
@@ -395,11 +423,11 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Makes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String makeSenderTxHash() {
         //SenderTxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, feeRatio, codeFormat, txSignatures])
         //SenderTxHash = keccak256(SenderTxHashRLP)
         this.validateOptionalValues(false);
@@ -411,16 +439,16 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
         rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+        rlpTypeList.add(RlpString.create(this.getFeeRatioBytes()));
+        rlpTypeList.add(RlpString.create(this.codeFormatBytes));
         rlpTypeList.add(new RlpList(senderSignatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -496,19 +524,26 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
             this.appendFeePayerSignatures(txObj.getFeePayerSignatures());
         }
 
-        return this.getRLPEncoding();
+        return this.getRawTransaction();
     }
 
     /**
-     * Fills empty optional transaction field.(gasPrice)
-     * @throws IOException
+     * Adds the request for empty optional transaction field(gasPrice) to the batch sent in fillTransaction.
+     * @param batch The batch of requests to fill empty fields.
      */
     @Override
-    public void fillTransaction() throws IOException {
-        super.fillTransaction();
+    protected void addFillRequests(TransactionFillBatch batch) throws IOException {
+        super.addFillRequests(batch);
         if(this.gasPrice.equals("0x")) {
-            this.setGasPrice(this.suggestGasPrice());
+            this.addGasPriceRequest(batch, this::setGasPrice);
         }
+    }
+
+    /**
+     * Checks that the optional transaction field(gasPrice) is filled.
+     */
+    @Override
+    protected void checkFilledValues() {
         if(this.getGasPrice().equals("0x")) {
             throw new RuntimeException("Cannot fill transaction data. (gasPrice). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
@@ -548,7 +583,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
      * @return String
      */
     public String getInput() {
-        return input;
+        return input.getHex();
     }
 
     /**
@@ -581,6 +616,8 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
         }
 
         this.to = "0x"; // currently "to" field must be nil
+        this.toBytes = toRlpBytes(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -596,6 +633,8 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueBytes = toRlpNumberBytes(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -611,15 +650,18 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
      * @param input Data attached to the transaction, used for transaction execution.
      */
     public void setInput(String input) {
-        if(input == null) {
-            throw new IllegalArgumentException("input is missing.");
-        }
-
-        if(!Utils.isHex(input)) {
-            throw new IllegalArgumentException("Invalid input : " + input);
-        }
+        this.input.setHex(input);
+        this.invalidateCache();
+    }
 
-        this.input = Numeric.prependHexPrefix(input);
+    /**
+     * Setter function for input
+     * @param input The data attached to the transaction in bytes, such as the result of {@link com.klaytn.caver.abi.ABI#encodeFunctionCallToBytes}.
+     *              It is copied, used in RLP encoding as is and converted to a hex string only when it is requested by {@link #getInput()}.
+     */
+    public void setInputBytes(byte[] input) {
+        this.input.setBytes(input);
+        this.invalidateCache();
     }
 
     /**
@@ -646,5 +688,7 @@ public class FeeDelegatedSmartContractDeployWithRatio extends AbstractFeeDelegat
             throw new IllegalArgumentException("CodeFormat attribute only support EVM(0)");
         }
         this.codeFormat = codeFormat;
+        this.codeFormatBytes = toRlpNumberBytes(this.codeFormat);
+        this.invalidateCache();
     }
 }
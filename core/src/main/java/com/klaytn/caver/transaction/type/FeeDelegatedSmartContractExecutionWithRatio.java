@@ -22,7 +22,9 @@ import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedWithRatioTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionFillBatch;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.crypto.Hash;
@@ -32,7 +34,6 @@ import org.web3j.utils.Numeric;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 @JsonIgnoreProperties(value = { "chainId" })
@@ -50,13 +51,20 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
     /**
      * Data attached to the transaction, used for transaction execution.
      */
-    String input;
+    final TransactionInput input = new TransactionInput();
 
     /**
      * A unit price of gas in peb the sender will pay for a transaction fee.
      */
     String gasPrice = "0x";
 
+    /**
+     * The binary form of to, value and gasPrice used in RLP encoding.
+     */
+    byte[] toBytes;
+    byte[] valueBytes;
+    byte[] gasPriceBytes;
+
     /**
      * FeeDelegatedSmartContractExecutionWithRatio Builder class
      */
@@ -64,6 +72,7 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
         String to;
         String value = "0x00";
         String input;
+        byte[] inputBytes;
         String gasPrice = "0x";
 
         public Builder() {
@@ -87,6 +96,13 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
 
         public Builder setInput(String input) {
             this.input = input;
+            this.inputBytes = null;
+            return this;
+        }
+
+        public Builder setInputBytes(byte[] input) {
+            this.inputBytes = TransactionInput.copyOf(input);
+            this.input = null;
             return this;
         }
 
@@ -143,7 +159,7 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
         super(builder);
         setTo(builder.to);
         setValue(builder.value);
-        setInput(builder.input);
+        this.input.set(builder.input, builder.inputBytes);
         setGasPrice(builder.gasPrice);
     }
 
@@ -204,6 +220,8 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceBytes = toRlpNumberBytes(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -230,31 +248,40 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
      * @return FeeDelegatedSmartContractExecutionWithRatio
      */
     public static FeeDelegatedSmartContractExecutionWithRatio decode(byte[] rlpEncoded) {
+        return decode(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Decodes a RLP-encoded FeeDelegatedSmartContractExecutionWithRatio from a part of byte array.<p>
+     * It avoids copying the given range and building a RlpList, but it is not a zero-copy decoding.
+     * Each field is converted to a hex string or a number and passed to the builder, which validates it and converts it again for RLP encoding.
+     * @param rlpEncoded The byte array contains RLP-encoded FeeDelegatedSmartContractExecutionWithRatio.
+     * @param offset The offset of RLP-encoded FeeDelegatedSmartContractExecutionWithRatio in the byte array.
+     * @param length The length of RLP-encoded FeeDelegatedSmartContractExecutionWithRatio.
+     * @return FeeDelegatedSmartContractExecutionWithRatio
+     */
+    public static FeeDelegatedSmartContractExecutionWithRatio decode(byte[] rlpEncoded, int offset, int length) {
         // TxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, feeRatio, txSignatures, feePayer, feePayerSignatures])
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio.getType()) {
+        if(rlpEncoded[offset] != (byte)TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
-
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String to = ((RlpString) values.get(3)).asString();
-        BigInteger value = ((RlpString) values.get(4)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(5)).asString();
-        String input = ((RlpString) values.get(6)).asString();
-        BigInteger feeRatio = ((RlpString) values.get(7)).asPositiveBigInteger();
-        List<RlpType> senderSignatures = ((RlpList) (values.get(8))).getValues();
+        RlpListReader values = RlpListReader.create(rlpEncoded, offset + 1, length - 1);
+
+        BigInteger nonce = values.getPositiveBigInteger(0);
+        BigInteger gasPrice = values.getPositiveBigInteger(1);
+        BigInteger gas = values.getPositiveBigInteger(2);
+        String to = values.getHexString(3);
+        BigInteger value = values.getPositiveBigInteger(4);
+        String from = values.getHexString(5);
+        String input = values.getHexString(6);
+        BigInteger feeRatio = values.getPositiveBigInteger(7);
+        RlpListReader senderSignatures = values.getList(8);
         List<SignatureData> senderSignList = SignatureData.decodeSignatures(senderSignatures);
 
-        String feePayer = ((RlpString) values.get(9)).asString();
+        String feePayer = values.getHexString(9);
 
-        List<RlpType> feePayerSignatures = ((RlpList) (values.get(10))).getValues();
+        RlpListReader feePayerSignatures = values.getList(10);
         List<SignatureData> feePayerSignList = SignatureData.decodeSignatures(feePayerSignatures);
 
         FeeDelegatedSmartContractExecutionWithRatio feeDelegatedSmartContractExecutionWithRatio = new FeeDelegatedSmartContractExecutionWithRatio.Builder()
@@ -295,16 +322,16 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
+        rlpTypeList.add(RlpString.create(this.getFeeRatioBytes()));
         rlpTypeList.add(new RlpList(senderSignatureRLPList));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFeePayer())));
+        rlpTypeList.add(RlpString.create(this.getFeePayerBytes()));
         rlpTypeList.add(new RlpList(feePayerSignatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -327,14 +354,14 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
         byte type = (byte)TransactionType.TxTypeFeeDelegatedSmartContractExecutionWithRatio.getType();
         List<RlpType> rlpTypeList = new ArrayList<>();
         rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
+        rlpTypeList.add(RlpString.create(this.getFeeRatioBytes()));
 
         byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
         String encodedStr = Numeric.toHexString(encoded);
@@ -343,11 +370,11 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
     }
 
     /**
-     * Returns a senderTxHash of transaction
+     * Makes a senderTxHash of transaction
      * @return String
      */
     @Override
-    public String getSenderTxHash() {
+    protected String makeSenderTxHash() {
         //SenderTxHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, feeRatio, txSignatures])
         //SenderTxHash = keccak256(SenderTxHashRLP)
         this.validateOptionalValues(false);
@@ -359,14 +386,14 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getFeeRatio())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
+        rlpTypeList.add(RlpString.create(this.getFeeRatioBytes()));
         rlpTypeList.add(new RlpList(senderSignatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -440,19 +467,26 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
             this.appendFeePayerSignatures(txObj.getFeePayerSignatures());
         }
 
-        return this.getRLPEncoding();
+        return this.getRawTransaction();
     }
 
     /**
-     * Fills empty optional transaction field.(gasPrice)
-     * @throws IOException
+     * Adds the request for empty optional transaction field(gasPrice) to the batch sent in fillTransaction.
+     * @param batch The batch of requests to fill empty fields.
      */
     @Override
-    public void fillTransaction() throws IOException {
-        super.fillTransaction();
+    protected void addFillRequests(TransactionFillBatch batch) throws IOException {
+        super.addFillRequests(batch);
         if(this.gasPrice.equals("0x")) {
-            this.setGasPrice(this.suggestGasPrice());
+            this.addGasPriceRequest(batch, this::setGasPrice);
         }
+    }
+
+    /**
+     * Checks that the optional transaction field(gasPrice) is filled.
+     */
+    @Override
+    protected void checkFilledValues() {
         if(this.getGasPrice().equals("0x")) {
             throw new RuntimeException("Cannot fill transaction data. (gasPrice). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
@@ -491,7 +525,7 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
      * @return String
      */
     public String getInput() {
-        return input;
+        return input.getHex();
     }
 
     /**
@@ -508,6 +542,8 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
         }
 
         this.to = to;
+        this.toBytes = toRlpBytes(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -524,6 +560,8 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
         }
 
         this.value = Numeric.prependHexPrefix(value);
+        this.valueBytes = toRlpNumberBytes(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -539,14 +577,17 @@ public class FeeDelegatedSmartContractExecutionWithRatio extends AbstractFeeDele
      * @param input The data attached to the transaction, used for transaction execution.
      */
     public void setInput(String input) {
-        if(input == null) {
-            throw new IllegalArgumentException("input is missing.");
-        }
-
-        if(!Utils.isHex(input)) {
-            throw new IllegalArgumentException("Invalid input : " + input);
-        }
+        this.input.setHex(input);
+        this.invalidateCache();
+    }
 
-        this.input = Numeric.prependHexPrefix(input);
+    /**
+     * Setter function for input
+     * @param input The data attached to the transaction in bytes, such as the result of {@link com.klaytn.caver.abi.ABI#encodeFunctionCallToBytes}.
+     *              It is copied, used in RLP encoding as is and converted to a hex string only when it is requested by {@link #getInput()}.
+     */
+    public void setInputBytes(byte[] input) {
+        this.input.setBytes(input);
+        this.invalidateCache();
     }
 }
@@ -21,6 +21,8 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionFillBatch;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.rlp.*;
@@ -53,6 +55,14 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
      */
     String gasPrice = "0x";
 
+    /**
+     * The binary form of to, value, input and gasPrice used in RLP encoding.
+     */
+    byte[] toBytes;
+    byte[] valueBytes;
+    byte[] inputBytes;
+    byte[] gasPriceBytes;
+
     /**
      * LegacyTransaction Builder class
      */
@@ -192,6 +202,8 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceBytes = toRlpNumberBytes(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -218,17 +230,29 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
      * @return LegacyTransaction
      */
     public static LegacyTransaction decode(byte[] rlpEncoded) {
+        return decode(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Decodes a RLP-encoded LegacyTransaction from a part of byte array.<p>
+     * It avoids copying the given range and building a RlpList, but it is not a zero-copy decoding.
+     * Each field is converted to a hex string or a number and passed to the builder, which validates it and converts it again for RLP encoding.
+     * @param rlpEncoded The byte array contains RLP-encoded LegacyTransaction.
+     * @param offset The offset of RLP-encoded LegacyTransaction in the byte array.
+     * @param length The length of RLP-encoded LegacyTransaction.
+     * @return LegacyTransaction
+     */
+    public static LegacyTransaction decode(byte[] rlpEncoded, int offset, int length) {
         // TxHashRLP = encode([nonce, gasPrice, gas, to, value, input, v, r, s])
         try {
-            RlpList rlpList = RlpDecoder.decode(rlpEncoded);
-            List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+            RlpListReader values = RlpListReader.create(rlpEncoded, offset, length);
 
-            BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-            BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-            BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-            String to = ((RlpString) values.get(3)).asString();
-            BigInteger value = ((RlpString) values.get(4)).asPositiveBigInteger();
-            String input = ((RlpString) values.get(5)).asString();
+            BigInteger nonce = values.getPositiveBigInteger(0);
+            BigInteger gasPrice = values.getPositiveBigInteger(1);
+            BigInteger gas = values.getPositiveBigInteger(2);
+            String to = values.getHexString(3);
+            BigInteger value = values.getPositiveBigInteger(4);
+            String input = values.getHexString(5);
 
             LegacyTransaction legacyTransaction = new LegacyTransaction.Builder()
                     .setInput(input)
@@ -240,9 +264,9 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
                     .setTo(to)
                     .build();
 
-            byte[] v = ((RlpString) values.get(6)).getBytes();
-            byte[] r = ((RlpString) values.get(7)).getBytes();
-            byte[] s = ((RlpString) values.get(8)).getBytes();
+            byte[] v = values.getBytes(6);
+            byte[] r = values.getBytes(7);
+            byte[] s = values.getBytes(8);
             SignatureData signatureData = new SignatureData(v, r, s);
 
             legacyTransaction.appendSignatures(signatureData);
@@ -293,12 +317,12 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
         this.validateOptionalValues(false);
         //TxHashRLP = encode([nonce, gasPrice, gas, to, value, input, v, r, s])
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.inputBytes));
         SignatureData signatureData = this.getSignatures().get(0);
         rlpTypeList.addAll(signatureData.toRlpList().getValues());
 
@@ -323,13 +347,13 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
         this.validateOptionalValues(true);
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getChainId())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.inputBytes));
+        rlpTypeList.add(RlpString.create(this.getChainIdBytes()));
         rlpTypeList.add(RlpString.create(0));
         rlpTypeList.add(RlpString.create(0));
 
@@ -389,19 +413,26 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
             this.appendSignatures(txObj.getSignatures());
         }
 
-        return this.getRLPEncoding();
+        return this.getRawTransaction();
     }
 
     /**
-     * Fills empty optional transaction field.(gasPrice)
-     * @throws IOException
+     * Adds the request for empty optional transaction field(gasPrice) to the batch sent in fillTransaction.
+     * @param batch The batch of requests to fill empty fields.
      */
     @Override
-    public void fillTransaction() throws IOException {
-        super.fillTransaction();
+    protected void addFillRequests(TransactionFillBatch batch) throws IOException {
+        super.addFillRequests(batch);
         if(this.gasPrice.equals("0x")) {
-            this.setGasPrice(this.suggestGasPrice());
+            this.addGasPriceRequest(batch, this::setGasPrice);
         }
+    }
+
+    /**
+     * Checks that the optional transaction field(gasPrice) is filled.
+     */
+    @Override
+    protected void checkFilledValues() {
         if(this.getGasPrice().equals("0x")) {
             throw new RuntimeException("Cannot fill transaction data. (gasPrice). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
@@ -458,6 +489,8 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
             throw new IllegalArgumentException("Invalid address. : " + to);
         }
         this.to = to;
+        this.toBytes = toRlpBytes(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -473,6 +506,8 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
             throw new IllegalArgumentException("Invalid input : " + input);
         }
         this.input = input;
+        this.inputBytes = toRlpBytes(this.input);
+        this.invalidateCache();
     }
 
     /**
@@ -488,6 +523,8 @@ public class LegacyTransaction extends AbstractTransaction implements ITransacti
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueBytes = toRlpNumberBytes(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -21,8 +21,10 @@ import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.ITransactionWithGasPriceField;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionFillBatch;
 import com.klaytn.caver.utils.BytesUtils;
 import com.klaytn.caver.utils.CodeFormat;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.web3j.rlp.*;
@@ -31,7 +33,6 @@ import org.web3j.utils.Numeric;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -54,7 +55,7 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
     /**
      * Data attached to the transaction, used for transaction execution.
      */
-    String input;
+    final TransactionInput input = new TransactionInput();
 
     /**
      * This must be false since human-readable address is not supported yet.
@@ -73,6 +74,14 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
      */
     String gasPrice = "0x";
 
+    /**
+     * The binary form of to, value, codeFormat and gasPrice used in RLP encoding.
+     */
+    byte[] toBytes;
+    byte[] valueBytes;
+    byte[] codeFormatBytes;
+    byte[] gasPriceBytes;
+
     /**
      * SmartContractDeploy Builder class
      */
@@ -80,6 +89,7 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
         String to = "0x";
         String value = "0x00";
         String input;
+        byte[] inputBytes;
         boolean humanReadable = false;
         String codeFormat = Numeric.toHexStringWithPrefix(CodeFormat.EVM);
         String gasPrice = "0x";
@@ -105,6 +115,13 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
 
         public Builder setInput(String input) {
             this.input = input;
+            this.inputBytes = null;
+            return this;
+        }
+
+        public Builder setInputBytes(byte[] input) {
+            this.inputBytes = TransactionInput.copyOf(input);
+            this.input = null;
             return this;
         }
 
@@ -176,7 +193,7 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
 
         setTo(builder.to);
         setValue(builder.value);
-        setInput(builder.input);
+        this.input.set(builder.input, builder.inputBytes);
         setHumanReadable(builder.humanReadable);
         setCodeFormat(builder.codeFormat);
         setGasPrice(builder.gasPrice);
@@ -237,6 +254,8 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
         }
 
         this.gasPrice = gasPrice;
+        this.gasPriceBytes = toRlpNumberBytes(this.gasPrice);
+        this.invalidateCache();
     }
 
     /**
@@ -262,29 +281,38 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
      * @return SmartContractDeploy
      */
     public static SmartContractDeploy decode(byte[] rlpEncoded) {
+        return decode(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Decodes a RLP-encoded SmartContractDeploy from a part of byte array.<p>
+     * It avoids copying the given range and building a RlpList, but it is not a zero-copy decoding.
+     * Each field is converted to a hex string or a number and passed to the builder, which validates it and converts it again for RLP encoding.
+     * @param rlpEncoded The byte array contains RLP-encoded SmartContractDeploy.
+     * @param offset The offset of RLP-encoded SmartContractDeploy in the byte array.
+     * @param length The length of RLP-encoded SmartContractDeploy.
+     * @return SmartContractDeploy
+     */
+    public static SmartContractDeploy decode(byte[] rlpEncoded, int offset, int length) {
         // TXHashRLP = type + encode([nonce, gasPrice, gas, to, value, from, input, humanReadable, codeFormat, txSignatures])
 
-        if(rlpEncoded[0] != (byte)TransactionType.TxTypeSmartContractDeploy.getType()) {
+        if(rlpEncoded[offset] != (byte)TransactionType.TxTypeSmartContractDeploy.getType()) {
             throw new IllegalArgumentException("Invalid RLP-encoded tag - " + TransactionType.TxTypeSmartContractDeploy.toString());
         }
 
-        //remove Tag
-        byte[] detachedType = Arrays.copyOfRange(rlpEncoded, 1, rlpEncoded.length);
-
-        RlpList rlpList = RlpDecoder.decode(detachedType);
-        List<RlpType> values = ((RlpList) rlpList.getValues().get(0)).getValues();
+        RlpListReader values = RlpListReader.create(rlpEncoded, offset + 1, length - 1);
 
-        BigInteger nonce = ((RlpString) values.get(0)).asPositiveBigInteger();
-        BigInteger gasPrice = ((RlpString) values.get(1)).asPositiveBigInteger();
-        BigInteger gas = ((RlpString) values.get(2)).asPositiveBigInteger();
-        String to = ((RlpString) values.get(3)).asString();
-        BigInteger value = ((RlpString) values.get(4)).asPositiveBigInteger();
-        String from = ((RlpString) values.get(5)).asString();
-        String input = ((RlpString) values.get(6)).asString();
-        boolean humanReadable = ((RlpString) values.get(7)).asPositiveBigInteger().compareTo(BigInteger.ZERO) != 0;
-        BigInteger codeFormat = ((RlpString) values.get(8)).asPositiveBigInteger();
+        BigInteger nonce = values.getPositiveBigInteger(0);
+        BigInteger gasPrice = values.getPositiveBigInteger(1);
+        BigInteger gas = values.getPositiveBigInteger(2);
+        String to = values.getHexString(3);
+        BigInteger value = values.getPositiveBigInteger(4);
+        String from = values.getHexString(5);
+        String input = values.getHexString(6);
+        boolean humanReadable = values.getPositiveBigInteger(7).compareTo(BigInteger.ZERO) != 0;
+        BigInteger codeFormat = values.getPositiveBigInteger(8);
 
-        List<RlpType> senderSignatures = ((RlpList) (values.get(9))).getValues();
+        RlpListReader senderSignatures = values.getList(9);
         List<SignatureData> signatureDataList = SignatureData.decodeSignatures(senderSignatures);
 
         SmartContractDeploy smartContractDeploy = new SmartContractDeploy.Builder()
@@ -319,15 +347,15 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
         }
 
         List<RlpType> rlpTypeList = new ArrayList<>();
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
         rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+        rlpTypeList.add(RlpString.create(this.codeFormatBytes));
         rlpTypeList.add(new RlpList(signatureRLPList));
 
         byte[] encodedTransaction = RlpEncoder.encode(new RlpList(rlpTypeList));
@@ -350,15 +378,15 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
         byte type = (byte)TransactionType.TxTypeSmartContractDeploy.getType();
         List<RlpType> rlpTypeList = new ArrayList<>();
         rlpTypeList.add(RlpString.create(type));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getNonce())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGasPrice())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getGas())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getTo())));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getValue())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getFrom())));
-        rlpTypeList.add(RlpString.create(Numeric.hexStringToByteArray(this.getInput())));
+        rlpTypeList.add(RlpString.create(this.getNonceBytes()));
+        rlpTypeList.add(RlpString.create(this.gasPriceBytes));
+        rlpTypeList.add(RlpString.create(this.getGasBytes()));
+        rlpTypeList.add(RlpString.create(this.toBytes));
+        rlpTypeList.add(RlpString.create(this.valueBytes));
+        rlpTypeList.add(RlpString.create(this.getFromBytes()));
+        rlpTypeList.add(RlpString.create(this.input.getBytes()));
         rlpTypeList.add(RlpString.create(this.getHumanReadable()? 1 : 0));
-        rlpTypeList.add(RlpString.create(Numeric.toBigInt(this.getCodeFormat())));
+        rlpTypeList.add(RlpString.create(this.codeFormatBytes));
 
         byte[] encoded = RlpEncoder.encode(new RlpList(rlpTypeList));
         String encodedStr = Numeric.toHexString(encoded);
@@ -418,19 +446,26 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
             this.appendSignatures(txObj.getSignatures());
         }
 
-        return this.getRLPEncoding();
+        return this.getRawTransaction();
     }
 
     /**
-     * Fills empty optional transaction field.(gasPrice)
-     * @throws IOException
+     * Adds the request for empty optional transaction field(gasPrice) to the batch sent in fillTransaction.
+     * @param batch The batch of requests to fill empty fields.
      */
     @Override
-    public void fillTransaction() throws IOException {
-        super.fillTransaction();
+    protected void addFillRequests(TransactionFillBatch batch) throws IOException {
+        super.addFillRequests(batch);
         if(this.gasPrice.equals("0x")) {
-            this.setGasPrice(this.suggestGasPrice());
+            this.addGasPriceRequest(batch, this::setGasPrice);
         }
+    }
+
+    /**
+     * Checks that the optional transaction field(gasPrice) is filled.
+     */
+    @Override
+    protected void checkFilledValues() {
         if(this.getGasPrice().equals("0x")) {
             throw new RuntimeException("Cannot fill transaction data. (gasPrice). `klaytnCall` must be set in Transaction instance to automatically fill the nonce, chainId or gasPrice. Please call the `setKlaytnCall` to set `klaytnCall` in the Transaction instance.");
         }
@@ -470,7 +505,7 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
      * @return String
      */
     public String getInput() {
-        return input;
+        return input.getHex();
     }
 
     /**
@@ -503,6 +538,8 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
         }
 
         this.to = "0x"; // currently "to" field must be nil
+        this.toBytes = toRlpBytes(this.to);
+        this.invalidateCache();
     }
 
     /**
@@ -518,6 +555,8 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
             throw new IllegalArgumentException("Invalid value : " + value);
         }
         this.value = value;
+        this.valueBytes = toRlpNumberBytes(this.value);
+        this.invalidateCache();
     }
 
     /**
@@ -533,15 +572,18 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
      * @param input Data attached to the transaction, used for transaction execution.
      */
     public void setInput(String input) {
-        if(input == null) {
-            throw new IllegalArgumentException("input is missing.");
-        }
-
-        if(!Utils.isHex(input)) {
-            throw new IllegalArgumentException("Invalid input : " + input);
-        }
+        this.input.setHex(input);
+        this.invalidateCache();
+    }
 
-        this.input = Numeric.prependHexPrefix(input);
+    /**
+     * Setter function for input
+     * @param input The data attached to the transaction in bytes, such as the result of {@link com.klaytn.caver.abi.ABI#encodeFunctionCallToBytes}.
+     *              It is copied, used in RLP encoding as is and converted to a hex string only when it is requested by {@link #getInput()}.
+     */
+    public void setInputBytes(byte[] input) {
+        this.input.setBytes(input);
+        this.invalidateCache();
     }
 
     /**
@@ -568,5 +610,7 @@ public class SmartContractDeploy extends AbstractTransaction implements ITransac
             throw new IllegalArgumentException("CodeFormat attribute only support EVM(0)");
         }
         this.codeFormat = codeFormat;
+        this.codeFormatBytes = toRlpNumberBytes(this.codeFormat);
+        this.invalidateCache();
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.klaytn.caver.transaction.type;
+
+import com.klaytn.caver.utils.Utils;
+import org.web3j.utils.Numeric;
+
+import java.util.Arrays;
+
+/**
+ * Holds the input of the smart contract deploy and execution transactions.
+ * The input is kept in bytes for RLP encoding, and when it was set in bytes, the hex string is built only when it is requested.
+ */
+final class TransactionInput {
+    private String hex;
+    private byte[] bytes;
+
+    /**
+     * Returns a copy of the given input so that the caller can't change it after it is set.
+     * @param input The data attached to the transaction in bytes.
+     * @return byte[]
+     */
+    static byte[] copyOf(byte[] input) {
+        return input == null ? null : Arrays.copyOf(input, input.length);
+    }
+
+    /**
+     * Sets the input from a builder.
+     * The bytes were already copied by the builder, so they are used as is. Otherwise, the hex string is used.
+     * @param hex The data attached to the transaction in hex string.
+     * @param bytes The data attached to the transaction in bytes.
+     */
+    void set(String hex, byte[] bytes) {
+        if(bytes != null) {
+            this.hex = null;
+            this.bytes = bytes;
+        } else {
+            setHex(hex);
+        }
+    }
+
+    void setHex(String input) {
+        if(input == null) {
+            throw new IllegalArgumentException("input is missing.");
+        }
+
+        if(!Utils.isHex(input)) {
+            throw new IllegalArgumentException("Invalid input : " + input);
+        }
+
+        this.hex = Numeric.prependHexPrefix(input);
+        this.bytes = Numeric.hexStringToByteArray(this.hex);
+    }
+
+    void setBytes(byte[] input) {
+        if(input == null) {
+            throw new IllegalArgumentException("input is missing.");
+        }
+
+        this.hex = null;
+        this.bytes = copyOf(input);
+    }
+
+    String getHex() {
+        if(hex == null && bytes != null) {
+            hex = Numeric.toHexString(bytes);
+        }
+        return hex;
+    }
+
+    /**
+     * Returns the input in bytes used in RLP encoding. The returned array must not be changed.
+     * @return byte[]
+     */
+    byte[] getBytes() {
+        return bytes;
+    }
+}
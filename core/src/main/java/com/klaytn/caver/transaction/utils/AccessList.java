@@ -16,6 +16,7 @@
 
 package com.klaytn.caver.transaction.utils;
 
+import com.klaytn.caver.utils.RlpListReader;
 import org.web3j.rlp.*;
 import org.web3j.utils.Numeric;
 
@@ -65,6 +66,20 @@ public class AccessList extends ArrayList<AccessTuple> {
         return accessList;
     }
 
+    /**
+     * Returns a decoded access list.
+     *
+     * @param accessListReader RlpListReader of the access list to decode.
+     * @return AccessList
+     */
+    public static AccessList decode(RlpListReader accessListReader) {
+        AccessList accessList = new AccessList();
+        for (int i = 0; i < accessListReader.size(); i++) {
+            accessList.add(AccessTuple.decode(accessListReader.getList(i)));
+        }
+        return accessList;
+    }
+
     /**
      * Returns a decoded access list.
      *
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import org.web3j.rlp.RlpEncoder;
 import org.web3j.rlp.RlpList;
@@ -103,6 +104,26 @@ public class AccessTuple {
         this.storageKeys = storageKeys;
     }
 
+    /**
+     * Returns a decoded access tuple.
+     *
+     * @param accessTupleReader RlpListReader of the access tuple to decode.
+     * @return AccessTuple
+     */
+    public static AccessTuple decode(RlpListReader accessTupleReader) {
+        try {
+            String address = accessTupleReader.getHexString(0);
+            List<String> storageKeys = new ArrayList<>();
+            RlpListReader storageKeysReader = accessTupleReader.getList(1);
+            for (int i = 0; i < storageKeysReader.size(); i++) {
+                storageKeys.add(storageKeysReader.getHexString(i));
+            }
+            return new AccessTuple(address, storageKeys);
+        } catch (Exception e) {
+            throw new RuntimeException("There is an error while decoding process.");
+        }
+    }
+
     /**
      * Decodes given RlpList to AccessTuple.
      * @param rlpEncodedAccessTuple RlpList representing rlp encoded access tuple.
@@ -181,6 +202,28 @@ public class AccessTuple {
         return true;
     }
 
+    /**
+     * Returns a hash code value for the object. It ignores the case of the address and storage keys like {@link #equals(Object)}.
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode() {
+        int result = hashIgnoreCase(address);
+        for (String storageKey : storageKeys) {
+            result = 31 * result + hashIgnoreCase(storageKey);
+        }
+        return result;
+    }
+
+    private static int hashIgnoreCase(String value) {
+        int hash = 0;
+        for (int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(value.charAt(i));
+        }
+        return hash;
+    }
+
     public static class AccessTupleDeserializer extends JsonDeserializer<AccessTuple> {
         @Override
         public AccessTuple deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
@@ -19,6 +19,7 @@ package com.klaytn.caver.transaction.wrapper;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionDecodeResult;
 import com.klaytn.caver.transaction.TransactionHelper;
 import com.klaytn.caver.transaction.type.wrapper.*;
 import com.klaytn.caver.transaction.utils.wrapper.TransactionUtilsWrapper;
@@ -210,6 +211,26 @@ public class TransactionWrapper {
         return TransactionDecoder.decode(rlpEncoded);
     }
 
+    /**
+     * Decodes RLP-encoded transactions in parallel and returns the results in the same order as the input.<p>
+     * A failure of one item is kept in its result instead of aborting the others.
+     * @param rlpEncodedList A list of RLP-encoded transaction
+     * @return List&lt;TransactionDecodeResult&gt;
+     */
+    public List<TransactionDecodeResult> decodeAll(List<String> rlpEncodedList) {
+        return TransactionDecoder.decodeAll(rlpEncodedList);
+    }
+
+    /**
+     * Decodes RLP-encoded transactions given as byte arrays in parallel and returns the results in the same order as the input.<p>
+     * A failure of one item is kept in its result instead of aborting the others.
+     * @param rlpEncodedList A list of RLP-encoded transaction
+     * @return List&lt;TransactionDecodeResult&gt;
+     */
+    public List<TransactionDecodeResult> decodeAllBytes(List<byte[]> rlpEncodedList) {
+        return TransactionDecoder.decodeAllBytes(rlpEncodedList);
+    }
+
     /**
      * Query transaction from Klaytn and converts to a caver transaction instance.
      * <pre>Example :
@@ -239,6 +260,21 @@ public class TransactionWrapper {
         return TransactionHelper.recoverPublicKeys(rawTx);
     }
 
+    /**
+     * Decodes raw transaction strings and recovers the public keys from "signatures" of each in parallel.<p>
+     * The results are in the same order as the input. If one of them is failed, the exception is kept in its result instead of aborting the others.
+     * <pre>Example :
+     * {@code
+     * List<TransactionDecodeResult> results = caver.transaction.recoverPublicKeys(rawTxList);
+     * }
+     * </pre>
+     * @param rawTxList The list of RLP-encoded transaction string to recover public keys from "signatures".
+     * @return List&lt;TransactionDecodeResult&gt;
+     */
+    public List<TransactionDecodeResult> recoverPublicKeys(List<String> rawTxList) {
+        return TransactionHelper.recoverPublicKeys(rawTxList);
+    }
+
     /**
      * Recovers the public keys from "feePayerSignatures" filed in raw transaction string.<p>
      * If you want to derive an address from public key, please use {@link com.klaytn.caver.utils.Utils#publicKeyToAddress(String)}
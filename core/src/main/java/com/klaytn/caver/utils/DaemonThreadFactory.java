@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.utils;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A thread factory making named daemon threads.<p>
+ * It is used for the schedulers owned by caver-java, so an unclosed instance doesn't keep the JVM alive.
+ * <pre>Example :
+ * {@code
+ * ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("caver-scheduler"));
+ * }
+ * </pre>
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+    private final String namePrefix;
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    /**
+     * Creates a DaemonThreadFactory instance.
+     * @param namePrefix The prefix of thread names. A sequence number is appended to it.
+     */
+    public DaemonThreadFactory(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
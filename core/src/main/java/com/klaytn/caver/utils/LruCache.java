@@ -0,0 +1,252 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Representing a bounded LRU cache whose entries can expire after a TTL.<p>
+ * The cache is split into segments each guarded by its own lock, so it can be shared by many threads.<p>
+ * Every invalidation increases the generation of the cache. A value loaded before an invalidation can be put with
+ * {@link #put(Object, Object, long)} and the generation read before loading, so it doesn't overwrite the invalidation.
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ */
+public class LruCache<K, V> {
+    static final int MAX_SEGMENTS = 16;
+
+    private final int capacity;
+    private final long ttlMillis;
+    private final Segment<K, V>[] segments;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates a LruCache instance whose entries don't expire.
+     * @param capacity The maximum number of entries. If it is 0, nothing is cached.
+     */
+    public LruCache(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * Creates a LruCache instance.
+     * @param capacity The maximum number of entries. If it is 0, nothing is cached.
+     * @param ttlMillis The time in milliseconds to keep an entry. If it is 0, the entries don't expire.
+     */
+    public LruCache(int capacity, long ttlMillis) {
+        if(capacity < 0) {
+            throw new IllegalArgumentException("The capacity of cache must not be negative.");
+        }
+        if(ttlMillis < 0) {
+            throw new IllegalArgumentException("The ttl of cache must not be negative.");
+        }
+        this.capacity = capacity;
+        this.ttlMillis = ttlMillis;
+
+        int segmentCount = Math.min(MAX_SEGMENTS, capacity);
+        this.segments = newSegments(segmentCount);
+        for(int i = 0; i < segmentCount; i++) {
+            // Distribute the capacity so that the sum of segments' capacity is the same with the capacity.
+            int segmentCapacity = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    /**
+     * Returns true if the cache keeps entries.
+     * @return boolean
+     */
+    public boolean isEnabled() {
+        return segments.length > 0;
+    }
+
+    /**
+     * Returns the cached value, or null if it is not cached or expired.
+     * @param key The key of the entry.
+     * @return V
+     */
+    public V get(K key) {
+        if(!isEnabled()) {
+            return null;
+        }
+
+        Segment<K, V> segment = segmentFor(key);
+        synchronized(segment) {
+            Entry<V> entry = segment.get(key);
+            if(entry == null) {
+                return null;
+            }
+            if(entry.expiresAt <= now()) {
+                segment.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    /**
+     * Puts the value.
+     * @param key The key of the entry.
+     * @param value The value of the entry.
+     */
+    public void put(K key, V value) {
+        if(!isEnabled()) {
+            return;
+        }
+
+        Segment<K, V> segment = segmentFor(key);
+        synchronized(segment) {
+            segment.put(key, new Entry<>(value, expiresAt()));
+        }
+    }
+
+    /**
+     * Puts the value only if nothing is invalidated since the generation was read.
+     * @param key The key of the entry.
+     * @param value The value of the entry.
+     * @param generation The generation read by {@link #getGeneration()} before loading the value.
+     * @return boolean
+     */
+    public boolean put(K key, V value, long generation) {
+        if(!isEnabled()) {
+            return false;
+        }
+
+        Segment<K, V> segment = segmentFor(key);
+        synchronized(segment) {
+            // An invalidation of the key increases the generation under the same lock, so it cannot be missed here.
+            if(this.generation.get() != generation) {
+                return false;
+            }
+            segment.put(key, new Entry<>(value, expiresAt()));
+            return true;
+        }
+    }
+
+    /**
+     * Returns the generation of the cache, which is increased by every invalidation.
+     * @return long
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Removes the entry of the key.
+     * @param key The key of the entry.
+     */
+    public void invalidate(K key) {
+        if(!isEnabled()) {
+            return;
+        }
+
+        Segment<K, V> segment = segmentFor(key);
+        synchronized(segment) {
+            generation.incrementAndGet();
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        for(Segment<K, V> segment : segments) {
+            synchronized(segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached entries including the expired ones not removed yet.
+     * @return int
+     */
+    public int size() {
+        int size = 0;
+        for(Segment<K, V> segment : segments) {
+            synchronized(segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Getter function for capacity
+     * @return int
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Getter function for ttlMillis
+     * @return long
+     */
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    private long now() {
+        return ttlMillis == 0 ? 0 : System.currentTimeMillis();
+    }
+
+    private long expiresAt() {
+        return ttlMillis == 0 ? Long.MAX_VALUE : System.currentTimeMillis() + ttlMillis;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[(h & 0x7fffffff) % segments.length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Segment<K, V>[] newSegments(int count) {
+        return (Segment<K, V>[])new Segment<?, ?>[count];
+    }
+
+    private static class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private static class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.utils;
+
+import java.util.Arrays;
+
+/**
+ * Representing a bounded LRU cache of public keys recovered from signatures.<p>
+ * An entry is keyed by (signed hash, recovery id, r, s), so the same signature over the same hash is recovered only once.
+ * It is backed by a segmented {@link LruCache}, so it can be shared by many threads.
+ * @see Utils#recoverPublicKey(String, com.klaytn.caver.wallet.keyring.SignatureData, boolean)
+ */
+public class RecoveredPublicKeyCache {
+    /**
+     * The default number of entries kept in the cache.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final LruCache<Key, String> cache;
+
+    /**
+     * Creates a RecoveredPublicKeyCache instance with the default capacity.
+     */
+    public RecoveredPublicKeyCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a RecoveredPublicKeyCache instance.
+     * @param capacity The maximum number of entries. If it is 0, nothing is cached.
+     */
+    public RecoveredPublicKeyCache(int capacity) {
+        this.cache = new LruCache<>(capacity);
+    }
+
+    /**
+     * Returns the public key recovered from the signature, or null if it is not cached.
+     * @param hash The signed hash.
+     * @param recId The recovery id of the signature.
+     * @param r The r value of the signature.
+     * @param s The s value of the signature.
+     * @return String
+     */
+    public String get(byte[] hash, int recId, byte[] r, byte[] s) {
+        if(!cache.isEnabled()) {
+            return null;
+        }
+        return cache.get(new Key(hash, recId, r, s));
+    }
+
+    /**
+     * Puts the public key recovered from the signature.
+     * @param hash The signed hash.
+     * @param recId The recovery id of the signature.
+     * @param r The r value of the signature.
+     * @param s The s value of the signature.
+     * @param publicKey The recovered public key.
+     */
+    public void put(byte[] hash, int recId, byte[] r, byte[] s, String publicKey) {
+        if(!cache.isEnabled()) {
+            return;
+        }
+        cache.put(new Key(hash, recId, r, s), publicKey);
+    }
+
+    /**
+     * Returns the number of cached entries.
+     * @return int
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Getter function for capacity
+     * @return int
+     */
+    public int getCapacity() {
+        return cache.getCapacity();
+    }
+
+    private static final class Key {
+        private final byte[] bytes;
+        private final int hashCode;
+
+        Key(byte[] hash, int recId, byte[] r, byte[] s) {
+            // The r and s have fixed length, so the concatenation is unambiguous even if the hash length varies.
+            bytes = new byte[hash.length + 1 + r.length + s.length];
+            System.arraycopy(hash, 0, bytes, 0, hash.length);
+            bytes[hash.length] = (byte)recId;
+            System.arraycopy(r, 0, bytes, hash.length + 1, r.length);
+            System.arraycopy(s, 0, bytes, hash.length + 1 + r.length, s.length);
+            hashCode = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof Key)) {
+                return false;
+            }
+            return Arrays.equals(bytes, ((Key)o).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.utils;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Reads the elements of a RLP-encoded list in place.<p>
+ * The list is scanned once and only the position of each element is kept, so decoding doesn't build RlpType objects.
+ * An element is copied or converted only when it is read.
+ * <pre>Example :
+ * {@code
+ * RlpListReader values = RlpListReader.create(rlpEncoded, 1, rlpEncoded.length - 1);
+ * BigInteger nonce = values.getPositiveBigInteger(0);
+ * String from = values.getHexString(5);
+ * }
+ * </pre>
+ */
+public class RlpListReader {
+    private static final int OFFSET_SHORT_STRING = 0x80;
+    private static final int OFFSET_LONG_STRING = 0xb7;
+    private static final int OFFSET_SHORT_LIST = 0xc0;
+    private static final int OFFSET_LONG_LIST = 0xf7;
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private final byte[] data;
+
+    private int size = 0;
+    private int[] offsets = new int[16];
+    private int[] lengths = new int[16];
+    private boolean[] isList = new boolean[16];
+
+    // The result of the last readHeader() call.
+    private int itemOffset;
+    private int itemLength;
+    private boolean itemIsList;
+
+    private RlpListReader(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Creates a RlpListReader for the RLP-encoded list at the start of the given byte array.
+     * @param rlpEncoded The RLP-encoded list.
+     * @return RlpListReader
+     */
+    public static RlpListReader create(byte[] rlpEncoded) {
+        return create(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Creates a RlpListReader for the RLP-encoded list that starts at offset of the given byte array.<p>
+     * Like RlpDecoder, the bytes after the list are ignored.
+     * @param rlpEncoded The byte array contains RLP-encoded list.
+     * @param offset The offset of RLP-encoded list.
+     * @param length The number of bytes that can be read from offset.
+     * @return RlpListReader
+     */
+    public static RlpListReader create(byte[] rlpEncoded, int offset, int length) {
+        if(offset < 0 || length < 0 || offset + length > rlpEncoded.length) {
+            throw new IllegalArgumentException("Invalid RLP-encoded data: offset or length is out of range.");
+        }
+
+        RlpListReader reader = new RlpListReader(rlpEncoded);
+        reader.readHeader(offset, offset + length);
+        if(!reader.itemIsList) {
+            throw new IllegalArgumentException("Invalid RLP-encoded data: not a list.");
+        }
+
+        reader.scan(reader.itemOffset, reader.itemLength);
+        return reader;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the element at index is a list.
+     * @param index The index of element.
+     * @return boolean
+     */
+    public boolean isList(int index) {
+        checkIndex(index);
+        return isList[index];
+    }
+
+    /**
+     * Returns the bytes of the string element at index.
+     * @param index The index of element.
+     * @return byte[]
+     */
+    public byte[] getBytes(int index) {
+        checkString(index);
+        return Arrays.copyOfRange(data, offsets[index], offsets[index] + lengths[index]);
+    }
+
+    /**
+     * Returns the string element at index as a positive BigInteger.
+     * @param index The index of element.
+     * @return BigInteger
+     */
+    public BigInteger getPositiveBigInteger(int index) {
+        checkString(index);
+        if(lengths[index] == 0) {
+            return BigInteger.ZERO;
+        }
+        return new BigInteger(1, getBytes(index));
+    }
+
+    /**
+     * Returns the string element at index as a hex string with "0x" prefix.
+     * @param index The index of element.
+     * @return String
+     */
+    public String getHexString(int index) {
+        checkString(index);
+
+        // Numeric.toHexString(byte[], int, int, boolean) ignores the offset when it checks the bound, so it is converted here.
+        int offset = offsets[index];
+        int length = lengths[index];
+        char[] hex = new char[2 + (length << 1)];
+        hex[0] = '0';
+        hex[1] = 'x';
+        for(int i = 0; i < length; i++) {
+            int v = data[offset + i] & 0xff;
+            hex[2 + (i << 1)] = HEX_CHARS[v >>> 4];
+            hex[3 + (i << 1)] = HEX_CHARS[v & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Returns a RlpListReader for the list element at index.
+     * @param index The index of element.
+     * @return RlpListReader
+     */
+    public RlpListReader getList(int index) {
+        checkIndex(index);
+        if(!isList[index]) {
+            throw new IllegalArgumentException("Invalid RLP-encoded data: the element at " + index + " is not a list.");
+        }
+
+        RlpListReader reader = new RlpListReader(data);
+        reader.scan(offsets[index], lengths[index]);
+        return reader;
+    }
+
+    private void scan(int offset, int length) {
+        int end = offset + length;
+        int position = offset;
+
+        while(position < end) {
+            readHeader(position, end);
+            add(itemOffset, itemLength, itemIsList);
+            position = itemOffset + itemLength;
+        }
+    }
+
+    private void readHeader(int position, int end) {
+        if(position >= end) {
+            throw new IllegalArgumentException("Invalid RLP-encoded data: unexpected end of data.");
+        }
+
+        int prefix = data[position] & 0xff;
+
+        if(prefix < OFFSET_SHORT_STRING) {
+            setItem(position, 1, false, end);
+        } else if(prefix <= OFFSET_LONG_STRING) {
+            setItem(position + 1, prefix - OFFSET_SHORT_STRING, false, end);
+        } else if(prefix < OFFSET_SHORT_LIST) {
+            int lengthOfLength = prefix - OFFSET_LONG_STRING;
+            setItem(position + 1 + lengthOfLength, readLength(position + 1, lengthOfLength, end), false, end);
+        } else if(prefix <= OFFSET_LONG_LIST) {
+            setItem(position + 1, prefix - OFFSET_SHORT_LIST, true, end);
+        } else {
+            int lengthOfLength = prefix - OFFSET_LONG_LIST;
+            setItem(position + 1 + lengthOfLength, readLength(position + 1, lengthOfLength, end), true, end);
+        }
+    }
+
+    private int readLength(int position, int lengthOfLength, int end) {
+        if(lengthOfLength > 4 || position + lengthOfLength > end) {
+            throw new IllegalArgumentException("Invalid RLP-encoded data: wrong length.");
+        }
+
+        long length = 0;
+        for(int i = 0; i < lengthOfLength; i++) {
+            length = (length << 8) | (data[position + i] & 0xff);
+        }
+
+        if(length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid RLP-encoded data: wrong length.");
+        }
+        return (int)length;
+    }
+
+    private void setItem(int offset, int length, boolean list, int end) {
+        if(offset + length > end || offset + length < offset) {
+            throw new IllegalArgumentException("Invalid RLP-encoded data: unexpected end of data.");
+        }
+
+        this.itemOffset = offset;
+        this.itemLength = length;
+        this.itemIsList = list;
+    }
+
+    private void add(int offset, int length, boolean list) {
+        if(size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+            isList = Arrays.copyOf(isList, size * 2);
+        }
+
+        offsets[size] = offset;
+        lengths[size] = length;
+        isList[size] = list;
+        size++;
+    }
+
+    private void checkIndex(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkString(int index) {
+        checkIndex(index);
+        if(isList[index]) {
+            throw new IllegalArgumentException("Invalid RLP-encoded data: the element at " + index + " is not a string.");
+        }
+    }
+}
@@ -18,9 +18,9 @@ package com.klaytn.caver.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.wallet.keyring.PrivateKey;
 import com.klaytn.caver.wallet.keyring.SignatureData;
 import org.bouncycastle.math.ec.ECPoint;
-import org.web3j.crypto.ECDSASignature;
 import org.web3j.crypto.Hash;
 import org.web3j.crypto.Keys;
 import org.web3j.crypto.Sign;
@@ -41,23 +41,39 @@ public class Utils {
 
     public static final String DEFAULT_ZERO_ADDRESS = "0x0000000000000000000000000000000000000000";
 
+    private static volatile RecoveredPublicKeyCache recoveredPublicKeyCache = new RecoveredPublicKeyCache();
+
     /**
      * Check if string has address format.
      * @param address An address string.
      * @return boolean
      */
     public static boolean isAddress(String address) {
-        Pattern baseAddrPattern = Pattern.compile("^(0x)?[0-9a-f]{40}$", Pattern.CASE_INSENSITIVE);
-        Pattern lowerCase = Pattern.compile("^(0x|0X)?[0-9a-f]{40}$");
-        Pattern upperCase = Pattern.compile("^(0x|0X)?[0-9A-F]{40}$");
-
         //check if it has the basic requirements of an address.
-        if(!baseAddrPattern.matcher(address).matches()) {
+        int start;
+        if(address.length() == LENGTH_ADDRESS_STRING) {
+            start = 0;
+        } else if(address.length() == LENGTH_ADDRESS_STRING + 2 && address.charAt(0) == '0' && (address.charAt(1) == 'x' || address.charAt(1) == 'X')) {
+            start = 2;
+        } else {
             return false;
         }
 
+        boolean hasLowerCase = false;
+        boolean hasUpperCase = false;
+        for(int i = start; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if(c >= 'a' && c <= 'f') {
+                hasLowerCase = true;
+            } else if(c >= 'A' && c <= 'F') {
+                hasUpperCase = true;
+            } else if(c < '0' || c > '9') {
+                return false;
+            }
+        }
+
         //check if it's ALL lowercase or ALL upppercase
-        if(lowerCase.matcher(address).matches() || upperCase.matcher(address).matches()) {
+        if(!hasLowerCase || !hasUpperCase) {
             return true;
         }
 
@@ -438,16 +454,47 @@ public class Utils {
 
        int recId = signatureData.getRecoverId();
 
-        ECDSASignature sig = new ECDSASignature(
-                new BigInteger(1, r),
-                new BigInteger(1, s));
+        byte[] hash = Numeric.hexStringToByteArray(messageHash);
+        RecoveredPublicKeyCache cache = recoveredPublicKeyCache;
+        String cached = cache.get(hash, recId, r, s);
+        if(cached != null) {
+            return cached;
+        }
 
-        BigInteger key = Sign.recoverFromSignature(recId, sig, Numeric.hexStringToByteArray(messageHash));
+        BigInteger key = PrivateKey.getSignatureEngine().recoverPublicKey(hash, recId, new BigInteger(1, r), new BigInteger(1, s));
         if (key == null) {
             throw new SignatureException("Could not recover public key from signature");
         }
 
-        return Numeric.toHexStringWithPrefixZeroPadded(key, LENGTH_PUBLIC_KEY_STRING_DECOMPRESSED);
+        String publicKey = Numeric.toHexStringWithPrefixZeroPadded(key, LENGTH_PUBLIC_KEY_STRING_DECOMPRESSED);
+        cache.put(hash, recId, r, s, publicKey);
+
+        return publicKey;
+    }
+
+    /**
+     * Returns the cache of public keys recovered by {@link #recoverPublicKey(String, SignatureData, boolean)}.
+     * @return RecoveredPublicKeyCache
+     */
+    public static RecoveredPublicKeyCache getRecoveredPublicKeyCache() {
+        return recoveredPublicKeyCache;
+    }
+
+    /**
+     * Changes the cache of public keys recovered by {@link #recoverPublicKey(String, SignatureData, boolean)}.<p>
+     * To disable caching, set a cache with 0 capacity.
+     * <pre>Example :
+     * {@code
+     * Utils.setRecoveredPublicKeyCache(new RecoveredPublicKeyCache(65536));
+     * }
+     * </pre>
+     * @param cache The cache of recovered public keys.
+     */
+    public static void setRecoveredPublicKeyCache(RecoveredPublicKeyCache cache) {
+        if(cache == null) {
+            throw new IllegalArgumentException("The recovered public key cache must not be null.");
+        }
+        recoveredPublicKeyCache = cache;
     }
 
     /**
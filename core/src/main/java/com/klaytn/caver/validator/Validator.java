@@ -18,18 +18,31 @@ package com.klaytn.caver.validator;
 
 import com.klaytn.caver.account.*;
 import com.klaytn.caver.methods.response.AccountKey;
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.Transaction;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.PublicKeyRecoveryResult;
+import com.klaytn.caver.transaction.TransactionHelper;
+import com.klaytn.caver.utils.LruCache;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.SignatureData;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.security.SignatureException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class Validator {
     /**
@@ -37,6 +50,11 @@ public class Validator {
      */
     Klay klay;
 
+    /**
+     * The cache of account keys queried from Klaytn. It is disabled by default.
+     */
+    private volatile LruCache<Address, IAccountKey> accountKeyCache = new LruCache<>(0);
+
     /**
      * Create a Validator instance.
      * @param klay The Klay instance.
@@ -45,6 +63,106 @@ public class Validator {
         this.klay = klay;
     }
 
+    /**
+     * Create a Validator instance which caches account keys.
+     * @param klay The Klay instance.
+     * @param cacheCapacity The maximum number of account keys to cache.
+     * @param cacheTtlMillis The time in milliseconds to keep an account key in the cache.
+     * @see Validator#setAccountKeyCache(int, long)
+     */
+    public Validator(Klay klay, int cacheCapacity, long cacheTtlMillis) {
+        this.klay = klay;
+        setAccountKeyCache(cacheCapacity, cacheTtlMillis);
+    }
+
+    /**
+     * Sets the account key cache.<p>
+     * The account keys queried from Klaytn are kept in the LRU cache until the TTL is passed, so validating signatures of the same account doesn't query its account key again.
+     * An account key can be changed by an AccountUpdate transaction before the TTL is passed.
+     * To drop such a changed account key, see {@link Validator#invalidateAccountKeys(Block.BlockData)}.
+     * <pre>Example :
+     * {@code
+     * // Caches up to 1000 account keys for 10 seconds.
+     * caver.validator.setAccountKeyCache(1000, 10000);
+     * }
+     * </pre>
+     * @param capacity The maximum number of account keys to cache. If it is 0, the cache is disabled.
+     * @param ttlMillis The time in milliseconds to keep an account key in the cache. If it is 0, the cache is disabled.
+     */
+    public void setAccountKeyCache(int capacity, long ttlMillis) {
+        LruCache<Address, IAccountKey> cache = new LruCache<>(capacity, ttlMillis);
+        // Unlike LruCache, a ttl of 0 disables the account key cache.
+        this.accountKeyCache = ttlMillis == 0 ? new LruCache<>(0) : cache;
+    }
+
+    /**
+     * Removes the cached account key of the address.
+     * @param address The address of the account.
+     */
+    public void invalidateAccountKey(String address) {
+        accountKeyCache.invalidate(Address.of(address));
+    }
+
+    /**
+     * Removes all cached account keys.
+     */
+    public void clearAccountKeyCache() {
+        accountKeyCache.clear();
+    }
+
+    /**
+     * Removes the cached account keys of the accounts updated in the block.<p>
+     * The senders of AccountUpdate, FeeDelegatedAccountUpdate and FeeDelegatedAccountUpdateWithRatio transactions in the block are invalidated.
+     * If the block has only the transaction hashes, all cached account keys are removed because the updated accounts cannot be known.
+     * <pre>Example :
+     * {@code
+     * Block.BlockData block = caver.rpc.klay.getBlockByNumber(blockNumber, true).send().getResult();
+     * caver.validator.invalidateAccountKeys(block);
+     * }
+     * </pre>
+     * @param block The block data which has the full transaction objects.
+     */
+    public void invalidateAccountKeys(Block.BlockData<?> block) {
+        if(block == null || block.getTransactions() == null) {
+            return;
+        }
+
+        LruCache<Address, IAccountKey> cache = accountKeyCache;
+        for(Object transaction : block.getTransactions()) {
+            if(!(transaction instanceof Transaction.TransactionData)) {
+                cache.clear();
+                return;
+            }
+
+            Transaction.TransactionData transactionData = (Transaction.TransactionData)transaction;
+            if(transactionData.getType() != null && transactionData.getType().contains("AccountUpdate")) {
+                cache.invalidate(Address.of(transactionData.getFrom()));
+            }
+        }
+    }
+
+    /**
+     * Queries the block and removes the cached account keys of the accounts updated in the block.
+     * <pre>Example :
+     * {@code
+     * caver.validator.invalidateAccountKeys(blockNumber);
+     * }
+     * </pre>
+     * @param blockNumber The block number.
+     * @see Validator#invalidateAccountKeys(Block.BlockData)
+     */
+    public void invalidateAccountKeys(long blockNumber) {
+        try {
+            Block block = klay.getBlockByNumber(blockNumber, true).send();
+            if(block.hasError()) {
+                throw new RuntimeException("error code : " + block.getError().getCode() + " error message : " + block.getError().getMessage());
+            }
+            invalidateAccountKeys(block.getResult());
+        } catch(IOException e) {
+            throw new RuntimeException("Failed to get Block from Klaytn", e);
+        }
+    }
+
     /**
      * Validate a signed message.<p>
      * This function will compare public key in account key information from Klaytn and public key recovered form signature.
@@ -134,10 +252,7 @@ public class Validator {
     public boolean validateSignedMessage(String message, List<SignatureData> signatures, String address, boolean isHashed) {
         try {
             //Loading Account Key.
-            AccountKey accountKey = klay.getAccountKey(address).send();
-            if(accountKey.hasError()) {
-                throw new RuntimeException("error code : " + accountKey.getError().getCode() + " error message : " + accountKey.getError().getMessage());
-            }
+            IAccountKey acctKey = getAccountKey(address);
 
             signatures = SignatureData.refineSignature(signatures);
 
@@ -147,17 +262,6 @@ public class Validator {
                 pubKeys.add(Utils.recoverPublicKey(message, signature, isHashed));
             }
 
-            // For accounts that have not yet been applied in Klaytn's state,
-            // the return value of `caver.rpc.klay.getAccountKey` is null.
-            // In this case, the account's key has never been updated,
-            // so the logic is the same as in AccountKeyLegacy.
-            AccountKey.AccountKeyData acctKeyData = accountKey.getResult();
-            IAccountKey acctKey;
-            if (acctKeyData == null) {
-                acctKey = new AccountKeyLegacy();
-            } else {
-                acctKey = acctKeyData.getAccountKey();
-            }
             //Compare a account key from queried and public keys extracting from signature.
             return validateWithAccountType(address, acctKey, pubKeys, AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex());
         } catch(IOException e) {
@@ -183,15 +287,11 @@ public class Validator {
     public boolean validateSender(AbstractTransaction tx) {
         try {
             //Loading Account Key.
-            AccountKey accountKey = klay.getAccountKey(tx.getFrom()).send();
-            if(accountKey.hasError()) {
-                throw new RuntimeException("error code : " + accountKey.getError().getCode() + " error message : " + accountKey.getError().getMessage());
-            }
+            IAccountKey accountKey = getAccountKey(tx.getFrom());
 
             List<String> publicKeys = tx.recoverPublicKeys();
-            int role = tx.getType().contains("AccountUpdate") ? AccountKeyRoleBased.RoleGroup.ACCOUNT_UPDATE.getIndex() : AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex();
 
-            return validateWithAccountType(tx.getFrom(), accountKey.getResult().getAccountKey(), publicKeys, role);
+            return validateWithAccountType(tx.getFrom(), accountKey, publicKeys, getSenderRole(tx));
         } catch(IOException e) {
             throw new RuntimeException("Failed to get AccountKey from Klaytn", e);
         }
@@ -213,15 +313,12 @@ public class Validator {
     public boolean validateFeePayer(AbstractFeeDelegatedTransaction tx) {
         try {
             //Loading Account Key.
-            AccountKey accountKey = klay.getAccountKey(tx.getFeePayer()).send();
-            if(accountKey.hasError()) {
-                throw new RuntimeException("error code : " + accountKey.getError().getCode() + " error message : " + accountKey.getError().getMessage());
-            }
+            IAccountKey accountKey = getAccountKey(tx.getFeePayer());
 
             List<String> publicKeys = tx.recoverFeePayerPublicKeys();
             int role = AccountKeyRoleBased.RoleGroup.FEE_PAYER.getIndex();
 
-            return validateWithAccountType(tx.getFeePayer(), accountKey.getResult().getAccountKey(), publicKeys, role);
+            return validateWithAccountType(tx.getFeePayer(), accountKey, publicKeys, role);
         } catch(IOException e) {
             throw new RuntimeException("Failed to get AccountKey from Klaytn", e);
         }
@@ -251,11 +348,180 @@ public class Validator {
         return isValid;
     }
 
+    /**
+     * Validates transactions in bulk.<p>
+     * The account keys of all distinct senders and fee payers which are not cached are queried in one batched JSON-RPC request,
+     * and the public keys are recovered from the signatures in parallel.<p>
+     * It returns the results in the same order as the given list.
+     * Unlike {@link Validator#validateTransaction(AbstractTransaction)}, a transaction whose signatures cannot be recovered or whose "from" is not a valid address is regarded as invalid instead of throwing an exception.
+     * <pre>Example :
+     * {@code
+     * List<Boolean> results = caver.validator.validateTransactions(transactionList);
+     * }
+     * </pre>
+     *
+     * @param transactions The list of transaction to validate.
+     * @return List&lt;Boolean&gt;
+     */
+    public List<Boolean> validateTransactions(List<? extends AbstractTransaction> transactions) {
+        Set<Address> addresses = new LinkedHashSet<>();
+        List<AbstractFeeDelegatedTransaction> feeDelegatedTransactions = new ArrayList<>();
+        for(AbstractTransaction tx : transactions) {
+            if(isValidAddress(tx.getFrom())) {
+                addresses.add(Address.of(tx.getFrom()));
+            }
+            if(tx instanceof AbstractFeeDelegatedTransaction) {
+                AbstractFeeDelegatedTransaction feeDelegatedTx = (AbstractFeeDelegatedTransaction)tx;
+                feeDelegatedTransactions.add(feeDelegatedTx);
+                if(isValidAddress(feeDelegatedTx.getFeePayer())) {
+                    addresses.add(Address.of(feeDelegatedTx.getFeePayer()));
+                }
+            }
+        }
+
+        Map<Address, IAccountKey> accountKeys;
+        try {
+            accountKeys = getAccountKeys(addresses);
+        } catch(IOException e) {
+            throw new RuntimeException("Failed to get AccountKey from Klaytn", e);
+        }
+
+        List<PublicKeyRecoveryResult> senderResults = TransactionHelper.recoverAllPublicKeys(transactions);
+        List<PublicKeyRecoveryResult> feePayerResults = TransactionHelper.recoverAllFeePayerPublicKeys(feeDelegatedTransactions);
+
+        List<Boolean> results = new ArrayList<>(transactions.size());
+        int feePayerIndex = 0;
+        for(int i = 0; i < transactions.size(); i++) {
+            AbstractTransaction tx = transactions.get(i);
+            PublicKeyRecoveryResult senderResult = senderResults.get(i);
+
+            boolean isValid = isValidAddress(tx.getFrom())
+                    && senderResult.isSuccess()
+                    && validateWithAccountType(tx.getFrom(), accountKeys.get(Address.of(tx.getFrom())), senderResult.getPublicKeys(), getSenderRole(tx));
+
+            if(tx instanceof AbstractFeeDelegatedTransaction) {
+                PublicKeyRecoveryResult feePayerResult = feePayerResults.get(feePayerIndex++);
+                String feePayer = ((AbstractFeeDelegatedTransaction)tx).getFeePayer();
+
+                isValid = isValid
+                        && isValidAddress(feePayer)
+                        && feePayerResult.isSuccess()
+                        && validateWithAccountType(feePayer, accountKeys.get(Address.of(feePayer)), feePayerResult.getPublicKeys(), AccountKeyRoleBased.RoleGroup.FEE_PAYER.getIndex());
+            }
+
+            results.add(isValid);
+        }
+
+        return results;
+    }
+
+    private static boolean isValidAddress(String address) {
+        return address != null && Utils.isAddress(address);
+    }
+
+    private IAccountKey getAccountKey(String address) throws IOException {
+        LruCache<Address, IAccountKey> cache = accountKeyCache;
+        if(!cache.isEnabled()) {
+            return toAccountKey(klay.getAccountKey(address).send());
+        }
+
+        Address key = Address.of(address);
+        IAccountKey cached = cache.get(key);
+        if(cached != null) {
+            return cached;
+        }
+
+        // If the account key is invalidated while querying, the queried one may be stale, so it is not cached.
+        long generation = cache.getGeneration();
+        IAccountKey accountKey = toAccountKey(klay.getAccountKey(address).send());
+        cache.put(key, accountKey, generation);
+
+        return accountKey;
+    }
+
+    private Map<Address, IAccountKey> getAccountKeys(Collection<Address> addresses) throws IOException {
+        LruCache<Address, IAccountKey> cache = accountKeyCache;
+        Map<Address, IAccountKey> accountKeys = new HashMap<>();
+        long generation = cache.getGeneration();
+
+        Map<Long, Address> addressById = new HashMap<>();
+        List<Request<?, AccountKey>> requests = new ArrayList<>();
+        for(Address address : addresses) {
+            IAccountKey cached = cache.get(address);
+            if(cached != null) {
+                accountKeys.put(address, cached);
+                continue;
+            }
+
+            Request<?, AccountKey> request = klay.getAccountKey(address.toString());
+            addressById.put(request.getId(), address);
+            requests.add(request);
+        }
+
+        if(requests.isEmpty()) {
+            return accountKeys;
+        }
+
+        if(requests.size() == 1) {
+            // A single request is not batched, so its response is matched without the id.
+            Address address = addressById.get(requests.get(0).getId());
+            IAccountKey accountKey = toAccountKey(requests.get(0).send());
+            cache.put(address, accountKey, generation);
+            accountKeys.put(address, accountKey);
+            return accountKeys;
+        }
+
+        BatchRequest batchRequest = klay.newBatch();
+        requests.forEach(batchRequest::add);
+        List<? extends Response<?>> responses = batchRequest.send().getResponses();
+
+        // The JSON-RPC spec allows a server to respond a batch in any order, so responses are matched with requests by id.
+        for(Response<?> response : responses) {
+            Address address = addressById.get(response.getId());
+            if(address == null) {
+                throw new RuntimeException("Failed to get AccountKey from Klaytn: unknown response id " + response.getId());
+            }
+
+            IAccountKey accountKey = toAccountKey((AccountKey)response);
+            cache.put(address, accountKey, generation);
+            accountKeys.put(address, accountKey);
+        }
+
+        // A missing account key must not be regarded as AccountKeyLegacy, otherwise an updated account is validated with the key derived from its address.
+        for(Address address : addressById.values()) {
+            if(!accountKeys.containsKey(address)) {
+                throw new RuntimeException("Failed to get AccountKey from Klaytn: no response for " + address);
+            }
+        }
+
+        return accountKeys;
+    }
+
+    private IAccountKey toAccountKey(AccountKey accountKey) {
+        if(accountKey.hasError()) {
+            throw new RuntimeException("error code : " + accountKey.getError().getCode() + " error message : " + accountKey.getError().getMessage());
+        }
+
+        // For accounts that have not yet been applied in Klaytn's state,
+        // the return value of `caver.rpc.klay.getAccountKey` is null.
+        // In this case, the account's key has never been updated,
+        // so the logic is the same as in AccountKeyLegacy.
+        AccountKey.AccountKeyData acctKeyData = accountKey.getResult();
+        if(acctKeyData == null || acctKeyData.getAccountKey() == null) {
+            return new AccountKeyLegacy();
+        }
+        return acctKeyData.getAccountKey();
+    }
+
+    private int getSenderRole(AbstractTransaction tx) {
+        return tx.getType().contains("AccountUpdate") ? AccountKeyRoleBased.RoleGroup.ACCOUNT_UPDATE.getIndex() : AccountKeyRoleBased.RoleGroup.TRANSACTION.getIndex();
+    }
+
     private boolean validateWithAccountType(String address, IAccountKey accountKey, List<String> pubKeys, int role) {
-        // For accounts that have not yet been applied in Klaytn's state, the return value of `caver.rpc.klay.getAccountKey` is null.
-        // In this case, the account's key has never been updated, so the logic is the same as in AccountKeyLegacy.
+        // A null result of `caver.rpc.klay.getAccountKey` is already converted to AccountKeyLegacy by toAccountKey(),
+        // so a null here means the account key was never queried.
         if(accountKey == null) {
-            accountKey = new AccountKeyLegacy();
+            throw new IllegalArgumentException("The account key of " + address + " is not given.");
         }
 
         Account account = new Account(address, accountKey);
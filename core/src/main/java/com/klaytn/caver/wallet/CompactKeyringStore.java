@@ -0,0 +1,409 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet;
+
+import com.klaytn.caver.account.Address;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.nonce.NonceGuard;
+import com.klaytn.caver.utils.Utils;
+import com.klaytn.caver.wallet.keyring.AbstractKeyring;
+import com.klaytn.caver.wallet.keyring.BulkKeyringGenerator;
+import com.klaytn.caver.wallet.keyring.KeyringFactory;
+import com.klaytn.caver.wallet.keyring.SingleKeyring;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Represents a memory-dense wallet which manages a large number of single key accounts.<p>
+ * Unlike {@link KeyringContainer} which keeps a keyring instance per address, it stores 20-byte addresses and 32-byte private keys
+ * in packed byte arrays indexed by an open-addressing hash table, so an account costs about 70 bytes.
+ * A {@link SingleKeyring} instance is created only when it is needed(e.g. signing a transaction) and is not kept in the wallet.<p>
+ * When an account is removed, its address and private key are overwritten with zeros.
+ * The private key of a keyring returned from this wallet is a String, so it cannot be zeroed and stays on the heap until it is collected.
+ * <pre>Example :
+ * {@code
+ * CompactKeyringStore wallet = new CompactKeyringStore(1_000_000);
+ * wallet.add(address, privateKey);
+ * AbstractTransaction signed = wallet.sign(address, transaction);
+ * }
+ * </pre>
+ * @see KeyringContainer
+ */
+public class CompactKeyringStore implements IWallet {
+    static final int ADDRESS_SIZE = 20;
+    static final int KEY_SIZE = 32;
+
+    static final int DEFAULT_CAPACITY = 1024;
+    // The keys array of MAXIMUM_SLOTS slots is 2^30 bytes, so the array sizes and offsets don't overflow int.
+    static final int MAXIMUM_SLOTS = 1 << 25;
+    static final int MAXIMUM_SIZE = (MAXIMUM_SLOTS - 1) * 3 / 4;
+
+    private static final byte EMPTY = 0;
+    private static final byte USED = 1;
+    private static final byte REMOVED = 2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The state of each slot. (EMPTY, USED or REMOVED)
+     */
+    private byte[] states;
+
+    /**
+     * The addresses packed in the order of slots.
+     */
+    private byte[] addresses;
+
+    /**
+     * The private keys packed in the order of slots.
+     */
+    private byte[] keys;
+
+    /**
+     * The number of accounts in the wallet.
+     */
+    private int size;
+
+    /**
+     * The number of slots that are not EMPTY. The removed slots are counted until the table is rebuilt.
+     */
+    private int occupied;
+
+    /**
+     * Creates a CompactKeyringStore instance.
+     */
+    public CompactKeyringStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a CompactKeyringStore instance which can hold the given number of accounts without growing.
+     * @param expectedSize The expected number of accounts.
+     */
+    public CompactKeyringStore(int expectedSize) {
+        if(expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size must not be negative.");
+        }
+        allocate(slotsFor(expectedSize));
+    }
+
+    /**
+     * Generates accounts in the wallet with randomly generated private keys.
+     * <pre>Example :
+     * {@code
+     * List<String> addressList = wallet.generate(3);
+     * }
+     * </pre>
+     * @param num The number of accounts to create.
+     * @return List
+     */
+    @Override
+    public List<String> generate(int num) {
+        List<String> addressList = new ArrayList<>();
+        for(SingleKeyring keyring : BulkKeyringGenerator.generate(num)) {
+            addressList.add(this.add(keyring));
+        }
+        return addressList;
+    }
+
+    /**
+     * Adds an account to the wallet.<p>
+     * The address can be decoupled from the private key.
+     * @param address The address of the account.
+     * @param privateKey The private key string.
+     * @return String
+     */
+    public String add(String address, String privateKey) {
+        byte[] addressBytes = toAddressBytes(address);
+        if(!Utils.isValidPrivateKey(privateKey)) {
+            throw new IllegalArgumentException("Invalid private key.");
+        }
+
+        byte[] keyBytes = Numeric.toBytesPadded(Numeric.toBigInt(privateKey), KEY_SIZE);
+        try {
+            lock.writeLock().lock();
+            try {
+                if(find(addressBytes) >= 0) {
+                    throw new IllegalArgumentException("Duplicated Account. Please use remove() first");
+                }
+                insert(addressBytes, keyBytes);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            Arrays.fill(keyBytes, (byte)0);
+        }
+
+        return Utils.addHexPrefix(address).toLowerCase();
+    }
+
+    /**
+     * Adds a single keyring to the wallet.<p>
+     * Only {@link SingleKeyring} is supported, because the wallet stores one private key per address.
+     * @param keyring The keyring to add.
+     * @return String
+     */
+    public String add(AbstractKeyring keyring) {
+        if(!(keyring instanceof SingleKeyring)) {
+            throw new IllegalArgumentException("CompactKeyringStore only supports SingleKeyring.");
+        }
+        return this.add(keyring.getAddress(), ((SingleKeyring)keyring).getKey().getPrivateKey());
+    }
+
+    /**
+     * Returns a newly created keyring of the account.<p>
+     * It returns null if there is no account matching the address.
+     * @param address An address of the account.
+     * @return SingleKeyring
+     */
+    public SingleKeyring getKeyring(String address) {
+        byte[] addressBytes = toAddressBytes(address);
+
+        byte[] keyBytes = new byte[KEY_SIZE];
+        try {
+            lock.readLock().lock();
+            try {
+                int slot = find(addressBytes);
+                if(slot < 0) {
+                    return null;
+                }
+                System.arraycopy(keys, slot * KEY_SIZE, keyBytes, 0, KEY_SIZE);
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            return KeyringFactory.createWithSingleKey(address, Numeric.toHexString(keyBytes));
+        } finally {
+            Arrays.fill(keyBytes, (byte)0);
+        }
+    }
+
+    /**
+     * Returns the number of accounts in the wallet.
+     * @return int
+     */
+    public int length() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Check whether there is an account corresponding to the address in the wallet.
+     * @param address An address to find in wallet.
+     * @return boolean
+     */
+    @Override
+    public boolean isExisted(String address) {
+        byte[] addressBytes = toAddressBytes(address);
+
+        lock.readLock().lock();
+        try {
+            return find(addressBytes) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Deletes the account from the wallet and overwrites its address and private key with zeros.
+     * @param address An address of the account to be deleted.
+     * @return boolean
+     */
+    @Override
+    public boolean remove(String address) {
+        byte[] addressBytes = toAddressBytes(address);
+
+        lock.writeLock().lock();
+        try {
+            int slot = find(addressBytes);
+            if(slot < 0) {
+                return false;
+            }
+
+            Arrays.fill(addresses, slot * ADDRESS_SIZE, (slot + 1) * ADDRESS_SIZE, (byte)0);
+            Arrays.fill(keys, slot * KEY_SIZE, (slot + 1) * KEY_SIZE, (byte)0);
+            states[slot] = REMOVED;
+            size--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Signs the transaction as a sender of the transaction using the private key of the account.<p>
+     * If it fails, the nonce allocated while filling the transaction is released as {@link KeyringContainer} does.
+     * @param address An address of the account in wallet.
+     * @param transaction An AbstractTransaction instance to sign.
+     * @return AbstractTransaction
+     * @throws IOException
+     */
+    @Override
+    public AbstractTransaction sign(String address, AbstractTransaction transaction) throws IOException {
+        SingleKeyring keyring = this.getKeyring(address);
+        if(keyring == null) {
+            throw new NullPointerException("Failed to find keyring from wallet with address");
+        }
+        return NonceGuard.signOrReleaseNonce(transaction, tx -> tx.sign(keyring));
+    }
+
+    /**
+     * Signs the FeeDelegatedTransaction as a fee payer of the transaction using the private key of the account.<p>
+     * If it fails, the nonce allocated while filling the transaction is released as {@link KeyringContainer} does.
+     * @param address An address of the account in wallet.
+     * @param transaction An AbstractFeeDelegatedTransaction instance to sign.
+     * @return AbstractFeeDelegatedTransaction
+     * @throws IOException
+     */
+    @Override
+    public AbstractFeeDelegatedTransaction signAsFeePayer(String address, AbstractFeeDelegatedTransaction transaction) throws IOException {
+        SingleKeyring keyring = this.getKeyring(address);
+        if(keyring == null) {
+            throw new NullPointerException("Failed to find keyring from wallet with address");
+        }
+        return NonceGuard.signOrReleaseNonce(transaction, tx -> tx.signAsFeePayer(keyring));
+    }
+
+    /**
+     * Overwrites all addresses and private keys with zeros and removes all accounts.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(addresses, (byte)0);
+            Arrays.fill(keys, (byte)0);
+            Arrays.fill(states, EMPTY);
+            size = 0;
+            occupied = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static byte[] toAddressBytes(String address) {
+        // Address.of validates the address and throws "Invalid address: " with it.
+        return Address.of(address).toBytes();
+    }
+
+    private static int slotsFor(int expectedSize) {
+        // Keeps the load factor under 0.75.
+        long required = Math.max(16L, (long)expectedSize * 4 / 3 + 1);
+        if(required > MAXIMUM_SLOTS) {
+            throw new IllegalArgumentException("The wallet cannot hold more than " + MAXIMUM_SIZE + " accounts.");
+        }
+        return Integer.highestOneBit((int)required - 1) << 1;
+    }
+
+    private void allocate(int slots) {
+        states = new byte[slots];
+        addresses = new byte[slots * ADDRESS_SIZE];
+        keys = new byte[slots * KEY_SIZE];
+    }
+
+    private static int hash(byte[] address) {
+        // An address is a part of keccak hash, so its bytes are already well distributed.
+        return (address[0] & 0xff) << 24 | (address[1] & 0xff) << 16 | (address[2] & 0xff) << 8 | (address[3] & 0xff);
+    }
+
+    private int find(byte[] address) {
+        int mask = states.length - 1;
+        for(int slot = hash(address) & mask; ; slot = (slot + 1) & mask) {
+            if(states[slot] == EMPTY) {
+                return -1;
+            }
+            if(states[slot] == USED && matches(slot, address)) {
+                return slot;
+            }
+        }
+    }
+
+    private boolean matches(int slot, byte[] address) {
+        int offset = slot * ADDRESS_SIZE;
+        for(int i = 0; i < ADDRESS_SIZE; i++) {
+            if(addresses[offset + i] != address[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void insert(byte[] address, byte[] key) {
+        if((long)(occupied + 1) * 4 > (long)states.length * 3) {
+            rebuild(slotsFor(size + 1));
+        }
+
+        int mask = states.length - 1;
+        int slot = hash(address) & mask;
+        while(states[slot] == USED) {
+            slot = (slot + 1) & mask;
+        }
+
+        if(states[slot] == EMPTY) {
+            occupied++;
+        }
+        put(slot, address, key);
+        size++;
+    }
+
+    private void put(int slot, byte[] address, byte[] key) {
+        states[slot] = USED;
+        System.arraycopy(address, 0, addresses, slot * ADDRESS_SIZE, ADDRESS_SIZE);
+        System.arraycopy(key, 0, keys, slot * KEY_SIZE, KEY_SIZE);
+    }
+
+    private void rebuild(int slots) {
+        byte[] oldStates = states;
+        byte[] oldAddresses = addresses;
+        byte[] oldKeys = keys;
+
+        // It drops the removed slots, so the table doesn't grow when the accounts are added and removed repeatedly.
+        allocate(Math.max(slots, oldStates.length));
+        occupied = 0;
+
+        byte[] address = new byte[ADDRESS_SIZE];
+        byte[] key = new byte[KEY_SIZE];
+        int mask = states.length - 1;
+        for(int i = 0; i < oldStates.length; i++) {
+            if(oldStates[i] != USED) {
+                continue;
+            }
+            System.arraycopy(oldAddresses, i * ADDRESS_SIZE, address, 0, ADDRESS_SIZE);
+            System.arraycopy(oldKeys, i * KEY_SIZE, key, 0, KEY_SIZE);
+
+            int slot = hash(address) & mask;
+            while(states[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            put(slot, address, key);
+            occupied++;
+        }
+
+        Arrays.fill(key, (byte)0);
+        Arrays.fill(oldAddresses, (byte)0);
+        Arrays.fill(oldKeys, (byte)0);
+    }
+}
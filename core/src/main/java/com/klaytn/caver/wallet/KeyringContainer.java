@@ -16,20 +16,40 @@
 
 package com.klaytn.caver.wallet;
 
+import com.klaytn.caver.account.Address;
 import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.TransactionHasher;
+import com.klaytn.caver.transaction.nonce.NonceGuard;
 import com.klaytn.caver.utils.Utils;
 import com.klaytn.caver.wallet.keyring.AbstractKeyring;
+import com.klaytn.caver.wallet.keyring.KdfMemoryLimiter;
+import com.klaytn.caver.wallet.keyring.BulkKeyringGenerator;
+import com.klaytn.caver.wallet.keyring.KeyStore;
 import com.klaytn.caver.wallet.keyring.KeyringFactory;
 import com.klaytn.caver.wallet.keyring.wrapper.KeyringFactoryWrapper;
 import com.klaytn.caver.wallet.keyring.MessageSigned;
+import com.klaytn.caver.wallet.keyring.SingleKeyring;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.web3j.crypto.CipherException;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
@@ -42,10 +62,17 @@ import java.util.function.Function;
  * @see com.klaytn.caver.wallet.keyring.RoleBasedKeyring
  */
 public class KeyringContainer implements IWallet{
+    private static final String INVALID_ADDRESS_MESSAGE = "Invalid address. To get keyring from wallet, you need to pass a valid address string as a parameter.";
+
     /**
      * The map where address and keyring are mapped
      */
-    Map<String, AbstractKeyring> addressKeyringMap = new HashMap<>();
+    Map<Address, AbstractKeyring> addressKeyringMap = new ConcurrentHashMap<>();
+
+    /**
+     * The map where address and keystore registered to be decrypted on first use are mapped
+     */
+    Map<Address, LockedKeyStore> addressLockedKeyStoreMap = new ConcurrentHashMap<>();
 
     /**
      * The KeyringFactoryWrapper instance
@@ -101,6 +128,15 @@ public class KeyringContainer implements IWallet{
      */
     public List<String> generate(int num, String entropy) {
         List<String> addressList = new ArrayList<>();
+        if(entropy == null) {
+            // Without entropy, the keys are generated in parallel and only adding them to the container is sequential.
+            for(SingleKeyring keyring : BulkKeyringGenerator.generate(num)) {
+                addressList.add(keyring.getAddress());
+                this.add(keyring);
+            }
+            return addressList;
+        }
+
         for(int i=0; i<num; i++) {
             AbstractKeyring keyring = KeyringFactory.generate(entropy);
             addressList.add(keyring.getAddress());
@@ -121,7 +157,10 @@ public class KeyringContainer implements IWallet{
      * @return int
      */
     public int length() {
-        return this.addressKeyringMap.size();
+        int locked = (int)this.addressLockedKeyStoreMap.keySet().stream()
+                .filter(address -> !this.addressKeyringMap.containsKey(address))
+                .count();
+        return this.addressKeyringMap.size() + locked;
     }
 
     /**
@@ -206,17 +245,20 @@ public class KeyringContainer implements IWallet{
      * @return AbstractKeyring
      */
     public AbstractKeyring updateKeyring(AbstractKeyring keyring) {
-        AbstractKeyring founded = this.getKeyring(keyring.getAddress());
-        if(founded == null) {
+        if(!this.isExisted(keyring.getAddress())) {
             throw new IllegalArgumentException("Failed to find keyring to update.");
         }
 
-        this.remove(keyring.getAddress());
-        return this.add(keyring);
+        AbstractKeyring updated = keyring.copy();
+        this.addressKeyringMap.put(Address.of(keyring.getAddress()), updated);
+        discardLockedKeyStore(Address.of(keyring.getAddress()));
+
+        return updated;
     }
 
     /**
      * Returns the keyring in container corresponding to the address.<p>
+     * If the keyring is registered with a keystore to be decrypted lazily, the keystore is decrypted here at first.
      * <pre>Example :
      * String address = "0x{address}";
      * AbstractKeyring keyring = caver.wallet.getKeyring(address);
@@ -226,12 +268,36 @@ public class KeyringContainer implements IWallet{
      * @return AbstractKeyring
      */
     public AbstractKeyring getKeyring(String address) {
-        if(!Utils.isAddress(address)) {
-            throw new IllegalArgumentException("Invalid address. To get keyring from wallet, you need to pass a valid address string as a parameter.");
+        return getKeyring(toAddress(address, INVALID_ADDRESS_MESSAGE));
+    }
+
+    private AbstractKeyring getKeyring(Address key) {
+        AbstractKeyring found = this.addressKeyringMap.get(key);
+        if(found != null) {
+            return found;
+        }
+
+        LockedKeyStore locked = this.addressLockedKeyStoreMap.get(key);
+        if(locked == null) {
+            // The keystore may be unlocked by another thread after the first lookup.
+            return this.addressKeyringMap.get(key);
+        }
+
+        AbstractKeyring unlocked = locked.unlock();
+        if(unlocked == null) {
+            return this.addressKeyringMap.get(key);
         }
+        found = this.addressKeyringMap.putIfAbsent(key, unlocked);
+        this.addressLockedKeyStoreMap.remove(key, locked);
 
-        AbstractKeyring found = this.addressKeyringMap.get(address.toLowerCase());
-        return found;
+        return found != null ? found : unlocked;
+    }
+
+    private void discardLockedKeyStore(Address key) {
+        LockedKeyStore locked = this.addressLockedKeyStoreMap.remove(key);
+        if(locked != null) {
+            locked.discard();
+        }
     }
 
     /**
@@ -246,16 +312,373 @@ public class KeyringContainer implements IWallet{
      * @return AbstractKeyring
      */
     public AbstractKeyring add(AbstractKeyring keyring) {
-        if (this.getKeyring(keyring.getAddress()) != null) {
+        if (this.isExisted(keyring.getAddress())) {
             throw new IllegalArgumentException("Duplicated Account. Please use updateKeyring() instead");
         }
 
         AbstractKeyring added = keyring.copy();
-        this.addressKeyringMap.put(keyring.getAddress().toLowerCase(), added);
+        Address key = Address.of(keyring.getAddress());
+        if(this.addressLockedKeyStoreMap.containsKey(key) || this.addressKeyringMap.putIfAbsent(key, added) != null) {
+            throw new IllegalArgumentException("Duplicated Account. Please use updateKeyring() instead");
+        }
 
         return added;
     }
 
+    /**
+     * Registers a keystore to the keyringContainer without decrypting it.<p>
+     * The keystore is decrypted when the keyring is used at first(e.g. signing a transaction), so registering many keystores doesn't wait for the key derivations.
+     * If the password is wrong, it throws an exception when the keyring is used.
+     * The password is kept in memory until the keyring is used at first or removed from the keyringContainer.
+     * <pre>Example :
+     * {@code
+     * KeyStore keyStore = mapper.readValue(keyStoreStr, KeyStore.class);
+     * String address = caver.wallet.register(keyStore, "password");
+     * }
+     * </pre>
+     * @param keyStore The keystore to be decrypted on first use.
+     * @param password The password to use for decryption.
+     * @return String
+     */
+    public String register(KeyStore keyStore, String password) {
+        KeyStorePassword shared = new KeyStorePassword(password);
+        try {
+            return register(keyStore, shared);
+        } finally {
+            shared.release();
+        }
+    }
+
+    private String register(KeyStore keyStore, KeyStorePassword password) {
+        String address = Utils.addHexPrefix(keyStore.getAddress());
+        Address key = toAddress(address, "Invalid address in keystore: " + keyStore.getAddress());
+        LockedKeyStore locked = new LockedKeyStore(keyStore, password);
+        if(this.addressKeyringMap.containsKey(key) || this.addressLockedKeyStoreMap.putIfAbsent(key, locked) != null) {
+            locked.discard();
+            throw new IllegalArgumentException("Duplicated Account. Please use updateKeyring() instead");
+        }
+
+        return address;
+    }
+
+    /**
+     * Registers all keystore files in the directory to the keyringContainer without decrypting them.<p>
+     * Each file is parsed one by one, and the keystores are decrypted when each keyring is used at first.
+     * All keystores registered by this call share one reference to the password, and it is kept in memory until all of them are used at first or removed.
+     * <pre>Example :
+     * {@code
+     * List<String> addressList = caver.wallet.registerKeyStores(Paths.get("keystore"), "password");
+     * }
+     * </pre>
+     * @param directory The directory contains keystore files.
+     * @param password The password to use for decryption.
+     * @return List&lt;String&gt;
+     * @throws IOException
+     * @see #register(KeyStore, String)
+     */
+    public List<String> registerKeyStores(Path directory, String password) throws IOException {
+        List<KeyStore> keyStores = new ArrayList<>();
+        Set<Address> addresses = new HashSet<>();
+        readKeyStores(directory, keyStore -> {
+            checkDuplicated(addresses, keyStore);
+            keyStores.add(keyStore);
+        });
+
+        KeyStorePassword shared = new KeyStorePassword(password);
+        try {
+            List<String> addressList = new ArrayList<>();
+            for(KeyStore keyStore : keyStores) {
+                addressList.add(this.register(keyStore, shared));
+            }
+            return addressList;
+        } finally {
+            shared.release();
+        }
+    }
+
+    /**
+     * Decrypts all keystore files in the directory in parallel on the common ForkJoinPool and adds the keyrings to the keyringContainer.<p>
+     * The memory is acquired from {@link KdfMemoryLimiter#getShared()}, so the memory used by scrypt at the same time
+     * is limited to {@link KeyStore.Crypto#KDF_MEMORY_BUDGET} together with the other decryptions in this JVM.
+     * <pre>Example :
+     * {@code
+     * List<String> addressList = caver.wallet.importKeyStores(Paths.get("keystore"), "password");
+     * }
+     * </pre>
+     * @param directory The directory contains keystore files.
+     * @param password The password to use for decryption.
+     * @return List&lt;String&gt;
+     * @throws IOException
+     * @throws CipherException
+     * @see #importKeyStores(Path, String, KdfMemoryLimiter, Executor)
+     */
+    public List<String> importKeyStores(Path directory, String password) throws IOException, CipherException {
+        return importKeyStores(directory, password, KdfMemoryLimiter.getShared(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decrypts all keystore files in the directory in parallel on the executor and adds the keyrings to the keyringContainer.<p>
+     * The memory used by scrypt at the same time is limited to the memoryBudget, which is not shared with the other decryptions.
+     * <pre>Example :
+     * {@code
+     * ExecutorService executor = Executors.newFixedThreadPool(8);
+     * List<String> addressList = caver.wallet.importKeyStores(Paths.get("keystore"), "password", 256 * 1024 * 1024, executor);
+     * }
+     * </pre>
+     * @param directory The directory contains keystore files.
+     * @param password The password to use for decryption.
+     * @param memoryBudget The maximum memory in bytes that scrypt derivations running at the same time can use.
+     * @param executor An executor to run the decryption tasks.
+     * @return List&lt;String&gt;
+     * @throws IOException
+     * @throws CipherException
+     * @see #importKeyStores(Path, String, KdfMemoryLimiter, Executor)
+     */
+    public List<String> importKeyStores(Path directory, String password, long memoryBudget, Executor executor) throws IOException, CipherException {
+        return importKeyStores(directory, password, new KdfMemoryLimiter(memoryBudget), executor);
+    }
+
+    /**
+     * Decrypts all keystore files in the directory in parallel on the executor and adds the keyrings to the keyringContainer.<p>
+     * Each file is checked for a duplicated address and submitted as soon as it is parsed, so the files are not read into memory before decrypting.
+     * The memory of a keystore is acquired from the memoryLimiter before its decryption is submitted to the executor,
+     * so this method waits instead of the executor threads, and a keystore whose derivation needs more memory than the budget is decrypted alone.<p>
+     * If one of the files fails to be read or is duplicated, one of the keystores fails to be decrypted or one of the addresses is added by another thread in the meantime,
+     * none of the keyrings is added and the first error is thrown. The decryptions which haven't started yet are skipped in that case.
+     * The addresses are returned in the order of file names.
+     * <pre>Example :
+     * {@code
+     * ExecutorService executor = Executors.newFixedThreadPool(8);
+     * KdfMemoryLimiter limiter = new KdfMemoryLimiter(256 * 1024 * 1024);
+     * List<String> addressList = caver.wallet.importKeyStores(Paths.get("keystore"), "password", limiter, executor);
+     * }
+     * </pre>
+     * @param directory The directory contains keystore files.
+     * @param password The password to use for decryption.
+     * @param memoryLimiter The limiter of the memory used by scrypt derivations running at the same time.
+     * @param executor An executor to run the decryption tasks.
+     * @return List&lt;String&gt;
+     * @throws IOException
+     * @throws CipherException
+     */
+    public List<String> importKeyStores(Path directory, String password, KdfMemoryLimiter memoryLimiter, Executor executor) throws IOException, CipherException {
+        if(memoryLimiter == null) {
+            throw new IllegalArgumentException("The memory limiter must not be null.");
+        }
+        if(executor == null) {
+            throw new IllegalArgumentException("The executor must not be null.");
+        }
+
+        Set<Address> addresses = new HashSet<>();
+        List<CompletableFuture<AbstractKeyring>> futures = new ArrayList<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        try {
+            readKeyStores(directory, keyStore -> {
+                checkDuplicated(addresses, keyStore);
+                futures.add(submitDecryption(keyStore, password, memoryLimiter, executor, cancelled));
+            });
+        } catch(IOException | RuntimeException e) {
+            cancelled.set(true);
+            throw e;
+        }
+
+        List<AbstractKeyring> keyrings = new ArrayList<>();
+        Throwable error = null;
+        for(int i = 0; i < futures.size(); i++) {
+            try {
+                keyrings.add(futures.get(i).join());
+            } catch(CompletionException e) {
+                if(error == null) {
+                    error = e.getCause() != null ? e.getCause() : e;
+                }
+            }
+        }
+
+        if(error instanceof CipherException) {
+            throw (CipherException)error;
+        }
+        if(error instanceof RuntimeException) {
+            throw (RuntimeException)error;
+        }
+        if(error != null) {
+            throw new CompletionException(error);
+        }
+
+        // Another thread may add one of the addresses while decrypting. In that case, the keyrings added here are removed again.
+        List<AbstractKeyring> addedList = new ArrayList<>();
+        try {
+            for(AbstractKeyring keyring : keyrings) {
+                addedList.add(this.add(keyring));
+            }
+        } catch(IllegalArgumentException e) {
+            for(AbstractKeyring added : addedList) {
+                this.addressKeyringMap.remove(Address.of(added.getAddress()), added);
+            }
+            throw e;
+        }
+
+        List<String> addressList = new ArrayList<>();
+        for(AbstractKeyring added : addedList) {
+            addressList.add(added.getAddress());
+        }
+        return addressList;
+    }
+
+    private void checkDuplicated(Set<Address> addresses, KeyStore keyStore) {
+        Address key = toAddress(Utils.addHexPrefix(keyStore.getAddress()), "Invalid address in keystore: " + keyStore.getAddress());
+        if(!addresses.add(key) || this.isExisted(key)) {
+            throw new IllegalArgumentException("Duplicated Account. Please use updateKeyring() instead");
+        }
+    }
+
+    private static CompletableFuture<AbstractKeyring> submitDecryption(KeyStore keyStore, String password, KdfMemoryLimiter memoryLimiter, Executor executor, AtomicBoolean cancelled) {
+        // Waits here for the memory, so the executor threads are not blocked by the tasks waiting for their turn.
+        // The memory of the whole keystore is already acquired, so the derivations in the task don't acquire it again.
+        int acquired = memoryLimiter.acquire(KeyStore.Crypto.getKdfMemoryCost(getCryptoList(keyStore)));
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    if(cancelled.get()) {
+                        return null;
+                    }
+                    return KeyringFactory.decrypt(keyStore, password, KdfMemoryLimiter.unlimited(), Runnable::run);
+                } catch(CipherException e) {
+                    cancelled.set(true);
+                    throw new CompletionException(e);
+                } catch(RuntimeException e) {
+                    cancelled.set(true);
+                    throw e;
+                } finally {
+                    memoryLimiter.release(acquired);
+                }
+            }, executor);
+        } catch(RejectedExecutionException e) {
+            memoryLimiter.release(acquired);
+            throw e;
+        }
+    }
+
+    private static void readKeyStores(Path directory, KeyStoreConsumer consumer) throws IOException {
+        if(!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("Not a directory: " + directory);
+        }
+
+        List<Path> files = new ArrayList<>();
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for(Path file : stream) {
+                if(Files.isRegularFile(file) && !file.getFileName().toString().startsWith(".")) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(null);
+
+        ObjectMapper mapper = new ObjectMapper();
+        for(Path file : files) {
+            KeyStore keyStore;
+            try {
+                keyStore = mapper.readValue(file.toFile(), KeyStore.class);
+            } catch(IOException e) {
+                throw new IOException("Failed to read keystore file: " + file.getFileName(), e);
+            }
+            consumer.accept(keyStore);
+        }
+    }
+
+    private static List<KeyStore.Crypto> getCryptoList(KeyStore keyStore) {
+        List<KeyStore.Crypto> cryptoList = new ArrayList<>();
+        if(keyStore.getCrypto() != null) {
+            cryptoList.add(keyStore.getCrypto());
+        } else if(keyStore.getKeyring() != null) {
+            for(Object item : keyStore.getKeyring()) {
+                if(item instanceof KeyStore.Crypto) {
+                    cryptoList.add((KeyStore.Crypto)item);
+                } else {
+                    cryptoList.addAll((List<KeyStore.Crypto>)item);
+                }
+            }
+        }
+        return cryptoList;
+    }
+
+    private interface KeyStoreConsumer {
+        void accept(KeyStore keyStore);
+    }
+
+    /**
+     * The password shared by the keystores registered together.<p>
+     * It counts the keystores which may still need it and the registering call, and drops the password when none of them needs it.
+     */
+    private static class KeyStorePassword {
+        private String password;
+        private int holders = 1;
+
+        KeyStorePassword(String password) {
+            this.password = password;
+        }
+
+        synchronized void retain() {
+            holders++;
+        }
+
+        synchronized String get() {
+            return password;
+        }
+
+        synchronized void release() {
+            if(--holders == 0) {
+                password = null;
+            }
+        }
+    }
+
+    /**
+     * Holds a keystore and a reference to its password until the keyring is used at first.<p>
+     * The keystore is decrypted in the calling thread with the memory acquired from {@link KdfMemoryLimiter#getShared()}.
+     */
+    private static class LockedKeyStore {
+        private final KeyStore keyStore;
+        private KeyStorePassword password;
+        private AbstractKeyring keyring;
+
+        LockedKeyStore(KeyStore keyStore, KeyStorePassword password) {
+            this.keyStore = keyStore;
+            this.password = password;
+            password.retain();
+        }
+
+        synchronized AbstractKeyring unlock() {
+            if(keyring == null) {
+                if(password == null) {
+                    // It is removed from the keyringContainer before it is used.
+                    return null;
+                }
+
+                KdfMemoryLimiter memoryLimiter = KdfMemoryLimiter.getShared();
+                int acquired = memoryLimiter.acquire(KeyStore.Crypto.getKdfMemoryCost(getCryptoList(keyStore)));
+                try {
+                    keyring = KeyringFactory.decrypt(keyStore, password.get(), KdfMemoryLimiter.unlimited(), Runnable::run);
+                } catch(CipherException e) {
+                    throw new RuntimeException("Failed to decrypt keystore of " + keyStore.getAddress(), e);
+                } finally {
+                    memoryLimiter.release(acquired);
+                }
+                discard();
+            }
+            return keyring;
+        }
+
+        /**
+         * Releases the reference to the password. It is called when the keystore is unlocked, removed or not registered.
+         */
+        synchronized void discard() {
+            if(password != null) {
+                password.release();
+                password = null;
+            }
+        }
+    }
+
     /**
      * Deletes the keyring that associates with the given address from keyringContainer.<p>
      * <pre>Example :
@@ -270,15 +693,13 @@ public class KeyringContainer implements IWallet{
      */
     @Override
     public boolean remove(String address) {
-        if(!Utils.isAddress(address)) {
-            throw new IllegalArgumentException("To remove keyring, the first parameter should be an address string");
-        }
-
-        if(!isExisted(address)) {
+        Address key = toAddress(address, "To remove keyring, the first parameter should be an address string");
+        if(!isExisted(key)) {
             return false;
         }
         //deallocate keyring object created for keyringContainer.
-        AbstractKeyring removed = this.addressKeyringMap.remove(address.toLowerCase());
+        discardLockedKeyStore(key);
+        AbstractKeyring removed = this.addressKeyringMap.remove(key);
         removed = null;
 
         return true;
@@ -322,11 +743,7 @@ public class KeyringContainer implements IWallet{
      * @return MessageSigned
      */
     public MessageSigned signMessage(String address, String data, int role, int index) {
-        if(!isExisted(address)) {
-            throw new NullPointerException("Failed to find keyring from wallet with address");
-        }
-
-        return this.getKeyring(address).signMessage(data, role, index);
+        return this.getExistingKeyring(address).signMessage(data, role, index);
     }
 
     /**
@@ -362,11 +779,8 @@ public class KeyringContainer implements IWallet{
      * @throws IOException
      */
     public AbstractTransaction sign(String address, AbstractTransaction transaction, Function<AbstractTransaction, String> hasher) throws  IOException{
-        if(!isExisted(address)) {
-            throw new NullPointerException("Failed to find keyring from wallet with address");
-        }
-
-        return transaction.sign(this.getKeyring(address), hasher);
+        AbstractKeyring keyring = this.getExistingKeyring(address);
+        return NonceGuard.signOrReleaseNonce(transaction, tx -> tx.sign(keyring, hasher));
     }
 
     /**
@@ -403,11 +817,8 @@ public class KeyringContainer implements IWallet{
      * @throws IOException
      */
     public AbstractTransaction sign(String address, AbstractTransaction transaction, int index, Function<AbstractTransaction, String> hasher) throws IOException {
-        if(!isExisted(address)) {
-            throw new NullPointerException("Failed to find keyring from wallet with address");
-        }
-
-        return transaction.sign(this.getKeyring(address), index, hasher);
+        AbstractKeyring keyring = this.getExistingKeyring(address);
+        return NonceGuard.signOrReleaseNonce(transaction, tx -> tx.sign(keyring, index, hasher));
     }
 
     /**
@@ -441,11 +852,8 @@ public class KeyringContainer implements IWallet{
      * @throws IOException
      */
     public AbstractFeeDelegatedTransaction signAsFeePayer(String address, AbstractFeeDelegatedTransaction transaction, Function<AbstractFeeDelegatedTransaction, String> hasher) throws IOException {
-        if(!isExisted(address)) {
-            throw new NullPointerException("Failed to find keyring from wallet with address");
-        }
-
-        return transaction.signAsFeePayer(this.getKeyring(address), hasher);
+        AbstractKeyring keyring = this.getExistingKeyring(address);
+        return NonceGuard.signOrReleaseNonce(transaction, tx -> tx.signAsFeePayer(keyring, hasher));
     }
 
     /**
@@ -482,11 +890,152 @@ public class KeyringContainer implements IWallet{
      * @throws IOException
      */
     public AbstractFeeDelegatedTransaction signAsFeePayer(String address, AbstractFeeDelegatedTransaction transaction, int index, Function<AbstractFeeDelegatedTransaction, String> hasher) throws IOException {
+        AbstractKeyring keyring = this.getExistingKeyring(address);
+        return NonceGuard.signOrReleaseNonce(transaction, tx -> tx.signAsFeePayer(keyring, index, hasher));
+    }
+
+    /**
+     * Signs the transactions as a sender of each transaction using all keys in the keyring corresponding to the "from" address of each transaction.<p>
+     * The transactions are signed in parallel on the common ForkJoinPool.
+     * <pre>Example :
+     * {@code
+     * List<AbstractTransaction> signedTxs = caver.wallet.signAll(transactionList);
+     * }
+     * </pre>
+     * @param transactions A List of AbstractTransaction instances to sign.
+     * @return List
+     * @throws IOException
+     * @see #signAll(List, Executor)
+     */
+    public List<AbstractTransaction> signAll(List<AbstractTransaction> transactions) throws IOException {
+        return signAll(transactions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Signs the transactions as a sender of each transaction using all keys in the keyring corresponding to the "from" address of each transaction.<p>
+     * The transactions are grouped by the sender and each group is signed on the executor.
+     * The transactions in a group are filled and signed one by one in the given order, so the nonces of a sender are allocated in order.<p>
+     * It returns the signed transactions in the same order as the given list.
+     * If signing a transaction fails, the remaining transactions of the same sender are not signed and the first error is thrown.<p>
+     * The keyring is found by the "from" of each transaction, so it must be set.
+     * An Ethereum transaction type(e.g. LegacyTransaction) without a sender has the zero address as "from", and it throws IllegalArgumentException before any transaction is signed.
+     * <pre>Example :
+     * {@code
+     * ExecutorService executor = Executors.newFixedThreadPool(8);
+     * List<AbstractTransaction> signedTxs = caver.wallet.signAll(transactionList, executor);
+     * }
+     * </pre>
+     * @param transactions A List of AbstractTransaction instances to sign.
+     * @param executor An executor to run the signing tasks.
+     * @return List
+     * @throws IOException
+     */
+    public List<AbstractTransaction> signAll(List<AbstractTransaction> transactions, Executor executor) throws IOException {
+        for(AbstractTransaction transaction : transactions) {
+            String from = transaction.getFrom();
+            if(from == null || from.equals("0x") || from.equalsIgnoreCase(Utils.DEFAULT_ZERO_ADDRESS)) {
+                throw new IllegalArgumentException("Failed to sign transactions: \"from\" of every transaction must be set to find its keyring. (type: " + transaction.getType() + ")");
+            }
+        }
+
+        return signInGroups(transactions, executor, transaction -> this.sign(transaction.getFrom(), transaction));
+    }
+
+    /**
+     * Signs the FeeDelegatedTransactions as a fee payer using all keys in the keyring corresponding to the address.<p>
+     * The transactions are signed in parallel on the common ForkJoinPool.
+     * <pre>Example :
+     * {@code
+     * List<AbstractFeeDelegatedTransaction> signedTxs = caver.wallet.signAllAsFeePayer("0x{address}", transactionList);
+     * }
+     * </pre>
+     * @param address An address of keyring in KeyringContainer.
+     * @param transactions A List of AbstractFeeDelegatedTransaction instances to sign.
+     * @return List
+     * @throws IOException
+     * @see #signAllAsFeePayer(String, List, Executor)
+     */
+    public List<AbstractFeeDelegatedTransaction> signAllAsFeePayer(String address, List<AbstractFeeDelegatedTransaction> transactions) throws IOException {
+        return signAllAsFeePayer(address, transactions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Signs the FeeDelegatedTransactions as a fee payer using all keys in the keyring corresponding to the address.<p>
+     * The transactions are grouped by the sender and each group is signed on the executor, so the nonces of a sender are allocated in order.<p>
+     * It returns the signed transactions in the same order as the given list.
+     * <pre>Example :
+     * {@code
+     * ExecutorService executor = Executors.newFixedThreadPool(8);
+     * List<AbstractFeeDelegatedTransaction> signedTxs = caver.wallet.signAllAsFeePayer("0x{address}", transactionList, executor);
+     * }
+     * </pre>
+     * @param address An address of keyring in KeyringContainer.
+     * @param transactions A List of AbstractFeeDelegatedTransaction instances to sign.
+     * @param executor An executor to run the signing tasks.
+     * @return List
+     * @throws IOException
+     */
+    public List<AbstractFeeDelegatedTransaction> signAllAsFeePayer(String address, List<AbstractFeeDelegatedTransaction> transactions, Executor executor) throws IOException {
         if(!isExisted(address)) {
             throw new NullPointerException("Failed to find keyring from wallet with address");
         }
 
-        return transaction.signAsFeePayer(this.getKeyring(address), index, hasher);
+        return signInGroups(transactions, executor, transaction -> this.signAsFeePayer(address, transaction));
+    }
+
+    private <T extends AbstractTransaction> List<T> signInGroups(List<T> transactions, Executor executor, NonceGuard.TransactionSigner<T> signer) throws IOException {
+        if(executor == null) {
+            throw new IllegalArgumentException("The executor must not be null.");
+        }
+
+        Map<Address, List<Integer>> groups = new LinkedHashMap<>();
+        for(int i = 0; i < transactions.size(); i++) {
+            Address sender = Address.of(transactions.get(i).getFrom());
+            groups.computeIfAbsent(sender, key -> new ArrayList<>()).add(i);
+        }
+
+        // The nonces allocated in this call for the transactions which are not signed are released if it fails.
+        // The signed transactions keep their nonces, because they can be sent by the caller.
+        boolean[] emptyNonce = new boolean[transactions.size()];
+        for(int i = 0; i < transactions.size(); i++) {
+            emptyNonce[i] = transactions.get(i).getNonce().equals("0x");
+        }
+
+        List<T> signed = new ArrayList<>(transactions);
+        boolean[] done = new boolean[transactions.size()];
+        CompletableFuture<?>[] futures = groups.values().stream()
+                .map(indexes -> CompletableFuture.runAsync(() -> {
+                    for(int index : indexes) {
+                        try {
+                            signed.set(index, signer.sign(transactions.get(index)));
+                            done[index] = true;
+                        } catch(IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch(CompletionException e) {
+            for(int i = 0; i < transactions.size(); i++) {
+                if(emptyNonce[i] && !done[i]) {
+                    transactions.get(i).releaseNonce();
+                }
+            }
+
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw e;
+        }
+
+        return signed;
     }
 
     /**
@@ -501,6 +1050,29 @@ public class KeyringContainer implements IWallet{
      */
     @Override
     public boolean isExisted(String address) {
-        return this.getKeyring(address) != null;
+        return isExisted(toAddress(address, INVALID_ADDRESS_MESSAGE));
+    }
+
+    private AbstractKeyring getExistingKeyring(String address) {
+        Address key = toAddress(address, INVALID_ADDRESS_MESSAGE);
+        if(!isExisted(key)) {
+            throw new NullPointerException("Failed to find keyring from wallet with address");
+        }
+        return getKeyring(key);
+    }
+
+    private boolean isExisted(Address key) {
+        return this.addressKeyringMap.containsKey(key) || this.addressLockedKeyStoreMap.containsKey(key);
+    }
+
+    /**
+     * Converts the address string to an Address key. Address.of validates the address, so it is not checked before.
+     */
+    private static Address toAddress(String address, String message) {
+        try {
+            return Address.of(address);
+        } catch(IllegalArgumentException e) {
+            throw new IllegalArgumentException(message);
+        }
     }
 }
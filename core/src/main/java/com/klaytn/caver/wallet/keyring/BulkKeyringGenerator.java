@@ -0,0 +1,221 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet.keyring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.prng.SP800SecureRandomBuilder;
+import org.bouncycastle.util.Pack;
+import org.web3j.crypto.CipherException;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Generates a large number of single keyrings in parallel.<p>
+ * Each worker thread draws private keys from its own SP 800-90A Hash_DRBG(SHA-256) which is seeded from the system SecureRandom,
+ * so the threads don't contend for a shared SecureRandom. The system SecureRandom is read again only when a DRBG reaches its reseed interval. The public keys and addresses are derived in the worker threads
+ * with the secp256k1 engine of {@link PrivateKey}.
+ * <pre>Example :
+ * {@code
+ * List<SingleKeyring> keyrings = BulkKeyringGenerator.generate(100000);
+ * }
+ * </pre>
+ * @see KeyringFactory#generate()
+ */
+public class BulkKeyringGenerator {
+    /**
+     * The number of keyrings that one task generates without splitting.
+     */
+    static final int BULK_GENERATE_THRESHOLD = 64;
+
+    private static final BigInteger CURVE_ORDER = FastSecp256k1Engine.CURVE.getN();
+
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+    // The DRBG is not prediction resistant, so it reads SEED_SOURCE only when it is instantiated and when its reseed interval is reached.
+    // A prediction resistant DRBG reseeds from SEED_SOURCE on every nextBytes(), so all threads would contend for it again per key.
+    private static final ThreadLocal<SecureRandom> DRBG = ThreadLocal.withInitial(() -> {
+        byte[] nonce = new byte[32];
+        SEED_SOURCE.nextBytes(nonce);
+
+        return new SP800SecureRandomBuilder(SEED_SOURCE, false)
+                .setPersonalizationString(Pack.longToBigEndian(Thread.currentThread().getId()))
+                .buildHash(new SHA256Digest(), nonce, false);
+    });
+
+    /**
+     * Generates a single keyring with the DRBG of the current thread.
+     * @return SingleKeyring
+     */
+    public static SingleKeyring generate() {
+        SecureRandom random = DRBG.get();
+        byte[] bytes = new byte[32];
+
+        BigInteger value;
+        do {
+            random.nextBytes(bytes);
+            value = new BigInteger(1, bytes);
+        } while(value.signum() == 0 || value.compareTo(CURVE_ORDER) >= 0);
+        Arrays.fill(bytes, (byte)0);
+
+        PrivateKey privateKey = new PrivateKey(value);
+        return new SingleKeyring(privateKey.getDerivedAddress(), privateKey);
+    }
+
+    /**
+     * Generates single keyrings in parallel on the common ForkJoinPool.
+     * @param num The number of keyrings to generate.
+     * @return List&lt;SingleKeyring&gt;
+     */
+    public static List<SingleKeyring> generate(int num) {
+        return generate(num, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates single keyrings in parallel on the given ForkJoinPool.
+     * @param num The number of keyrings to generate.
+     * @param pool The ForkJoinPool to run generating tasks.
+     * @return List&lt;SingleKeyring&gt;
+     */
+    public static List<SingleKeyring> generate(int num, ForkJoinPool pool) {
+        SingleKeyring[] keyrings = new SingleKeyring[num];
+        generate(num, pool, (index, keyring) -> keyrings[index] = keyring);
+        return Arrays.asList(keyrings);
+    }
+
+    /**
+     * Generates single keyrings in parallel on the given ForkJoinPool and passes each of them to the sink without collecting them.<p>
+     * The sink is called from the worker threads at the same time, so it must be thread-safe.
+     * <pre>Example :
+     * {@code
+     * CompactKeyringStore wallet = new CompactKeyringStore(100000);
+     * BulkKeyringGenerator.generate(100000, ForkJoinPool.commonPool(), wallet::add);
+     * }
+     * </pre>
+     * @param num The number of keyrings to generate.
+     * @param pool The ForkJoinPool to run generating tasks.
+     * @param sink The consumer which receives the generated keyrings.
+     */
+    public static void generate(int num, ForkJoinPool pool, Consumer<SingleKeyring> sink) {
+        generate(num, pool, (index, keyring) -> sink.accept(keyring));
+    }
+
+    /**
+     * Generates single keyrings in parallel on the given ForkJoinPool, encrypts each of them and writes the keystore file into the directory.<p>
+     * The name of each keystore file is the address of keyring with ".json".
+     * <pre>Example :
+     * {@code
+     * List<String> addressList = BulkKeyringGenerator.generate(1000, Paths.get("keystore"), "password", "scrypt", ForkJoinPool.commonPool());
+     * }
+     * </pre>
+     * @param num The number of keyrings to generate.
+     * @param directory The directory to write keystore files.
+     * @param password The password to be used for encryption.
+     * @param kdfName Key derivation algorithm name. you can use "pbkdf2" or "scrypt". Each keystore has its own salt and iv.
+     * @param pool The ForkJoinPool to run generating tasks.
+     * @return List&lt;String&gt; The addresses of generated keyrings.
+     * @throws IOException
+     */
+    public static List<String> generate(int num, Path directory, String password, String kdfName, ForkJoinPool pool) throws IOException {
+        // Checks the kdf name before generating keyrings.
+        KeyStoreOption.getDefaultOptionWithKDF(kdfName);
+        if(!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("Not a directory: " + directory);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        String[] addresses = new String[num];
+        try {
+            generate(num, pool, (index, keyring) -> {
+                try {
+                    KeyStore keyStore = keyring.encrypt(password, KeyStoreOption.getDefaultOptionWithKDF(kdfName));
+                    mapper.writeValue(directory.resolve(keyring.getAddress() + ".json").toFile(), keyStore);
+                    addresses[index] = keyring.getAddress();
+                } catch(CipherException | IOException e) {
+                    throw new KeyStoreWriteException(e);
+                }
+            });
+        } catch(KeyStoreWriteException e) {
+            if(e.getCause() instanceof IOException) {
+                throw (IOException)e.getCause();
+            }
+            throw new IOException("Failed to write keystore file.", e.getCause());
+        }
+        return Arrays.asList(addresses);
+    }
+
+    private static void generate(int num, ForkJoinPool pool, IndexedSink sink) {
+        if(num < 0) {
+            throw new IllegalArgumentException("The number of keyrings must not be negative.");
+        }
+        if(pool == null) {
+            throw new IllegalArgumentException("The pool must not be null.");
+        }
+
+        if(num > 0) {
+            pool.invoke(new BulkGenerateTask(sink, 0, num));
+        }
+    }
+
+    private interface IndexedSink {
+        void accept(int index, SingleKeyring keyring);
+    }
+
+    private static class KeyStoreWriteException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        KeyStoreWriteException(Exception cause) {
+            super(cause);
+        }
+    }
+
+    private static class BulkGenerateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IndexedSink sink;
+        private final int from;
+        private final int to;
+
+        BulkGenerateTask(IndexedSink sink, int from, int to) {
+            this.sink = sink;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= BULK_GENERATE_THRESHOLD) {
+                for(int i = from; i < to; i++) {
+                    sink.accept(i, generate());
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new BulkGenerateTask(sink, from, mid), new BulkGenerateTask(sink, mid, to));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet.keyring;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECCurve;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.bouncycastle.math.ec.FixedPointUtil;
+import org.bouncycastle.math.ec.custom.sec.SecP256K1Curve;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * The secp256k1 engine which makes the same signature as {@link Web3jSecp256k1Engine} faster.
+ * It is not the default engine. It can be set by {@link PrivateKey#setSignatureEngine(ISecp256k1Engine)}.<p>
+ * <ul>
+ *     <li>The comb table for the generator point is precomputed once, and every multiplication of the generator point uses it.</li>
+ *     <li>The public key recovery uses the GLV endomorphism of secp256k1 to compute two multiplications at once.</li>
+ *     <li>The RFC 6979 nonce generator(and its HMAC state) is reused per thread instead of being made for each signature.</li>
+ *     <li>The recovery id is taken from the y value of the R point, so signing doesn't need the public key and the public key recovery for each recovery id.</li>
+ * </ul>
+ */
+public class FastSecp256k1Engine implements ISecp256k1Engine {
+    static final ECDomainParameters CURVE = new ECDomainParameters(
+            Sign.CURVE_PARAMS.getCurve(), Sign.CURVE_PARAMS.getG(), Sign.CURVE_PARAMS.getN(), Sign.CURVE_PARAMS.getH());
+    static final BigInteger HALF_CURVE_ORDER = CURVE.getN().shiftRight(1);
+
+    private static final BigInteger FIELD_PRIME = SecP256K1Curve.q;
+
+    private static final FixedPointCombMultiplier MULTIPLIER = new FixedPointCombMultiplier();
+
+    private static final ThreadLocal<HMacDSAKCalculator> K_CALCULATOR =
+            ThreadLocal.withInitial(() -> new HMacDSAKCalculator(new SHA256Digest()));
+
+    static {
+        FixedPointUtil.precompute(CURVE.getG());
+    }
+
+    @Override
+    public Sign.SignatureData sign(BigInteger privateKey, byte[] hash) {
+        BigInteger n = CURVE.getN();
+        BigInteger e = calculateE(n, hash);
+
+        HMacDSAKCalculator kCalculator = K_CALCULATOR.get();
+        kCalculator.init(n, privateKey, hash);
+
+        BigInteger r, s;
+        ECPoint point;
+        do {
+            BigInteger k;
+            do {
+                k = kCalculator.nextK();
+                point = MULTIPLIER.multiply(CURVE.getG(), k).normalize();
+                r = point.getAffineXCoord().toBigInteger().mod(n);
+            } while(r.signum() == 0);
+            s = k.modInverse(n).multiply(e.add(privateKey.multiply(r))).mod(n);
+        } while(s.signum() == 0);
+
+        int recId = point.getAffineYCoord().testBitZero() ? 1 : 0;
+        if(point.getAffineXCoord().toBigInteger().compareTo(n) >= 0) {
+            recId |= 2;
+        }
+
+        // Use the lower s value as the same with ECDSASignature.toCanonicalised(). It negates the R point, so the parity of y is flipped.
+        if(s.compareTo(HALF_CURVE_ORDER) > 0) {
+            s = n.subtract(s);
+            recId ^= 1;
+        }
+
+        return new Sign.SignatureData(
+                (byte)(recId + 27),
+                Numeric.toBytesPadded(r, 32),
+                Numeric.toBytesPadded(s, 32));
+    }
+
+    @Override
+    public BigInteger publicKeyFromPrivate(BigInteger privateKey) {
+        BigInteger key = privateKey;
+        if(key.bitLength() > CURVE.getN().bitLength()) {
+            key = key.mod(CURVE.getN());
+        }
+        return toPublicKey(MULTIPLIER.multiply(CURVE.getG(), key));
+    }
+
+    @Override
+    public BigInteger recoverPublicKey(byte[] hash, int recId, BigInteger r, BigInteger s) {
+        if(recId < 0) {
+            throw new IllegalArgumentException("recId must be positive");
+        }
+        if(r.signum() < 0 || s.signum() < 0) {
+            throw new IllegalArgumentException("r and s must be positive");
+        }
+
+        BigInteger n = CURVE.getN();
+        BigInteger x = r.add(BigInteger.valueOf(recId / 2).multiply(n));
+        if(x.compareTo(FIELD_PRIME) >= 0) {
+            return null;
+        }
+
+        ECPoint R = decompressPoint(x, (recId & 1) == 1);
+
+        // Q = r^-1 * (s * R - e * G)
+        BigInteger e = new BigInteger(1, hash);
+        BigInteger rInv = r.modInverse(n);
+        BigInteger eInvrInv = rInv.multiply(n.subtract(e).mod(n)).mod(n);
+        BigInteger srInv = rInv.multiply(s).mod(n);
+
+        ECPoint q = ECAlgorithms.sumOfTwoMultiplies(CURVE.getG(), eInvrInv, R, srInv);
+        if(q.isInfinity()) {
+            return null;
+        }
+        return toPublicKey(q);
+    }
+
+    private static ECPoint decompressPoint(BigInteger x, boolean yBit) {
+        ECCurve curve = CURVE.getCurve();
+        byte[] encoded = new byte[33];
+        encoded[0] = (byte)(yBit ? 0x03 : 0x02);
+        byte[] xBytes = Numeric.toBytesPadded(x, 32);
+        System.arraycopy(xBytes, 0, encoded, 1, 32);
+
+        return curve.decodePoint(encoded);
+    }
+
+    private static BigInteger toPublicKey(ECPoint point) {
+        byte[] encoded = point.getEncoded(false);
+        return new BigInteger(1, Arrays.copyOfRange(encoded, 1, encoded.length));
+    }
+
+    private static BigInteger calculateE(BigInteger n, byte[] message) {
+        int log2n = n.bitLength();
+        int messageBitLength = message.length * 8;
+
+        BigInteger e = new BigInteger(1, message);
+        if(log2n < messageBitLength) {
+            e = e.shiftRight(messageBitLength - log2n);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet.keyring;
+
+import org.web3j.crypto.Sign;
+
+import java.math.BigInteger;
+import java.util.function.Supplier;
+
+/**
+ * Representing a secp256k1 engine which signs a hash and recovers a public key from a signature.<p>
+ * The engine used by {@link PrivateKey} and {@link com.klaytn.caver.utils.Utils#recoverPublicKey(String, SignatureData, boolean)}
+ * can be changed at runtime via {@link PrivateKey#setSignatureEngine(ISecp256k1Engine)}.
+ * Every engine must make the same signature with the deterministic ECDSA(RFC 6979) as {@link Sign#signMessage(byte[], org.web3j.crypto.ECKeyPair, boolean)}.
+ */
+public interface ISecp256k1Engine {
+
+    /**
+     * Signs the hash with the private key and returns a signature which has v as [recovery id + 27].
+     * @param privateKey The private key.
+     * @param hash The hash to sign.
+     * @return Sign.SignatureData
+     */
+    Sign.SignatureData sign(BigInteger privateKey, byte[] hash);
+
+    /**
+     * Signs the hash with the private key whose public key is cached by the caller.<p>
+     * An engine which needs the public key to sign gets it from the publicKey supplier instead of deriving it for each signature.
+     * The default implementation doesn't need the public key, so the supplier is not called.
+     * @param privateKey The private key.
+     * @param publicKey The supplier of the uncompressed public key(64 bytes without the 0x04 prefix) of the private key.
+     * @param hash The hash to sign.
+     * @return Sign.SignatureData
+     */
+    default Sign.SignatureData sign(BigInteger privateKey, Supplier<BigInteger> publicKey, byte[] hash) {
+        return sign(privateKey, hash);
+    }
+
+    /**
+     * Returns the uncompressed public key(64 bytes without the 0x04 prefix) derived from the private key.
+     * @param privateKey The private key.
+     * @return BigInteger
+     */
+    BigInteger publicKeyFromPrivate(BigInteger privateKey);
+
+    /**
+     * Recovers the uncompressed public key(64 bytes without the 0x04 prefix) that was used to sign the hash.
+     * @param hash The signed hash.
+     * @param recId The recovery id.
+     * @param r The r value of the signature.
+     * @param s The s value of the signature.
+     * @return BigInteger. It returns null if the public key cannot be recovered.
+     */
+    BigInteger recoverPublicKey(byte[] hash, int recId, BigInteger r, BigInteger s);
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet.keyring;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits the memory used by the key derivations(scrypt allocates 128 * r * n bytes) running at the same time.<p>
+ * The memory of a derivation should be acquired by the thread submitting it before it is submitted, and released when it finishes,
+ * so the submitting thread waits for the memory instead of an executor thread.
+ * A derivation which needs more memory than the budget acquires the whole budget, so it runs alone.<p>
+ * The shared limiter returned by {@link #getShared()} is used by default, so concurrent decryptions share one {@link KeyStore.Crypto#KDF_MEMORY_BUDGET}.
+ * <pre>Example :
+ * {@code
+ * KdfMemoryLimiter limiter = new KdfMemoryLimiter(256 * 1024 * 1024);
+ * List<String> privateKeys = KeyStore.Crypto.decryptCrypto(cryptoList, "password", limiter, executor);
+ * }
+ * </pre>
+ */
+public class KdfMemoryLimiter {
+    private static final KdfMemoryLimiter SHARED = new KdfMemoryLimiter(KeyStore.Crypto.KDF_MEMORY_BUDGET);
+
+    private static final KdfMemoryLimiter UNLIMITED = new KdfMemoryLimiter();
+
+    /**
+     * The budget in KB. It is 0 for the unlimited limiter.
+     */
+    private final int budgetKb;
+
+    /**
+     * The available memory in KB.
+     */
+    private final Semaphore memory;
+
+    /**
+     * Creates a KdfMemoryLimiter instance.
+     * @param memoryBudget The maximum memory in bytes that key derivations running at the same time can use.
+     */
+    public KdfMemoryLimiter(long memoryBudget) {
+        if(memoryBudget < 1024) {
+            throw new IllegalArgumentException("The memory budget must be at least 1KB.");
+        }
+        this.budgetKb = (int)Math.min(memoryBudget / 1024, Integer.MAX_VALUE);
+        this.memory = new Semaphore(budgetKb);
+    }
+
+    private KdfMemoryLimiter() {
+        this.budgetKb = 0;
+        this.memory = null;
+    }
+
+    /**
+     * Returns the limiter shared by all decryptions which don't specify their own limiter.
+     * Its budget is {@link KeyStore.Crypto#KDF_MEMORY_BUDGET}.
+     * @return KdfMemoryLimiter
+     */
+    public static KdfMemoryLimiter getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the limiter which doesn't limit anything.<p>
+     * It is used when the memory of the derivations is already acquired from another limiter, e.g. for a whole keystore.
+     * @return KdfMemoryLimiter
+     */
+    public static KdfMemoryLimiter unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Waits until the given memory is available and acquires it.
+     * @param memoryCost The memory in bytes to acquire.
+     * @return int The acquired amount to be passed to {@link #release(int)}.
+     */
+    public int acquire(long memoryCost) {
+        if(memory == null) {
+            return 0;
+        }
+
+        int cost = (int)Math.max(1, Math.min(memoryCost / 1024, budgetKb));
+        memory.acquireUninterruptibly(cost);
+        return cost;
+    }
+
+    /**
+     * Releases the memory acquired by {@link #acquire(long)}.
+     * @param acquired The amount returned from {@link #acquire(long)}.
+     */
+    public void release(int acquired) {
+        if(memory != null && acquired > 0) {
+            memory.release(acquired);
+        }
+    }
+}
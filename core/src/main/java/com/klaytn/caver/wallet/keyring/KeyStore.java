@@ -49,7 +49,15 @@ import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -218,6 +226,12 @@ public class KeyStore {
      * It represents a 'crypto' in KeyStore Format V3
      */
     public static class Crypto {
+        /**
+         * The maximum memory in bytes that scrypt derivations running at the same time can use when decrypting keys in parallel.
+         * It is the budget of {@link KdfMemoryLimiter#getShared()}, so it is shared by all decryptions which don't specify their own limiter.
+         */
+        public static final long KDF_MEMORY_BUDGET = 512L * 1024 * 1024;
+
         /**
          * Cipher algorithm name. : AES-128-CTR
          */
@@ -255,7 +269,8 @@ public class KeyStore {
         }
 
         /**
-         * Creates Crypto instances with given params.
+         * Creates Crypto instances with given params.<p>
+         * All keys are encrypted with the same salt and KDF params, so the key is derived only once.
          * @param privateKeys An array of PrivateKeys to be encrypted.
          * @param password The password to be used for encryption. The encrypted in KeyStore can be decrypted with this password.
          * @param option The options to use when encrypt a keys.
@@ -268,8 +283,6 @@ public class KeyStore {
 
             List<KeyStore.Crypto> cryptoList = new ArrayList<>();
 
-            String kdfName = "";
-
             byte[] salt = (option.kdfParams.getSalt() != null) ? Numeric.hexStringToByteArray(option.kdfParams.getSalt()) : Utils.generateRandomBytes(32);
 
             byte[] iv;
@@ -280,42 +293,28 @@ public class KeyStore {
                 iv = Numeric.hexStringToByteArray(option.cipherParams.getIv());
             }
 
-            for(int i=0; i < privateKeys.length; i++) {
-                byte[] derivedKey;
-
-                //Check KDF Algorithm
-                //SCRYPT
-                if(option.kdfParams instanceof KeyStore.ScryptKdfParams) {
-                    kdfName = KeyStore.ScryptKdfParams.getName();
-                    derivedKey = generateDerivedScryptKey(
-                            password.getBytes(UTF_8),
-                            salt,
-                            ((KeyStore.ScryptKdfParams) option.kdfParams).getN(),
-                            ((KeyStore.ScryptKdfParams) option.kdfParams).getR(),
-                            ((KeyStore.ScryptKdfParams) option.kdfParams).getP(),
-                            option.kdfParams.getDklen());
-
-                    ((KeyStore.ScryptKdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
-                }
-                //PBKDF2
-                else if(option.kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
-                    kdfName = KeyStore.Pbkdf2KdfParams.getName();
-
-                    derivedKey = generatePbkdf2DerivedKey(
-                            password.getBytes(UTF_8),
-                            salt,
-                            ((KeyStore.Pbkdf2KdfParams) option.kdfParams).getC(),
-                            ((KeyStore.Pbkdf2KdfParams) option.kdfParams).getPrf()
-                    );
-
-                    ((KeyStore.Pbkdf2KdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
-                } else {
-                    throw new RuntimeException("Unsupported KDF");
-                }
+            if(privateKeys.length == 0) {
+                return cryptoList;
+            }
+
+            //Check KDF Algorithm
+            String kdfName;
+            if(option.kdfParams instanceof KeyStore.ScryptKdfParams) {
+                kdfName = KeyStore.ScryptKdfParams.getName();
+                ((KeyStore.ScryptKdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
+            } else if(option.kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
+                kdfName = KeyStore.Pbkdf2KdfParams.getName();
+                ((KeyStore.Pbkdf2KdfParams) option.kdfParams).setSalt(Numeric.toHexStringNoPrefix(salt));
+            } else {
+                throw new RuntimeException("Unsupported KDF");
+            }
 
-                //generate keys for used cipher encryption.(AES)
-                byte[] encryptKey = Arrays.copyOfRange(derivedKey, 0, 16);
+            byte[] derivedKey = deriveKey(option.kdfParams, password.getBytes(UTF_8));
 
+            //generate keys for used cipher encryption.(AES)
+            byte[] encryptKey = Arrays.copyOfRange(derivedKey, 0, 16);
+
+            for(int i=0; i < privateKeys.length; i++) {
                 //text
                 byte[] privateKeyBytes =
                         Numeric.toBytesPadded(Numeric.toBigInt(privateKeys[i].getPrivateKey()), PRIVATE_KEY_SIZE);
@@ -348,38 +347,56 @@ public class KeyStore {
          * @throws CipherException
          */
         public static String decryptCrypto(KeyStore.Crypto crypto, String password) throws CipherException {
-            byte[] mac = Numeric.hexStringToByteArray(crypto.getMac());
-            byte[] iv = Numeric.hexStringToByteArray(crypto.getCipherparams().getIv());
-            byte[] cipherText = Numeric.hexStringToByteArray(crypto.getCiphertext());
+            byte[] derivedKey = deriveKey(crypto.getKdfparams(), crypto.getKdf(), password.getBytes(UTF_8));
+            return decryptWithDerivedKey(crypto, derivedKey);
+        }
 
-            byte[] derivedKey;
+        /**
+         * Decrypts keys in KeyStore.<p>
+         * The key is derived once for each distinct KDF params(salt and parameters), and distinct derivations run in parallel on the common pool
+         * while the memory used by scrypt at the same time is within the budget of {@link KdfMemoryLimiter#getShared()}.
+         * Decrypting keys encrypted with the same KDF params costs one derivation.
+         * @param cryptoList The list of Crypto instance.
+         * @param password The password to use for decryption.
+         * @return List&lt;String&gt;
+         * @throws CipherException
+         */
+        public static List<String> decryptCrypto(List<KeyStore.Crypto> cryptoList, String password) throws CipherException {
+            return decryptCrypto(cryptoList, password, KdfMemoryLimiter.getShared(), ForkJoinPool.commonPool());
+        }
 
-            //Check KDF Algorithm
-            IKdfParams kdfParams = crypto.getKdfparams();
-            //SCRYPT
-            if (kdfParams instanceof KeyStore.ScryptKdfParams) {
-                KeyStore.ScryptKdfParams scryptKdfParams =
-                        (KeyStore.ScryptKdfParams) crypto.getKdfparams();
-                int dklen = scryptKdfParams.getDklen();
-                int n = scryptKdfParams.getN();
-                int p = scryptKdfParams.getP();
-                int r = scryptKdfParams.getR();
-                byte[] salt = Numeric.hexStringToByteArray(scryptKdfParams.getSalt());
+        /**
+         * Decrypts keys in KeyStore.<p>
+         * The key is derived once for each distinct KDF params(salt and parameters), and distinct derivations run in parallel on the executor.
+         * The memory of each derivation is acquired from the limiter by the calling thread before the derivation is submitted to the executor.
+         * @param cryptoList The list of Crypto instance.
+         * @param password The password to use for decryption.
+         * @param memoryLimiter The limiter of the memory used by the derivations.
+         * @param executor The executor to run the derivations.
+         * @return List&lt;String&gt;
+         * @throws CipherException
+         */
+        public static List<String> decryptCrypto(List<KeyStore.Crypto> cryptoList, String password, KdfMemoryLimiter memoryLimiter, Executor executor) throws CipherException {
+            byte[] passwordBytes = password.getBytes(UTF_8);
 
-                derivedKey = generateDerivedScryptKey(password.getBytes(UTF_8), salt, n, r, p, dklen);
+            Map<String, KeyStore.Crypto> distinct = new LinkedHashMap<>();
+            for(KeyStore.Crypto crypto : cryptoList) {
+                distinct.putIfAbsent(kdfIdentity(crypto), crypto);
             }
-            //PBKDF2
-            else if (kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
-                KeyStore.Pbkdf2KdfParams aes128CtrKdfParams =
-                        (KeyStore.Pbkdf2KdfParams) crypto.getKdfparams();
-                int c = aes128CtrKdfParams.getC();
-                String prf = aes128CtrKdfParams.getPrf();
-                byte[] salt = Numeric.hexStringToByteArray(aes128CtrKdfParams.getSalt());
-
-                derivedKey = generatePbkdf2DerivedKey(password.getBytes(UTF_8), salt, c, prf);
-            } else {
-                throw new CipherException("Unable to deserialize params: " + crypto.getKdf());
+
+            Map<String, byte[]> derivedKeys = deriveKeys(distinct, passwordBytes, memoryLimiter, executor);
+
+            List<String> privateKeys = new ArrayList<>();
+            for(KeyStore.Crypto crypto : cryptoList) {
+                privateKeys.add(decryptWithDerivedKey(crypto, derivedKeys.get(kdfIdentity(crypto))));
             }
+            return privateKeys;
+        }
+
+        private static String decryptWithDerivedKey(KeyStore.Crypto crypto, byte[] derivedKey) throws CipherException {
+            byte[] mac = Numeric.hexStringToByteArray(crypto.getMac());
+            byte[] iv = Numeric.hexStringToByteArray(crypto.getCipherparams().getIv());
+            byte[] cipherText = Numeric.hexStringToByteArray(crypto.getCiphertext());
 
             byte[] derivedMac = generateMac(derivedKey, cipherText);
 
@@ -394,6 +411,118 @@ public class KeyStore {
             return Numeric.toHexString(privateKey);
         }
 
+        private static Map<String, byte[]> deriveKeys(Map<String, KeyStore.Crypto> distinct, byte[] password, KdfMemoryLimiter memoryLimiter, Executor executor) throws CipherException {
+            Map<String, byte[]> derivedKeys = new HashMap<>();
+
+            if(distinct.size() == 1) {
+                Map.Entry<String, KeyStore.Crypto> entry = distinct.entrySet().iterator().next();
+                int acquired = memoryLimiter.acquire(memoryCost(entry.getValue().getKdfparams()));
+                try {
+                    derivedKeys.put(entry.getKey(), deriveKey(entry.getValue().getKdfparams(), entry.getValue().getKdf(), password));
+                } finally {
+                    memoryLimiter.release(acquired);
+                }
+                return derivedKeys;
+            }
+
+            // The memory is acquired here before submitting, so the executor threads never block waiting for it.
+            Map<String, CompletableFuture<byte[]>> futures = new LinkedHashMap<>();
+            for(Map.Entry<String, KeyStore.Crypto> entry : distinct.entrySet()) {
+                KeyStore.Crypto crypto = entry.getValue();
+                int acquired = memoryLimiter.acquire(memoryCost(crypto.getKdfparams()));
+
+                try {
+                    futures.put(entry.getKey(), CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return deriveKey(crypto.getKdfparams(), crypto.getKdf(), password);
+                        } catch(CipherException e) {
+                            throw new CompletionException(e);
+                        } finally {
+                            memoryLimiter.release(acquired);
+                        }
+                    }, executor));
+                } catch(RejectedExecutionException e) {
+                    memoryLimiter.release(acquired);
+                    throw e;
+                }
+            }
+
+            for(Map.Entry<String, CompletableFuture<byte[]>> entry : futures.entrySet()) {
+                try {
+                    derivedKeys.put(entry.getKey(), entry.getValue().join());
+                } catch(CompletionException e) {
+                    if(e.getCause() instanceof CipherException) {
+                        throw (CipherException)e.getCause();
+                    }
+                    throw e;
+                }
+            }
+            return derivedKeys;
+        }
+
+        private static byte[] deriveKey(IKdfParams kdfParams, String kdf, byte[] password) throws CipherException {
+            if(!(kdfParams instanceof KeyStore.ScryptKdfParams) && !(kdfParams instanceof KeyStore.Pbkdf2KdfParams)) {
+                throw new CipherException("Unable to deserialize params: " + kdf);
+            }
+            return deriveKey(kdfParams, password);
+        }
+
+        private static byte[] deriveKey(IKdfParams kdfParams, byte[] password) throws CipherException {
+            //SCRYPT
+            if(kdfParams instanceof KeyStore.ScryptKdfParams) {
+                KeyStore.ScryptKdfParams scryptKdfParams = (KeyStore.ScryptKdfParams) kdfParams;
+                byte[] salt = Numeric.hexStringToByteArray(scryptKdfParams.getSalt());
+
+                return generateDerivedScryptKey(password, salt, scryptKdfParams.getN(), scryptKdfParams.getR(), scryptKdfParams.getP(), scryptKdfParams.getDklen());
+            }
+
+            //PBKDF2
+            KeyStore.Pbkdf2KdfParams pbkdf2KdfParams = (KeyStore.Pbkdf2KdfParams) kdfParams;
+            byte[] salt = Numeric.hexStringToByteArray(pbkdf2KdfParams.getSalt());
+
+            return generatePbkdf2DerivedKey(password, salt, pbkdf2KdfParams.getC(), pbkdf2KdfParams.getPrf());
+        }
+
+        private static String kdfIdentity(KeyStore.Crypto crypto) {
+            IKdfParams kdfParams = crypto.getKdfparams();
+            if(kdfParams instanceof KeyStore.ScryptKdfParams) {
+                KeyStore.ScryptKdfParams params = (KeyStore.ScryptKdfParams) kdfParams;
+                return "scrypt:" + Numeric.cleanHexPrefix(params.getSalt()).toLowerCase() + ":" + params.getN() + ":" + params.getR() + ":" + params.getP() + ":" + params.getDklen();
+            } else if(kdfParams instanceof KeyStore.Pbkdf2KdfParams) {
+                KeyStore.Pbkdf2KdfParams params = (KeyStore.Pbkdf2KdfParams) kdfParams;
+                return "pbkdf2:" + Numeric.cleanHexPrefix(params.getSalt()).toLowerCase() + ":" + params.getC() + ":" + params.getPrf() + ":" + params.getDklen();
+            }
+            // It fails when deriving the key, so it doesn't need to be shared.
+            return "unknown:" + System.identityHashCode(crypto);
+        }
+
+        /**
+         * Returns the memory in bytes that deriving the keys of the Crypto instances uses.<p>
+         * The Crypto instances encrypted with the same KDF params share one derivation, so they are counted once.
+         * @param cryptoList The list of Crypto instance.
+         * @return long
+         */
+        public static long getKdfMemoryCost(List<KeyStore.Crypto> cryptoList) {
+            Map<String, KeyStore.Crypto> distinct = new LinkedHashMap<>();
+            for(KeyStore.Crypto crypto : cryptoList) {
+                distinct.putIfAbsent(kdfIdentity(crypto), crypto);
+            }
+
+            long cost = 0;
+            for(KeyStore.Crypto crypto : distinct.values()) {
+                cost += memoryCost(crypto.getKdfparams());
+            }
+            return cost;
+        }
+
+        private static long memoryCost(IKdfParams kdfParams) {
+            if(kdfParams instanceof KeyStore.ScryptKdfParams) {
+                KeyStore.ScryptKdfParams params = (KeyStore.ScryptKdfParams) kdfParams;
+                return 128L * params.getR() * params.getN();
+            }
+            return 1024;
+        }
+
         /**
          * Derived key using SCRYPT algorithm.
          * @param password The password to use for key derivation.
@@ -25,7 +25,10 @@ import org.web3j.crypto.*;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 
@@ -578,6 +581,28 @@ public class KeyringFactory {
      * @throws CipherException It throws when cipher operation has failed.
      */
     public static AbstractKeyring decrypt(KeyStore keystore, String password) throws CipherException{
+        return decrypt(keystore, password, KdfMemoryLimiter.getShared(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decrypts a keystore v3 or v4 and returns a keyring instance.<p>
+     * The key derivations run on the executor, and their memory is acquired from the memoryLimiter before they are submitted.
+     * <pre>Example :
+     * {@code
+     * KdfMemoryLimiter limiter = new KdfMemoryLimiter(256 * 1024 * 1024);
+     * AbstractKeyring keyring = KeyringFactory.decrypt(file, "password", limiter, executor);
+     * }
+     * </pre>
+     *
+     * @param keystore The encrypted keystore to decrypt.
+     * @param password The password to use for decryption.
+     * @param memoryLimiter The limiter of the memory used by the key derivations.
+     * @param executor The executor to run the key derivations.
+     * @return AbstractKeyring
+     * @throws CipherException It throws when cipher operation has failed.
+     * @see KeyStore.Crypto#decryptCrypto(List, String, KdfMemoryLimiter, Executor)
+     */
+    public static AbstractKeyring decrypt(KeyStore keystore, String password, KdfMemoryLimiter memoryLimiter, Executor executor) throws CipherException{
         if(keystore.getVersion() == KeyStore.KEY_STORE_VERSION_V3 && keystore.getCrypto() == null) {
             throw new IllegalArgumentException("Invalid keystore V3 format: 'crypto' is not defined.");
         } else if(keystore.getVersion() == KeyStore.KEY_STORE_VERSION_V4 && keystore.getKeyring() == null) {
@@ -593,29 +618,27 @@ public class KeyringFactory {
         String address = Utils.addHexPrefix(keystore.getAddress());
         if(keystore.getVersion() == KeyStore.KEY_STORE_VERSION_V3) {
             KeyStore.Crypto crypto = keystore.getCrypto();
-            String privateKey = KeyStore.Crypto.decryptCrypto(crypto, password);
+            String privateKey = KeyStore.Crypto.decryptCrypto(Collections.singletonList(crypto), password, memoryLimiter, executor).get(0);
             return KeyringFactory.create(address, privateKey);
         }
 
         List keyring = keystore.getKeyring();
         List<String[]> privateKeyList = new ArrayList<>();
         if(keyring.get(0) instanceof KeyStore.Crypto) {
-            String[] privateKeyArr = new String[keyring.size()];
-            for(int i=0; i<keyring.size(); i++) {
-                KeyStore.Crypto crypto = (KeyStore.Crypto)keyring.get(i);
-                String privateKey = KeyStore.Crypto.decryptCrypto(crypto, password);
-                privateKeyArr[i] = privateKey;
-            }
-            privateKeyList.add(privateKeyArr);
+            List<String> privateKeys = KeyStore.Crypto.decryptCrypto((List<KeyStore.Crypto>)keyring, password, memoryLimiter, executor);
+            privateKeyList.add(privateKeys.toArray(new String[0]));
         } else {
+            // Decrypt the keys of all roles at once, so the keys encrypted with the same KDF params share one key derivation.
+            List<KeyStore.Crypto> cryptoList = new ArrayList<>();
+            for(List<KeyStore.Crypto> multiKeying : (List<List<KeyStore.Crypto>>)keyring) {
+                cryptoList.addAll(multiKeying);
+            }
+            List<String> privateKeys = KeyStore.Crypto.decryptCrypto(cryptoList, password, memoryLimiter, executor);
+
+            int offset = 0;
             for(List<KeyStore.Crypto> multiKeying : (List<List<KeyStore.Crypto>>)keyring) {
-                String[] privateKeyArr = new String[multiKeying.size()];
-                for(int i=0; i<multiKeying.size(); i++) {
-                    KeyStore.Crypto crypto = multiKeying.get(i);
-                    String privateKey = KeyStore.Crypto.decryptCrypto(crypto, password);
-                    privateKeyArr[i] = privateKey;
-                }
-                privateKeyList.add(privateKeyArr);
+                privateKeyList.add(privateKeys.subList(offset, offset + multiKeying.size()).toArray(new String[0]));
+                offset += multiKeying.size();
             }
         }
 
@@ -18,7 +18,6 @@ package com.klaytn.caver.wallet.keyring;
 
 import com.klaytn.caver.utils.BytesUtils;
 import com.klaytn.caver.utils.Utils;
-import org.web3j.crypto.ECKeyPair;
 import org.web3j.crypto.Hash;
 import org.web3j.crypto.Keys;
 import org.web3j.crypto.Sign;
@@ -32,11 +31,38 @@ import java.math.BigInteger;
 public class PrivateKey {
     static final int LEN_UNCOMPRESSED_PUBLIC_KEY_STRING = 128;
 
+    /**
+     * The secp256k1 engine used to sign, derive a public key and recover a public key.
+     * It is {@link Web3jSecp256k1Engine} unless another engine is set by {@link #setSignatureEngine(ISecp256k1Engine)}.
+     */
+    private static volatile ISecp256k1Engine signatureEngine = new Web3jSecp256k1Engine();
+
     /**
      * Private key string
      */
     private String privateKey;
 
+    /**
+     * The private key as an integer, parsed once from the private key string.
+     */
+    private final BigInteger privateKeyValue;
+
+    /**
+     * The public key derived from the private key. It is derived at the first use.
+     */
+    private volatile BigInteger publicKeyValue;
+
+    /**
+     * The uncompressed and compressed public key strings. They are made at the first use.
+     */
+    private volatile String uncompressedPublicKey;
+    private volatile String compressedPublicKey;
+
+    /**
+     * The address derived from the public key. It is derived at the first use.
+     */
+    private volatile String derivedAddress;
+
     /**
      * Creates a PrivateKey instance
      * @param privateKey The private key string.
@@ -46,6 +72,16 @@ public class PrivateKey {
             throw new IllegalArgumentException("Invalid private key.");
         }
         this.privateKey = Numeric.prependHexPrefix(privateKey);
+        this.privateKeyValue = Numeric.toBigInt(this.privateKey);
+    }
+
+    /**
+     * Creates a PrivateKey instance from the value which is already checked to be in [1, n-1] of secp256k1.
+     * @param privateKeyValue The private key as an integer.
+     */
+    PrivateKey(BigInteger privateKeyValue) {
+        this.privateKey = Numeric.toHexStringWithPrefixZeroPadded(privateKeyValue, 64);
+        this.privateKeyValue = privateKeyValue;
     }
 
     /**
@@ -104,8 +140,7 @@ public class PrivateKey {
      * @return SignatureData
      */
     public SignatureData sign(String sigHash, int chainId) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(sigHash), keyPair, false);
+        Sign.SignatureData signatureData = signHash(Numeric.hexStringToByteArray(sigHash));
 
         SignatureData signData = new SignatureData(signatureData.getV(), signatureData.getR(), signatureData.getS());
         signData.makeEIP155Signature(chainId);
@@ -128,8 +163,7 @@ public class PrivateKey {
      * @return SignatureData
      */
     public SignatureData ecsign(String sigHash) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(sigHash), keyPair, false);
+        Sign.SignatureData signatureData = signHash(Numeric.hexStringToByteArray(sigHash));
 
         // Sign.signMessage() always add to 27 at V value. so it need to substract 27 from V value.
         byte[] v = new byte[] {(byte)(signatureData.getV()[0] - 27)};
@@ -152,8 +186,7 @@ public class PrivateKey {
      * @return SignatureData
      */
     public SignatureData signMessage(String messageHash) {
-        ECKeyPair keyPair = ECKeyPair.create(Numeric.toBigInt(privateKey));
-        Sign.SignatureData signatureData = Sign.signMessage(Numeric.hexStringToByteArray(messageHash), keyPair, false);
+        Sign.SignatureData signatureData = signHash(Numeric.hexStringToByteArray(messageHash));
 
         SignatureData signData = new SignatureData(signatureData.getV(), signatureData.getR(), signatureData.getS());
         return signData;
@@ -172,13 +205,22 @@ public class PrivateKey {
      * @return String
      */
     public String getPublicKey(boolean compressed) {
-        BigInteger publicKey = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey));
+        String uncompressed = uncompressedPublicKey;
+        if(uncompressed == null) {
+            uncompressed = Numeric.toHexStringWithPrefixZeroPadded(getPublicKeyValue(), LEN_UNCOMPRESSED_PUBLIC_KEY_STRING);
+            uncompressedPublicKey = uncompressed;
+        }
 
         if(compressed) {
-            return Utils.compressPublicKey(Numeric.toHexStringWithPrefixZeroPadded(publicKey, LEN_UNCOMPRESSED_PUBLIC_KEY_STRING));
+            String compressedKey = compressedPublicKey;
+            if(compressedKey == null) {
+                compressedKey = Utils.compressPublicKey(uncompressed);
+                compressedPublicKey = compressedKey;
+            }
+            return compressedKey;
         }
 
-        return Numeric.toHexStringWithPrefixZeroPadded(publicKey, LEN_UNCOMPRESSED_PUBLIC_KEY_STRING);
+        return uncompressed;
     }
 
     /**
@@ -192,8 +234,37 @@ public class PrivateKey {
      * @return String
      */
     public String getDerivedAddress() {
-        BigInteger publicKey = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey));
-        return Numeric.prependHexPrefix(Keys.getAddress(publicKey));
+        String address = derivedAddress;
+        if(address == null) {
+            address = Numeric.prependHexPrefix(Keys.getAddress(getPublicKeyValue()));
+            derivedAddress = address;
+        }
+        return address;
+    }
+
+    /**
+     * Returns the secp256k1 engine used to sign, derive a public key and recover a public key.
+     * @return ISecp256k1Engine
+     */
+    public static ISecp256k1Engine getSignatureEngine() {
+        return signatureEngine;
+    }
+
+    /**
+     * Changes the secp256k1 engine used to sign, derive a public key and recover a public key.<p>
+     * The default engine is {@link Web3jSecp256k1Engine}. {@link FastSecp256k1Engine} can be set to sign with precomputed generator tables.
+     * <pre>Example :
+     * {@code
+     * PrivateKey.setSignatureEngine(new FastSecp256k1Engine());
+     * }
+     * </pre>
+     * @param engine The secp256k1 engine.
+     */
+    public static void setSignatureEngine(ISecp256k1Engine engine) {
+        if(engine == null) {
+            throw new IllegalArgumentException("The signature engine must not be null.");
+        }
+        signatureEngine = engine;
     }
 
     /**
@@ -203,4 +274,22 @@ public class PrivateKey {
     public String getPrivateKey() {
         return privateKey;
     }
+
+    private BigInteger getPublicKeyValue() {
+        BigInteger publicKey = publicKeyValue;
+        if(publicKey == null) {
+            publicKey = signatureEngine.publicKeyFromPrivate(privateKeyValue);
+            publicKeyValue = publicKey;
+        }
+        return publicKey;
+    }
+
+    /**
+     * Signs the hash with the signature engine and returns a signature which has v as [recovery id + 27].
+     * @param hash The hash to sign.
+     * @return Sign.SignatureData
+     */
+    Sign.SignatureData signHash(byte[] hash) {
+        return signatureEngine.sign(privateKeyValue, this::getPublicKeyValue, hash);
+    }
 }
@@ -237,11 +237,18 @@ public class RoleBasedKeyring extends AbstractKeyring {
     public KeyStore encrypt(String password, KeyStoreOption options) throws CipherException {
         List<List<KeyStore.Crypto>> cryptoList = new ArrayList<>();
 
+        // Encrypt the keys of all roles at once, so the key is derived only once.
+        List<PrivateKey> privateKeys = new ArrayList<>();
+        for(int i = 0; i<AccountKeyRoleBased.ROLE_GROUP_COUNT; i++) {
+            privateKeys.addAll(Arrays.asList(this.keys.get(i)));
+        }
+        List<KeyStore.Crypto> encrypted = KeyStore.Crypto.createCrypto(privateKeys.toArray(new PrivateKey[0]), password, options);
 
+        int offset = 0;
         for(int i = 0; i<AccountKeyRoleBased.ROLE_GROUP_COUNT; i++) {
-            PrivateKey[] privateKeys = this.keys.get(i);
-            List<KeyStore.Crypto> list = KeyStore.Crypto.createCrypto(privateKeys, password, options);
-            cryptoList.add(list);
+            int size = this.keys.get(i).length;
+            cryptoList.add(new ArrayList<>(encrypted.subList(offset, offset + size)));
+            offset += size;
         }
 
         KeyStore keyStore = new KeyStore();
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.klaytn.caver.transaction.type.TransactionType;
 import com.klaytn.caver.utils.BytesUtils;
+import com.klaytn.caver.utils.RlpListReader;
 import com.klaytn.caver.utils.Utils;
 import org.web3j.rlp.RlpList;
 import org.web3j.rlp.RlpString;
@@ -125,6 +126,26 @@ public class SignatureData {
         return signatureDataList;
     }
 
+    /**
+     * Decodes a RLP-encoded signature list read by {@link RlpListReader}.
+     * @param signatureList a RlpListReader of the RLP-encoded signature list.
+     * @return {@code List<SignatureData>}
+     */
+    public static List<SignatureData> decodeSignatures(RlpListReader signatureList) {
+        List<SignatureData> signatureDataList = new ArrayList<>();
+
+        for (int i = 0; i < signatureList.size(); i++) {
+            RlpListReader vrs = signatureList.getList(i);
+            if (vrs.size() < 3) continue;
+            byte[] v = vrs.getBytes(0);
+            byte[] r = vrs.getBytes(1);
+            byte[] s = vrs.getBytes(2);
+            signatureDataList.add(new SignatureData(v, r, s));
+        }
+
+        return signatureDataList;
+    }
+
     /**
      * Set "V" field according to EIP-155.
      * <pre>Example :
@@ -16,6 +16,7 @@
 
 package com.klaytn.caver.wallet.keyring;
 
+import com.klaytn.caver.account.Address;
 import com.klaytn.caver.account.Account;
 import com.klaytn.caver.account.AccountKeyRoleBased;
 import com.klaytn.caver.utils.Utils;
@@ -297,7 +298,7 @@ public class SingleKeyring extends AbstractKeyring{
      */
     @Override
     public boolean isDecoupled() {
-        return !(this.address.toLowerCase().equals(this.key.getDerivedAddress().toLowerCase()));
+        return !Address.isSame(this.address, this.key.getDerivedAddress());
     }
 
     /**
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.wallet.keyring;
+
+import org.web3j.crypto.ECDSASignature;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Sign;
+
+import java.math.BigInteger;
+import java.util.function.Supplier;
+
+/**
+ * The secp256k1 engine which delegates to web3j's {@link Sign}.<p>
+ * It is the reference implementation and the default engine of {@link PrivateKey}. It tries the public key recovery for each recovery id whenever it signs.
+ * {@link PrivateKey} passes its cached public key, so the public key is not derived for each signature.
+ */
+public class Web3jSecp256k1Engine implements ISecp256k1Engine {
+
+    @Override
+    public Sign.SignatureData sign(BigInteger privateKey, byte[] hash) {
+        return Sign.signMessage(hash, ECKeyPair.create(privateKey), false);
+    }
+
+    /**
+     * Signs the hash with the key pair made from the given public key, so the public key is not derived again for each signature.
+     * @param privateKey The private key.
+     * @param publicKey The supplier of the public key of the private key.
+     * @param hash The hash to sign.
+     * @return Sign.SignatureData
+     */
+    @Override
+    public Sign.SignatureData sign(BigInteger privateKey, Supplier<BigInteger> publicKey, byte[] hash) {
+        return Sign.signMessage(hash, new ECKeyPair(privateKey, publicKey.get()), false);
+    }
+
+    @Override
+    public BigInteger publicKeyFromPrivate(BigInteger privateKey) {
+        return Sign.publicKeyFromPrivate(privateKey);
+    }
+
+    @Override
+    public BigInteger recoverPublicKey(byte[] hash, int recId, BigInteger r, BigInteger s) {
+        return Sign.recoverFromSignature(recId, new ECDSASignature(r, s), hash);
+    }
+}
@@ -17,11 +17,13 @@
 package com.klaytn.caver.common.abi;
 
 import com.klaytn.caver.Caver;
+import com.klaytn.caver.abi.EventCodec;
 import com.klaytn.caver.abi.EventValues;
 import com.klaytn.caver.abi.TypeDecoder;
 import com.klaytn.caver.abi.datatypes.*;
 import com.klaytn.caver.abi.datatypes.generated.*;
 import com.klaytn.caver.contract.Contract;
+import com.klaytn.caver.contract.ContractEvent;
 import com.klaytn.caver.contract.ContractIOType;
 import org.junit.Rule;
 import org.junit.Test;
@@ -39,6 +41,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(Enclosed.class)
@@ -2530,6 +2533,33 @@ public class ABITest {
             assertEquals(eventValues.getIndexedValues().get(1).getValue(), "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a");
             assertEquals(eventValues.getNonIndexedValues().get(0).getValue(), value);
         }
+
+        @Test
+        public void decodeLogWithEvent() throws ClassNotFoundException {
+            List<ContractIOType> ioTypeList= Arrays.asList(
+                    new ContractIOType("from", "address", true),
+                    new ContractIOType("to", "address", true),
+                    new ContractIOType("value", "uint256", false)
+            );
+            ContractEvent event = new ContractEvent("event", "Transfer", "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef", ioTypeList);
+
+            List<String> topics = Arrays.asList(
+                    "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef",
+                    "0x0000000000000000000000000000000000000000000000000000000000000000",
+                    "0x0000000000000000000000002c8ad0ea2e0781db8b8c9242e07de3a5beabb71a"
+            );
+
+            String nonIndexedData = "0x00000000000000000000000000000000000000000000152d02c7e14af6800000";
+            BigInteger value = BigInteger.valueOf(100_000).multiply(BigInteger.TEN.pow(18));
+
+            EventCodec codec = event.getCodec();
+            EventValues eventValues = caver.abi.decodeLog(event, nonIndexedData, topics);
+
+            assertSame(codec, event.getCodec());
+            assertEquals(eventValues.getIndexedValues().get(0).getValue(), "0x0000000000000000000000000000000000000000");
+            assertEquals(eventValues.getIndexedValues().get(1).getValue(), "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a");
+            assertEquals(eventValues.getNonIndexedValues().get(0).getValue(), value);
+        }
     }
 
     public static class buildFunctionEventString {
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.abi;
+
+import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.StreamingTypeEncoder;
+import com.klaytn.caver.abi.datatypes.*;
+import com.klaytn.caver.abi.datatypes.generated.Bytes10;
+import com.klaytn.caver.abi.datatypes.generated.Int8;
+import com.klaytn.caver.abi.datatypes.generated.Uint256;
+import com.klaytn.caver.abi.datatypes.generated.Uint32;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class StreamingTypeEncoderTest {
+    public static class encodeTest {
+        @Test
+        public void staticAndDynamicParameters() {
+            // f(uint256,uint32[],bytes10,bytes) in the ABI specification.
+            List<Type> parameters = Arrays.asList(
+                    new Uint256(0x123),
+                    new DynamicArray<>(Uint32.class, new Uint32(0x456), new Uint32(0x789)),
+                    new Bytes10("1234567890".getBytes(StandardCharsets.UTF_8)),
+                    new DynamicBytes("Hello, world!".getBytes(StandardCharsets.UTF_8))
+            );
+            String expected = "0x8be65246" +
+                    "0000000000000000000000000000000000000000000000000000000000000123" +
+                    "0000000000000000000000000000000000000000000000000000000000000080" +
+                    "3132333435363738393000000000000000000000000000000000000000000000" +
+                    "00000000000000000000000000000000000000000000000000000000000000e0" +
+                    "0000000000000000000000000000000000000000000000000000000000000002" +
+                    "0000000000000000000000000000000000000000000000000000000000000456" +
+                    "0000000000000000000000000000000000000000000000000000000000000789" +
+                    "000000000000000000000000000000000000000000000000000000000000000d" +
+                    "48656c6c6f2c20776f726c642100000000000000000000000000000000000000";
+
+            byte[] encoded = StreamingTypeEncoder.encodeFunctionCall(Numeric.hexStringToByteArray("0x8be65246"), parameters);
+            assertEquals(expected, Numeric.toHexString(encoded));
+        }
+
+        @Test
+        public void nestedDynamicArrays() {
+            // g(uint256[][],string[]) in the ABI specification.
+            List<Type> parameters = Arrays.asList(
+                    new DynamicArray<>(DynamicArray.class,
+                            new DynamicArray<>(Uint256.class, new Uint256(1), new Uint256(2)),
+                            new DynamicArray<>(Uint256.class, new Uint256(3))),
+                    new DynamicArray<>(Utf8String.class, new Utf8String("one"), new Utf8String("two"), new Utf8String("three"))
+            );
+            String expected =
+                    "0000000000000000000000000000000000000000000000000000000000000040" +
+                    "0000000000000000000000000000000000000000000000000000000000000140" +
+                    "0000000000000000000000000000000000000000000000000000000000000002" +
+                    "0000000000000000000000000000000000000000000000000000000000000040" +
+                    "00000000000000000000000000000000000000000000000000000000000000a0" +
+                    "0000000000000000000000000000000000000000000000000000000000000002" +
+                    "0000000000000000000000000000000000000000000000000000000000000001" +
+                    "0000000000000000000000000000000000000000000000000000000000000002" +
+                    "0000000000000000000000000000000000000000000000000000000000000001" +
+                    "0000000000000000000000000000000000000000000000000000000000000003" +
+                    "0000000000000000000000000000000000000000000000000000000000000003" +
+                    "0000000000000000000000000000000000000000000000000000000000000060" +
+                    "00000000000000000000000000000000000000000000000000000000000000a0" +
+                    "00000000000000000000000000000000000000000000000000000000000000e0" +
+                    "0000000000000000000000000000000000000000000000000000000000000003" +
+                    "6f6e650000000000000000000000000000000000000000000000000000000000" +
+                    "0000000000000000000000000000000000000000000000000000000000000003" +
+                    "74776f0000000000000000000000000000000000000000000000000000000000" +
+                    "0000000000000000000000000000000000000000000000000000000000000005" +
+                    "7468726565000000000000000000000000000000000000000000000000000000";
+
+            assertEquals(expected, Numeric.toHexStringNoPrefix(StreamingTypeEncoder.encodeParameters(parameters)));
+            assertEquals(expected, ABI.encodeParameters(parameters));
+        }
+
+        @Test
+        public void numeric() {
+            assertEquals("ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff80",
+                    Numeric.toHexStringNoPrefix(StreamingTypeEncoder.encode(new Int8(BigInteger.valueOf(-128)))));
+            assertEquals("ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff",
+                    Numeric.toHexStringNoPrefix(StreamingTypeEncoder.encode(new Uint256(BigInteger.valueOf(2).pow(256).subtract(BigInteger.ONE)))));
+        }
+
+        @Test
+        public void roundTrip() throws Exception {
+            List<String> types = Arrays.asList("tuple(string,uint256[2],bytes)[]", "bool", "string[2]", "tuple(address,uint8)");
+            List<Object> values = Arrays.asList(
+                    Arrays.asList(Arrays.asList("a", Arrays.asList(1, 2), "0x01"), Arrays.asList("bc", Arrays.asList(3, 4), "0x")),
+                    true,
+                    Arrays.asList("caver", "java"),
+                    Arrays.asList("0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a", 1)
+            );
+
+            String encoded = ABI.encodeParameters(types, values);
+            assertEquals(ABI.decodeParameters(types, encoded), ABI.decodeParameters(types, ABI.encodeParameters(ABI.decodeParameters(types, encoded))));
+        }
+    }
+
+    public static class bufferTest {
+        @Test
+        public void grow() throws Exception {
+            byte[] value = new byte[5000];
+            Arrays.fill(value, (byte)1);
+
+            StreamingTypeEncoder encoder = new StreamingTypeEncoder(16);
+            byte[] encoded = encoder.writeParameters(Arrays.asList(new Uint256(1), new DynamicBytes(value))).toByteArray();
+
+            assertEquals(32 * 3 + 5024, encoded.length);
+            assertEquals(encoded.length, encoder.size());
+            assertArrayEquals(value, ((DynamicBytes)ABI.decodeParameters(Arrays.asList("uint256", "bytes"), Numeric.toHexString(encoded)).get(1)).getValue());
+        }
+
+        @Test
+        public void reset() {
+            StreamingTypeEncoder encoder = new StreamingTypeEncoder();
+            encoder.writeType(new Utf8String("caver"));
+            byte[] encoded = encoder.reset().writeType(new Bool(true)).toByteArray();
+
+            assertEquals("0000000000000000000000000000000000000000000000000000000000000001", Numeric.toHexStringNoPrefix(encoded));
+        }
+
+        @Test
+        public void threadLocal() throws Exception {
+            byte[] first = StreamingTypeEncoder.encodeParameters(Collections.singletonList(new Utf8String("caver")));
+            byte[] second = StreamingTypeEncoder.encodeParameters(Collections.singletonList(new Bool(true)));
+
+            assertEquals(96, first.length);
+            assertEquals(32, second.length);
+            assertEquals(new Utf8String("caver"), ABI.decodeParameters(Collections.singletonList("string"), Numeric.toHexString(first)).get(0));
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.abi;
+
+import com.klaytn.caver.abi.ABI;
+import com.klaytn.caver.abi.FunctionReturnDecoder;
+import com.klaytn.caver.abi.ParameterCodec;
+import com.klaytn.caver.abi.TypeCodec;
+import com.klaytn.caver.abi.TypeDecoder;
+import com.klaytn.caver.abi.TypeReference;
+import com.klaytn.caver.abi.datatypes.*;
+import com.klaytn.caver.abi.datatypes.generated.Bytes32;
+import com.klaytn.caver.abi.datatypes.generated.Bytes3;
+import com.klaytn.caver.abi.datatypes.generated.Int8;
+import com.klaytn.caver.abi.datatypes.generated.StaticArray2;
+import com.klaytn.caver.abi.datatypes.generated.Uint256;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.web3j.utils.Numeric;
+
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class TypeCodecTest {
+    static final String ADDRESS = "0x2c8ad0ea2e0781db8b8c9242e07de3a5beabb71a";
+
+    static List<Type> roundTrip(List<String> solidityTypes, List<Object> values) throws Exception {
+        ParameterCodec codec = ParameterCodec.of(solidityTypes);
+        List<Type> types = codec.instantiate(values);
+        List<Type> decoded = codec.decode(ABI.encodeParameters(types));
+
+        assertEquals(types, decoded);
+        return decoded;
+    }
+
+    public static class ofTest {
+        @Test
+        public void cached() throws ClassNotFoundException {
+            assertSame(TypeCodec.of("tuple(string,uint256)[]"), TypeCodec.of("tuple(string,uint256)[]"));
+        }
+
+        @Test
+        public void layout() throws ClassNotFoundException {
+            assertFalse(TypeCodec.of("uint256").isDynamic());
+            assertEquals(1, TypeCodec.of("uint256").getHeadWords());
+
+            assertFalse(TypeCodec.of("tuple(uint256,address)[3]").isDynamic());
+            assertEquals(6, TypeCodec.of("tuple(uint256,address)[3]").getHeadWords());
+
+            assertTrue(TypeCodec.of("string[2]").isDynamic());
+            assertEquals(1, TypeCodec.of("string[2]").getHeadWords());
+
+            assertTrue(TypeCodec.of("tuple(bool,bytes)").isDynamic());
+            assertEquals(1, TypeCodec.of("tuple(bool,bytes)").getHeadWords());
+        }
+
+        @Test
+        public void compileTypeReference() throws ClassNotFoundException {
+            TypeCodec codec = TypeCodec.compile(TypeReference.create(Uint256.class));
+            assertEquals(Uint256.class, codec.getTypeClass());
+        }
+    }
+
+    public static class instantiateTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void atomicTypes() throws Exception {
+            assertEquals(new Uint256(BigInteger.TEN), TypeCodec.of("uint256").instantiate(10));
+            assertEquals(new Int8(BigInteger.valueOf(-1)), TypeCodec.of("int8").instantiate(-1));
+            assertEquals(new Bool(true), TypeCodec.of("bool").instantiate(1));
+            assertEquals(new Address(ADDRESS), TypeCodec.of("address").instantiate(ADDRESS));
+            assertEquals(new Bytes3(new byte[] {1, 2, 3}), TypeCodec.of("bytes3").instantiate("0x010203"));
+            assertEquals(new Utf8String("caver"), TypeCodec.of("string").instantiate("caver"));
+        }
+
+        @Test
+        public void sameWithTypeDecoder() throws Exception {
+            String type = "tuple(uint256[2],string,tuple(bool,bytes)[])";
+            List<Object> value = Arrays.asList(
+                    new int[] {1, 2},
+                    "caver",
+                    Collections.singletonList(Arrays.asList(true, "0x0102"))
+            );
+
+            assertEquals(TypeDecoder.instantiateType(TypeReference.makeTypeReference(type), value), TypeCodec.of(type).instantiate(value));
+        }
+
+        @Test
+        public void invalidValue() throws Exception {
+            expectedException.expect(InstantiationException.class);
+            expectedException.expectMessage("Could not create type class com.klaytn.caver.abi.datatypes.generated.Uint256");
+
+            TypeCodec.of("uint256").instantiate(new Object());
+        }
+
+        @Test
+        public void invalidArrayValue() throws Exception {
+            expectedException.expect(ClassCastException.class);
+            expectedException.expectMessage("should be a list to instantiate Array");
+
+            TypeCodec.of("uint256[]").instantiate(1);
+        }
+
+        @Test
+        public void invalidStaticArrayLength() throws Exception {
+            expectedException.expect(InvocationTargetException.class);
+
+            TypeCodec.of("uint256[2]").instantiate(Arrays.asList(1, 2, 3));
+        }
+    }
+
+    public static class decodeTest {
+        @Test
+        public void atomicTypes() throws Exception {
+            roundTrip(
+                    Arrays.asList("uint8", "int8", "int256", "bool", "address", "bytes3", "bytes32", "bytes", "string"),
+                    Arrays.asList(255, -128, BigInteger.valueOf(-2).pow(255), true, ADDRESS, "0x010203", new byte[32], "0x0102", "caver")
+            );
+        }
+
+        @Test
+        public void arrays() throws Exception {
+            List<Type> decoded = roundTrip(
+                    Arrays.asList("uint256[2]", "string[2]", "uint256[][2]", "bytes[]"),
+                    Arrays.asList(
+                            Arrays.asList(1, 2),
+                            Arrays.asList("a", "b"),
+                            Arrays.asList(Arrays.asList(1), Arrays.asList(2, 3)),
+                            Arrays.asList("0x01", "0x0203")
+                    )
+            );
+            assertEquals(new StaticArray2<>(Uint256.class, new Uint256(1), new Uint256(2)), decoded.get(0));
+        }
+
+        @Test
+        public void singleDynamicComponentStruct() throws Exception {
+            roundTrip(
+                    Arrays.asList("tuple(string)", "tuple(uint256[])", "tuple(string)[]"),
+                    Arrays.asList(
+                            Collections.singletonList("caver"),
+                            Collections.singletonList(Arrays.asList(1, 2, 3)),
+                            Arrays.asList(Collections.singletonList("a"), Collections.singletonList("b"))
+                    )
+            );
+        }
+
+        @Test
+        public void nestedStruct() throws Exception {
+            roundTrip(
+                    Arrays.asList("uint256", "tuple(address,tuple(uint256,string)[],bytes32)", "tuple(uint8,bool)[2]"),
+                    Arrays.asList(
+                            1,
+                            Arrays.asList(ADDRESS, Arrays.asList(Arrays.asList(1, "a"), Arrays.asList(2, "bc")), new byte[32]),
+                            Arrays.asList(Arrays.asList(1, true), Arrays.asList(2, false))
+                    )
+            );
+        }
+
+        @Test
+        public void emptyInput() throws ClassNotFoundException {
+            assertEquals(Collections.emptyList(), ParameterCodec.of(Arrays.asList("uint256")).decode("0x"));
+        }
+
+        @Test
+        public void sameWithFunctionReturnDecoder() throws Exception {
+            List<String> types = Arrays.asList("uint256", "string", "tuple(uint256,bytes)[2]");
+            List<Object> values = Arrays.asList(1, "caver", Arrays.asList(Arrays.asList(1, "0x01"), Arrays.asList(2, "0x02")));
+            String encoded = ABI.encodeParameters(types, values);
+
+            List<TypeReference<Type>> references = Arrays.asList(
+                    TypeReference.makeTypeReference(types.get(0)),
+                    TypeReference.makeTypeReference(types.get(1)),
+                    TypeReference.makeTypeReference(types.get(2))
+            );
+            assertEquals(FunctionReturnDecoder.decode(encoded, references), ParameterCodec.of(types).decode(encoded));
+        }
+    }
+
+    public static class decodeBytesTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void numericBoundaries() throws Exception {
+            BigInteger two = BigInteger.valueOf(2);
+            roundTrip(
+                    Arrays.asList("uint56", "uint64", "int64", "int64", "uint72", "int72", "uint256"),
+                    Arrays.asList(
+                            two.pow(56).subtract(BigInteger.ONE),
+                            two.pow(64).subtract(BigInteger.ONE),
+                            Long.MIN_VALUE,
+                            Long.MAX_VALUE,
+                            two.pow(72).subtract(BigInteger.ONE),
+                            two.pow(71).negate(),
+                            two.pow(256).subtract(BigInteger.ONE)
+                    )
+            );
+        }
+
+        @Test
+        public void sameWithHexString() throws Exception {
+            List<TypeReference<Type>> references = Arrays.asList(
+                    TypeReference.makeTypeReference("uint256[]"),
+                    TypeReference.makeTypeReference("tuple(string,address)[]")
+            );
+            String encoded = ABI.encodeParameters(
+                    Arrays.asList("uint256[]", "tuple(string,address)[]"),
+                    Arrays.asList(Arrays.asList(1, 2, 3), Collections.singletonList(Arrays.asList("caver", ADDRESS)))
+            );
+
+            assertEquals(FunctionReturnDecoder.decode(encoded, references), FunctionReturnDecoder.decode(Numeric.hexStringToByteArray(encoded), references));
+        }
+
+        @Test
+        public void emptyInput() throws ClassNotFoundException {
+            assertEquals(Collections.emptyList(), FunctionReturnDecoder.decode(new byte[0], Collections.singletonList(TypeReference.makeTypeReference("uint256"))));
+        }
+
+        @Test
+        public void truncatedInput() throws ClassNotFoundException {
+            expectedException.expect(ArrayIndexOutOfBoundsException.class);
+
+            ParameterCodec.of(Arrays.asList("uint256", "uint256")).decode(new byte[48]);
+        }
+
+        @Test
+        public void offsetOutOfRange() throws ClassNotFoundException {
+            expectedException.expect(ArithmeticException.class);
+            expectedException.expectMessage("out of int range");
+
+            byte[] input = new byte[32];
+            input[0] = 1;
+            ParameterCodec.of(Arrays.asList("string")).decode(input);
+        }
+    }
+
+    public static class decodeIndexedTest {
+        @Test
+        public void valueType() throws ClassNotFoundException {
+            String topic = "0x000000000000000000000000" + ADDRESS.substring(2);
+            assertEquals(new Address(ADDRESS), TypeCodec.of("address").decodeIndexed(topic));
+        }
+
+        @Test
+        public void hashedType() throws ClassNotFoundException {
+            String topic = "0xabababababababababababababababababababababababababababababababab";
+            assertEquals(new Bytes32(Numeric.hexStringToByteArray(topic)), TypeCodec.of("string").decodeIndexed(topic));
+            assertEquals(new Bytes32(Numeric.hexStringToByteArray(topic)), TypeCodec.of("uint256[]").decodeIndexed(topic));
+        }
+
+        @Test
+        public void functionReturnDecoder() {
+            String topic = "0x0102030000000000000000000000000000000000000000000000000000000000";
+            assertEquals(new Bytes3(new byte[] {1, 2, 3}), FunctionReturnDecoder.decodeIndexedValue(topic, TypeReference.create(Bytes3.class)));
+            assertEquals(new Bytes32(Numeric.hexStringToByteArray(topic)), FunctionReturnDecoder.decodeIndexedValue(topic, TypeReference.create(Utf8String.class)));
+        }
+
+        @Test
+        public void functionReturnDecoder_anonymousTypeReference() {
+            String topic = "0xabababababababababababababababababababababababababababababababab";
+            assertEquals(new Bytes32(Numeric.hexStringToByteArray(topic)), FunctionReturnDecoder.decodeIndexedValue(topic, new TypeReference<DynamicArray<Uint256>>() {}));
+            assertEquals(new Bytes32(Numeric.hexStringToByteArray(topic)), FunctionReturnDecoder.decodeIndexedValue(topic, new TypeReference<DynamicBytes>() {}));
+        }
+    }
+}
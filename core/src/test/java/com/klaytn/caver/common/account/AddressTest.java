@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.account;
+
+import com.klaytn.caver.account.Address;
+import com.klaytn.caver.utils.Utils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.web3j.crypto.Keys;
+import org.web3j.utils.Numeric;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class AddressTest {
+    static String lowerCase = "0xfb6916095ca1df60bb79ce92ce3ea74c37c5d359";
+    static String checksum = "0xfB6916095ca1df60bB79Ce92cE3Ea74c37c5d359";
+
+    public static class ofTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void sameRegardlessOfLetterCaseAndPrefix() {
+            Address address = Address.of(lowerCase);
+
+            assertEquals(address, Address.of(checksum));
+            assertEquals(address, Address.of(Numeric.cleanHexPrefix(lowerCase).toUpperCase()));
+            assertEquals(address, Address.of("0X" + Numeric.cleanHexPrefix(lowerCase)));
+            assertEquals(address.hashCode(), Address.of(checksum).hashCode());
+            assertEquals(0, address.compareTo(Address.of(checksum)));
+        }
+
+        @Test
+        public void fromBytes() {
+            Address address = Address.of(lowerCase);
+            assertEquals(address, Address.of(address.toBytes()));
+            assertArrayEquals(Numeric.hexStringToByteArray(lowerCase), address.toBytes());
+        }
+
+        @Test
+        public void toStringAndChecksum() {
+            Address address = Address.of(checksum);
+            assertEquals(lowerCase, address.toString());
+            assertEquals(Keys.toChecksumAddress(lowerCase), address.toChecksumAddress());
+            assertSame(address.toChecksumAddress(), address.toChecksumAddress());
+        }
+
+        @Test
+        public void mapKey() {
+            Map<Address, String> map = new HashMap<>();
+            map.put(Address.of(checksum), "value");
+            assertEquals("value", map.get(Address.of(lowerCase.toUpperCase().replace("0X", "0x"))));
+        }
+
+        @Test
+        public void throwException_invalidChecksum() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("Invalid address");
+
+            Address.of("0xFb6916095ca1df60bB79Ce92cE3Ea74c37c5d359");
+        }
+
+        @Test
+        public void throwException_invalidLength() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("An address must be 20 bytes.");
+
+            Address.of(new byte[19]);
+        }
+    }
+
+    public static class isSameTest {
+        @Test
+        public void compareStrings() {
+            assertTrue(Address.isSame(lowerCase, checksum));
+            assertTrue(Address.isSame(Numeric.cleanHexPrefix(lowerCase), checksum));
+            assertFalse(Address.isSame(lowerCase, "0x7b65b75d204abed71587c9e519a89277766ee1d0"));
+            assertFalse(Address.isSame(lowerCase, null));
+            assertTrue(Address.of(checksum).matches(lowerCase));
+        }
+    }
+
+    public static class isAddressTest {
+        @Test
+        public void sameWithPattern() {
+            String[] addresses = {
+                    lowerCase, checksum, lowerCase.toUpperCase(), "0X" + Numeric.cleanHexPrefix(checksum),
+                    Numeric.cleanHexPrefix(lowerCase), "0x" + lowerCase, lowerCase.substring(0, 41),
+                    lowerCase.replace('f', 'g'), "0xFb6916095ca1df60bB79Ce92cE3Ea74c37c5d359",
+                    "0x0000000000000000000000000000000000000000", "", "0x", "00" + Numeric.cleanHexPrefix(lowerCase),
+            };
+
+            for(String address : addresses) {
+                assertEquals(address, isAddressWithPattern(address), Utils.isAddress(address));
+            }
+        }
+
+        static boolean isAddressWithPattern(String address) {
+            if(!address.matches("(?i)^(0x)?[0-9a-f]{40}$")) {
+                return false;
+            }
+            if(address.matches("^(0x|0X)?[0-9a-f]{40}$") || address.matches("^(0x|0X)?[0-9A-F]{40}$")) {
+                return true;
+            }
+            return Utils.checkAddressChecksum(address);
+        }
+    }
+}
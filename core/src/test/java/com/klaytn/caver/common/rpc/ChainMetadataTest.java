@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.rpc;
+
+import com.klaytn.caver.methods.response.GovernanceChainConfig;
+import com.klaytn.caver.rpc.ChainMetadata;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.transaction.type.ValueTransfer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ChainMetadataTest {
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    Web3jService web3jService;
+    Map<String, Object> results;
+    Map<String, Integer> requestCount;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        results = new HashMap<>();
+        results.put("klay_chainID", "0x3e9");
+        results.put("klay_clientVersion", "Klaytn/v1.9.0/linux-amd64/go1.18");
+        results.put("klay_protocolVersion", "0x40");
+        results.put("klay_getTransactionCount", "0x1");
+        results.put("klay_gasPrice", "0x5d21dba00");
+
+        GovernanceChainConfig.ChainConfigData chainConfig = new GovernanceChainConfig.ChainConfigData();
+        results.put("klay_getChainConfig", chainConfig);
+
+        requestCount = new HashMap<>();
+
+        web3jService = mock(Web3jService.class);
+        when(web3jService.sendBatch(any(BatchRequest.class))).thenAnswer(invocation -> {
+            BatchRequest batchRequest = invocation.getArgument(0);
+            List<Response<?>> responses = new ArrayList<>();
+            for(Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+                requestCount.merge(request.getMethod(), 1, Integer::sum);
+
+                Response<Object> response = (Response<Object>)request.getResponseType().newInstance();
+                response.setId(request.getId());
+                if(results.containsKey(request.getMethod())) {
+                    response.setResult(results.get(request.getMethod()));
+                } else {
+                    response.setError(new Response.Error(-32601, "the method " + request.getMethod() + " does not exist/is not available"));
+                }
+                responses.add(response);
+            }
+            return new BatchResponse(batchRequest.getRequests(), responses);
+        });
+        when(web3jService.send(any(Request.class), any())).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            requestCount.merge(request.getMethod(), 1, Integer::sum);
+
+            Response<Object> response = (Response<Object>)request.getResponseType().newInstance();
+            response.setId(request.getId());
+            response.setResult(results.get(request.getMethod()));
+            return response;
+        });
+    }
+
+    @Test
+    public void loadOnce() throws IOException {
+        Klay klay = new Klay(web3jService);
+
+        ChainMetadata metadata = klay.getChainMetadata();
+        assertEquals(BigInteger.valueOf(1001), metadata.getChainId());
+        assertEquals("Klaytn/v1.9.0/linux-amd64/go1.18", metadata.getClientVersion());
+        assertEquals("0x40", metadata.getProtocolVersion());
+        assertNotNull(metadata.getChainConfig());
+
+        assertSame(metadata, klay.getChainMetadata());
+        verify(web3jService, times(1)).sendBatch(any(BatchRequest.class));
+        assertEquals(1, requestCount.get("klay_chainID").intValue());
+    }
+
+    @Test
+    public void keepChainIdWhenMetadataFails() throws IOException {
+        // The node rejects batched requests.
+        when(web3jService.sendBatch(any(BatchRequest.class))).thenThrow(new IOException("batch is not supported"));
+        Klay klay = new Klay(web3jService);
+
+        try {
+            klay.getChainMetadata();
+            fail();
+        } catch(IOException e) {
+            assertEquals("batch is not supported", e.getMessage());
+        }
+
+        assertEquals(BigInteger.valueOf(1001), klay.getCachedChainId());
+        assertEquals(1, requestCount.get("klay_chainID").intValue());
+    }
+
+    @Test
+    public void refresh() throws IOException {
+        Klay klay = new Klay(web3jService);
+        ChainMetadata metadata = klay.getChainMetadata();
+
+        results.put("klay_clientVersion", "Klaytn/v1.10.0/linux-amd64/go1.18");
+        ChainMetadata refreshed = klay.refreshChainMetadata();
+
+        assertNotSame(metadata, refreshed);
+        assertEquals("Klaytn/v1.10.0/linux-amd64/go1.18", refreshed.getClientVersion());
+        assertSame(refreshed, klay.getChainMetadata());
+        verify(web3jService, times(2)).sendBatch(any(BatchRequest.class));
+    }
+
+    @Test
+    public void optionalValuesNotSupported() throws IOException {
+        results.remove("klay_protocolVersion");
+        results.remove("klay_getChainConfig");
+
+        ChainMetadata metadata = new Klay(web3jService).getChainMetadata();
+        assertEquals(BigInteger.valueOf(1001), metadata.getChainId());
+        assertNull(metadata.getProtocolVersion());
+        assertNull(metadata.getChainConfig());
+    }
+
+    @Test
+    public void throwException_chainIdNotAvailable() throws IOException {
+        expectedException.expect(RuntimeException.class);
+        expectedException.expectMessage("Failed to load the chain id from the node.");
+
+        results.remove("klay_chainID");
+        new Klay(web3jService).getChainMetadata();
+    }
+
+    @Test
+    public void isActivated() {
+        ChainMetadata metadata = new ChainMetadata(BigInteger.ONE, null, null, null);
+
+        assertTrue(metadata.isActivated(BigInteger.valueOf(100), BigInteger.valueOf(100)));
+        assertFalse(metadata.isActivated(BigInteger.valueOf(100), BigInteger.valueOf(99)));
+        assertFalse(metadata.isActivated(null, BigInteger.valueOf(100)));
+    }
+
+    @Test
+    public void fillTransactionWithCachedChainId() throws IOException {
+        Klay klay = new Klay(web3jService);
+
+        for(int i = 0; i < 3; i++) {
+            ValueTransfer valueTransfer = new ValueTransfer.Builder()
+                    .setKlaytnCall(klay)
+                    .setFrom("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b")
+                    .setTo("0x7b65b75d204abed71587c9e519a89277766ee1d0")
+                    .setValue(BigInteger.ONE)
+                    .setGas(BigInteger.valueOf(25000))
+                    .build();
+            valueTransfer.fillTransaction();
+
+            assertEquals("0x3e9", valueTransfer.getChainId());
+            assertEquals("0x1", valueTransfer.getNonce());
+            assertEquals("0x5d21dba00", valueTransfer.getGasPrice());
+        }
+
+        // The chain id is requested only at the first fill, and the other fields are requested in one batch per fill.
+        assertEquals(1, requestCount.get("klay_chainID").intValue());
+        assertEquals(3, requestCount.get("klay_getTransactionCount").intValue());
+        assertNull(requestCount.get("klay_getChainConfig"));
+        verify(web3jService, times(3)).sendBatch(any(BatchRequest.class));
+    }
+}
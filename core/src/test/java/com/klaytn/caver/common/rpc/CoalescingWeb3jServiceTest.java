@@ -0,0 +1,281 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.rpc;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.CoalescingWeb3jService;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CoalescingWeb3jServiceTest {
+    static final String ADDRESS = "0x3cd93ba290712e6d28ac98f2b820faf799ae8fdb";
+
+    List<Integer> batchSizes;
+    List<String> singleRequests;
+    AtomicBoolean reverseResponses;
+    AtomicBoolean failBatch;
+    Web3jService web3jService;
+
+    static Response<Object> makeResponse(Request<?, ?> request) throws Exception {
+        Response<Object> response = (Response<Object>)request.getResponseType().newInstance();
+        response.setId(request.getId());
+        response.setResult("0x" + Long.toHexString(request.getId()));
+        return response;
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        batchSizes = new CopyOnWriteArrayList<>();
+        singleRequests = new CopyOnWriteArrayList<>();
+        reverseResponses = new AtomicBoolean(false);
+        failBatch = new AtomicBoolean(false);
+
+        web3jService = mock(Web3jService.class);
+        when(web3jService.sendAsync(any(Request.class), any())).thenAnswer(invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            singleRequests.add(request.getMethod());
+            return CompletableFuture.completedFuture(makeResponse(request));
+        });
+        when(web3jService.sendBatchAsync(any(BatchRequest.class))).thenAnswer(invocation -> {
+            BatchRequest batchRequest = invocation.getArgument(0);
+            batchSizes.add(batchRequest.getRequests().size());
+
+            CompletableFuture<BatchResponse> future = new CompletableFuture<>();
+            if(failBatch.get()) {
+                future.completeExceptionally(new IOException("connection refused"));
+                return future;
+            }
+
+            List<Response<?>> responses = new ArrayList<>();
+            for(Request<?, ?> request : batchRequest.getRequests()) {
+                responses.add(makeResponse(request));
+            }
+            if(reverseResponses.get()) {
+                Collections.reverse(responses);
+            }
+            future.complete(new BatchResponse(batchRequest.getRequests(), responses));
+            return future;
+        });
+    }
+
+    List<Request<?, Quantity>> makeRequests(Caver caver, int count) {
+        List<Request<?, Quantity>> requests = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            requests.add(caver.rpc.klay.getBalance(ADDRESS, DefaultBlockParameterName.LATEST));
+        }
+        return requests;
+    }
+
+    void assertRouted(List<Request<?, Quantity>> requests, List<CompletableFuture<Quantity>> futures) throws Exception {
+        for(int i = 0; i < requests.size(); i++) {
+            Quantity quantity = futures.get(i).get(3, TimeUnit.SECONDS);
+            assertEquals(requests.get(i).getId(), quantity.getId());
+            assertEquals(BigInteger.valueOf(requests.get(i).getId()), quantity.getValue());
+        }
+    }
+
+    @Test
+    public void coalesceInWindow() throws Exception {
+        CoalescingWeb3jService service = new CoalescingWeb3jService(web3jService, 50, 100);
+        Caver caver = new Caver(service);
+
+        List<Request<?, Quantity>> requests = makeRequests(caver, 10);
+        List<CompletableFuture<Quantity>> futures = new ArrayList<>();
+        for(Request<?, Quantity> request : requests) {
+            futures.add(request.sendAsync());
+        }
+
+        assertRouted(requests, futures);
+        assertEquals(Collections.singletonList(10), batchSizes);
+        assertTrue(singleRequests.isEmpty());
+    }
+
+    @Test
+    public void splitByMaxBatchSize() throws Exception {
+        CoalescingWeb3jService service = new CoalescingWeb3jService(web3jService, 1000, 4);
+        Caver caver = new Caver(service);
+
+        List<Request<?, Quantity>> requests = makeRequests(caver, 10);
+        List<CompletableFuture<Quantity>> futures = new ArrayList<>();
+        for(Request<?, Quantity> request : requests) {
+            futures.add(request.sendAsync());
+        }
+
+        // The first 8 requests are sent as soon as the batches are full.
+        futures.get(7).get(500, TimeUnit.MILLISECONDS);
+        assertFalse(futures.get(8).isDone());
+
+        service.flush();
+        assertRouted(requests, futures);
+        assertEquals(Arrays.asList(4, 4, 2), batchSizes);
+    }
+
+    @Test
+    public void rejectOutOfOrderResponses() throws Exception {
+        reverseResponses.set(true);
+        CoalescingWeb3jService service = new CoalescingWeb3jService(web3jService, 50, 100);
+        Caver caver = new Caver(service);
+
+        List<Request<?, Quantity>> requests = makeRequests(caver, 5);
+        List<CompletableFuture<Quantity>> futures = new ArrayList<>();
+        for(Request<?, Quantity> request : requests) {
+            futures.add(request.sendAsync());
+        }
+
+        // Only the middle response stays at the position of its request.
+        for(int i = 0; i < requests.size(); i++) {
+            if(i == 2) {
+                assertEquals(requests.get(i).getId(), futures.get(i).get(3, TimeUnit.SECONDS).getId());
+                continue;
+            }
+            try {
+                futures.get(i).get(3, TimeUnit.SECONDS);
+                fail();
+            } catch(ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+                assertTrue(e.getCause().getMessage().contains("not in the order of the requests"));
+            }
+        }
+    }
+
+    @Test
+    public void singleRequest() throws Exception {
+        CoalescingWeb3jService service = new CoalescingWeb3jService(web3jService, 0, 100);
+        Caver caver = new Caver(service);
+
+        Request<?, Quantity> request = caver.rpc.klay.getBalance(ADDRESS);
+        assertEquals(BigInteger.valueOf(request.getId()), request.send().getValue());
+        assertEquals(Collections.singletonList("klay_getBalance"), singleRequests);
+        assertTrue(batchSizes.isEmpty());
+    }
+
+    @Test
+    public void coalesceBlockingCallers() throws Exception {
+        CoalescingWeb3jService service = new CoalescingWeb3jService(web3jService, 200, 8);
+        Caver caver = new Caver(service);
+
+        List<Request<?, Quantity>> requests = makeRequests(caver, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Quantity>> futures = new ArrayList<>();
+            for(Request<?, Quantity> request : requests) {
+                futures.add(executor.submit(request::send));
+            }
+
+            for(int i = 0; i < requests.size(); i++) {
+                assertEquals(requests.get(i).getId(), futures.get(i).get(3, TimeUnit.SECONDS).getId());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(Collections.singletonList(8), batchSizes);
+    }
+
+    @Test
+    public void failBatch() throws Exception {
+        failBatch.set(true);
+        CoalescingWeb3jService service = new CoalescingWeb3jService(web3jService, 50, 100);
+        Caver caver = new Caver(service);
+
+        List<Request<?, Quantity>> requests = makeRequests(caver, 3);
+        CompletableFuture<Quantity> future = requests.get(0).sendAsync();
+        requests.get(1).sendAsync();
+
+        try {
+            requests.get(2).send();
+            fail();
+        } catch(IOException e) {
+            assertEquals("connection refused", e.getMessage());
+        }
+
+        try {
+            future.get(3, TimeUnit.SECONDS);
+            fail();
+        } catch(ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void close() throws Exception {
+        CoalescingWeb3jService service = new CoalescingWeb3jService(web3jService, 10000, 100);
+        Caver caver = new Caver(service);
+
+        List<Request<?, Quantity>> requests = makeRequests(caver, 3);
+        List<CompletableFuture<Quantity>> futures = new ArrayList<>();
+        futures.add(requests.get(0).sendAsync());
+        futures.add(requests.get(1).sendAsync());
+
+        // The held requests are sent at closing without waiting for the window.
+        service.close();
+        assertRouted(requests.subList(0, 2), futures);
+        assertEquals(Collections.singletonList(2), batchSizes);
+        verify(web3jService).close();
+
+        try {
+            requests.get(2).sendAsync().get(3, TimeUnit.SECONDS);
+            fail();
+        } catch(ExecutionException e) {
+            assertEquals("The service is closed.", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void invalidOptions() {
+        try {
+            new CoalescingWeb3jService(web3jService, -1, 100);
+            fail();
+        } catch(IllegalArgumentException e) {
+            assertEquals("The window must not be negative.", e.getMessage());
+        }
+
+        try {
+            new CoalescingWeb3jService(web3jService, 10, 0);
+            fail();
+        } catch(IllegalArgumentException e) {
+            assertEquals("The maximum batch size must be greater than 0.", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.rpc;
+
+import com.klaytn.caver.methods.response.FeeHistoryResult;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.GasPriceOracle;
+import com.klaytn.caver.rpc.IGasPriceOracle;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.transaction.type.EthereumDynamicFee;
+import com.klaytn.caver.transaction.type.ValueTransfer;
+import com.klaytn.caver.transaction.utils.AccessList;
+import org.junit.Test;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.DefaultBlockParameter;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class GasPriceOracleTest {
+    static FeeHistoryResult feeHistory(long oldestBlock, String nextBaseFee, String... rewards) {
+        List<String> baseFeePerGas = new ArrayList<>();
+        List<List<String>> reward = new ArrayList<>();
+        for(String value : rewards) {
+            baseFeePerGas.add(nextBaseFee);
+            reward.add(Collections.singletonList(value));
+        }
+        baseFeePerGas.add(nextBaseFee);
+
+        FeeHistoryResult.FeeHistoryResultData data = new FeeHistoryResult.FeeHistoryResultData();
+        data.setOldestBlock("0x" + Long.toHexString(oldestBlock));
+        data.setBaseFeePerGas(baseFeePerGas);
+        data.setReward(reward);
+
+        FeeHistoryResult result = new FeeHistoryResult();
+        result.setResult(data);
+        return result;
+    }
+
+    @Test
+    public void suggestFromFeeHistory() throws IOException {
+        Klay klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+        when(klay.getFeeHistory(anyLong(), any(DefaultBlockParameter.class), anyList()).send())
+                .thenReturn(feeHistory(16, "0x5d21dba00", "0x1", "0x3", "0x2", "0x5"));
+
+        GasPriceOracle oracle = new GasPriceOracle(klay, 4, 50f, 60000);
+
+        assertEquals(new BigInteger("50000000000"), oracle.suggestGasPrice());
+        assertEquals(new BigInteger("50000000000"), oracle.suggestMaxFeePerGas());
+        assertEquals(BigInteger.valueOf(2), oracle.suggestMaxPriorityFeePerGas());
+        assertEquals(new BigInteger("25000000000"), oracle.getNextBaseFee());
+
+        // The suggestions are cached until the ttl is passed.
+        verify(klay, times(1)).getFeeHistory(anyLong(), any(DefaultBlockParameter.class), anyList());
+    }
+
+    @Test
+    public void mergeNewBlocksOnly() throws IOException {
+        Klay klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+        when(klay.getFeeHistory(anyLong(), any(DefaultBlockParameter.class), anyList()).send())
+                .thenReturn(feeHistory(16, "0x5d21dba00", "0x1", "0x3", "0x2", "0x5"))
+                .thenReturn(feeHistory(18, "0xba43b7400", "0x2", "0x5", "0x7", "0x9"));
+
+        GasPriceOracle oracle = new GasPriceOracle(klay, 4, 50f, 0);
+        assertEquals(BigInteger.valueOf(2), oracle.suggestMaxPriorityFeePerGas());
+
+        // Block 18 and 19 are already in the window, so the window becomes 2(18), 5(19), 7(20), 9(21).
+        assertEquals(BigInteger.valueOf(5), oracle.suggestMaxPriorityFeePerGas());
+        assertEquals(new BigInteger("50000000000"), oracle.getNextBaseFee());
+    }
+
+    @Test
+    public void refillWindowAfterGap() throws IOException {
+        Klay klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+        when(klay.getFeeHistory(anyLong(), any(DefaultBlockParameter.class), anyList()).send())
+                .thenReturn(feeHistory(10, "0x5d21dba00", "0x1", "0x1", "0x1", "0x1", "0x1", "0x1", "0x1", "0x1"))
+                .thenReturn(feeHistory(30, "0x5d21dba00", "0x9", "0x9", "0x9", "0x9"))
+                .thenReturn(feeHistory(26, "0x5d21dba00", "0x9", "0x9", "0x9", "0x9", "0x9", "0x9", "0x9", "0x9"));
+
+        GasPriceOracle oracle = new GasPriceOracle(klay, 8, 50f, 0);
+        assertEquals(BigInteger.ONE, oracle.suggestMaxPriorityFeePerGas());
+
+        // Block 18 to 29 are missed, so the old blocks are not mixed with the latest ones.
+        assertEquals(BigInteger.valueOf(9), oracle.suggestMaxPriorityFeePerGas());
+        verify(klay, times(2)).getFeeHistory(eq(8L), any(DefaultBlockParameter.class), anyList());
+    }
+
+    @Test
+    public void beforeMagma() throws IOException {
+        Quantity gasPrice = new Quantity();
+        gasPrice.setResult("0x5d21dba00");
+
+        Klay klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+        when(klay.getFeeHistory(anyLong(), any(DefaultBlockParameter.class), anyList()).send())
+                .thenReturn(feeHistory(16, "0x0", "0x0", "0x0"));
+        when(klay.getGasPrice().send()).thenReturn(gasPrice);
+
+        GasPriceOracle oracle = new GasPriceOracle(klay);
+
+        assertEquals(new BigInteger("25000000000"), oracle.suggestGasPrice());
+        assertEquals(new BigInteger("25000000000"), oracle.suggestMaxPriorityFeePerGas());
+        assertEquals(new BigInteger("25000000000"), oracle.suggestMaxFeePerGas());
+    }
+
+    @Test
+    public void fillTransactionWithOracle() throws IOException {
+        Web3jService web3jService = mock(Web3jService.class);
+        Klay klay = new Klay(web3jService);
+        klay.setGasPriceOracle(new IGasPriceOracle() {
+            @Override
+            public BigInteger suggestGasPrice() {
+                return BigInteger.valueOf(30);
+            }
+
+            @Override
+            public BigInteger suggestMaxPriorityFeePerGas() {
+                return BigInteger.valueOf(10);
+            }
+
+            @Override
+            public BigInteger suggestMaxFeePerGas() {
+                return BigInteger.valueOf(50);
+            }
+        });
+
+        ValueTransfer valueTransfer = new ValueTransfer.Builder()
+                .setKlaytnCall(klay)
+                .setFrom("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b")
+                .setTo("0x7b65b75d204abed71587c9e519a89277766ee1d0")
+                .setNonce(BigInteger.ONE)
+                .setChainId(BigInteger.valueOf(1001))
+                .setValue(BigInteger.ONE)
+                .setGas(BigInteger.valueOf(25000))
+                .build();
+        valueTransfer.fillTransaction();
+
+        EthereumDynamicFee ethereumDynamicFee = new EthereumDynamicFee.Builder()
+                .setKlaytnCall(klay)
+                .setFrom("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b")
+                .setTo("0x7b65b75d204abed71587c9e519a89277766ee1d0")
+                .setNonce(BigInteger.ONE)
+                .setChainId(BigInteger.valueOf(1001))
+                .setValue(BigInteger.ONE)
+                .setGas(BigInteger.valueOf(25000))
+                .setAccessList(new AccessList())
+                .build();
+        ethereumDynamicFee.fillTransaction();
+
+        assertEquals("0x1e", valueTransfer.getGasPrice());
+        assertEquals("0xa", ethereumDynamicFee.getMaxPriorityFeePerGas());
+        assertEquals("0x32", ethereumDynamicFee.getMaxFeePerGas());
+        verifyNoInteractions(web3jService);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwException_invalidWindowSize() {
+        new GasPriceOracle(mock(Klay.class), 0, 50f, 1000);
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.rpc;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.Bytes32;
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.LoadBalancedWeb3jService;
+import io.reactivex.Flowable;
+import org.junit.Before;
+import org.junit.Test;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class LoadBalancedWeb3jServiceTest {
+    static class FakeEndpoint implements Web3jService {
+        final int index;
+        final AtomicInteger calls = new AtomicInteger();
+        volatile boolean down = false;
+        volatile long delayMillis = 0;
+        volatile String errorMessage = null;
+        volatile CompletableFuture<Void> hold = null;
+
+        FakeEndpoint(int index) {
+            this.index = index;
+        }
+
+        <T extends Response> T makeResponse(Request request, Class<T> responseType) throws IOException {
+            try {
+                T response = responseType.newInstance();
+                response.setId(request.getId());
+                if(errorMessage != null) {
+                    response.setError(new Response.Error(-32000, errorMessage));
+                } else {
+                    ((Response<Object>)response).setResult("0x" + Integer.toHexString(index));
+                }
+                return response;
+            } catch(ReflectiveOperationException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+            calls.incrementAndGet();
+            if(down) {
+                throw new IOException("endpoint " + index + " is down");
+            }
+            return makeResponse(request, responseType);
+        }
+
+        @Override
+        public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+            calls.incrementAndGet();
+            CompletableFuture<T> future = new CompletableFuture<>();
+            Runnable respond = () -> {
+                if(down) {
+                    future.completeExceptionally(new IOException("endpoint " + index + " is down"));
+                    return;
+                }
+                try {
+                    future.complete(makeResponse(request, responseType));
+                } catch(IOException e) {
+                    future.completeExceptionally(e);
+                }
+            };
+
+            if(hold != null) {
+                hold.thenRun(respond);
+            } else if(delayMillis > 0) {
+                Async.defaultExecutorService().schedule(respond, delayMillis, TimeUnit.MILLISECONDS);
+            } else {
+                respond.run();
+            }
+            return future;
+        }
+
+        @Override
+        public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    List<FakeEndpoint> endpoints;
+    LoadBalancedWeb3jService service;
+    Caver caver;
+
+    @Before
+    public void setUp() {
+        endpoints = new ArrayList<>();
+        for(int i = 0; i < 3; i++) {
+            endpoints.add(new FakeEndpoint(i));
+        }
+        service = new LoadBalancedWeb3jService(endpoints);
+        caver = new Caver(service);
+    }
+
+    @Test
+    public void leastOutstanding() throws Exception {
+        endpoints.get(0).hold = new CompletableFuture<>();
+        endpoints.get(1).hold = new CompletableFuture<>();
+
+        CompletableFuture<Quantity> first = caver.rpc.klay.getBlockNumber().sendAsync();
+        CompletableFuture<Quantity> second = caver.rpc.klay.getBlockNumber().sendAsync();
+        assertEquals(1, service.getOutstandingRequests(0));
+        assertEquals(1, service.getOutstandingRequests(1));
+
+        assertEquals(BigInteger.valueOf(2), caver.rpc.klay.getBlockNumber().send().getValue());
+
+        endpoints.get(0).hold.complete(null);
+        endpoints.get(1).hold.complete(null);
+        assertEquals(BigInteger.ZERO, first.get(3, TimeUnit.SECONDS).getValue());
+        assertEquals(BigInteger.ONE, second.get(3, TimeUnit.SECONDS).getValue());
+        assertEquals(0, service.getOutstandingRequests(0));
+    }
+
+    @Test
+    public void failoverAndEject() throws Exception {
+        endpoints.get(0).down = true;
+        endpoints.get(1).down = true;
+        service.setMaxFailures(2);
+
+        for(int i = 0; i < 2; i++) {
+            assertEquals(BigInteger.valueOf(2), caver.rpc.klay.getBlockNumber().send().getValue());
+            assertEquals(BigInteger.valueOf(2), caver.rpc.klay.getBlockNumber().sendAsync().get(3, TimeUnit.SECONDS).getValue());
+        }
+        assertTrue(service.isEjected(0));
+        assertTrue(service.isEjected(1));
+        assertFalse(service.isEjected(2));
+
+        int calls = endpoints.get(0).calls.get();
+        caver.rpc.klay.getBlockNumber().send();
+        assertEquals(calls, endpoints.get(0).calls.get());
+    }
+
+    @Test
+    public void allEndpointsDown() throws Exception {
+        endpoints.forEach(endpoint -> endpoint.down = true);
+
+        try {
+            caver.rpc.klay.getBlockNumber().send();
+            fail();
+        } catch(IOException e) {
+            assertTrue(e.getMessage().endsWith("is down"));
+        }
+        endpoints.forEach(endpoint -> assertEquals(1, endpoint.calls.get()));
+    }
+
+    @Test
+    public void errorResponseIsNotFailedOver() throws Exception {
+        endpoints.forEach(endpoint -> endpoint.errorMessage = "unknown block");
+
+        Quantity response = caver.rpc.klay.getBlockNumber().send();
+        assertEquals("unknown block", response.getError().getMessage());
+        assertEquals(1, endpoints.stream().mapToInt(endpoint -> endpoint.calls.get()).sum());
+    }
+
+    @Test
+    public void healthCheck() throws Exception {
+        endpoints.get(0).down = true;
+        service.setMaxFailures(1);
+        service.setEjectionMillis(60000);
+
+        caver.rpc.klay.getBlockNumber().send();
+        assertTrue(service.isEjected(0));
+
+        endpoints.get(0).down = false;
+        service.startHealthCheck(20);
+        try {
+            long deadline = System.currentTimeMillis() + 3000;
+            while(service.isEjected(0) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertFalse(service.isEjected(0));
+        } finally {
+            service.stopHealthCheck();
+        }
+    }
+
+    @Test
+    public void closeShutsDownScheduler() throws Exception {
+        List<Thread> before = schedulerThreads();
+        service.startHealthCheck(20);
+        Thread.sleep(50);
+        List<Thread> started = schedulerThreads();
+        started.removeAll(before);
+        assertEquals(1, started.size());
+        assertTrue(started.get(0).isDaemon());
+
+        service.close();
+        started.get(0).join(3000);
+        assertFalse(started.get(0).isAlive());
+    }
+
+    private static List<Thread> schedulerThreads() {
+        List<Thread> threads = new ArrayList<>();
+        for(Thread thread : Thread.getAllStackTraces().keySet()) {
+            if(thread.isAlive() && thread.getName().startsWith("caver-load-balancer")) {
+                threads.add(thread);
+            }
+        }
+        return threads;
+    }
+
+    @Test
+    public void stickyWrite() throws Exception {
+        String rawTransaction = "0x08f8";
+        for(int i = 0; i < 3; i++) {
+            assertEquals("0x0", caver.rpc.klay.sendRawTransaction(rawTransaction).send().getResult());
+        }
+        assertEquals(3, endpoints.get(0).calls.get());
+
+        // A write is not retried on another endpoint.
+        endpoints.get(0).down = true;
+        try {
+            caver.rpc.klay.sendRawTransaction(rawTransaction).send();
+            fail();
+        } catch(IOException e) {
+            assertEquals("endpoint 0 is down", e.getMessage());
+        }
+        assertEquals(0, endpoints.get(1).calls.get() + endpoints.get(2).calls.get());
+    }
+
+    @Test
+    public void stickyPendingStateRead() throws Exception {
+        String address = "0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b";
+        CompletableFuture<Void> hold = holdSticky();
+
+        // The pending nonce and the transactions sent to the sticky endpoint are read from it.
+        assertEquals(BigInteger.ZERO, caver.rpc.klay.getTransactionCount(address, DefaultBlockParameterName.PENDING).send().getValue());
+        caver.rpc.klay.getTransactionReceipt("0x1a").send();
+        caver.rpc.klay.getTransactionBySenderTxHash("0x1a").send();
+        assertEquals(4, endpoints.get(0).calls.get());
+
+        assertNotEquals(BigInteger.ZERO, caver.rpc.klay.getTransactionCount(address, DefaultBlockParameterName.LATEST).send().getValue());
+        assertEquals(4, endpoints.get(0).calls.get());
+        hold.complete(null);
+    }
+
+    @Test
+    public void stickyKeystoreMethods() throws Exception {
+        CompletableFuture<Void> hold = holdSticky();
+
+        caver.rpc.klay.getAccounts().send();
+        caver.rpc.klay.sign("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b", "0x01").send();
+        assertEquals(3, endpoints.get(0).calls.get());
+        hold.complete(null);
+    }
+
+    /**
+     * Leaves a pending read on the sticky endpoint, so the other reads are sent to the other endpoints.
+     */
+    CompletableFuture<Void> holdSticky() {
+        CompletableFuture<Void> hold = new CompletableFuture<>();
+        endpoints.get(0).hold = hold;
+        caver.rpc.klay.getBlockNumber().sendAsync();
+        endpoints.get(0).hold = null;
+        assertEquals(1, service.getOutstandingRequests(0));
+        return hold;
+    }
+
+    @Test
+    public void fanOutWrite() throws Exception {
+        service.setWritePolicy(LoadBalancedWeb3jService.WritePolicy.FAN_OUT);
+        endpoints.get(0).errorMessage = "known transaction";
+        endpoints.get(1).down = true;
+        endpoints.get(2).delayMillis = 20;
+
+        Bytes32 response = caver.rpc.klay.sendRawTransaction("0x08f8").send();
+        assertEquals("0x2", response.getResult());
+        endpoints.forEach(endpoint -> assertEquals(1, endpoint.calls.get()));
+
+        endpoints.get(2).errorMessage = "known transaction";
+        response = caver.rpc.klay.sendRawTransaction("0x08f8").send();
+        assertEquals("known transaction", response.getError().getMessage());
+    }
+
+    @Test
+    public void hedgeSlowRead() throws Exception {
+        service.setHedgeEnabled(true);
+        service.setMinHedgeDelayMillis(20);
+        endpoints.forEach(endpoint -> endpoint.hold = new CompletableFuture<>());
+
+        // Leaves a pending request on endpoint 1 and 2, so endpoint 0 is the least loaded one.
+        caver.rpc.klay.getBlockNumber().sendAsync();
+        caver.rpc.klay.getBlockNumber().sendAsync();
+        caver.rpc.klay.getBlockNumber().sendAsync();
+        endpoints.get(0).hold.complete(null);
+        endpoints.forEach(endpoint -> endpoint.hold = null);
+        endpoints.get(0).delayMillis = 2000;
+
+        long startedAt = System.currentTimeMillis();
+        Quantity response = caver.rpc.klay.getBlockNumber().send();
+        assertTrue(System.currentTimeMillis() - startedAt < 1000);
+        assertNotEquals(BigInteger.ZERO, response.getValue());
+        assertEquals(2, endpoints.get(0).calls.get());
+    }
+
+    @Test
+    public void invalidEndpoints() {
+        try {
+            new LoadBalancedWeb3jService(new ArrayList<Web3jService>());
+            fail();
+        } catch(IllegalArgumentException e) {
+            assertEquals("At least one endpoint is required.", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.NewHeadsNotification;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.transaction.response.BlockTransactionReceiptProcessor;
+import io.reactivex.Flowable;
+import io.reactivex.processors.PublishProcessor;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BlockTransactionReceiptProcessorTest {
+    /**
+     * A service that works like WebSocketService. The responses and the notifications are delivered on one reader thread,
+     * so a blocking send() in a notification callback waits until the request timeout.
+     */
+    static class ReentrantService implements Web3jService {
+        final ExecutorService reader = Executors.newSingleThreadExecutor();
+        final PublishProcessor<NewHeadsNotification> newHeads = PublishProcessor.create();
+        final Answer<Response<Object>> answer;
+
+        ReentrantService(Answer<Response<Object>> answer) {
+            this.answer = answer;
+        }
+
+        void emit(NewHeadsNotification notification) {
+            reader.execute(() -> newHeads.onNext(notification));
+        }
+
+        void fail(Throwable error) {
+            reader.execute(() -> newHeads.onError(error));
+        }
+
+        @Override
+        public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+            try {
+                return sendAsync(request, responseType).get(1, TimeUnit.SECONDS);
+            } catch(InterruptedException | ExecutionException | TimeoutException e) {
+                throw new IOException("Request timed out.", e);
+            }
+        }
+
+        @Override
+        public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            reader.execute(() -> {
+                try {
+                    future.complete(responseType.cast(answer.answer(mockInvocation(request))));
+                } catch(Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+            return future;
+        }
+
+        @Override
+        public BatchResponse sendBatch(BatchRequest batchRequest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+            return newHeads.map(responseType::cast);
+        }
+
+        @Override
+        public void close() {
+            reader.shutdown();
+        }
+
+        static InvocationOnMock mockInvocation(Request<?, ?> request) {
+            InvocationOnMock invocation = mock(InvocationOnMock.class);
+            when(invocation.getArgument(0)).thenReturn(request);
+            return invocation;
+        }
+    }
+
+    AtomicLong blockNumber;
+    Answer<Response<Object>> answer;
+    Map<Long, Block.BlockData> blocks;
+    Map<String, List<TransactionReceipt.TransactionReceiptData>> blockReceipts;
+    Map<String, TransactionReceipt.TransactionReceiptData> receipts;
+    Map<String, Integer> requestCount;
+    Caver caver;
+
+    @Before
+    public void setUp() throws IOException {
+        blockNumber = new AtomicLong(10);
+        blocks = new ConcurrentHashMap<>();
+        blockReceipts = new ConcurrentHashMap<>();
+        receipts = new ConcurrentHashMap<>();
+        requestCount = new ConcurrentHashMap<>();
+
+        answer = invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            requestCount.merge(request.getMethod(), 1, Integer::sum);
+
+            Response<Object> response = (Response<Object>)request.getResponseType().newInstance();
+            response.setId(request.getId());
+            switch(request.getMethod()) {
+                case "klay_blockNumber":
+                    response.setResult("0x" + Long.toHexString(blockNumber.get()));
+                    break;
+                case "klay_getBlockByNumber":
+                    response.setResult(blocks.get(((DefaultBlockParameterNumber)request.getParams().get(0)).getBlockNumber().longValue()));
+                    break;
+                case "klay_getBlockReceipts":
+                    response.setResult(blockReceipts.get(request.getParams().get(0)));
+                    break;
+                case "klay_getTransactionReceipt":
+                    response.setResult(receipts.get(request.getParams().get(0)));
+                    break;
+            }
+            return response;
+        };
+
+        Web3jService web3jService = mock(Web3jService.class);
+        when(web3jService.send(any(Request.class), any())).thenAnswer(answer);
+        when(web3jService.sendAsync(any(Request.class), any())).thenAnswer(invocation -> CompletableFuture.completedFuture(answer.answer(invocation)));
+        caver = new Caver(web3jService);
+    }
+
+    void addBlock(long number, String... transactionHashes) {
+        String blockHash = "0xb" + number;
+
+        Block.BlockData block = new Block.BlockData();
+        block.setNumber("0x" + Long.toHexString(number));
+        block.setHash(blockHash);
+        block.setTransactions(Arrays.asList(transactionHashes));
+        blocks.put(number, block);
+
+        List<TransactionReceipt.TransactionReceiptData> receiptList = new ArrayList<>();
+        for(String transactionHash : transactionHashes) {
+            TransactionReceipt.TransactionReceiptData receipt = new TransactionReceipt.TransactionReceiptData();
+            receipt.setTransactionHash(transactionHash);
+            receipt.setBlockHash(blockHash);
+            receiptList.add(receipt);
+        }
+        blockReceipts.put(blockHash, receiptList);
+    }
+
+    @Test
+    public void pollBlocks() throws Exception {
+        addBlock(10, "0xa1", "0xa2", "0xff");
+        addBlock(11);
+        addBlock(12, "0xa3");
+
+        try(BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, 20, 5000)) {
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> first = processor.getTransactionReceiptAsync("0xa1");
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> second = processor.getTransactionReceiptAsync("0xA2");
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> third = processor.getTransactionReceiptAsync("0xa3");
+            assertSame(first, processor.getTransactionReceiptAsync("0xa1"));
+
+            assertEquals("0xb10", first.get(3, TimeUnit.SECONDS).getBlockHash());
+            assertEquals("0xa2", second.get(3, TimeUnit.SECONDS).getTransactionHash());
+
+            blockNumber.set(12);
+            assertEquals("0xb12", third.get(3, TimeUnit.SECONDS).getBlockHash());
+            assertEquals(0, processor.getPendingCount());
+        }
+
+        // The receipts of block 11 are not queried because no pending transaction is in it.
+        assertEquals(2, (int)requestCount.get("klay_getBlockReceipts"));
+        assertNull(requestCount.get("klay_getTransactionReceipt"));
+    }
+
+    @Test
+    public void waitForTransactionReceipt() throws Exception {
+        addBlock(10, "0xa1");
+
+        try(BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, 20, 5000)) {
+            assertEquals("0xa1", processor.waitForTransactionReceipt("0xa1").getTransactionHash());
+        }
+    }
+
+    @Test
+    public void skipBlocksWithoutPending() throws Exception {
+        try(BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, 20, 5000)) {
+            Thread.sleep(200);
+            blockNumber.set(20);
+            Thread.sleep(200);
+        }
+
+        assertNull(requestCount.get("klay_getBlockByNumber"));
+        assertNull(requestCount.get("klay_getBlockReceipts"));
+    }
+
+    @Test
+    public void subscribeNewHeads() throws Exception {
+        addBlock(10, "0xa1");
+
+        PublishProcessor<NewHeadsNotification> newHeads = PublishProcessor.create();
+        try(BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, newHeads, 5000)) {
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.getTransactionReceiptAsync("0xa1");
+
+            newHeads.onNext(new ObjectMapper().readValue(
+                    "{\"jsonrpc\":\"2.0\",\"method\":\"klay_subscription\",\"params\":{\"subscription\":\"0x1\",\"result\":{\"hash\":\"0xunknown\",\"number\":\"0x9\"}}}",
+                    NewHeadsNotification.class));
+            newHeads.onNext(new ObjectMapper().readValue(
+                    "{\"jsonrpc\":\"2.0\",\"method\":\"klay_subscription\",\"params\":{\"subscription\":\"0x1\",\"result\":{\"hash\":\"0xb10\",\"number\":\"0xa\"}}}",
+                    NewHeadsNotification.class));
+
+            assertEquals("0xb10", future.get(3, TimeUnit.SECONDS).getBlockHash());
+        }
+
+        assertEquals(2, (int)requestCount.get("klay_getBlockReceipts"));
+        assertNull(requestCount.get("klay_getBlockByNumber"));
+    }
+
+    @Test
+    public void subscribeNewHeads_reentrantService() throws Exception {
+        addBlock(10, "0xa1");
+
+        ReentrantService service = new ReentrantService(answer);
+        Caver wsCaver = new Caver(service);
+        try(BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(wsCaver, wsCaver.rpc.klay.subscribeFlowable("newHeads"), 5000)) {
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.getTransactionReceiptAsync("0xa1");
+
+            long start = System.currentTimeMillis();
+            service.emit(new ObjectMapper().readValue(
+                    "{\"jsonrpc\":\"2.0\",\"method\":\"klay_subscription\",\"params\":{\"subscription\":\"0x1\",\"result\":{\"hash\":\"0xb10\",\"number\":\"0xa\"}}}",
+                    NewHeadsNotification.class));
+
+            assertEquals("0xb10", future.get(3, TimeUnit.SECONDS).getBlockHash());
+            // It is resolved before the request timeout of the service.
+            assertTrue(System.currentTimeMillis() - start < 1000);
+        } finally {
+            service.close();
+        }
+
+        assertNull(requestCount.get("klay_getTransactionReceipt"));
+    }
+
+    @Test
+    public void subscriptionErrorFallsBackToPolling() throws Exception {
+        addBlock(10);
+
+        ReentrantService service = new ReentrantService(answer);
+        Caver wsCaver = new Caver(service);
+        try(BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(wsCaver, wsCaver.rpc.klay.subscribeFlowable("newHeads"), 5000)) {
+            CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.getTransactionReceiptAsync("0xa1");
+
+            service.fail(new IOException("The connection is closed."));
+            Thread.sleep(200);
+            addBlock(11, "0xa1");
+            blockNumber.set(11);
+
+            assertEquals("0xb11", future.get(3, TimeUnit.SECONDS).getBlockHash());
+        } finally {
+            service.close();
+        }
+
+        assertNull(requestCount.get("klay_getTransactionReceipt"));
+    }
+
+    @Test
+    public void rescanWhenRegisteredAfterBlock() throws Exception {
+        addBlock(10, "0xa1");
+
+        try(BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, 20, 60000)) {
+            // Block 10 is passed while there is no pending transaction.
+            Thread.sleep(200);
+            assertNull(requestCount.get("klay_getBlockByNumber"));
+
+            assertEquals("0xb10", processor.getTransactionReceiptAsync("0xa1").get(3, TimeUnit.SECONDS).getBlockHash());
+        }
+
+        assertEquals(1, (int)requestCount.get("klay_getBlockReceipts"));
+        assertNull(requestCount.get("klay_getTransactionReceipt"));
+    }
+
+    @Test
+    public void subscribeNewHeads_rescanWhenRegisteredAfterBlock() throws Exception {
+        addBlock(10, "0xa1");
+
+        PublishProcessor<NewHeadsNotification> newHeads = PublishProcessor.create();
+        try(BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, newHeads, 60000)) {
+            newHeads.onNext(new ObjectMapper().readValue(
+                    "{\"jsonrpc\":\"2.0\",\"method\":\"klay_subscription\",\"params\":{\"subscription\":\"0x1\",\"result\":{\"hash\":\"0xb10\",\"number\":\"0xa\"}}}",
+                    NewHeadsNotification.class));
+            Thread.sleep(200);
+
+            assertEquals("0xb10", processor.getTransactionReceiptAsync("0xa1").get(3, TimeUnit.SECONDS).getBlockHash());
+        }
+
+        assertEquals(1, (int)requestCount.get("klay_getBlockReceipts"));
+        assertNull(requestCount.get("klay_getTransactionReceipt"));
+    }
+
+    @Test
+    public void resolveByLastQueryAtTimeout() throws Exception {
+        TransactionReceipt.TransactionReceiptData receipt = new TransactionReceipt.TransactionReceiptData();
+        receipt.setTransactionHash("0xa1");
+        receipts.put("0xa1", receipt);
+
+        try(BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, PublishProcessor.create(), 100)) {
+            assertEquals("0xa1", processor.getTransactionReceiptAsync("0xa1").get(3, TimeUnit.SECONDS).getTransactionHash());
+
+            try {
+                processor.getTransactionReceiptAsync("0xa2").get(3, TimeUnit.SECONDS);
+                fail();
+            } catch(ExecutionException e) {
+                assertTrue(e.getCause() instanceof TransactionException);
+            }
+        }
+    }
+
+    @Test
+    public void close() throws Exception {
+        BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, PublishProcessor.create(), 5000);
+        CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.getTransactionReceiptAsync("0xa1");
+        processor.close();
+
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            processor.getTransactionReceiptAsync("0xa2");
+            fail();
+        } catch(IllegalStateException e) {
+            assertEquals("The receipt processor is closed.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void closeShutsDownScheduler() throws Exception {
+        BlockTransactionReceiptProcessor processor = new BlockTransactionReceiptProcessor(caver, 20, 5000);
+        Thread.sleep(100);
+        for(Thread thread : schedulerThreads()) {
+            assertTrue(thread.isDaemon());
+        }
+
+        processor.close();
+        long deadline = System.currentTimeMillis() + 3000;
+        while(!schedulerThreads().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(schedulerThreads().isEmpty());
+    }
+
+    static List<Thread> schedulerThreads() {
+        List<Thread> threads = new ArrayList<>();
+        for(Thread thread : Thread.getAllStackTraces().keySet()) {
+            if(thread.isAlive() && thread.getName().startsWith("caver-block-receipt-processor")) {
+                threads.add(thread);
+            }
+        }
+        return threads;
+    }
+}
@@ -685,6 +685,31 @@ public class EthereumAccessListTest {
             assertEquals(expected, txHash);
         }
 
+        @Test
+        public void getTransactionHash_accessListCopied() {
+            AccessList given = new AccessList(accessList);
+            EthereumAccessList ethereumAccessList = caver.transaction.ethereumAccessList.create(
+                    TxPropertyBuilder.ethereumAccessList()
+                            .setNonce(nonce)
+                            .setGas(gas)
+                            .setGasPrice(gasPrice)
+                            .setChainId(chainID)
+                            .setValue(value)
+                            .setInput(input)
+                            .setTo(to)
+                            .setAccessList(given)
+                            .setSignatures(signatureData)
+            );
+            String expected = "0x5f4484fe404d9e5b3c100d1b67aa5633daab5d516267bf8af03550644e2d7378";
+            assertEquals(expected, ethereumAccessList.getTransactionHash());
+
+            // Neither the given list nor the returned list is held by the transaction.
+            given.remove(0);
+            ethereumAccessList.getAccessList().clear();
+            assertEquals(accessList, ethereumAccessList.getAccessList());
+            assertEquals(expected, ethereumAccessList.getTransactionHash());
+        }
+
         @Test
         public void throwException_NotDefined_Nonce() {
             expectedException.expect(RuntimeException.class);
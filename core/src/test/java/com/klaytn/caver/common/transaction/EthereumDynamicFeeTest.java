@@ -19,6 +19,7 @@ package com.klaytn.caver.common.transaction;
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.abi.datatypes.Array;
 import com.klaytn.caver.methods.response.BlockHeader;
+import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.TransactionHasher;
 import com.klaytn.caver.transaction.TxPropertyBuilder;
@@ -34,7 +35,12 @@ import org.junit.experimental.runners.Enclosed;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.web3j.crypto.Hash;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
@@ -44,6 +50,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @RunWith(Enclosed.class)
 public class EthereumDynamicFeeTest {
@@ -1710,5 +1718,86 @@ public class EthereumDynamicFeeTest {
 
 
         }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        public void fillTransaction_inOneBatchRequest() throws IOException {
+            Web3jService web3jService = mockBatchService(false);
+            Klay klay = new Klay(web3jService);
+
+            for(int i = 0; i < 2; i++) {
+                EthereumDynamicFee ethereumDynamicFee = new EthereumDynamicFee.Builder()
+                        .setKlaytnCall(klay)
+                        .setFrom("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b")
+                        .setGas(gas)
+                        .setTo(to)
+                        .setInput(input)
+                        .setValue(value)
+                        .build();
+
+                ethereumDynamicFee.fillTransaction();
+
+                assertEquals("0x5", ethereumDynamicFee.getNonce());
+                assertEquals("0x2710", ethereumDynamicFee.getChainId());
+                assertEquals("0x5d21dba00", ethereumDynamicFee.getMaxPriorityFeePerGas());
+                assertEquals("0xba43b7400", ethereumDynamicFee.getMaxFeePerGas());
+            }
+            // The chain id is loaded once per Klay instance, and the other fields are filled in one batch per transaction.
+            verify(web3jService, times(1)).send(any(), any());
+            verify(web3jService, times(2)).sendBatch(any(BatchRequest.class));
+        }
+
+        @Test
+        public void throwException_outOfOrderBatchResponse() throws IOException {
+            expectedException.expect(RuntimeException.class);
+            expectedException.expectMessage("The responses in a batch are not in the order of the requests.");
+
+            EthereumDynamicFee ethereumDynamicFee = new EthereumDynamicFee.Builder()
+                    .setKlaytnCall(new Klay(mockBatchService(true)))
+                    .setFrom("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b")
+                    .setGas(gas)
+                    .setTo(to)
+                    .setInput(input)
+                    .setValue(value)
+                    .build();
+
+            ethereumDynamicFee.fillTransaction();
+        }
+
+        /**
+         * Mocks a service answering a batch with typed responses. web3j types each response with the request at the same position,
+         * so a reversed batch has responses whose ids don't match the requests.
+         */
+        Web3jService mockBatchService(boolean reversed) throws IOException {
+            Web3jService web3jService = mock(Web3jService.class);
+            when(web3jService.send(any(Request.class), any())).thenAnswer(invocation -> {
+                Request<?, ?> request = invocation.getArgument(0);
+                Response<Object> response = (Response<Object>)request.getResponseType().newInstance();
+                response.setId(request.getId());
+                response.setResult("0x2710");
+                return response;
+            });
+            when(web3jService.sendBatch(any(BatchRequest.class))).thenAnswer(invocation -> {
+                BatchRequest batchRequest = invocation.getArgument(0);
+                List<Response<?>> responses = new ArrayList<>();
+                for(Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+                    Response<Object> response = (Response<Object>)request.getResponseType().newInstance();
+                    response.setId(request.getId());
+                    switch(request.getMethod()) {
+                        case "klay_getTransactionCount": response.setResult("0x5"); break;
+                        case "klay_chainID": response.setResult("0x2710"); break;
+                        case "klay_maxPriorityFeePerGas": response.setResult("0x5d21dba00"); break;
+                        case "klay_gasPrice": response.setResult("0xba43b7400"); break;
+                    }
+                    if(reversed) {
+                        responses.add(0, response);
+                    } else {
+                        responses.add(response);
+                    }
+                }
+                return new BatchResponse(batchRequest.getRequests(), responses);
+            });
+            return web3jService;
+        }
     }
 }
@@ -17,6 +17,8 @@
 package com.klaytn.caver.common.transaction;
 
 import com.klaytn.caver.Caver;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.TransactionDecoder;
 import com.klaytn.caver.transaction.TransactionHasher;
 import com.klaytn.caver.transaction.TxPropertyBuilder;
 import com.klaytn.caver.transaction.type.FeeDelegatedValueTransfer;
@@ -31,6 +33,7 @@ import org.junit.runner.RunWith;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -1014,6 +1017,38 @@ public class FeeDelegatedValueTransferTest {
             FeeDelegatedValueTransfer txObj = FeeDelegatedValueTransfer.decode(expectedRLPEncoding);
         }
 
+        @Test
+        public void decode_partOfByteArray() {
+            byte[] rlpEncoded = Numeric.hexStringToByteArray(expectedRLPEncoding);
+            byte[] padded = new byte[rlpEncoded.length + 10];
+            System.arraycopy(rlpEncoded, 0, padded, 5, rlpEncoded.length);
+
+            AbstractTransaction txObj = TransactionDecoder.decode(padded, 5, rlpEncoded.length);
+
+            assertTrue(txObj instanceof FeeDelegatedValueTransfer);
+            assertEquals(expectedRLPEncoding, txObj.getRLPEncoding());
+            assertEquals("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b", txObj.getFrom());
+        }
+
+        @Test
+        public void decode_byteBuffer() {
+            byte[] rlpEncoded = Numeric.hexStringToByteArray(expectedRLPEncoding);
+            ByteBuffer buffer = ByteBuffer.allocate(rlpEncoded.length + 3);
+            buffer.put(new byte[3]).put(rlpEncoded).flip();
+            buffer.position(3);
+
+            AbstractTransaction txObj = TransactionDecoder.decode(buffer.slice());
+            assertEquals(expectedRLPEncoding, txObj.getRLPEncoding());
+            assertEquals(3, buffer.position());
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(rlpEncoded.length);
+            direct.put(rlpEncoded).flip();
+
+            txObj = TransactionDecoder.decode(direct);
+            assertEquals(expectedRLPEncoding, txObj.getRLPEncoding());
+            assertEquals(0, direct.position());
+        }
+
         @Test
         public void combineSignature() {
             mTxObj = caver.transaction.feeDelegatedValueTransfer.create(
@@ -1290,6 +1325,36 @@ public class FeeDelegatedValueTransferTest {
             assertEquals(expectedTransactionHash, mTxObj.getTransactionHash());
         }
 
+        @Test
+        public void getTransactionHash_signaturesNotModifiable() {
+            mTxObj = caver.transaction.feeDelegatedValueTransfer.create(
+                    TxPropertyBuilder.feeDelegatedValueTransfer()
+                            .setNonce(nonce)
+                            .setGas(gas)
+                            .setGasPrice(gasPrice)
+                            .setTo(to)
+                            .setChainId(chainID)
+                            .setValue(value)
+                            .setFrom(from)
+                            .setFeePayer(feePayer)
+                            .setSignatures(senderSignatureData)
+                            .setFeePayerSignatures(feePayerSignatureData)
+            );
+            assertEquals(expectedTransactionHash, mTxObj.getTransactionHash());
+
+            try {
+                mTxObj.getSignatures().clear();
+                fail();
+            } catch(UnsupportedOperationException e) {
+            }
+            try {
+                mTxObj.getFeePayerSignatures().clear();
+                fail();
+            } catch(UnsupportedOperationException e) {
+            }
+            assertEquals(expectedTransactionHash, mTxObj.getTransactionHash());
+        }
+
         @Test
         public void throwException_NotDefined_Nonce() {
             expectedException.expect(RuntimeException.class);
@@ -0,0 +1,493 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.methods.response.Quantity;
+import com.klaytn.caver.rpc.Klay;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.nonce.NonceGuard;
+import com.klaytn.caver.transaction.nonce.NonceManager;
+import com.klaytn.caver.transaction.type.ValueTransfer;
+import com.klaytn.caver.utils.Utils;
+import com.klaytn.caver.wallet.CompactKeyringStore;
+import com.klaytn.caver.wallet.KeyringContainer;
+import com.klaytn.caver.wallet.keyring.KeyringFactory;
+import com.klaytn.caver.wallet.keyring.SingleKeyring;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.web3j.protocol.core.DefaultBlockParameter;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(Enclosed.class)
+public class NonceManagerTest {
+    static String from = "0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b";
+
+    static Klay mockKlay(String pendingNonce) throws IOException {
+        Quantity quantity = new Quantity();
+        quantity.setResult(pendingNonce);
+
+        Klay klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+        when(klay.getTransactionCount(anyString(), any(DefaultBlockParameter.class)).send()).thenReturn(quantity);
+        return klay;
+    }
+
+    public static class allocateTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void syncOnceAndIncrease() throws IOException {
+            Klay klay = mockKlay("0x5");
+            NonceManager nonceManager = new NonceManager();
+
+            assertEquals(BigInteger.valueOf(5), nonceManager.allocate(klay, from));
+            assertEquals(BigInteger.valueOf(6), nonceManager.allocate(klay, from));
+            assertEquals(BigInteger.valueOf(7), nonceManager.allocate(klay, from.toUpperCase().replace("0X", "0x")));
+            assertEquals(BigInteger.valueOf(8), nonceManager.getNextNonce(from));
+
+            verify(klay, times(1)).getTransactionCount(anyString(), any(DefaultBlockParameter.class));
+        }
+
+        @Test
+        public void resyncAfterReset() throws IOException {
+            Klay klay = mockKlay("0x5");
+            NonceManager nonceManager = new NonceManager();
+
+            nonceManager.allocate(klay, from);
+            nonceManager.allocate(klay, from);
+            nonceManager.reset(from);
+
+            assertNull(nonceManager.getNextNonce(from));
+            assertEquals(BigInteger.valueOf(5), nonceManager.allocate(klay, from));
+        }
+
+        @Test
+        public void setNonceWithoutNode() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.TEN);
+
+            assertEquals(BigInteger.TEN, nonceManager.allocate(null, from));
+        }
+
+        @Test
+        public void throwException_noKlay() throws IOException {
+            expectedException.expect(RuntimeException.class);
+            expectedException.expectMessage("Cannot sync the nonce of " + from);
+
+            new NonceManager().allocate(null, from);
+        }
+
+        @Test
+        public void concurrentAllocation() throws Exception {
+            Klay klay = mockKlay("0x0");
+            NonceManager nonceManager = new NonceManager(4);
+            String[] addresses = {from, "0x7b65b75d204abed71587c9e519a89277766ee1d0"};
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<BigInteger>> futures = new ArrayList<>();
+            for(int i = 0; i < 2000; i++) {
+                String address = addresses[i % 2];
+                futures.add(executor.submit(() -> nonceManager.allocate(klay, address)));
+            }
+
+            Set<BigInteger> allocated = new HashSet<>();
+            for(Future<BigInteger> future : futures) {
+                allocated.add(future.get());
+            }
+            executor.shutdown();
+
+            // Each address gets 0 ~ 999 without duplication.
+            assertEquals(1000, allocated.size());
+            assertEquals(BigInteger.valueOf(1000), nonceManager.getNextNonce(addresses[0]));
+            assertEquals(BigInteger.valueOf(1000), nonceManager.getNextNonce(addresses[1]));
+        }
+
+        @Test
+        public void syncWithoutBlockingOtherAddresses() throws Exception {
+            CountDownLatch querying = new CountDownLatch(1);
+            CountDownLatch responded = new CountDownLatch(1);
+            Quantity quantity = new Quantity();
+            quantity.setResult("0x5");
+
+            Klay klay = mock(Klay.class, RETURNS_DEEP_STUBS);
+            when(klay.getTransactionCount(anyString(), any(DefaultBlockParameter.class)).send()).thenAnswer(invocation -> {
+                querying.countDown();
+                responded.await();
+                return quantity;
+            });
+
+            // All addresses share one lock.
+            NonceManager nonceManager = new NonceManager(1);
+            String other = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+            nonceManager.setNonce(other, BigInteger.TEN);
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<BigInteger> syncing = executor.submit(() -> nonceManager.allocate(klay, from));
+                querying.await();
+
+                assertEquals(BigInteger.TEN, nonceManager.allocate(null, other));
+
+                responded.countDown();
+                assertEquals(BigInteger.valueOf(5), syncing.get(3, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    public static class releaseTest {
+        @Test
+        public void releaseLast() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.ZERO);
+
+            nonceManager.allocate(null, from);
+            nonceManager.allocate(null, from);
+            BigInteger last = nonceManager.allocate(null, from);
+            nonceManager.release(from, last);
+
+            assertEquals(BigInteger.valueOf(2), nonceManager.getNextNonce(from));
+            assertTrue(nonceManager.getGaps(from).isEmpty());
+        }
+
+        @Test
+        public void releaseMiddle() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.ZERO);
+
+            for(int i = 0; i < 5; i++) {
+                nonceManager.allocate(null, from);
+            }
+            nonceManager.release(from, BigInteger.valueOf(3));
+            nonceManager.release(from, BigInteger.ONE);
+
+            assertEquals(Arrays.asList(BigInteger.ONE, BigInteger.valueOf(3)), nonceManager.getGaps(from));
+
+            // The released nonces are allocated first.
+            assertEquals(BigInteger.ONE, nonceManager.allocate(null, from));
+            assertEquals(BigInteger.valueOf(3), nonceManager.allocate(null, from));
+            assertEquals(BigInteger.valueOf(5), nonceManager.allocate(null, from));
+            assertTrue(nonceManager.getGaps(from).isEmpty());
+        }
+
+        @Test
+        public void releaseCascade() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.ZERO);
+
+            for(int i = 0; i < 4; i++) {
+                nonceManager.allocate(null, from);
+            }
+            nonceManager.release(from, BigInteger.valueOf(2));
+            nonceManager.release(from, BigInteger.valueOf(3));
+
+            assertEquals(BigInteger.valueOf(2), nonceManager.getNextNonce(from));
+            assertTrue(nonceManager.getGaps(from).isEmpty());
+        }
+
+        @Test
+        public void ignoreNotAllocated() {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.ONE);
+            nonceManager.release(from, BigInteger.TEN);
+            nonceManager.release("0x7b65b75d204abed71587c9e519a89277766ee1d0", BigInteger.ONE);
+
+            assertEquals(BigInteger.ONE, nonceManager.getNextNonce(from));
+            assertTrue(nonceManager.getGaps(from).isEmpty());
+        }
+    }
+
+    public static class resyncTest {
+        @Test
+        public void releaseWhenNodeDidNotReceive() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.valueOf(100));
+            nonceManager.allocate(null, from);
+            BigInteger uncertain = nonceManager.allocate(null, from);
+            nonceManager.resync(from, uncertain);
+
+            // The pending nonce of the node is 101, so the node didn't receive the nonce 101.
+            Klay klay = mockKlay("0x65");
+            assertEquals(uncertain, nonceManager.allocate(klay, from));
+            assertEquals(BigInteger.valueOf(102), nonceManager.allocate(klay, from));
+            verify(klay, times(1)).getTransactionCount(anyString(), any(DefaultBlockParameter.class));
+        }
+
+        @Test
+        public void dropWhenNodeReceived() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.valueOf(100));
+            BigInteger uncertain = nonceManager.allocate(null, from);
+            nonceManager.resync(from, uncertain);
+
+            assertEquals(BigInteger.valueOf(101), nonceManager.allocate(mockKlay("0x65"), from));
+            assertTrue(nonceManager.getGaps(from).isEmpty());
+        }
+
+        @Test
+        public void releaseAboveNodeAndQueryOnce() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.valueOf(100));
+            nonceManager.allocate(null, from);
+            nonceManager.allocate(null, from);
+            BigInteger uncertain = nonceManager.allocate(null, from);
+            nonceManager.resync(from, uncertain);
+
+            // The pending nonce of the node is 101, so the nonce 102 is not executable in the node and is allocated again.
+            Klay klay = mockKlay("0x65");
+            assertEquals(uncertain, nonceManager.allocate(klay, from));
+            assertEquals(BigInteger.valueOf(103), nonceManager.allocate(klay, from));
+            assertEquals(BigInteger.valueOf(104), nonceManager.allocate(klay, from));
+            verify(klay, times(1)).getTransactionCount(anyString(), any(DefaultBlockParameter.class));
+        }
+
+        @Test
+        public void followNodeUsedByOtherSender() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.valueOf(100));
+            nonceManager.allocate(null, from);
+            BigInteger released = nonceManager.allocate(null, from);
+            BigInteger uncertain = nonceManager.allocate(null, from);
+            nonceManager.release(from, released);
+            nonceManager.resync(from, uncertain);
+
+            // Another sender used the nonces up to 109, so the released and marked nonces are dropped.
+            assertEquals(BigInteger.valueOf(110), nonceManager.allocate(mockKlay("0x6e"), from));
+            assertTrue(nonceManager.getGaps(from).isEmpty());
+            assertEquals(BigInteger.valueOf(111), nonceManager.getNextNonce(from));
+        }
+
+        @Test
+        public void keepNonceOfTransaction() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.valueOf(100));
+
+            ValueTransfer valueTransfer = fillTransactionTest.valueTransfer(nonceManager, from, true);
+            valueTransfer.fillTransaction();
+            valueTransfer.resyncNonce();
+
+            // The transaction can be sent again, and the nonce is not released until the node is checked.
+            assertEquals("0x64", valueTransfer.getNonce());
+            assertTrue(nonceManager.getGaps(from).isEmpty());
+            assertEquals(BigInteger.valueOf(101), nonceManager.getNextNonce(from));
+        }
+    }
+
+    public static class fillTransactionTest {
+        @Test
+        public void fillNonceWithNonceManager() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.valueOf(100));
+
+            for(int i = 0; i < 3; i++) {
+                ValueTransfer valueTransfer = new ValueTransfer.Builder()
+                        .setNonceManager(nonceManager)
+                        .setFrom(from)
+                        .setTo("0x7b65b75d204abed71587c9e519a89277766ee1d0")
+                        .setValue(BigInteger.ONE)
+                        .setGas(BigInteger.valueOf(25000))
+                        .setGasPrice(BigInteger.valueOf(25000000000L))
+                        .setChainId(BigInteger.valueOf(1001))
+                        .build();
+                valueTransfer.fillTransaction();
+
+                assertEquals(nonceManager, valueTransfer.getNonceManager());
+                assertEquals(BigInteger.valueOf(100 + i), new BigInteger(valueTransfer.getNonce().substring(2), 16));
+            }
+        }
+
+        @Test
+        public void releaseWhenFillFails() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.valueOf(100));
+
+            Klay klay = mock(Klay.class);
+            when(klay.getCachedChainId()).thenThrow(new IOException("connection refused"));
+
+            ValueTransfer valueTransfer = new ValueTransfer.Builder()
+                    .setNonceManager(nonceManager)
+                    .setKlaytnCall(klay)
+                    .setFrom(from)
+                    .setTo("0x7b65b75d204abed71587c9e519a89277766ee1d0")
+                    .setValue(BigInteger.ONE)
+                    .setGas(BigInteger.valueOf(25000))
+                    .setGasPrice(BigInteger.valueOf(25000000000L))
+                    .build();
+
+            try {
+                valueTransfer.fillTransaction();
+                fail();
+            } catch(IOException e) {
+                assertEquals("connection refused", e.getMessage());
+            }
+
+            assertEquals("0x", valueTransfer.getNonce());
+            assertEquals(BigInteger.valueOf(100), nonceManager.getNextNonce(from));
+        }
+
+        @Test
+        public void releaseWhenGasPriceIsNotFilled() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.valueOf(100));
+
+            ValueTransfer valueTransfer = valueTransfer(nonceManager, from, false);
+            try {
+                valueTransfer.fillTransaction();
+                fail();
+            } catch(RuntimeException e) {
+                assertTrue(e.getMessage().contains("(gasPrice)"));
+            }
+
+            assertEquals("0x", valueTransfer.getNonce());
+            assertEquals(BigInteger.valueOf(100), nonceManager.getNextNonce(from));
+        }
+
+        @Test
+        public void releaseWhenSigningFails() throws IOException {
+            SingleKeyring keyring = KeyringFactory.generate();
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(keyring.getAddress(), BigInteger.valueOf(100));
+
+            KeyringContainer container = new KeyringContainer();
+            container.add(keyring);
+
+            // The gas price is checked after the nonce is allocated.
+            ValueTransfer valueTransfer = new ValueTransfer.Builder()
+                    .setNonceManager(nonceManager)
+                    .setFrom(keyring.getAddress())
+                    .setTo("0x7b65b75d204abed71587c9e519a89277766ee1d0")
+                    .setValue(BigInteger.ONE)
+                    .setGas(BigInteger.valueOf(25000))
+                    .setChainId(BigInteger.valueOf(1001))
+                    .build();
+
+            try {
+                container.sign(keyring.getAddress(), valueTransfer);
+                fail();
+            } catch(RuntimeException e) {
+                assertTrue(e.getMessage().contains("gasPrice"));
+            }
+
+            assertEquals(BigInteger.valueOf(100), nonceManager.getNextNonce(keyring.getAddress()));
+            assertEquals("0x", valueTransfer.getNonce());
+            assertTrue(Utils.isEmptySig(valueTransfer.getSignatures()));
+        }
+
+        @Test
+        public void releaseWhenSigningFailsInCompactKeyringStore() throws IOException {
+            SingleKeyring keyring = KeyringFactory.generate();
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(keyring.getAddress(), BigInteger.valueOf(100));
+
+            CompactKeyringStore wallet = new CompactKeyringStore();
+            wallet.add(keyring);
+
+            ValueTransfer valueTransfer = valueTransfer(nonceManager, keyring.getAddress(), false);
+            try {
+                wallet.sign(keyring.getAddress(), valueTransfer);
+                fail();
+            } catch(RuntimeException e) {
+                assertTrue(e.getMessage().contains("gasPrice"));
+            }
+
+            assertEquals(BigInteger.valueOf(100), nonceManager.getNextNonce(keyring.getAddress()));
+            assertEquals("0x", valueTransfer.getNonce());
+        }
+
+        @Test
+        public void resyncWhenSendFails() throws IOException {
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(from, BigInteger.valueOf(100));
+
+            ValueTransfer valueTransfer = valueTransfer(nonceManager, from, true);
+            valueTransfer.fillTransaction();
+            // Even if the node responded with an error, it may already have the transaction.
+            NonceGuard.onSendFailure(valueTransfer);
+
+            assertEquals("0x64", valueTransfer.getNonce());
+            assertTrue(nonceManager.getGaps(from).isEmpty());
+
+            // The pending nonce of the node shows that it didn't receive the transaction, so the nonce is allocated again.
+            assertEquals(BigInteger.valueOf(100), nonceManager.allocate(mockKlay("0x64"), from));
+        }
+
+        static ValueTransfer valueTransfer(NonceManager nonceManager, String from, boolean withGasPrice) {
+            ValueTransfer.Builder builder = new ValueTransfer.Builder()
+                    .setNonceManager(nonceManager)
+                    .setFrom(from)
+                    .setTo("0x7b65b75d204abed71587c9e519a89277766ee1d0")
+                    .setValue(BigInteger.ONE)
+                    .setGas(BigInteger.valueOf(25000))
+                    .setChainId(BigInteger.valueOf(1001));
+            if(withGasPrice) {
+                builder.setGasPrice(BigInteger.valueOf(25000000000L));
+            }
+            return builder.build();
+        }
+
+        @Test
+        public void keepSignedNoncesWhenSignAllFails() throws IOException {
+            SingleKeyring first = KeyringFactory.generate();
+            SingleKeyring second = KeyringFactory.generate();
+            NonceManager nonceManager = new NonceManager();
+            nonceManager.setNonce(first.getAddress(), BigInteger.valueOf(100));
+            nonceManager.setNonce(second.getAddress(), BigInteger.valueOf(200));
+
+            KeyringContainer container = new KeyringContainer();
+            container.add(first);
+            container.add(second);
+
+            List<AbstractTransaction> transactions = Arrays.asList(
+                    valueTransfer(nonceManager, first.getAddress(), true),
+                    valueTransfer(nonceManager, second.getAddress().toUpperCase().replace("0X", "0x"), true),
+                    valueTransfer(nonceManager, first.getAddress(), true),
+                    valueTransfer(nonceManager, second.getAddress(), false));
+
+            try {
+                container.signAll(transactions, Runnable::run);
+                fail();
+            } catch(RuntimeException e) {
+                assertTrue(e.getMessage().contains("gasPrice"));
+            }
+
+            // The signed transactions keep their nonces and signatures.
+            assertEquals("0x64", transactions.get(0).getNonce());
+            assertEquals("0x65", transactions.get(2).getNonce());
+            assertEquals("0xc8", transactions.get(1).getNonce());
+            assertFalse(Utils.isEmptySig(transactions.get(1).getSignatures()));
+            assertEquals(BigInteger.valueOf(102), nonceManager.getNextNonce(first.getAddress()));
+
+            // Only the nonce of the failed transaction is released.
+            assertEquals("0x", transactions.get(3).getNonce());
+            assertTrue(Utils.isEmptySig(transactions.get(3).getSignatures()));
+            assertEquals(BigInteger.valueOf(201), nonceManager.getNextNonce(second.getAddress()));
+        }
+    }
+}
@@ -595,6 +595,51 @@ public class SmartContractExecutionTest {
             assertEquals(expectedRLPEncoding, txObj.getRLPEncoding());
         }
 
+        @Test
+        public void getRLPEncoding_inputBytes() {
+            SmartContractExecution txObj = caver.transaction.smartContractExecution.create(
+                    TxPropertyBuilder.smartContractExecution()
+                            .setNonce(nonce)
+                            .setGas(gas)
+                            .setGasPrice(gasPrice)
+                            .setChainId(chainID)
+                            .setValue(value)
+                            .setFrom(from)
+                            .setTo(to)
+                            .setInputBytes(Numeric.hexStringToByteArray(input))
+                            .setSignatures(signatureData)
+            );
+
+            assertEquals(expectedRLPEncoding, txObj.getRLPEncoding());
+            assertEquals(input, txObj.getInput());
+        }
+
+        @Test
+        public void getRLPEncoding_inputBytesCopied() {
+            byte[] inputBytes = Numeric.hexStringToByteArray(input);
+            SmartContractExecution.Builder builder = TxPropertyBuilder.smartContractExecution()
+                    .setNonce(nonce)
+                    .setGas(gas)
+                    .setGasPrice(gasPrice)
+                    .setChainId(chainID)
+                    .setValue(value)
+                    .setFrom(from)
+                    .setTo(to)
+                    .setInputBytes(inputBytes)
+                    .setSignatures(signatureData);
+            inputBytes[0] = (byte)~inputBytes[0];
+
+            SmartContractExecution txObj = caver.transaction.smartContractExecution.create(builder);
+            assertEquals(expectedRLPEncoding, txObj.getRLPEncoding());
+            assertEquals(input, txObj.getInput());
+
+            byte[] changed = Numeric.hexStringToByteArray(input);
+            txObj.setInputBytes(changed);
+            changed[0] = (byte)~changed[0];
+            assertEquals(expectedRLPEncoding, txObj.getRLPEncoding());
+            assertEquals(input, txObj.getInput());
+        }
+
         @Test
         public void throwException_NoNonce() {
             expectedException.expect(RuntimeException.class);
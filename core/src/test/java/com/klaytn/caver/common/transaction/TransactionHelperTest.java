@@ -23,6 +23,10 @@ import com.klaytn.caver.methods.response.Bytes32;
 import com.klaytn.caver.methods.response.Transaction;
 import com.klaytn.caver.methods.response.TransactionReceipt;
 import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.PublicKeyRecoveryResult;
+import com.klaytn.caver.transaction.TransactionDecodeResult;
+import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.TransactionHelper;
 import com.klaytn.caver.transaction.response.PollingTransactionReceiptProcessor;
 import com.klaytn.caver.transaction.response.TransactionReceiptProcessor;
 import com.klaytn.caver.transaction.type.*;
@@ -39,17 +43,19 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 @RunWith(Enclosed.class)
 public class TransactionHelperTest {
@@ -540,4 +546,120 @@ public class TransactionHelperTest {
             assertEquals(feePayerPubKey, expectedFeePayerPublicKeys);
         }
     }
+    public static class recoverPublicKeysInBulkTest {
+        static Caver caver;
+
+        static String valueTransferRawTx = "0x08f9010e808505d21dba008402faf0809459177716c34ac6e49e295a0e78e33522f14d61ee0194f21460730845e3652aa3cc9bc13b345e4f53984af8d5f845820feaa02b5934c6d26bb3e65edf099d79c57c743d2f70744ca09d3ba9a1099edff9f173a00797886edff4b449c1a599943e3a6003ae9e46b3f3f34862ced327e43fba3a6af845820fe9a063177648732ef855f800eb9f80f68501abb507f84c0d660286a6e0801334a1d2a0620a996623c114f2df35b11ec8ac4f3758d3ad89cf81ba13614e51908cfe9218f845820fe9a086c8ecbfd892be41d48443a2243274beb6daed3f72895045965a3baede4c350ea069ea748aff6e4c106d3a8ba597d8f134745b76f12dacb581318f9da07351511a";
+        static String cancelRawTx = "0x38f8f8808505d21dba008402faf08094f21460730845e3652aa3cc9bc13b345e4f53984af8d5f845820feaa0ac0efc65393b4136e474c8185af7f44491e797d8aa2e07d6853703c4efdbf7dca03691224986fec26012fe329f6bed56c6964a3d4f3bc8ff704131970735cd0a2ff845820feaa004f1bbc8767546157bdae445b7e88722c0f94a29efa47d1a3d2241954c3bc816a05701a35937563b3a7542c5766a6218698424c60c0a63b8e463ba88b21e6dbee3f845820feaa0b1f2d463eee52f6f03f3a5320eb863f964a89b1fdc466ccc93ae22b96044e6efa03ea104cc4de8f071d9b5cc3da4197b3299408d7da44e8359bb7b36fde9bf3b30";
+        static String invalidRawTx = "0x08f8";
+
+        List<String> expectedPublicKeys = Arrays.asList(
+                "0x8bb6aaeb2d96d024754d3b50babf116cece68977acbe8ba6a66f14d5217c60d96af020a0568661e7c72e753e80efe084a3aed9f9ac87bf44d09ce67aad3d4e01",
+                "0xc7751c794337a93e4db041fb5401c2c816cf0a099d8fd4b1f3f555aab5dfead2417521bb0c03d8637f350df15ef6a6cb3cdb806bd9d10bc71982dd03ff5d9ddd",
+                "0x3919091ba17c106dd034af508cfe00b963d173dffab2c7702890e25a96d107ca1bb4f148ee1984751e57d2435468558193ce84ab9a7731b842e9672e40dc0f22"
+        );
+
+        @BeforeClass
+        public static void init() {
+            caver = new Caver(Caver.DEFAULT_URL);
+        }
+
+        @Test
+        public void keepOrderAndReportFailure() {
+            List<String> rawTxList = new ArrayList<>();
+            for(int i = 0; i < 50; i++) {
+                rawTxList.add(i % 5 == 4 ? invalidRawTx : (i % 2 == 0 ? valueTransferRawTx : cancelRawTx));
+            }
+
+            List<TransactionDecodeResult> results = caver.transaction.recoverPublicKeys(rawTxList);
+            assertEquals(rawTxList.size(), results.size());
+
+            for(int i = 0; i < results.size(); i++) {
+                TransactionDecodeResult result = results.get(i);
+                assertEquals(i, result.getIndex());
+
+                if(i % 5 == 4) {
+                    assertFalse(result.isSuccess());
+                    assertNull(result.getTransaction());
+                    assertNotNull(result.getError());
+                } else {
+                    assertTrue(result.isSuccess());
+                    assertTrue(i % 2 == 0 ? result.getTransaction() instanceof ValueTransfer : result.getTransaction() instanceof Cancel);
+                    assertEquals(expectedPublicKeys, result.getPublicKeys());
+                }
+            }
+        }
+
+        @Test
+        public void decodeWithoutRecover() {
+            List<TransactionDecodeResult> results = TransactionDecoder.decodeAll(Arrays.asList(cancelRawTx, valueTransferRawTx));
+
+            assertEquals(2, results.size());
+            assertTrue(results.get(0).getTransaction() instanceof Cancel);
+            assertTrue(results.get(1).getTransaction() instanceof ValueTransfer);
+            assertNull(results.get(0).getPublicKeys());
+        }
+
+        @Test
+        public void decodeBytes() {
+            List<byte[]> rawTxList = new ArrayList<>();
+            for(int i = 0; i < 40; i++) {
+                rawTxList.add(Numeric.hexStringToByteArray(i % 2 == 0 ? valueTransferRawTx : cancelRawTx));
+            }
+
+            List<TransactionDecodeResult> results = TransactionDecoder.decodeAllBytes(rawTxList, true, ForkJoinPool.commonPool());
+            assertEquals(rawTxList.size(), results.size());
+
+            for(int i = 0; i < results.size(); i++) {
+                assertEquals(i, results.get(i).getIndex());
+                assertEquals(i % 2 == 0 ? valueTransferRawTx : cancelRawTx, results.get(i).getTransaction().getRawTransaction());
+                assertEquals(expectedPublicKeys, results.get(i).getPublicKeys());
+            }
+        }
+
+        @Test
+        public void withCustomPool() {
+            ForkJoinPool pool = new ForkJoinPool(2);
+            try {
+                List<TransactionDecodeResult> results = TransactionDecoder.decodeAll(Arrays.asList(valueTransferRawTx, invalidRawTx), true, pool);
+
+                assertEquals(expectedPublicKeys, results.get(0).getPublicKeys());
+                assertFalse(results.get(1).isSuccess());
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        public void emptyList() {
+            assertTrue(caver.transaction.decodeAll(new ArrayList<>()).isEmpty());
+        }
+
+        @Test
+        public void recoverFromTransactionInstances() {
+            List<AbstractTransaction> transactions = new ArrayList<>();
+            for(int i = 0; i < 40; i++) {
+                transactions.add(TransactionDecoder.decode(i % 2 == 0 ? valueTransferRawTx : cancelRawTx));
+            }
+            // A transaction without signatures fails alone.
+            transactions.add(new ValueTransfer.Builder()
+                    .setFrom("0x59177716c34ac6e49e295a0e78e33522f14d61ee")
+                    .setTo("0x59177716c34ac6e49e295a0e78e33522f14d61ee")
+                    .setValue("0x1")
+                    .setChainId("0x7e3")
+                    .setNonce("0x0")
+                    .setGas("0x15f90")
+                    .setGasPrice("0x5d21dba00")
+                    .build());
+
+            List<PublicKeyRecoveryResult> results = TransactionHelper.recoverAllPublicKeys(transactions);
+            assertEquals(transactions.size(), results.size());
+
+            for(int i = 0; i < results.size() - 1; i++) {
+                assertSame(transactions.get(i), results.get(i).getTransaction());
+                assertEquals(expectedPublicKeys, results.get(i).getPublicKeys());
+            }
+            assertFalse(results.get(results.size() - 1).isSuccess());
+        }
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.methods.response.TransactionReceipt;
+import com.klaytn.caver.transaction.response.NoOpTransactionReceiptProcessor;
+import com.klaytn.caver.transaction.response.PollingTransactionReceiptProcessor;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.stubbing.Answer;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TransactionReceiptProcessorTest {
+    Map<String, TransactionReceipt.TransactionReceiptData> receipts;
+    Map<String, AtomicInteger> requestCount;
+    AtomicInteger batchCount;
+    Caver caver;
+
+    @Before
+    public void setUp() throws IOException {
+        receipts = new ConcurrentHashMap<>();
+        requestCount = new ConcurrentHashMap<>();
+        batchCount = new AtomicInteger();
+
+        Answer<Response<Object>> answer = invocation -> {
+            Request<?, ?> request = invocation.getArgument(0);
+            String transactionHash = (String)request.getParams().get(0);
+            requestCount.computeIfAbsent(transactionHash, key -> new AtomicInteger()).incrementAndGet();
+
+            Response<Object> response = (Response<Object>)request.getResponseType().newInstance();
+            response.setId(request.getId());
+            response.setResult(receipts.get(transactionHash));
+            return response;
+        };
+
+        Web3jService web3jService = mock(Web3jService.class);
+        when(web3jService.send(any(Request.class), any())).thenAnswer(answer);
+        when(web3jService.sendAsync(any(Request.class), any())).thenAnswer(invocation -> CompletableFuture.completedFuture(answer.answer(invocation)));
+        when(web3jService.sendBatchAsync(any(BatchRequest.class))).thenAnswer(invocation -> {
+            BatchRequest batchRequest = invocation.getArgument(0);
+            batchCount.incrementAndGet();
+
+            List<Response<?>> responses = new ArrayList<>();
+            for(Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+                String transactionHash = (String)request.getParams().get(0);
+                requestCount.computeIfAbsent(transactionHash, key -> new AtomicInteger()).incrementAndGet();
+
+                Response<Object> response = (Response<Object>)request.getResponseType().newInstance();
+                response.setId(request.getId());
+                response.setResult(receipts.get(transactionHash));
+                responses.add(response);
+            }
+            return CompletableFuture.completedFuture(new BatchResponse(batchRequest.getRequests(), responses));
+        });
+        caver = new Caver(web3jService);
+    }
+
+    TransactionReceipt.TransactionReceiptData makeReceipt(String transactionHash) {
+        TransactionReceipt.TransactionReceiptData receipt = new TransactionReceipt.TransactionReceiptData();
+        receipt.setTransactionHash(transactionHash);
+        receipt.setStatus("0x1");
+        return receipt;
+    }
+
+    @Test
+    public void pollingAsync() throws Exception {
+        PollingTransactionReceiptProcessor processor = new PollingTransactionReceiptProcessor(caver, 20, 50);
+
+        List<CompletableFuture<TransactionReceipt.TransactionReceiptData>> futures = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            futures.add(processor.waitForTransactionReceiptAsync("0x" + i));
+        }
+
+        Thread.sleep(100);
+        for(int i = 0; i < 100; i++) {
+            receipts.put("0x" + i, makeReceipt("0x" + i));
+        }
+
+        for(int i = 0; i < 100; i++) {
+            assertEquals("0x" + i, futures.get(i).get(3, TimeUnit.SECONDS).getTransactionHash());
+        }
+        assertTrue(requestCount.get("0x0").get() > 1);
+    }
+
+    @Test
+    public void pollingAsync_batchesPendingHashes() throws Exception {
+        PollingTransactionReceiptProcessor processor = new PollingTransactionReceiptProcessor(caver, 50, 3);
+
+        List<CompletableFuture<TransactionReceipt.TransactionReceiptData>> futures = new ArrayList<>();
+        for(int i = 0; i < 250; i++) {
+            futures.add(processor.waitForTransactionReceiptAsync("0xc" + i));
+        }
+        for(int i = 0; i < 250; i++) {
+            receipts.put("0xc" + i, makeReceipt("0xc" + i));
+        }
+
+        for(int i = 0; i < 250; i++) {
+            assertEquals("0xc" + i, futures.get(i).get(3, TimeUnit.SECONDS).getTransactionHash());
+        }
+        // The pending hashes are sent in batches of up to 100 requests per poll, not a request per hash.
+        assertTrue(batchCount.get() > 0);
+        assertTrue(batchCount.get() <= 6);
+    }
+
+    @Test
+    public void pollingAsync_timeout() throws Exception {
+        PollingTransactionReceiptProcessor processor = new PollingTransactionReceiptProcessor(caver, 10, 3);
+        CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.waitForTransactionReceiptAsync("0xdead");
+
+        try {
+            future.get(3, TimeUnit.SECONDS);
+            fail();
+        } catch(ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionException);
+            assertEquals("0xdead", ((TransactionException)e.getCause()).getTransactionHash().get());
+        }
+        // An immediate request followed by the given number of attempts.
+        assertEquals(4, requestCount.get("0xdead").get());
+    }
+
+    @Test
+    public void pollingAsync_sharedDaemonScheduler() throws Exception {
+        PollingTransactionReceiptProcessor processor = new PollingTransactionReceiptProcessor(caver, 5, 3);
+
+        List<CompletableFuture<TransactionReceipt.TransactionReceiptData>> futures = new ArrayList<>();
+        for(int i = 0; i < 200; i++) {
+            futures.add(processor.waitForTransactionReceiptAsync("0xb" + i));
+        }
+        for(CompletableFuture<TransactionReceipt.TransactionReceiptData> future : futures) {
+            try {
+                future.get(3, TimeUnit.SECONDS);
+                fail();
+            } catch(ExecutionException e) {
+                assertTrue(e.getCause() instanceof TransactionException);
+            }
+        }
+
+        int schedulerThreads = 0;
+        for(Thread thread : Thread.getAllStackTraces().keySet()) {
+            if(thread.getName().startsWith("caver-receipt-polling")) {
+                assertTrue(thread.isDaemon());
+                schedulerThreads++;
+            }
+        }
+        assertEquals(1, schedulerThreads);
+    }
+
+    @Test
+    public void noOpAsync() throws Exception {
+        NoOpTransactionReceiptProcessor processor = new NoOpTransactionReceiptProcessor(caver);
+        CompletableFuture<TransactionReceipt.TransactionReceiptData> future = processor.waitForTransactionReceiptAsync("0xa1");
+
+        assertTrue(future.isDone());
+        assertEquals("0xa1", future.get().getTransactionHash());
+        assertNull(requestCount.get("0xa1"));
+    }
+}
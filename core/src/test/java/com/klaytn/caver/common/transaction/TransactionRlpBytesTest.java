@@ -0,0 +1,329 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.transaction;
+
+import com.klaytn.caver.Caver;
+import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.TransactionDecoder;
+import com.klaytn.caver.transaction.type.EthereumAccessList;
+import com.klaytn.caver.transaction.type.EthereumDynamicFee;
+import com.klaytn.caver.transaction.type.FeeDelegatedSmartContractExecution;
+import com.klaytn.caver.transaction.type.FeeDelegatedValueTransferWithRatio;
+import com.klaytn.caver.transaction.type.LegacyTransaction;
+import com.klaytn.caver.transaction.type.ValueTransfer;
+import com.klaytn.caver.transaction.type.ValueTransferMemo;
+import com.klaytn.caver.transaction.utils.AccessList;
+import com.klaytn.caver.transaction.utils.AccessTuple;
+import com.klaytn.caver.wallet.keyring.SingleKeyring;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class TransactionRlpBytesTest {
+    static String nonce = "0x4D2";
+    static String gas = "0xf4240";
+    static String gasPrice = "0x19";
+    static String to = "0x7b65b75d204abed71587c9e519a89277766ee1d0";
+    static String from = "0xa94f5374Fce5edBC8E2a8697C15331677e6EbF0B";
+    static String chainID = "0x1";
+    static String value = "0xa";
+
+    /**
+     * Exposes the binary form of the common fields which is kept for RLP encoding.
+     */
+    static class ValueTransferWithBytes extends ValueTransfer {
+        ValueTransferWithBytes(ValueTransfer.Builder builder) {
+            super(builder);
+        }
+
+        static byte[] numberBytes(String number) {
+            return toRlpNumberBytes(number);
+        }
+
+        static byte[] dataBytes(String data) {
+            return toRlpBytes(data);
+        }
+
+        byte[] nonceBytes() {
+            return getNonceBytes();
+        }
+
+        byte[] gasBytes() {
+            return getGasBytes();
+        }
+
+        byte[] chainIdBytes() {
+            return getChainIdBytes();
+        }
+
+        byte[] fromBytes() {
+            return getFromBytes();
+        }
+    }
+
+    static ValueTransfer.Builder valueTransferBuilder() {
+        return new ValueTransfer.Builder()
+                .setNonce(nonce)
+                .setGas(gas)
+                .setGasPrice(gasPrice)
+                .setTo(to)
+                .setChainId(chainID)
+                .setValue(value)
+                .setFrom(from);
+    }
+
+    public static class toRlpNumberBytesTest {
+        @Test
+        public void emptyValue() {
+            assertNull(ValueTransferWithBytes.numberBytes("0x"));
+            assertNull(ValueTransferWithBytes.numberBytes(null));
+        }
+
+        @Test
+        public void zero() {
+            assertArrayEquals(new byte[0], ValueTransferWithBytes.numberBytes("0x0"));
+            assertArrayEquals(new byte[0], ValueTransferWithBytes.numberBytes("0x00"));
+        }
+
+        @Test
+        public void leadingZeros() {
+            assertArrayEquals(new byte[]{0x0a}, ValueTransferWithBytes.numberBytes("0x00000a"));
+            assertArrayEquals(new byte[]{0x01, 0x00}, ValueTransferWithBytes.numberBytes("0x000100"));
+            assertArrayEquals(new byte[]{(byte)0xff}, ValueTransferWithBytes.numberBytes("0x0ff"));
+        }
+
+        @Test
+        public void sameAsBigInteger() {
+            String[] numbers = {"0x1", "0x7f", "0x80", "0x4D2", "0xf4240", "0xffffffffffffffffffff"};
+            for(String number : numbers) {
+                byte[] expected = Numeric.toBigInt(number).toByteArray();
+                int offset = expected[0] == 0 ? 1 : 0;
+                assertArrayEquals(number, Arrays.copyOfRange(expected, offset, expected.length), ValueTransferWithBytes.numberBytes(number));
+            }
+        }
+
+        @Test
+        public void dataBytes() {
+            assertArrayEquals(new byte[0], ValueTransferWithBytes.dataBytes("0x"));
+            assertArrayEquals(new byte[]{0x00, 0x01}, ValueTransferWithBytes.dataBytes("0x0001"));
+            assertNull(ValueTransferWithBytes.dataBytes(null));
+        }
+    }
+
+    public static class byteFieldsTest {
+        @Test
+        public void bytesOfBuilderFields() {
+            ValueTransferWithBytes valueTransfer = new ValueTransferWithBytes(valueTransferBuilder());
+
+            assertArrayEquals(new byte[]{0x04, (byte)0xd2}, valueTransfer.nonceBytes());
+            assertArrayEquals(new byte[]{0x0f, 0x42, 0x40}, valueTransfer.gasBytes());
+            assertArrayEquals(new byte[]{0x01}, valueTransfer.chainIdBytes());
+            assertArrayEquals(Numeric.hexStringToByteArray(from), valueTransfer.fromBytes());
+        }
+
+        @Test
+        public void settersKeepBytesInSync() {
+            ValueTransferWithBytes valueTransfer = new ValueTransferWithBytes(valueTransferBuilder());
+
+            valueTransfer.setNonce("0x0");
+            valueTransfer.setGas(BigInteger.valueOf(21000));
+            valueTransfer.setChainId(BigInteger.valueOf(1001));
+            valueTransfer.setFrom(to);
+
+            assertArrayEquals(new byte[0], valueTransfer.nonceBytes());
+            assertArrayEquals(new byte[]{0x52, 0x08}, valueTransfer.gasBytes());
+            assertArrayEquals(new byte[]{0x03, (byte)0xe9}, valueTransfer.chainIdBytes());
+            assertArrayEquals(Numeric.hexStringToByteArray(to), valueTransfer.fromBytes());
+
+            ValueTransfer expected = new ValueTransfer.Builder()
+                    .setNonce(BigInteger.ZERO)
+                    .setGas(BigInteger.valueOf(21000))
+                    .setGasPrice(gasPrice)
+                    .setTo(to)
+                    .setChainId(BigInteger.valueOf(1001))
+                    .setValue(value)
+                    .setFrom(to)
+                    .build();
+            assertEquals(expected.getRLPEncoding(), valueTransfer.getRLPEncoding());
+            assertEquals(expected.getRLPEncodingForSignature(), valueTransfer.getRLPEncodingForSignature());
+        }
+
+        @Test
+        public void leadingZerosAreNotEncoded() {
+            ValueTransfer padded = valueTransferBuilder()
+                    .setNonce("0x0004d2")
+                    .setGas("0x000f4240")
+                    .build();
+            ValueTransfer valueTransfer = valueTransferBuilder().build();
+
+            assertEquals(valueTransfer.getRLPEncoding(), padded.getRLPEncoding());
+        }
+
+        @Test
+        public void signKeepsFromBytesInSync() throws IOException {
+            SingleKeyring keyring = new Caver(Caver.DEFAULT_URL).wallet.keyring.generate();
+            ValueTransferWithBytes valueTransfer = new ValueTransferWithBytes(valueTransferBuilder().setFrom(keyring.getAddress()));
+
+            valueTransfer.sign(keyring);
+
+            assertArrayEquals(Numeric.hexStringToByteArray(keyring.getAddress()), valueTransfer.fromBytes());
+        }
+    }
+
+    public static class roundTripTest {
+        static Caver caver = new Caver(Caver.DEFAULT_URL);
+        static SingleKeyring sender = caver.wallet.keyring.generate();
+        static SingleKeyring feePayer = caver.wallet.keyring.generate();
+
+        static void checkRoundTrip(AbstractTransaction transaction) {
+            String encoded = transaction.getRLPEncoding();
+            AbstractTransaction decoded = TransactionDecoder.decode(encoded);
+
+            assertEquals(transaction.getType(), decoded.getType());
+            assertEquals(encoded, decoded.getRLPEncoding());
+            assertEquals(transaction.getTransactionHash(), decoded.getTransactionHash());
+            assertEquals(Numeric.toBigInt(transaction.getNonce()), Numeric.toBigInt(decoded.getNonce()));
+            assertEquals(Numeric.toBigInt(transaction.getGas()), Numeric.toBigInt(decoded.getGas()));
+        }
+
+        @Test
+        public void legacyTransaction() throws IOException {
+            LegacyTransaction transaction = new LegacyTransaction.Builder()
+                    .setNonce(nonce)
+                    .setGas(gas)
+                    .setGasPrice(gasPrice)
+                    .setTo(to)
+                    .setChainId(chainID)
+                    .setValue(value)
+                    .setInput("0x31323334")
+                    .build();
+            transaction.sign(sender);
+
+            checkRoundTrip(transaction);
+        }
+
+        @Test
+        public void basicTransaction() throws IOException {
+            ValueTransfer valueTransfer = valueTransferBuilder().setFrom(sender.getAddress()).build();
+            valueTransfer.sign(sender);
+            checkRoundTrip(valueTransfer);
+
+            ValueTransferMemo valueTransferMemo = new ValueTransferMemo.Builder()
+                    .setNonce("0x0")
+                    .setGas(gas)
+                    .setGasPrice(gasPrice)
+                    .setTo(to)
+                    .setChainId(chainID)
+                    .setValue("0x0")
+                    .setFrom(sender.getAddress())
+                    .setInput("0x68656c6c6f")
+                    .build();
+            valueTransferMemo.sign(sender);
+            checkRoundTrip(valueTransferMemo);
+        }
+
+        @Test
+        public void feeDelegatedTransaction() throws IOException {
+            FeeDelegatedSmartContractExecution transaction = new FeeDelegatedSmartContractExecution.Builder()
+                    .setNonce(nonce)
+                    .setGas(gas)
+                    .setGasPrice(gasPrice)
+                    .setTo(to)
+                    .setChainId(chainID)
+                    .setValue("0x0")
+                    .setFrom(sender.getAddress())
+                    .setInput("0x6353586b0000000000000000000000000000000000000000000000000000000000000001")
+                    .build();
+            transaction.sign(sender);
+            transaction.setFeePayer(feePayer.getAddress());
+            transaction.signAsFeePayer(feePayer);
+
+            checkRoundTrip(transaction);
+            assertEquals(transaction.getFeePayer().toLowerCase(), ((AbstractFeeDelegatedTransaction)TransactionDecoder.decode(transaction.getRLPEncoding())).getFeePayer().toLowerCase());
+        }
+
+        @Test
+        public void feeDelegatedWithRatioTransaction() throws IOException {
+            FeeDelegatedValueTransferWithRatio transaction = new FeeDelegatedValueTransferWithRatio.Builder()
+                    .setNonce(nonce)
+                    .setGas(gas)
+                    .setGasPrice(gasPrice)
+                    .setTo(to)
+                    .setChainId(chainID)
+                    .setValue(value)
+                    .setFrom(sender.getAddress())
+                    .setFeeRatio("0x1e")
+                    .build();
+            transaction.sign(sender);
+            transaction.setFeePayer(feePayer.getAddress());
+            transaction.signAsFeePayer(feePayer);
+
+            checkRoundTrip(transaction);
+            assertEquals(Numeric.toBigInt("0x1e"), Numeric.toBigInt(((FeeDelegatedValueTransferWithRatio)TransactionDecoder.decode(transaction.getRLPEncoding())).getFeeRatio()));
+        }
+
+        @Test
+        public void ethereumTransaction() throws IOException {
+            AccessList accessList = new AccessList(
+                    Arrays.asList(
+                            new AccessTuple(
+                                    "0x67116062f1626f7b3019631f03d301b8f701f709",
+                                    Arrays.asList(
+                                            "0x0000000000000000000000000000000000000000000000000000000000000003",
+                                            "0x0000000000000000000000000000000000000000000000000000000000000007"
+                                    )
+                            ))
+            );
+
+            EthereumAccessList ethereumAccessList = new EthereumAccessList.Builder()
+                    .setNonce(nonce)
+                    .setGas(gas)
+                    .setGasPrice(gasPrice)
+                    .setTo(to)
+                    .setChainId("0x2710")
+                    .setValue(value)
+                    .setInput("0x31323334")
+                    .setAccessList(accessList)
+                    .build();
+            ethereumAccessList.sign(sender);
+            checkRoundTrip(ethereumAccessList);
+
+            EthereumDynamicFee ethereumDynamicFee = new EthereumDynamicFee.Builder()
+                    .setNonce("0x0")
+                    .setGas(gas)
+                    .setMaxPriorityFeePerGas("0x5d21dba00")
+                    .setMaxFeePerGas("0x5d21dba00")
+                    .setTo(to)
+                    .setChainId("0x2710")
+                    .setValue("0x0")
+                    .setInput("0x")
+                    .setAccessList(accessList)
+                    .build();
+            ethereumDynamicFee.sign(sender);
+            checkRoundTrip(ethereumDynamicFee);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.web3j.crypto.Hash;
 import org.web3j.utils.Numeric;
 
 import java.io.IOException;
@@ -1140,6 +1141,51 @@ public class ValueTransferTest {
             assertEquals(expectedHash, txHash);
         }
 
+        @Test
+        public void getTransactionHash_afterSetter() {
+            mValueTransfer = caver.transaction.valueTransfer.create(
+                    TxPropertyBuilder.valueTransfer()
+                            .setNonce(BigInteger.valueOf(nonce))
+                            .setGas(gas)
+                            .setGasPrice(gasPrice)
+                            .setTo(to)
+                            .setChainId(chainId)
+                            .setValue(value)
+                            .setFrom(from)
+                            .setSignatures(signatureData)
+            );
+            assertEquals(expectedHash, mValueTransfer.getTransactionHash());
+
+            mValueTransfer.setNonce(BigInteger.valueOf(nonce + 1));
+            String txHash = mValueTransfer.getTransactionHash();
+            assertNotEquals(expectedHash, txHash);
+            assertEquals(Hash.sha3(mValueTransfer.getRLPEncoding()), txHash);
+
+            mValueTransfer.setNonce(BigInteger.valueOf(nonce));
+            assertEquals(expectedHash, mValueTransfer.getTransactionHash());
+        }
+
+        @Test
+        public void getTransactionHash_afterAppendSignatures() {
+            mValueTransfer = caver.transaction.valueTransfer.create(
+                    TxPropertyBuilder.valueTransfer()
+                            .setNonce(BigInteger.valueOf(nonce))
+                            .setGas(gas)
+                            .setGasPrice(gasPrice)
+                            .setTo(to)
+                            .setChainId(chainId)
+                            .setValue(value)
+                            .setFrom(from)
+            );
+            String sigHash = TransactionHasher.getHashForSignature(mValueTransfer);
+            String unsignedHash = mValueTransfer.getTransactionHash();
+
+            mValueTransfer.appendSignatures(signatureData);
+            assertNotEquals(unsignedHash, mValueTransfer.getTransactionHash());
+            assertEquals(expectedHash, mValueTransfer.getTransactionHash());
+            assertEquals(sigHash, TransactionHasher.getHashForSignature(mValueTransfer));
+        }
+
         @Test
         public void throwException_NotDefined_Nonce() {
             expectedException.expect(RuntimeException.class);
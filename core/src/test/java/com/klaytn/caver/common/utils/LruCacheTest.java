@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.utils;
+
+import com.klaytn.caver.utils.LruCache;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LruCacheTest {
+    @Test
+    public void evictLeastRecentlyUsed() {
+        LruCache<String, Integer> cache = new LruCache<>(1);
+        cache.put("a", 1);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+
+        cache.put("b", 2);
+        assertEquals(1, cache.size());
+        assertNull(cache.get("a"));
+        assertEquals(Integer.valueOf(2), cache.get("b"));
+    }
+
+    @Test
+    public void expireAfterTtl() throws InterruptedException {
+        LruCache<String, Integer> cache = new LruCache<>(10, 20);
+        cache.put("a", 1);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+
+        Thread.sleep(50);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void skipPutAfterInvalidation() {
+        LruCache<String, Integer> cache = new LruCache<>(10);
+        long generation = cache.getGeneration();
+
+        cache.invalidate("a");
+        assertFalse(cache.put("a", 1, generation));
+        assertNull(cache.get("a"));
+
+        generation = cache.getGeneration();
+        assertTrue(cache.put("a", 1, generation));
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+
+        cache.clear();
+        assertFalse(cache.put("b", 2, generation));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void disabled() {
+        LruCache<String, Integer> cache = new LruCache<>(0);
+        assertFalse(cache.isEnabled());
+
+        cache.put("a", 1);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeTtl() {
+        new LruCache<String, Integer>(1, -1);
+    }
+}
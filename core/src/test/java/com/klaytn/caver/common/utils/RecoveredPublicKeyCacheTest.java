@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.utils;
+
+import com.klaytn.caver.utils.RecoveredPublicKeyCache;
+import com.klaytn.caver.utils.Utils;
+import com.klaytn.caver.wallet.keyring.ISecp256k1Engine;
+import com.klaytn.caver.wallet.keyring.PrivateKey;
+import com.klaytn.caver.wallet.keyring.SignatureData;
+import com.klaytn.caver.wallet.keyring.Web3jSecp256k1Engine;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RecoveredPublicKeyCacheTest {
+    static byte[] bytes(int value, int length) {
+        byte[] result = new byte[length];
+        result[length - 1] = (byte)value;
+        return result;
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        RecoveredPublicKeyCache cache = new RecoveredPublicKeyCache(1);
+        byte[] r = bytes(1, 32);
+        byte[] s = bytes(2, 32);
+
+        cache.put(bytes(1, 32), 0, r, s, "0x01");
+        assertEquals("0x01", cache.get(bytes(1, 32), 0, r, s));
+        assertNull(cache.get(bytes(1, 32), 1, r, s));
+
+        cache.put(bytes(2, 32), 0, r, s, "0x02");
+        assertEquals(1, cache.size());
+        assertNull(cache.get(bytes(1, 32), 0, r, s));
+        assertEquals("0x02", cache.get(bytes(2, 32), 0, r, s));
+    }
+
+    @Test
+    public void boundedSize() {
+        RecoveredPublicKeyCache cache = new RecoveredPublicKeyCache(100);
+        for(int i = 0; i < 1000; i++) {
+            cache.put(BigInteger.valueOf(i).toByteArray(), 0, bytes(1, 32), bytes(2, 32), "0x" + i);
+        }
+        assertTrue(cache.size() <= 100);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void disabled() {
+        RecoveredPublicKeyCache cache = new RecoveredPublicKeyCache(0);
+        cache.put(bytes(1, 32), 0, bytes(1, 32), bytes(2, 32), "0x01");
+        assertNull(cache.get(bytes(1, 32), 0, bytes(1, 32), bytes(2, 32)));
+    }
+
+    @Test
+    public void recoverOnlyOnce() throws SignatureException {
+        AtomicInteger recovered = new AtomicInteger();
+        ISecp256k1Engine original = PrivateKey.getSignatureEngine();
+        RecoveredPublicKeyCache originalCache = Utils.getRecoveredPublicKeyCache();
+        try {
+            Utils.setRecoveredPublicKeyCache(new RecoveredPublicKeyCache());
+            PrivateKey.setSignatureEngine(new Web3jSecp256k1Engine() {
+                @Override
+                public BigInteger recoverPublicKey(byte[] hash, int recId, BigInteger r, BigInteger s) {
+                    recovered.incrementAndGet();
+                    return super.recoverPublicKey(hash, recId, r, s);
+                }
+            });
+
+            PrivateKey privateKey = PrivateKey.generate();
+            String message = "Some Message";
+            SignatureData signature = privateKey.signMessage(Utils.hashMessage(message));
+
+            for(int i = 0; i < 3; i++) {
+                assertEquals(privateKey.getPublicKey(false), Utils.recoverPublicKey(message, signature));
+            }
+            assertEquals(1, recovered.get());
+        } finally {
+            PrivateKey.setSignatureEngine(original);
+            Utils.setRecoveredPublicKeyCache(originalCache);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCapacity() {
+        new RecoveredPublicKeyCache(-1);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2022 The caver-java Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.klaytn.caver.common.wallet;
+
+import com.klaytn.caver.transaction.AbstractFeeDelegatedTransaction;
+import com.klaytn.caver.transaction.AbstractTransaction;
+import com.klaytn.caver.transaction.TransactionHasher;
+import com.klaytn.caver.wallet.CompactKeyringStore;
+import com.klaytn.caver.wallet.keyring.KeyringFactory;
+import com.klaytn.caver.wallet.keyring.MultipleKeyring;
+import com.klaytn.caver.wallet.keyring.PrivateKey;
+import com.klaytn.caver.wallet.keyring.SignatureData;
+import com.klaytn.caver.wallet.keyring.SingleKeyring;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.klaytn.caver.common.wallet.KeyringContainerTest.generateFeeDelegatedValueTransfer;
+import static com.klaytn.caver.common.wallet.KeyringContainerTest.generateValueTransfer;
+import static org.junit.Assert.*;
+
+@RunWith(Enclosed.class)
+public class CompactKeyringStoreTest {
+    public static class addTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void addAndGet() {
+            CompactKeyringStore wallet = new CompactKeyringStore();
+            SingleKeyring keyring = KeyringFactory.generate();
+
+            wallet.add(keyring);
+
+            assertEquals(1, wallet.length());
+            assertTrue(wallet.isExisted(keyring.getAddress()));
+            assertTrue(wallet.isExisted(keyring.getAddress().toUpperCase().replace("0X", "0x")));
+
+            SingleKeyring found = wallet.getKeyring(keyring.getAddress());
+            assertEquals(keyring.getAddress(), found.getAddress());
+            assertEquals(keyring.getKey().getPrivateKey(), found.getKey().getPrivateKey());
+        }
+
+        @Test
+        public void addDecoupled() {
+            CompactKeyringStore wallet = new CompactKeyringStore();
+            String address = KeyringFactory.generate().getAddress();
+            String privateKey = PrivateKey.generate().getPrivateKey();
+
+            wallet.add(address, privateKey);
+
+            SingleKeyring found = wallet.getKeyring(address);
+            assertEquals(address, found.getAddress());
+            assertEquals(privateKey, found.getKey().getPrivateKey());
+            assertTrue(found.isDecoupled());
+        }
+
+        @Test
+        public void generateAndGrow() {
+            CompactKeyringStore wallet = new CompactKeyringStore(0);
+            List<String> addressList = wallet.generate(100);
+
+            assertEquals(100, wallet.length());
+            for(String address : addressList) {
+                SingleKeyring keyring = wallet.getKeyring(address);
+                assertEquals(address, keyring.getKey().getDerivedAddress());
+            }
+        }
+
+        @Test
+        public void addAfterRemove() {
+            CompactKeyringStore wallet = new CompactKeyringStore(16);
+            List<SingleKeyring> keyrings = new ArrayList<>();
+            for(int i = 0; i < 40; i++) {
+                SingleKeyring keyring = KeyringFactory.generate();
+                keyrings.add(keyring);
+                wallet.add(keyring);
+                if(i % 2 == 0) {
+                    assertTrue(wallet.remove(keyring.getAddress()));
+                }
+            }
+
+            assertEquals(20, wallet.length());
+            for(int i = 0; i < keyrings.size(); i++) {
+                SingleKeyring keyring = keyrings.get(i);
+                if(i % 2 == 0) {
+                    assertFalse(wallet.isExisted(keyring.getAddress()));
+                    assertNull(wallet.getKeyring(keyring.getAddress()));
+                } else {
+                    assertEquals(keyring.getKey().getPrivateKey(), wallet.getKeyring(keyring.getAddress()).getKey().getPrivateKey());
+                }
+            }
+
+            wallet.add(keyrings.get(0));
+            assertEquals(21, wallet.length());
+            assertFalse(wallet.remove(KeyringFactory.generate().getAddress()));
+
+            wallet.clear();
+            assertEquals(0, wallet.length());
+            assertFalse(wallet.isExisted(keyrings.get(1).getAddress()));
+        }
+
+        @Test
+        public void throwException_duplicated() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("Duplicated Account. Please use remove() first");
+
+            CompactKeyringStore wallet = new CompactKeyringStore();
+            SingleKeyring keyring = KeyringFactory.generate();
+            wallet.add(keyring);
+            wallet.add(keyring);
+        }
+
+        @Test
+        public void throwException_notSingleKeyring() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("CompactKeyringStore only supports SingleKeyring.");
+
+            MultipleKeyring keyring = KeyringFactory.createWithMultipleKey(KeyringFactory.generate().getAddress(), KeyringFactory.generateMultipleKeys(2));
+            new CompactKeyringStore().add(keyring);
+        }
+
+        @Test
+        public void throwException_invalidAddress() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("Invalid address: ");
+
+            new CompactKeyringStore().isExisted("0x1234");
+        }
+
+        @Test
+        public void throwException_exceedMaximumSize() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("The wallet cannot hold more than 25165823 accounts.");
+
+            // 25165823 accounts fit in 2^25 slots under the load factor 0.75, and one more needs 2^26 slots.
+            new CompactKeyringStore(25165824);
+        }
+
+        @Test
+        public void throwException_exceedMaximumSizeWithoutOverflow() {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("The wallet cannot hold more than 25165823 accounts.");
+
+            new CompactKeyringStore(Integer.MAX_VALUE);
+        }
+    }
+
+    public static class signTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void sign() throws IOException {
+            CompactKeyringStore wallet = new CompactKeyringStore();
+            SingleKeyring keyring = KeyringFactory.generate();
+            wallet.add(keyring);
+
+            AbstractTransaction tx = wallet.sign(keyring.getAddress(), generateValueTransfer(keyring));
+
+            SignatureData expected = keyring.sign(TransactionHasher.getHashForSignature(tx), tx.getChainId(), 0, 0);
+            assertEquals(expected, tx.getSignatures().get(0));
+        }
+
+        @Test
+        public void signAsFeePayer() throws IOException {
+            CompactKeyringStore wallet = new CompactKeyringStore();
+            SingleKeyring sender = KeyringFactory.generate();
+            SingleKeyring feePayer = KeyringFactory.generate();
+            wallet.add(feePayer);
+
+            AbstractFeeDelegatedTransaction tx = generateFeeDelegatedValueTransfer(sender);
+            tx.setFeePayer(feePayer.getAddress());
+            wallet.signAsFeePayer(feePayer.getAddress(), tx);
+
+            SignatureData expected = feePayer.sign(TransactionHasher.getHashForFeePayerSignature(tx), tx.getChainId(), 0, 0);
+            assertEquals(expected, tx.getFeePayerSignatures().get(0));
+        }
+
+        @Test
+        public void throwException_notFound() throws IOException {
+            expectedException.expect(NullPointerException.class);
+            expectedException.expectMessage("Failed to find keyring from wallet with address");
+
+            SingleKeyring keyring = KeyringFactory.generate();
+            new CompactKeyringStore().sign(keyring.getAddress(), generateValueTransfer(keyring));
+        }
+    }
+}
@@ -23,18 +23,30 @@ import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.TransactionHasher;
 import com.klaytn.caver.transaction.type.AccountUpdate;
 import com.klaytn.caver.transaction.type.FeeDelegatedValueTransfer;
+import com.klaytn.caver.transaction.type.LegacyTransaction;
 import com.klaytn.caver.transaction.type.ValueTransfer;
 import com.klaytn.caver.utils.Utils;
+import com.klaytn.caver.wallet.KeyringContainer;
 import com.klaytn.caver.wallet.keyring.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.web3j.crypto.CipherException;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -996,4 +1008,304 @@ public class KeyringContainerTest {
 
     }
 
+    public static class signAllTest {
+        Caver caver = new Caver(Caver.DEFAULT_URL);
+
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void signAll() throws IOException {
+            List<SingleKeyring> keyrings = Arrays.asList(caver.wallet.keyring.generate(), caver.wallet.keyring.generate(), caver.wallet.keyring.generate());
+            keyrings.forEach(caver.wallet::add);
+
+            List<AbstractTransaction> transactions = new ArrayList<>();
+            for(int i = 0; i < 12; i++) {
+                transactions.add(generateValueTransfer(keyrings.get(i % keyrings.size())));
+            }
+
+            AtomicInteger tasks = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<AbstractTransaction> signed = caver.wallet.signAll(transactions, command -> {
+                    tasks.incrementAndGet();
+                    executor.execute(command);
+                });
+
+                assertEquals(keyrings.size(), tasks.get());
+                assertEquals(transactions.size(), signed.size());
+                for(int i = 0; i < transactions.size(); i++) {
+                    AbstractTransaction tx = signed.get(i);
+                    assertSame(transactions.get(i), tx);
+
+                    SingleKeyring keyring = keyrings.get(i % keyrings.size());
+                    SignatureData expectedSig = keyring.sign(TransactionHasher.getHashForSignature(tx), tx.getChainId(), 0, 0);
+                    assertEquals(1, tx.getSignatures().size());
+                    assertEquals(expectedSig, tx.getSignatures().get(0));
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        public void signAllAsFeePayer() throws IOException {
+            SingleKeyring sender = caver.wallet.keyring.generate();
+            SingleKeyring feePayer = caver.wallet.keyring.generate();
+            caver.wallet.add(feePayer);
+
+            List<AbstractFeeDelegatedTransaction> transactions = new ArrayList<>();
+            for(int i = 0; i < 5; i++) {
+                transactions.add(generateFeeDelegatedValueTransfer(sender));
+            }
+
+            List<AbstractFeeDelegatedTransaction> signed = caver.wallet.signAllAsFeePayer(feePayer.getAddress(), transactions);
+
+            for(int i = 0; i < transactions.size(); i++) {
+                AbstractFeeDelegatedTransaction tx = signed.get(i);
+                assertSame(transactions.get(i), tx);
+                assertEquals(feePayer.getAddress(), tx.getFeePayer());
+
+                SignatureData expectedSig = feePayer.sign(TransactionHasher.getHashForFeePayerSignature(tx), tx.getChainId(), 2, 0);
+                assertEquals(1, tx.getFeePayerSignatures().size());
+                assertEquals(expectedSig, tx.getFeePayerSignatures().get(0));
+            }
+        }
+
+        @Test
+        public void throwException_notExistedSender() throws IOException {
+            expectedException.expect(NullPointerException.class);
+            expectedException.expectMessage("Failed to find keyring from wallet with address");
+
+            SingleKeyring keyring = caver.wallet.keyring.generate();
+            caver.wallet.add(keyring);
+
+            List<AbstractTransaction> transactions = Arrays.asList(
+                    generateValueTransfer(keyring),
+                    generateValueTransfer(caver.wallet.keyring.generate()));
+
+            caver.wallet.signAll(transactions);
+        }
+
+        @Test
+        public void throwException_fromNotSet() throws IOException {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("Failed to sign transactions: \"from\" of every transaction must be set to find its keyring. (type: TxTypeLegacyTransaction)");
+
+            SingleKeyring keyring = caver.wallet.keyring.generate();
+            caver.wallet.add(keyring);
+
+            LegacyTransaction legacyTransaction = new LegacyTransaction.Builder()
+                    .setTo(keyring.getAddress())
+                    .setValue("0x1")
+                    .setChainId("0x7e3")
+                    .setNonce("0x0")
+                    .setGas("0x15f90")
+                    .setGasPrice("0x5d21dba00")
+                    .build();
+            ValueTransfer valueTransfer = generateValueTransfer(keyring);
+
+            try {
+                caver.wallet.signAll(Arrays.asList(valueTransfer, legacyTransaction));
+            } finally {
+                // It is rejected before any transaction is signed.
+                assertTrue(Utils.isEmptySig(valueTransfer.getSignatures()));
+            }
+        }
+
+        @Test
+        public void concurrentReads() throws Exception {
+            List<String> addresses = caver.wallet.generate(20);
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for(int i = 0; i < 200; i++) {
+                    String address = addresses.get(i % addresses.size());
+                    results.add(executor.submit(() -> {
+                        ValueTransfer tx = generateValueTransfer(caver.wallet.getKeyring(address));
+                        caver.wallet.sign(address, tx);
+                        return tx.getSignatures().size() == 1;
+                    }));
+                }
+
+                for(Future<Boolean> result : results) {
+                    assertTrue(result.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    public static class importKeyStoresTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Rule
+        public TemporaryFolder folder = new TemporaryFolder();
+
+        static KeyStore writeKeyStore(File directory, String fileName, AbstractKeyring keyring, String password) throws CipherException, IOException {
+            KeyStore keyStore = keyring.encrypt(password, KeyStoreOption.getDefaultOptionWithKDF("scrypt"));
+            new ObjectMapper().writeValue(new File(directory, fileName), keyStore);
+            return keyStore;
+        }
+
+        @Test
+        public void importKeyStores() throws CipherException, IOException {
+            SingleKeyring single = KeyringFactory.generate();
+            MultipleKeyring multiple = KeyringFactory.createWithMultipleKey(KeyringFactory.generate().getAddress(), KeyringFactory.generateMultipleKeys(3));
+            RoleBasedKeyring roleBased = KeyringFactory.createWithRoleBasedKey(KeyringFactory.generate().getAddress(), KeyringFactory.generateRoleBasedKeys(new int[]{2, 1, 2}));
+
+            File directory = folder.getRoot();
+            writeKeyStore(directory, "a.json", single, "password");
+            writeKeyStore(directory, "b.json", multiple, "password");
+            writeKeyStore(directory, "c.json", roleBased, "password");
+
+            KeyringContainer container = new KeyringContainer();
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            List<String> addressList;
+            try {
+                // The budget fits only one scrypt(n=4096, r=8) derivation at once.
+                addressList = container.importKeyStores(directory.toPath(), "password", 4 * 1024 * 1024, executor);
+            } finally {
+                executor.shutdown();
+            }
+
+            assertEquals(Arrays.asList(single.getAddress(), multiple.getAddress(), roleBased.getAddress()), addressList);
+            assertEquals(3, container.length());
+            validateSingleKeyring(container.getKeyring(single.getAddress()), single.getAddress(), single.getKey().getPrivateKey());
+            validateMultipleKeyring(container.getKeyring(multiple.getAddress()), multiple.getAddress(), Arrays.stream(multiple.getKeys()).map(PrivateKey::getPrivateKey).toArray(String[]::new));
+
+            String[][] roleKeys = roleBased.getKeys().stream()
+                    .map(keys -> Arrays.stream(keys).map(PrivateKey::getPrivateKey).toArray(String[]::new))
+                    .toArray(String[][]::new);
+            validateRoleBasedKeyring(container.getKeyring(roleBased.getAddress()), roleBased.getAddress(), roleKeys);
+        }
+
+        @Test
+        public void importKeyStores_nothingAddedOnFailure() throws CipherException, IOException {
+            File directory = folder.getRoot();
+            writeKeyStore(directory, "a.json", KeyringFactory.generate(), "password");
+            writeKeyStore(directory, "b.json", KeyringFactory.generate(), "other");
+
+            KeyringContainer container = new KeyringContainer();
+            try {
+                container.importKeyStores(directory.toPath(), "password");
+                fail();
+            } catch(CipherException e) {
+                assertEquals("Invalid password provided", e.getMessage());
+            }
+            assertEquals(0, container.length());
+        }
+
+        @Test
+        public void importKeyStores_checkDuplicatedBeforeDecryption() throws CipherException, IOException {
+            SingleKeyring keyring = KeyringFactory.generate();
+            writeKeyStore(folder.getRoot(), "a.json", keyring, "password");
+
+            KeyringContainer container = new KeyringContainer();
+            container.add(keyring);
+
+            AtomicInteger submitted = new AtomicInteger();
+            try {
+                container.importKeyStores(folder.getRoot().toPath(), "password", KeyStore.Crypto.KDF_MEMORY_BUDGET, task -> {
+                    submitted.incrementAndGet();
+                    task.run();
+                });
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("Duplicated Account. Please use updateKeyring() instead", e.getMessage());
+            }
+            assertEquals(0, submitted.get());
+        }
+
+        @Test
+        public void importKeyStores_submitWhileReading() throws CipherException, IOException {
+            writeKeyStore(folder.getRoot(), "a.json", KeyringFactory.generate(), "password");
+            Files.write(new File(folder.getRoot(), "b.json").toPath(), "{".getBytes());
+
+            KeyringContainer container = new KeyringContainer();
+            List<Runnable> submitted = new ArrayList<>();
+            try {
+                container.importKeyStores(folder.getRoot().toPath(), "password", KeyStore.Crypto.KDF_MEMORY_BUDGET, submitted::add);
+                fail();
+            } catch(IOException e) {
+                assertEquals("Failed to read keystore file: b.json", e.getMessage());
+            }
+
+            // The first keystore is submitted before the second file is read, and it is skipped after the failure.
+            assertEquals(1, submitted.size());
+            submitted.get(0).run();
+            assertEquals(0, container.length());
+        }
+
+        @Test
+        public void importKeyStores_rollbackWhenAddedByOtherThread() throws CipherException, IOException {
+            SingleKeyring first = KeyringFactory.generate();
+            SingleKeyring second = KeyringFactory.generate();
+            writeKeyStore(folder.getRoot(), "a.json", first, "password");
+            writeKeyStore(folder.getRoot(), "b.json", second, "password");
+
+            KeyringContainer container = new KeyringContainer();
+            SingleKeyring other = KeyringFactory.create(second.getAddress(), PrivateKey.generate().getPrivateKey());
+            try {
+                // The second address is added while the keystores are decrypted.
+                container.importKeyStores(folder.getRoot().toPath(), "password", KeyStore.Crypto.KDF_MEMORY_BUDGET, task -> {
+                    task.run();
+                    if(!container.isExisted(other.getAddress())) {
+                        container.add(other);
+                    }
+                });
+                fail();
+            } catch(IllegalArgumentException e) {
+                assertEquals("Duplicated Account. Please use updateKeyring() instead", e.getMessage());
+            }
+
+            assertFalse(container.isExisted(first.getAddress()));
+            assertEquals(1, container.length());
+            assertEquals(other.getKey().getPrivateKey(), ((SingleKeyring)container.getKeyring(second.getAddress())).getKey().getPrivateKey());
+        }
+
+        @Test
+        public void registerKeyStores() throws CipherException, IOException {
+            SingleKeyring keyring = KeyringFactory.generate();
+            writeKeyStore(folder.getRoot(), "a.json", keyring, "password");
+
+            KeyringContainer container = new KeyringContainer();
+            List<String> addressList = container.registerKeyStores(folder.getRoot().toPath(), "password");
+
+            assertEquals(1, addressList.size());
+            assertTrue(container.isExisted(keyring.getAddress()));
+            assertEquals(1, container.length());
+
+            ValueTransfer tx = generateValueTransfer(keyring);
+            container.sign(keyring.getAddress(), tx);
+            assertEquals(keyring.sign(TransactionHasher.getHashForSignature(tx), tx.getChainId(), 0, 0), tx.getSignatures().get(0));
+            assertEquals(1, container.length());
+        }
+
+        @Test
+        public void register_wrongPasswordFailsOnFirstUse() throws CipherException {
+            expectedException.expect(RuntimeException.class);
+            expectedException.expectMessage("Failed to decrypt keystore");
+
+            SingleKeyring keyring = KeyringFactory.generate();
+            KeyringContainer container = new KeyringContainer();
+            container.register(keyring.encrypt("password"), "wrong");
+
+            container.getKeyring(keyring.getAddress());
+        }
+
+        @Test
+        public void register_duplicated() throws CipherException {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("Duplicated Account. Please use updateKeyring() instead");
+
+            SingleKeyring keyring = KeyringFactory.generate();
+            KeyringContainer container = new KeyringContainer();
+            container.register(keyring.encrypt("password"), "password");
+            container.add(keyring);
+        }
+    }
 }
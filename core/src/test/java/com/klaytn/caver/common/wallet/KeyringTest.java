@@ -23,15 +23,31 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 import org.web3j.crypto.CipherException;
+import org.web3j.crypto.ECDSASignature;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.Keys;
+import org.web3j.crypto.Sign;
 import org.web3j.utils.Numeric;
 
+import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.file.Files;
 import java.security.SignatureException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -2826,4 +2842,274 @@ public class KeyringTest {
             checkSignature(expectedList, actualList);
         }
     }
+
+    public static class privateKeySignTest {
+        @Test
+        public void cachedKeyMaterial() {
+            PrivateKey privateKey = PrivateKey.generate();
+            BigInteger publicKey = Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey.getPrivateKey()));
+            String expectedPublicKey = Numeric.toHexStringWithPrefixZeroPadded(publicKey, 128);
+
+            for(int i = 0; i < 2; i++) {
+                assertEquals(expectedPublicKey, privateKey.getPublicKey(false));
+                assertEquals(Utils.compressPublicKey(expectedPublicKey), privateKey.getPublicKey(true));
+                assertEquals(Numeric.prependHexPrefix(Keys.getAddress(publicKey)), privateKey.getDerivedAddress());
+            }
+        }
+    }
+
+    @RunWith(Parameterized.class)
+    public static class signatureEngineEquivalenceTest {
+        @Parameterized.Parameters(name = "{index}")
+        public static Collection<ISecp256k1Engine> engines() {
+            return Arrays.asList(new Web3jSecp256k1Engine(), new FastSecp256k1Engine());
+        }
+
+        @Parameterized.Parameter
+        public ISecp256k1Engine engine;
+
+        @Test
+        public void sameWithWeb3j() {
+            ISecp256k1Engine original = PrivateKey.getSignatureEngine();
+            try {
+                PrivateKey.setSignatureEngine(engine);
+
+                for(int i = 0; i < 100; i++) {
+                    PrivateKey privateKey = PrivateKey.generate();
+                    BigInteger key = Numeric.toBigInt(privateKey.getPrivateKey());
+                    byte[] hash = Hash.sha3(Utils.generateRandomBytes(32));
+
+                    Sign.SignatureData expected = Sign.signMessage(hash, ECKeyPair.create(key), false);
+                    SignatureData actual = privateKey.signMessage(Numeric.toHexString(hash));
+
+                    assertEquals(Numeric.toHexString(expected.getV()), actual.getV());
+                    assertEquals(Numeric.toHexString(expected.getR()), actual.getR());
+                    assertEquals(Numeric.toHexString(expected.getS()), actual.getS());
+                    assertEquals(Sign.publicKeyFromPrivate(key), engine.publicKeyFromPrivate(key));
+
+                    BigInteger r = Numeric.toBigInt(expected.getR());
+                    BigInteger s = Numeric.toBigInt(expected.getS());
+                    for(int j = 0; j < 4; j++) {
+                        assertEquals(Sign.recoverFromSignature(j, new ECDSASignature(r, s), hash), engine.recoverPublicKey(hash, j, r, s));
+                    }
+                }
+            } finally {
+                PrivateKey.setSignatureEngine(original);
+            }
+        }
+    }
+
+    public static class signatureEngineTest {
+        @Test
+        public void web3jEngineByDefault() {
+            assertTrue(PrivateKey.getSignatureEngine() instanceof Web3jSecp256k1Engine);
+        }
+
+        @Test
+        public void selectableAtRuntime() throws SignatureException {
+            ISecp256k1Engine original = PrivateKey.getSignatureEngine();
+            try {
+                PrivateKey.setSignatureEngine(new FastSecp256k1Engine());
+                assertTrue(PrivateKey.getSignatureEngine() instanceof FastSecp256k1Engine);
+
+                PrivateKey privateKey = PrivateKey.generate();
+                String message = "Some Message";
+                SignatureData signature = privateKey.signMessage(Utils.hashMessage(message));
+                assertEquals(privateKey.getPublicKey(false), Utils.recoverPublicKey(message, signature));
+            } finally {
+                PrivateKey.setSignatureEngine(original);
+            }
+        }
+
+        @Test
+        public void web3jEngineUsesCachedPublicKey() throws SignatureException {
+            ISecp256k1Engine original = PrivateKey.getSignatureEngine();
+            AtomicInteger derivations = new AtomicInteger();
+            try {
+                PrivateKey.setSignatureEngine(new Web3jSecp256k1Engine() {
+                    @Override
+                    public BigInteger publicKeyFromPrivate(BigInteger privateKey) {
+                        derivations.incrementAndGet();
+                        return super.publicKeyFromPrivate(privateKey);
+                    }
+                });
+
+                PrivateKey privateKey = PrivateKey.generate();
+                String message = "Some Message";
+                SignatureData first = privateKey.signMessage(Utils.hashMessage(message));
+                SignatureData second = privateKey.signMessage(Utils.hashMessage(message + "2"));
+
+                assertEquals(1, derivations.get());
+                assertEquals(privateKey.getPublicKey(false), Utils.recoverPublicKey(message, first));
+                assertEquals(privateKey.getPublicKey(false), Utils.recoverPublicKey(message + "2", second));
+            } finally {
+                PrivateKey.setSignatureEngine(original);
+            }
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void setNullEngine() {
+            PrivateKey.setSignatureEngine(null);
+        }
+    }
+
+    public static class keyDerivationTest {
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void roleBasedKeyringSharesOneDerivation() throws CipherException {
+            List<String[]> keys = KeyringFactory.generateRoleBasedKeys(new int[]{3, 2, 4});
+            RoleBasedKeyring keyring = KeyringFactory.createWithRoleBasedKey(PrivateKey.generate().getDerivedAddress(), keys);
+
+            KeyStore keyStore = keyring.encrypt("password", KeyStoreOption.getDefaultOptionWithKDF("pbkdf2"));
+
+            List<List<KeyStore.Crypto>> cryptoList = (List<List<KeyStore.Crypto>>)keyStore.getKeyring();
+            String salt = ((KeyStore.Pbkdf2KdfParams)cryptoList.get(0).get(0).getKdfparams()).getSalt();
+            for(int i = 0; i < keys.size(); i++) {
+                assertEquals(keys.get(i).length, cryptoList.get(i).size());
+                for(KeyStore.Crypto crypto : cryptoList.get(i)) {
+                    assertEquals(salt, ((KeyStore.Pbkdf2KdfParams)crypto.getKdfparams()).getSalt());
+                }
+            }
+
+            RoleBasedKeyring decrypted = (RoleBasedKeyring)KeyringFactory.decrypt(keyStore, "password");
+            for(int i = 0; i < keys.size(); i++) {
+                for(int j = 0; j < keys.get(i).length; j++) {
+                    assertEquals(keys.get(i)[j], decrypted.getKeys().get(i)[j].getPrivateKey());
+                }
+            }
+        }
+
+        @Test
+        public void decryptDistinctParamsInParallel() throws CipherException {
+            PrivateKey[] privateKeys = {PrivateKey.generate(), PrivateKey.generate(), PrivateKey.generate()};
+
+            List<KeyStore.Crypto> cryptoList = new ArrayList<>();
+            cryptoList.addAll(KeyStore.Crypto.createCrypto(new PrivateKey[]{privateKeys[0]}, "password", KeyStoreOption.getDefaultOptionWithKDF("pbkdf2")));
+            cryptoList.addAll(KeyStore.Crypto.createCrypto(new PrivateKey[]{privateKeys[1]}, "password", KeyStoreOption.getDefaultOptionWithKDF("scrypt")));
+            cryptoList.addAll(KeyStore.Crypto.createCrypto(new PrivateKey[]{privateKeys[2]}, "password", KeyStoreOption.getDefaultOptionWithKDF("pbkdf2")));
+
+            List<String> decrypted = KeyStore.Crypto.decryptCrypto(cryptoList, "password");
+            for(int i = 0; i < privateKeys.length; i++) {
+                assertEquals(privateKeys[i].getPrivateKey(), decrypted.get(i));
+                assertEquals(privateKeys[i].getPrivateKey(), KeyStore.Crypto.decryptCrypto(cryptoList.get(i), "password"));
+            }
+        }
+
+        @Test
+        public void throwException_invalidPassword() throws CipherException {
+            expectedException.expect(CipherException.class);
+            expectedException.expectMessage("Invalid password provided");
+
+            List<KeyStore.Crypto> cryptoList = new ArrayList<>();
+            cryptoList.addAll(KeyStore.Crypto.createCrypto(new PrivateKey[]{PrivateKey.generate()}, "password", KeyStoreOption.getDefaultOptionWithKDF("pbkdf2")));
+            cryptoList.addAll(KeyStore.Crypto.createCrypto(new PrivateKey[]{PrivateKey.generate()}, "password", KeyStoreOption.getDefaultOptionWithKDF("pbkdf2")));
+
+            KeyStore.Crypto.decryptCrypto(cryptoList, "wrong");
+        }
+
+        @Test
+        public void acquireMemoryBeforeSubmitting() throws CipherException {
+            PrivateKey[] privateKeys = {PrivateKey.generate(), PrivateKey.generate(), PrivateKey.generate()};
+
+            List<KeyStore.Crypto> cryptoList = new ArrayList<>();
+            for(PrivateKey privateKey : privateKeys) {
+                cryptoList.addAll(KeyStore.Crypto.createCrypto(new PrivateKey[]{privateKey}, "password", KeyStoreOption.getDefaultOptionWithKDF("pbkdf2")));
+            }
+
+            Thread caller = Thread.currentThread();
+            AtomicInteger held = new AtomicInteger();
+            KdfMemoryLimiter limiter = new KdfMemoryLimiter(KeyStore.Crypto.KDF_MEMORY_BUDGET) {
+                @Override
+                public int acquire(long memoryCost) {
+                    assertEquals(caller, Thread.currentThread());
+                    held.incrementAndGet();
+                    return super.acquire(memoryCost);
+                }
+
+                @Override
+                public void release(int acquired) {
+                    held.decrementAndGet();
+                    super.release(acquired);
+                }
+            };
+
+            List<Integer> heldOnSubmit = new ArrayList<>();
+            List<String> decrypted = KeyStore.Crypto.decryptCrypto(cryptoList, "password", limiter, task -> {
+                heldOnSubmit.add(held.get());
+                task.run();
+            });
+
+            assertEquals(Arrays.asList(1, 1, 1), heldOnSubmit);
+            assertEquals(0, held.get());
+            for(int i = 0; i < privateKeys.length; i++) {
+                assertEquals(privateKeys[i].getPrivateKey(), decrypted.get(i));
+            }
+        }
+
+        @Test
+        public void acquireWholeBudgetWhenCostExceedsIt() {
+            KdfMemoryLimiter limiter = new KdfMemoryLimiter(4 * 1024);
+
+            int acquired = limiter.acquire(1024L * 1024 * 1024);
+            assertEquals(4, acquired);
+            limiter.release(acquired);
+
+            assertSame(KdfMemoryLimiter.getShared(), KdfMemoryLimiter.getShared());
+        }
+    }
+
+    public static class bulkGenerateTest {
+        @Rule
+        public TemporaryFolder folder = new TemporaryFolder();
+
+        @Rule
+        public ExpectedException expectedException = ExpectedException.none();
+
+        @Test
+        public void generate() {
+            List<SingleKeyring> keyrings = BulkKeyringGenerator.generate(300);
+
+            Set<String> addresses = new HashSet<>();
+            for(SingleKeyring keyring : keyrings) {
+                String privateKey = keyring.getKey().getPrivateKey();
+                assertTrue(Utils.isValidPrivateKey(privateKey));
+                assertEquals(66, privateKey.length());
+
+                String expectedAddress = Numeric.prependHexPrefix(Keys.getAddress(Sign.publicKeyFromPrivate(Numeric.toBigInt(privateKey))));
+                assertEquals(expectedAddress, keyring.getAddress());
+                assertTrue(addresses.add(keyring.getAddress()));
+            }
+        }
+
+        @Test
+        public void generateIntoSink() {
+            ConcurrentLinkedQueue<SingleKeyring> sink = new ConcurrentLinkedQueue<>();
+            BulkKeyringGenerator.generate(150, new ForkJoinPool(4), sink::add);
+
+            assertEquals(150, sink.size());
+        }
+
+        @Test
+        public void generateKeyStores() throws IOException, CipherException {
+            List<String> addressList = BulkKeyringGenerator.generate(3, folder.getRoot().toPath(), "password", "pbkdf2", ForkJoinPool.commonPool());
+
+            assertEquals(3, addressList.size());
+            for(String address : addressList) {
+                String json = new String(Files.readAllBytes(new File(folder.getRoot(), address + ".json").toPath()), "UTF-8");
+                AbstractKeyring keyring = KeyringFactory.decrypt(json, "password");
+                assertEquals(address, keyring.getAddress());
+                assertEquals(address, ((SingleKeyring)keyring).getKey().getDerivedAddress());
+            }
+        }
+
+        @Test
+        public void throwException_unsupportedKdf() throws IOException {
+            expectedException.expect(IllegalArgumentException.class);
+            expectedException.expectMessage("Not supported kdf method.");
+
+            BulkKeyringGenerator.generate(1, folder.getRoot().toPath(), "password", "argon2", ForkJoinPool.commonPool());
+        }
+    }
 }
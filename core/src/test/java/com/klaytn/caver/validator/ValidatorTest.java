@@ -21,6 +21,8 @@ import com.klaytn.caver.Caver;
 import com.klaytn.caver.account.Account;
 import com.klaytn.caver.account.AccountKeyLegacy;
 import com.klaytn.caver.methods.response.AccountKey;
+import com.klaytn.caver.methods.response.Block;
+import com.klaytn.caver.methods.response.Transaction;
 import com.klaytn.caver.rpc.Klay;
 import com.klaytn.caver.transaction.AbstractTransaction;
 import com.klaytn.caver.transaction.type.*;
@@ -36,15 +38,24 @@ import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @RunWith(Enclosed.class)
@@ -1743,4 +1754,220 @@ public class ValidatorTest {
             assertTrue(validator.validateTransaction(accessTxBuilder.build()));
         }
     }
-}
\ No newline at end of file
+
+    public static class accountKeyCache {
+        static AccountKey legacyAccountKey() {
+            AccountKey accountKey = new AccountKey();
+            accountKey.setResult(new AccountKey.AccountKeyData(AccountKeyLegacy.getType(), new AccountKeyLegacy()));
+            return accountKey;
+        }
+
+        static Web3jService mockService() throws IOException {
+            Web3jService web3jService = mock(Web3jService.class);
+            when(web3jService.send(any(Request.class), eq(AccountKey.class))).thenAnswer(invocation -> legacyAccountKey());
+            when(web3jService.sendBatch(any(BatchRequest.class))).thenAnswer(invocation -> {
+                BatchRequest batchRequest = invocation.getArgument(0);
+                List<Response<?>> responses = new ArrayList<>();
+                for(Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+                    AccountKey response = legacyAccountKey();
+                    response.setId(request.getId());
+                    // Responses of a batch can be in any order.
+                    responses.add(0, response);
+                }
+                return new BatchResponse(batchRequest.getRequests(), responses);
+            });
+            return web3jService;
+        }
+
+        static ValueTransfer signedValueTransfer(SingleKeyring keyring) throws IOException {
+            ValueTransfer tx = new ValueTransfer.Builder()
+                    .setFrom(keyring.getAddress())
+                    .setTo(keyring.getAddress())
+                    .setValue("0x1")
+                    .setChainId("0x7e3")
+                    .setNonce("0x0")
+                    .setGas("0x15f90")
+                    .setGasPrice("0x5d21dba00")
+                    .build();
+            tx.sign(keyring);
+            return tx;
+        }
+
+        static FeeDelegatedValueTransfer signedFeeDelegatedValueTransfer(SingleKeyring sender, SingleKeyring feePayer) throws IOException {
+            FeeDelegatedValueTransfer tx = new FeeDelegatedValueTransfer.Builder()
+                    .setFrom(sender.getAddress())
+                    .setTo(sender.getAddress())
+                    .setValue("0x1")
+                    .setChainId("0x7e3")
+                    .setNonce("0x0")
+                    .setGas("0x15f90")
+                    .setGasPrice("0x5d21dba00")
+                    .build();
+            tx.sign(sender);
+            tx.signAsFeePayer(feePayer);
+            return tx;
+        }
+
+        @Test
+        public void queryOnlyOnce() throws IOException {
+            Web3jService web3jService = mockService();
+            Validator validator = new Validator(new Klay(web3jService), 100, 60000);
+
+            SingleKeyring keyring = KeyringFactory.generate();
+            ValueTransfer tx = signedValueTransfer(keyring);
+
+            assertTrue(validator.validateSender(tx));
+            assertTrue(validator.validateTransaction(tx));
+            verify(web3jService, times(1)).send(any(Request.class), eq(AccountKey.class));
+
+            validator.invalidateAccountKey(keyring.getAddress());
+            assertTrue(validator.validateSender(tx));
+            verify(web3jService, times(2)).send(any(Request.class), eq(AccountKey.class));
+        }
+
+        @Test
+        public void disabledByDefault() throws IOException {
+            Web3jService web3jService = mockService();
+            Validator validator = new Validator(new Klay(web3jService));
+
+            ValueTransfer tx = signedValueTransfer(KeyringFactory.generate());
+            assertTrue(validator.validateSender(tx));
+            assertTrue(validator.validateSender(tx));
+            verify(web3jService, times(2)).send(any(Request.class), eq(AccountKey.class));
+        }
+
+        @Test
+        public void invalidateByAccountUpdateInBlock() throws IOException {
+            Web3jService web3jService = mockService();
+            Validator validator = new Validator(new Klay(web3jService), 100, 60000);
+
+            SingleKeyring updated = KeyringFactory.generate();
+            SingleKeyring notUpdated = KeyringFactory.generate();
+            assertTrue(validator.validateSender(signedValueTransfer(updated)));
+            assertTrue(validator.validateSender(signedValueTransfer(notUpdated)));
+
+            Transaction.TransactionData accountUpdate = new Transaction.TransactionData();
+            accountUpdate.setType("TxTypeAccountUpdate");
+            accountUpdate.setFrom(updated.getAddress());
+            Transaction.TransactionData valueTransfer = new Transaction.TransactionData();
+            valueTransfer.setType("TxTypeValueTransfer");
+            valueTransfer.setFrom(notUpdated.getAddress());
+
+            Block.BlockData<Transaction.TransactionData> block = new Block.BlockData<>();
+            block.setTransactions(Arrays.asList(accountUpdate, valueTransfer));
+            validator.invalidateAccountKeys(block);
+
+            assertTrue(validator.validateSender(signedValueTransfer(notUpdated)));
+            verify(web3jService, times(2)).send(any(Request.class), eq(AccountKey.class));
+
+            assertTrue(validator.validateSender(signedValueTransfer(updated)));
+            verify(web3jService, times(3)).send(any(Request.class), eq(AccountKey.class));
+        }
+
+        @Test
+        public void validateTransactionsInOneBatch() throws IOException {
+            Web3jService web3jService = mockService();
+            Validator validator = new Validator(new Klay(web3jService), 100, 60000);
+
+            SingleKeyring sender1 = KeyringFactory.generate();
+            SingleKeyring sender2 = KeyringFactory.generate();
+            SingleKeyring feePayer = KeyringFactory.generate();
+
+            // The "from" is different with the signer, so it is invalid.
+            ValueTransfer invalid = signedValueTransfer(sender1);
+            ValueTransfer forged = new ValueTransfer.Builder()
+                    .setFrom(sender2.getAddress())
+                    .setTo(sender2.getAddress())
+                    .setValue("0x1")
+                    .setChainId("0x7e3")
+                    .setNonce("0x0")
+                    .setGas("0x15f90")
+                    .setGasPrice("0x5d21dba00")
+                    .setSignatures(invalid.getSignatures())
+                    .build();
+
+            List<AbstractTransaction> transactions = new ArrayList<>();
+            for(int i = 0; i < 10; i++) {
+                transactions.add(signedValueTransfer(i % 2 == 0 ? sender1 : sender2));
+            }
+            transactions.add(signedFeeDelegatedValueTransfer(sender1, feePayer));
+            transactions.add(forged);
+
+            List<Boolean> results = validator.validateTransactions(transactions);
+
+            assertEquals(transactions.size(), results.size());
+            for(int i = 0; i < transactions.size() - 1; i++) {
+                assertTrue(results.get(i));
+            }
+            assertFalse(results.get(transactions.size() - 1));
+
+            verify(web3jService, times(1)).sendBatch(any(BatchRequest.class));
+            verify(web3jService, never()).send(any(Request.class), eq(AccountKey.class));
+
+            // All account keys are cached.
+            assertEquals(results, validator.validateTransactions(transactions));
+            verify(web3jService, times(1)).sendBatch(any(BatchRequest.class));
+        }
+
+        @Test
+        public void notCacheKeyInvalidatedWhileQuerying() throws IOException {
+            Web3jService web3jService = mockService();
+            Validator validator = new Validator(new Klay(web3jService), 100, 60000);
+
+            SingleKeyring keyring = KeyringFactory.generate();
+            // The account is updated while its account key is queried.
+            when(web3jService.send(any(Request.class), eq(AccountKey.class))).thenAnswer(invocation -> {
+                validator.invalidateAccountKey(keyring.getAddress());
+                return legacyAccountKey();
+            });
+
+            ValueTransfer tx = signedValueTransfer(keyring);
+            assertTrue(validator.validateSender(tx));
+            assertTrue(validator.validateSender(tx));
+            verify(web3jService, times(2)).send(any(Request.class), eq(AccountKey.class));
+        }
+
+        @Test
+        public void validateTransactionsWithMissingResponse() throws IOException {
+            Web3jService web3jService = mockService();
+            // The node drops the response of the first request.
+            when(web3jService.sendBatch(any(BatchRequest.class))).thenAnswer(invocation -> {
+                BatchRequest batchRequest = invocation.getArgument(0);
+                List<Response<?>> responses = new ArrayList<>();
+                List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+                for(int i = 1; i < requests.size(); i++) {
+                    AccountKey response = legacyAccountKey();
+                    response.setId(requests.get(i).getId());
+                    responses.add(response);
+                }
+                return new BatchResponse(requests, responses);
+            });
+            Validator validator = new Validator(new Klay(web3jService), 100, 60000);
+
+            List<AbstractTransaction> transactions = Arrays.asList(
+                    signedValueTransfer(KeyringFactory.generate()),
+                    signedValueTransfer(KeyringFactory.generate())
+            );
+
+            try {
+                validator.validateTransactions(transactions);
+                fail("The transactions must not be validated without all account keys.");
+            } catch(RuntimeException e) {
+                assertTrue(e.getMessage().contains("no response"));
+            }
+        }
+
+        @Test
+        public void validateTransactionsWithInvalidFrom() throws IOException {
+            Web3jService web3jService = mockService();
+            Validator validator = new Validator(new Klay(web3jService), 100, 60000);
+
+            SingleKeyring keyring = KeyringFactory.generate();
+            ValueTransfer malformed = spy(signedValueTransfer(keyring));
+            doReturn("0xinvalid").when(malformed).getFrom();
+
+            List<Boolean> results = validator.validateTransactions(Arrays.asList(signedValueTransfer(keyring), malformed));
+            assertEquals(Arrays.asList(true, false), results);
+        }
+    }
+}